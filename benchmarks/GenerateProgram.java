@@ -0,0 +1,78 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Generates large SIMPLE programs for the parser benchmarks (see parse.sh).
+ * Usage: java GenerateProgram statements|expressions <assignments> > program.sim
+ * <ul>
+ * <li>statements: each line assigns a short expression and branches on it, followed by a comment (about 85 bytes a line).</li>
+ * <li>expressions: each line assigns a random expression tree of depth 4 over + - * DIV MOD and parentheses (about 95 bytes a line).</li>
+ * </ul>
+ * The random expressions use a fixed seed, so a given size always generates the same program.
+ */
+public class GenerateProgram {
+
+	/**
+	 * Represents the variables of the generated programs.
+	 */
+	private static final String[] VARIABLES = {"a", "b", "c", "i"};
+
+	/**
+	 * Represents the binary operators of the generated expressions.
+	 */
+	private static final String[] OPERATORS = {" + ", " - ", " * ", " DIV ", " MOD "};
+
+	/**
+	 * Represents the random number generator of the expressions.
+	 */
+	private static Random s_random = new Random(328);
+
+	/**
+	 * Generates a program.
+	 *
+	 * @param args The shape of the program and the number of assignments.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2 || !(args[0].equals("statements") || args[0].equals("expressions"))) {
+			System.err.println("usage: java GenerateProgram statements|expressions <assignments>");
+			System.exit(1);
+		}
+		int assignments = java.lang.Integer.parseInt(args[1]);
+		PrintWriter writer = new PrintWriter(System.out);
+		writer.println("PROGRAM Big;");
+		writer.println("VAR a, b, c, i: INTEGER;");
+		writer.println("BEGIN");
+		for (int k = 0; k < assignments; k++) {
+			if (args[0].equals("statements")) {
+				writer.println("  a := (b + " + k + ") * c - i; IF a <= b THEN c := a ELSE WRITE c END; (* note " + k + " *)");
+			} else {
+				writer.println("  a := " + getExpression(4) + ";");
+			}
+		}
+		writer.println("  a := 0");
+		writer.println("END Big.");
+		writer.flush();
+	}
+
+	/**
+	 * Gets a random expression.  A divisor is always a sum plus one, or a small constant, so that folding the program never divides by zero.
+	 *
+	 * @param depth The depth of the expression tree.
+	 */
+	private static String getExpression(int depth) {
+		if (depth == 0) {
+			String variable = VARIABLES[s_random.nextInt(VARIABLES.length)];
+			return s_random.nextBoolean() ? variable : "(" + variable + ")";
+		}
+		String operator = OPERATORS[s_random.nextInt(OPERATORS.length)];
+		String left = getExpression(depth - 1);
+		if (operator.equals(" DIV ")) {
+			return left + operator + "(" + getExpression(depth - 1) + " + 1)";
+		} else if (operator.equals(" MOD ")) {
+			return left + operator + "7";
+		}
+		String expression = left + operator + getExpression(depth - 1);
+		return s_random.nextInt(3) == 0 ? "(" + expression + ")" : expression;
+	}
+}
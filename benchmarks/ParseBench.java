@@ -0,0 +1,33 @@
+import parser.Parser;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.utilities.ConstantFolder;
+import scanner.Scanner;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Scans a program, then parses its tokens once with constant folding disabled, and prints the time the parse took in milliseconds (see parse.sh).
+ * The parser is a singleton that cannot be reset, so each measurement runs in a fresh JVM.
+ * Usage: java -cp <classes>:. ParseBench program.sim
+ */
+public class ParseBench {
+
+	/**
+	 * Parses a program.
+	 *
+	 * @param args The path of the program.
+	 */
+	public static void main(String[] args) throws IOException {
+		ConstantFolder.getInstance().disable();
+		Scanner.getInstance().setInputStream(new FileInputStream(args[0]));
+		Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+		long start = System.nanoTime();
+		boolean isValid = Parser.getInstance().parseTokens();
+		long time = (System.nanoTime() - start) / 1000000;
+		if (!isValid) {
+			System.err.println("error: " + args[0] + " did not parse.");
+			System.exit(1);
+		}
+		System.out.println(time);
+	}
+}
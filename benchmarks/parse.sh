@@ -0,0 +1,18 @@
+#!/bin/sh
+# Prints the best of several parse times, excluding scanning (in milliseconds, each in a fresh JVM) of a program, for the compiler built in a source tree.
+# Usage: benchmarks/parse.sh <source tree, e.g. src> <program.sim> [runs, default 5]
+# The programs are generated by GenerateProgram, e.g.:
+#   java GenerateProgram expressions 40000 > /tmp/expressions.sim   (about 3.9 MB)
+#   java GenerateProgram statements 40000 > /tmp/statements.sim     (about 3.4 MB)
+DIR=$(cd "$(dirname "$0")" && pwd)
+CLASSES=$(mktemp -d)
+javac -nowarn -d "$CLASSES" $(find "$1" -name '*.java') "$DIR/ParseBench.java" 2>&1 | grep -v '^Note:'
+BEST=
+for RUN in $(seq ${3:-5}); do
+	TIME=$(java -cp "$CLASSES" ParseBench "$2") || exit 1
+	if [ -z "$BEST" ] || [ "$TIME" -lt "$BEST" ]; then
+		BEST=$TIME
+	fi
+done
+rm -rf "$CLASSES"
+echo "$BEST ms"
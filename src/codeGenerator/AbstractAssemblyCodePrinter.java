@@ -1,6 +1,9 @@
 package codeGenerator;
 
+import codeGenerator.utilities.AssemblyLine;
 import codeGenerator.utilities.Instruction;
+import codeGenerator.utilities.Label;
+import codeGenerator.utilities.Operand;
 import exception.Exception;
 import exception.ExceptionHandler;
 import exception.ExceptionStrength;
@@ -8,9 +11,12 @@ import exception.ExceptionStrength;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Prints assembly code to either standard-output or a file.
+ * Lines are collected with typed operands as they are generated, and are written out as text only when the printer is closed.
  */
 public abstract class AbstractAssemblyCodePrinter {
 
@@ -30,9 +36,14 @@ public abstract class AbstractAssemblyCodePrinter {
 	public static final String ARRAY_EXCEPTION_MESSAGE_PREFIX = "AEM";
 
 	/**
-	 * Represents the string builder used for indentation (tabs).
+	 * Represents the current indentation (i.e. the number of tabs).
 	 */
-	private static StringBuilder s_stringBuilder = new StringBuilder();
+	private static int s_indentation;
+
+	/**
+	 * Represents the lines of assembly code that have been generated, but not yet written.
+	 */
+	private static List<AssemblyLine> s_lines = new ArrayList<AssemblyLine>();
 
 	/**
 	 * Represents the output stream writer used to write to a file or standard output.
@@ -63,10 +74,25 @@ public abstract class AbstractAssemblyCodePrinter {
 	}
 
 	/**
-	 * Closes the output stream writer.
+	 * Gets the lines that have been generated, but not yet written.
+	 */
+	protected static List<AssemblyLine> getLines() {
+		return s_lines;
+	}
+
+	/**
+	 * Writes the lines that have been generated and closes the output stream writer.
 	 */
 	protected void close() {
 		try {
+			for (AssemblyLine line : s_lines) {
+				for (int i = 0; i < line.getIndentation(); i++) {
+					s_outputStreamWriter.write('\t');
+				}
+				s_outputStreamWriter.write(line.toString());
+				s_outputStreamWriter.write('\n');
+			}
+			s_lines.clear();
 			s_outputStreamWriter.close();
 		} catch (IOException e) {
 			ExceptionHandler.getInstance().throwException(Exception.IO_ERROR, ExceptionStrength.STRONG);
@@ -74,34 +100,40 @@ public abstract class AbstractAssemblyCodePrinter {
 	}
 
 	/**
-	 * Prints a string.
+	 * Prints a label or directive.
 	 *
-	 * @param string The string to print.
+	 * @param string The label or directive to print.
 	 */
 	protected void print(String string) {
-		try {
-			s_outputStreamWriter.write(s_stringBuilder.toString() + string + "\n");
-		} catch (IOException e) {
-			ExceptionHandler.getInstance().throwException(exception.Exception.IO_ERROR, ExceptionStrength.STRONG);
-		}
+		s_lines.add(new AssemblyLine(s_indentation, string));
+	}
+
+	/**
+	 * Prints a label to which instructions may jump.
+	 *
+	 * @param label   The label.
+	 * @param comment The comment that follows the label.
+	 */
+	protected void print(Label label, String comment) {
+		s_lines.add(new AssemblyLine(s_indentation, label, comment));
 	}
 
 	/**
-	 * Prints assembly code.
+	 * Prints an instruction.
 	 *
 	 * @param instruction The instruction.
-	 * @param objects     The registers, addresses, or immediate values to print.
-	 */
-	protected void print(Instruction instruction, Object... objects) {
-		if (objects.length == 0) {
-			print(instruction.toString());
-		} else if (objects.length == 1) {
-			print(instruction + " " + objects[0]);
-		} else if (objects.length == 2) {
-			print(instruction + " " + objects[0] + ", " + objects[1]);
-		} else {
+	 * @param operands    The registers, memory references, immediate values or labels on which the instruction operates (at most two).
+	 */
+	protected void print(Instruction instruction, Operand... operands) {
+		if (operands.length > 2) {
 			ExceptionHandler.getInstance().throwException(exception.Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
 		}
+		for (Operand operand : operands) {
+			if (operand == null) {
+				ExceptionHandler.getInstance().throwException(exception.Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+		}
+		s_lines.add(new AssemblyLine(s_indentation, instruction, operands));
 	}
 
 	/**
@@ -115,15 +147,15 @@ public abstract class AbstractAssemblyCodePrinter {
 	 * Tabs the output.
 	 */
 	protected void indent() {
-		s_stringBuilder.append('\t');
+		s_indentation++;
 	}
 
 	/**
 	 * Removes an indent from the output.
 	 */
 	protected void removeIndent() {
-		if (s_stringBuilder.length() > 0) {
-			s_stringBuilder.deleteCharAt(s_stringBuilder.length() - 1);
+		if (s_indentation > 0) {
+			s_indentation--;
 		}
 	}
 }
@@ -1,7 +1,15 @@
 package codeGenerator;
 
+import codeGenerator.controlFlowGraph.BasicBlock;
+import codeGenerator.controlFlowGraph.ControlFlowGraph;
+import codeGenerator.controlFlowGraph.ControlFlowGraphBuilder;
+import codeGenerator.utilities.Immediate;
+import codeGenerator.utilities.IRegister;
+import codeGenerator.utilities.Label;
 import codeGenerator.utilities.Register;
 import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.IRelation;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
 import parser.semanticAnalysis.abstractSyntaxTree.instructions.*;
 
@@ -13,15 +21,6 @@ import java.util.List;
  */
 public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter {
 
-	/**
-	 * Represents a counter for instructions.
-	 */
-	protected int m_instructionCounter;
-	/**
-	 * Represents the current instruction.
-	 */
-	private String m_currentInstruction;
-
 	/**
 	 * Represents a list of array-indexing expression exceptions.
 	 */
@@ -33,29 +32,50 @@ public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter
 	 * @param instructions The instructions for which to generate code.
 	 */
 	public void generate(List<Instruction> instructions) {
+		ControlFlowGraph graph = ControlFlowGraphBuilder.getInstance().build(instructions);
+		optimize(graph);
 		printHeader();
 		printDeclarations();
 		printOpening();
-		generateInstructions(instructions);
+		generateBlocks(graph);
 		printClosing();
 	}
 
 	/**
-	 * Generates a list of instructions.
+	 * Optimizes the control-flow graph of the program before code is generated for it.  By default, the graph is left as it is.
 	 *
-	 * @param instructions The instructions to interpret.
+	 * @param graph The graph.
 	 */
-	protected void generateInstructions(List<Instruction> instructions) {
-		for (Instruction instruction : instructions) {
-			m_currentInstruction = instruction.toString();
-			print(LABEL_PREFIX + m_instructionCounter++ + ": # " + m_currentInstruction);
+	protected void optimize(ControlFlowGraph graph) {
+	}
+
+	/**
+	 * Generates the basic blocks of a control-flow graph, in the order in which they are laid out.
+	 *
+	 * @param graph The graph.
+	 */
+	private void generateBlocks(ControlFlowGraph graph) {
+		List<BasicBlock> blocks = graph.getBlocks();
+		for (int i = 0; i < blocks.size(); i++) {
+			BasicBlock block = blocks.get(i);
+			print(getLabel(block), null);
 			indent();
+			generateInstructions(block.getInstructions());
+			generateBranch(block, i + 1 < blocks.size() ? blocks.get(i + 1) : null);
+			removeIndent();
+		}
+	}
+
+	/**
+	 * Generates a list of straight-line instructions.
+	 *
+	 * @param instructions The instructions to generate.
+	 */
+	private void generateInstructions(List<Instruction> instructions) {
+		for (Instruction instruction : instructions) {
+			print("# " + instruction);
 			if (instruction instanceof Assign) {
 				generateAssign((Assign) instruction);
-			} else if (instruction instanceof If) {
-				generateIf((If) instruction);
-			} else if (instruction instanceof Repeat) {
-				generateRepeat((Repeat) instruction);
 			} else if (instruction instanceof Read) {
 				generateRead((Read) instruction);
 			} else if (instruction instanceof Write) {
@@ -63,37 +83,60 @@ public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter
 			} else if (instruction instanceof Call) {
 				generateCall((Call) instruction);
 			}
-			removeIndent();
 		}
 	}
 
 	/**
-	 * Generates a write instruction.
+	 * Generates the branch at the end of a block.  No jump is generated to the block that follows in the layout, since control falls through to it.
 	 *
-	 * @param write The write instruction to generate.
+	 * @param block     The block.
+	 * @param nextBlock The block that follows in the layout, or null if the block is the last one.
 	 */
-	protected abstract void generateWrite(Write write);
+	private void generateBranch(BasicBlock block, BasicBlock nextBlock) {
+		BasicBlock trueSuccessor = block.getTrueSuccessor();
+		if (block.getCondition() == null) {
+			if (trueSuccessor != null && trueSuccessor != nextBlock) {
+				print(codeGenerator.utilities.Instruction.JMP, getLabel(trueSuccessor));
+			}
+			return;
+		}
+		print("# " + block.getCondition().getLeftExpression() + " " + block.getCondition().getRelation() + " " + block.getCondition().getRightExpression());
+		generateComparison(block.getCondition());
+		BasicBlock falseSuccessor = block.getFalseSuccessor();
+		if (trueSuccessor == nextBlock) {
+			if (falseSuccessor != nextBlock) {
+				jumpOnRelation(((IRelation) block.getCondition().getRelation()).getNegation(), falseSuccessor);
+			}
+		} else {
+			jumpOnRelation(block.getCondition().getRelation(), trueSuccessor);
+			if (falseSuccessor != nextBlock) {
+				print(codeGenerator.utilities.Instruction.JMP, getLabel(falseSuccessor));
+			}
+		}
+	}
 
 	/**
-	 * Generates a read instruction.
+	 * Gets the label of a block.
 	 *
-	 * @param read The read instruction to generate.
+	 * @param block The block.
 	 */
-	protected abstract void generateRead(Read read);
+	private Label getLabel(BasicBlock block) {
+		return new Label(LABEL_PREFIX + block.getNumber());
+	}
 
 	/**
-	 * Generates a repeat instruction.
+	 * Generates a write instruction.
 	 *
-	 * @param repeat The repeat instruction to generate.
+	 * @param write The write instruction to generate.
 	 */
-	protected abstract void generateRepeat(Repeat repeat);
+	protected abstract void generateWrite(Write write);
 
 	/**
-	 * Generates an if instruction.
+	 * Generates a read instruction.
 	 *
-	 * @param ifInstruction The if instruction to generate.
+	 * @param read The read instruction to generate.
 	 */
-	protected abstract void generateIf(If ifInstruction);
+	protected abstract void generateRead(Read read);
 
 	/**
 	 * Generates an assign instruction.
@@ -110,14 +153,21 @@ public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter
 	protected abstract void generateCall(Call call);
 
 	/**
-	 * Jumps to a label on a condition.
+	 * Compares the left expression of a condition with its right expression, so that a conditional jump can follow.
+	 *
+	 * @param condition The condition.
+	 */
+	protected abstract void generateComparison(Condition condition);
+
+	/**
+	 * Jumps to a block if the last comparison satisfied a relation.
 	 *
-	 * @param condition        The condition on which to jump.
-	 * @param instructionLabel The label to which to jump.
+	 * @param relation The relation.
+	 * @param block    The block to which to jump.
 	 */
-	protected void jumpOnCondition(Condition condition, int instructionLabel) {
+	private void jumpOnRelation(Relation relation, BasicBlock block) {
 		codeGenerator.utilities.Instruction instruction = null;
-		switch (condition.getRelation()) {
+		switch (relation) {
 			case EQUALITY:
 				instruction = codeGenerator.utilities.Instruction.JE;
 				break;
@@ -137,7 +187,7 @@ public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter
 				instruction = codeGenerator.utilities.Instruction.JGE;
 				break;
 		}
-		print(instruction, LABEL_PREFIX + instructionLabel);
+		print(instruction, getLabel(block));
 	}
 
 	/**
@@ -146,7 +196,7 @@ public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter
 	 * @param location The location containing the potential out-of-bounds expression.
 	 * @param register The register that contains the value of the index.
 	 */
-	public abstract void generateArrayBoundsChecking(Location location, Register register);
+	public abstract void generateArrayBoundsChecking(Location location, IRegister register);
 
 	/**
 	 * Gets a list of array-indexing expression exceptions.
@@ -199,8 +249,8 @@ public abstract class AbstractCodeGenerator extends AbstractAssemblyCodePrinter
 	 * Prints the closing of the main routine.
 	 */
 	private void printClosing() {
-		print(codeGenerator.utilities.Instruction.MOVQ, Register.RDI, 0);
-		print(codeGenerator.utilities.Instruction.CALL, "exit");
+		print(codeGenerator.utilities.Instruction.MOVQ, Register.RDI, new Immediate(0));
+		print(codeGenerator.utilities.Instruction.CALL, new Label("exit"));
 		removeIndent();
 		printRead();
 		printWrite();
@@ -0,0 +1,335 @@
+package codeGenerator.classGenerator;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import exception.IException;
+import jvm.Code;
+import jvm.Label;
+import jvm.Opcode;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Function;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Call;
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Argument;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Parameter;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+import parser.semanticAnalysis.symbolTable.declarations.types.record.Record;
+
+/**
+ * Parses the expressions, conditions and locations of a SIMPLE program into the JVM instructions of the method being generated (see {@link ClassGenerator}).
+ * A location is pushed as the array that holds its variable and its address within the array, which is computed in the order of the interpreter, so that errors are reported in the same order.
+ */
+public class ClassExpressionParser {
+
+	/**
+	 * Represents the placeholder that stands for a value in an error message that is formatted at compile-time.
+	 */
+	private static final String PLACEHOLDER = "\u0000";
+
+	/**
+	 * Represents the instance of the class expression parser.
+	 */
+	private static ClassExpressionParser m_instance;
+
+	/**
+	 * Constructs the class expression parser.
+	 */
+	private ClassExpressionParser() {
+	}
+
+	/**
+	 * Gets the instance of the class expression parser.
+	 */
+	public static ClassExpressionParser getInstance() {
+		if (m_instance == null) {
+			m_instance = new ClassExpressionParser();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Parses an integer expression, which pushes its value.
+	 *
+	 * @param expression The expression to parse.
+	 */
+	void parseExpression(Expression expression) {
+		Code code = ClassGenerator.getInstance().getCode();
+		if (expression instanceof Number) {
+			code.pushInteger(((Number) expression).getConstant().getValue());
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			parseExpression(binary.getLeftExpression());
+			parseExpression(binary.getRightExpression());
+			switch (binary.getOperator()) {
+				case PLUS:
+					code.emit(Opcode.IADD);
+					break;
+				case MINUS:
+					code.emit(Opcode.ISUB);
+					break;
+				case MULTIPLICATION:
+					code.emit(Opcode.IMUL);
+					break;
+				case DIV:
+					parseDivisorCheck(Exception.DIVIDE_BY_ZERO, binary);
+					code.emit(Opcode.IDIV);
+					break;
+				case MOD:
+					parseDivisorCheck(Exception.MOD_BY_ZERO, binary);
+					code.emit(Opcode.IREM);
+					break;
+				default:
+					ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+		} else if (expression instanceof Location) {
+			Location location = (Location) expression;
+			if (isIntegerLocal(location)) {
+				code.loadInteger(getLayout().getIntegerLocal(((Variable) location).getVariable()));
+			} else if (location instanceof Variable) {
+				parseArray(((Variable) location).getVariable());
+				parseBase(((Variable) location).getVariable());
+				code.emit(Opcode.IALOAD);
+			} else {
+				parseAddress(location);
+				parseArray(getVariable(location));
+				code.emit(Opcode.SWAP);
+				code.emit(Opcode.IALOAD);
+			}
+		} else if (expression instanceof Function) {
+			parseCall(((Function) expression).getCall());
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Parses a condition into a jump.
+	 *
+	 * @param condition The condition to parse.
+	 * @param isTrue    Whether to jump if the condition holds (or else if it does not).
+	 * @param label     The target of the jump.
+	 */
+	void jumpOnCondition(Condition condition, boolean isTrue, Label label) {
+		Code code = ClassGenerator.getInstance().getCode();
+		parseExpression(condition.getLeftExpression());
+		parseExpression(condition.getRightExpression());
+		Relation relation = isTrue ? condition.getRelation() : condition.getRelation().getNegation();
+		switch (relation) {
+			case EQUALITY:
+				code.jump(Opcode.IF_ICMPEQ, label);
+				break;
+			case INEQUALITY:
+				code.jump(Opcode.IF_ICMPNE, label);
+				break;
+			case LESS_THAN:
+				code.jump(Opcode.IF_ICMPLT, label);
+				break;
+			case GREATER_THAN:
+				code.jump(Opcode.IF_ICMPGT, label);
+				break;
+			case LESS_THAN_OR_EQUAL_TO:
+				code.jump(Opcode.IF_ICMPLE, label);
+				break;
+			case GREATER_THAN_OR_EQUAL_TO:
+				code.jump(Opcode.IF_ICMPGE, label);
+				break;
+			default:
+				ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Parses a call, which pushes the value of the procedure if it returns one.
+	 * A location is passed as its array and address, so that the procedure writes to it; any other argument is passed in an array of its own.
+	 *
+	 * @param call The call to parse.
+	 */
+	void parseCall(Call call) {
+		Code code = ClassGenerator.getInstance().getCode();
+		for (Argument argument : call.getArguments()) {
+			Expression expression = argument.getExpression();
+			if (expression instanceof Location) {
+				parseAddress((Location) expression);
+				parseArray(getVariable((Location) expression));
+				code.emit(Opcode.SWAP);
+			} else {
+				code.pushInteger(1);
+				code.newIntegerArray();
+				code.emit(Opcode.DUP);
+				code.pushInteger(0);
+				parseExpression(expression);
+				code.emit(Opcode.IASTORE);
+				code.pushInteger(0);
+			}
+		}
+		ClassGenerator generator = ClassGenerator.getInstance();
+		code.invoke(Opcode.INVOKESTATIC, ClassGenerator.CLASS_NAME, generator.getMethodName(call.getProcedure()), generator.getMethodDescriptor(call.getProcedure()));
+	}
+
+	/**
+	 * Parses the address of a location within the array of its variable, verifying that its indices are in range.
+	 *
+	 * @param location The location to parse.
+	 */
+	void parseAddress(Location location) {
+		Code code = ClassGenerator.getInstance().getCode();
+		if (location instanceof Field) {
+			Field field = (Field) location;
+			parseAddress(field.getVariable());
+			int offset = getOffset((Record) field.getVariable().getType(), ((Variable) field.getSelection()).getVariable());
+			if (offset != 0) {
+				code.pushInteger(offset);
+				code.emit(Opcode.IADD);
+			}
+		} else if (location instanceof Index) {
+			Index index = (Index) location;
+			Array array = (Array) index.getVariable().getType();
+			int indexLocal = getLayout().allocateLocal();
+			Label outOfRangeLabel = new Label();
+			Label inRangeLabel = new Label();
+			parseExpression(index.getExpression());
+			code.storeInteger(indexLocal);
+			code.loadInteger(indexLocal);
+			code.jump(Opcode.IFLT, outOfRangeLabel);
+			code.loadInteger(indexLocal);
+			code.pushInteger(array.getLength());
+			code.jump(Opcode.IF_ICMPLT, inRangeLabel);
+			code.mark(outOfRangeLabel);
+			String[] message = format(Exception.INDEX_OUT_OF_RANGE, PLACEHOLDER, array.getName(), array.getPosition()).split(PLACEHOLDER, -1);
+			ClassGenerator.getInstance().pushErrorHandler();
+			code.pushString(message[0]);
+			code.loadInteger(indexLocal);
+			code.pushString(message[1]);
+			code.invoke(Opcode.INVOKEVIRTUAL, ClassGenerator.RUNTIME_ERROR_HANDLER, "fail", "(Ljava/lang/String;ILjava/lang/String;)V");
+			code.mark(inRangeLabel);
+			parseAddress(index.getVariable());
+			code.loadInteger(indexLocal);
+			int elementSize = ClassGenerator.getSize(array.getElementType());
+			if (elementSize != 1) {
+				code.pushInteger(elementSize);
+				code.emit(Opcode.IMUL);
+			}
+			code.emit(Opcode.IADD);
+		} else if (location instanceof Variable) {
+			parseBase(((Variable) location).getVariable());
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Parses the array that holds a variable.
+	 *
+	 * @param variable The variable, which must not be held in an integer local variable.
+	 */
+	void parseArray(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		Code code = ClassGenerator.getInstance().getCode();
+		int local = getLayout().getArrayLocal(variable);
+		if (local >= 0) {
+			code.loadReference(local);
+		} else {
+			code.field(Opcode.GETSTATIC, ClassGenerator.CLASS_NAME, ClassGenerator.MEMORY_FIELD, "[I");
+		}
+	}
+
+	/**
+	 * Queries whether a location is an integer that is held in a local variable of the method (as opposed to an array).
+	 *
+	 * @param location The location.
+	 */
+	boolean isIntegerLocal(Location location) {
+		return location instanceof Variable && getLayout().getIntegerLocal(((Variable) location).getVariable()) >= 0;
+	}
+
+	/**
+	 * Gets the variable whose array holds a location.
+	 *
+	 * @param location The location.
+	 */
+	static parser.semanticAnalysis.symbolTable.declarations.variable.Variable getVariable(Location location) {
+		while (!(location instanceof Variable)) {
+			location = location instanceof Field ? ((Field) location).getVariable() : ((Index) location).getVariable();
+		}
+		return ((Variable) location).getVariable();
+	}
+
+	/**
+	 * Formats an error message at compile-time, as the exception handler would.
+	 *
+	 * @param exception The exception.
+	 * @param objects   The objects that correspond to the exception.
+	 */
+	@SuppressWarnings("all")
+	// Because of a bug in JDK 6, we need to explicitly cast enums to their interfaces to invoke any promises.  We suppress any warnings pertinent to this issue.
+	static String format(Exception exception, Object... objects) {
+		return ((IException) exception).toString(objects);
+	}
+
+	/**
+	 * Parses the address of a variable within its array.
+	 * A parameter's address is that of its argument; a global variable's address is its offset within the program's memory; any other variable has an array of its own.
+	 *
+	 * @param variable The variable.
+	 */
+	private void parseBase(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		Code code = ClassGenerator.getInstance().getCode();
+		int local = getLayout().getArrayLocal(variable);
+		if (local < 0) {
+			code.pushInteger(ClassGenerator.getInstance().getAddress(variable));
+		} else if (variable instanceof Parameter) {
+			code.loadInteger(local + 1);
+		} else {
+			code.pushInteger(0);
+		}
+	}
+
+	/**
+	 * Parses the verification that the divisor on top of the stack is not zero.
+	 *
+	 * @param exception The exception reported if the divisor is zero.
+	 * @param binary    The binary expression, whose position is reported if the divisor is zero.
+	 */
+	private void parseDivisorCheck(Exception exception, Binary binary) {
+		Code code = ClassGenerator.getInstance().getCode();
+		Label label = new Label();
+		code.emit(Opcode.DUP);
+		code.jump(Opcode.IFNE, label);
+		ClassGenerator.getInstance().pushErrorHandler();
+		code.pushString(format(exception, binary.getType().getPosition()));
+		code.invoke(Opcode.INVOKEVIRTUAL, ClassGenerator.RUNTIME_ERROR_HANDLER, "fail", "(Ljava/lang/String;)V");
+		code.mark(label);
+	}
+
+	/**
+	 * Gets the offset of a field within a record in words.
+	 *
+	 * @param record The record.
+	 * @param field  The field.
+	 */
+	private int getOffset(Record record, parser.semanticAnalysis.symbolTable.declarations.variable.Variable field) {
+		int offset = 0;
+		for (Declaration declaration : record.getScope().getMap().values()) {
+			if (declaration == field) {
+				return offset;
+			}
+			offset += ClassGenerator.getSize(((parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration).getType());
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Gets the layout of the method being generated.
+	 */
+	private Layout getLayout() {
+		return ClassGenerator.getInstance().getLayout();
+	}
+}
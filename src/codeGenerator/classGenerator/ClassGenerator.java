@@ -0,0 +1,611 @@
+package codeGenerator.classGenerator;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import jvm.ClassFile;
+import jvm.Code;
+import jvm.Label;
+import jvm.Opcode;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Function;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.*;
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Argument;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Procedure;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.types.Type;
+import parser.semanticAnalysis.symbolTable.declarations.variable.Variable;
+import parser.semanticAnalysis.symbolTable.scope.Scope;
+import runtime.Input;
+import runtime.Launcher;
+import runtime.MemoryBudget;
+import runtime.Output;
+import runtime.RuntimeErrorHandler;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * Compiles a SIMPLE program ahead of time into a JVM class, which is written into an executable jar along with the run-time classes it calls (see the runtime package).
+ * The program's variables are held in a static array of words; its instructions become the method of a {@link Runnable}, and every procedure that is called becomes a static method.
+ * Instructions are generated as {@link codeGenerator.AbstractCodeGenerator} generates them, but into JVM instructions rather than assembly code, so the generator does not extend it.
+ */
+public class ClassGenerator {
+
+	/**
+	 * Represents the internal name of the generated class.
+	 */
+	static final String CLASS_NAME = "Program";
+	/**
+	 * Represents the name of the static field that holds the program's variables.
+	 */
+	static final String MEMORY_FIELD = "memory";
+	/**
+	 * Represents the internal names of the run-time classes that the generated class refers to.
+	 */
+	static final String INPUT = getInternalName(Input.class), OUTPUT = getInternalName(Output.class), LAUNCHER = getInternalName(Launcher.class), RUNTIME_ERROR_HANDLER = getInternalName(RuntimeErrorHandler.class);
+	/**
+	 * Represents the run-time classes that are written into the jar along with the generated class.
+	 */
+	private static final Class<?>[] RUNTIME_CLASSES = {Input.class, Output.class, MemoryBudget.class, Launcher.class, RuntimeErrorHandler.class};
+	/**
+	 * Represents the size of a word (i.e. an integer) as computed by the types.
+	 */
+	private static final int WORD_SIZE = Integer.getInstance().getSize();
+
+	/**
+	 * Represents the output stream to which the jar is written.
+	 */
+	private static OutputStream s_outputStream = System.out;
+
+	/**
+	 * Represents the instance of the class generator.
+	 */
+	private static ClassGenerator m_instance;
+	/**
+	 * Represents the generated class.
+	 */
+	private ClassFile m_classFile;
+	/**
+	 * Represents the code of the method being generated.
+	 */
+	private Code m_code;
+	/**
+	 * Represents the layout of the method being generated.
+	 */
+	private Layout m_layout;
+	/**
+	 * Represents the addresses of the program's variables within its memory.
+	 */
+	private Map<Variable, java.lang.Integer> m_addresses;
+	/**
+	 * Represents the names of the methods of the procedures that are called.
+	 */
+	private Map<Procedure, String> m_methodNames;
+	/**
+	 * Represents the procedures that are called, in the order in which they are first called; those that follow the procedure being generated have yet to be generated.
+	 */
+	private List<Procedure> m_procedures;
+
+	/**
+	 * Constructs the class generator.
+	 */
+	private ClassGenerator() {
+	}
+
+	/**
+	 * Gets the instance of the class generator.
+	 */
+	public static ClassGenerator getInstance() {
+		if (m_instance == null) {
+			m_instance = new ClassGenerator();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Sets the file name of the SIMPLE program, beside which the jar is written (e.g. "a.sim" is compiled into "a.jar").
+	 *
+	 * @param fileName The file name of the SIMPLE program.
+	 */
+	public static void setFileName(String fileName) {
+		try {
+			s_outputStream = new FileOutputStream(fileName.substring(0, fileName.lastIndexOf('.')) + ".jar");
+		} catch (IOException e) {
+			ExceptionHandler.getInstance().throwException(Exception.IO_ERROR, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Generates the class of a program and writes it into a jar.
+	 *
+	 * @param instructions The instructions of the program.
+	 * @param programScope The scope of the program.
+	 */
+	public void generate(List<Instruction> instructions, Scope programScope) {
+		m_classFile = new ClassFile(CLASS_NAME, "java/lang/Object");
+		m_classFile.addInterface("java/lang/Runnable");
+		m_classFile.addField(ClassFile.ACC_PRIVATE | ClassFile.ACC_STATIC, MEMORY_FIELD, "[I");
+		m_addresses = new HashMap<Variable, java.lang.Integer>();
+		m_methodNames = new HashMap<Procedure, String>();
+		m_procedures = new ArrayList<Procedure>();
+
+		int programSize = 0;
+		for (Declaration declaration : programScope.getMap().values()) {
+			if (declaration instanceof Variable) {
+				Variable variable = (Variable) declaration;
+				m_addresses.put(variable, programSize);
+				programSize += getSize(variable.getType());
+			}
+		}
+		generateStaticInitializer(programSize);
+		generateConstructor();
+		generateMain();
+
+		m_layout = new Layout();
+		m_code = new Code(m_classFile, m_layout.getParameterSize());
+		generateInstructions(instructions);
+		m_code.emit(Opcode.RETURN);
+		addMethod(ClassFile.ACC_PUBLIC, "run", "()V", "program");
+		for (int i = 0; i < m_procedures.size(); i++) {
+			generateProcedure(m_procedures.get(i));
+		}
+		writeJar();
+	}
+
+	/**
+	 * Generates a list of instructions.
+	 *
+	 * @param instructions The instructions to generate.
+	 */
+	protected void generateInstructions(List<Instruction> instructions) {
+		for (Instruction instruction : instructions) {
+			if (instruction instanceof Assign) {
+				generateAssign((Assign) instruction);
+			} else if (instruction instanceof If) {
+				generateIf((If) instruction);
+			} else if (instruction instanceof Repeat) {
+				generateRepeat((Repeat) instruction);
+			} else if (instruction instanceof Read) {
+				generateRead((Read) instruction);
+			} else if (instruction instanceof Write) {
+				generateWrite((Write) instruction);
+			} else if (instruction instanceof Call) {
+				generateCall((Call) instruction);
+			}
+		}
+	}
+
+	/**
+	 * Generates a write instruction.
+	 *
+	 * @param write The write instruction to generate.
+	 */
+	protected void generateWrite(Write write) {
+		m_code.invoke(Opcode.INVOKESTATIC, OUTPUT, "getInstance", "()L" + OUTPUT + ";");
+		ClassExpressionParser.getInstance().parseExpression(write.getExpression());
+		m_code.invoke(Opcode.INVOKEVIRTUAL, OUTPUT, "writeInteger", "(I)V");
+	}
+
+	/**
+	 * Generates a read instruction, which skips (and reports) the lines of input that are not integers, and leaves its location unchanged at the end of the input.
+	 *
+	 * @param read The read instruction to generate.
+	 */
+	protected void generateRead(Read read) {
+		ClassExpressionParser expressionParser = ClassExpressionParser.getInstance();
+		String[] message = ClassExpressionParser.format(Exception.READ_INSTRUCTION_REQUIRES_AN_INTEGER, "\u0000").split("\u0000", -1);
+		int inputLocal = m_layout.allocateLocal();
+		Label lineLabel = new Label();
+		Label integerLabel = new Label();
+		Label endLabel = new Label();
+		m_code.invoke(Opcode.INVOKESTATIC, INPUT, "getInstance", "()L" + INPUT + ";");
+		m_code.storeReference(inputLocal);
+		m_code.mark(lineLabel);
+		m_code.loadReference(inputLocal);
+		m_code.invoke(Opcode.INVOKEVIRTUAL, INPUT, "nextLine", "()Z");
+		m_code.jump(Opcode.IFEQ, endLabel);
+		m_code.loadReference(inputLocal);
+		m_code.invoke(Opcode.INVOKEVIRTUAL, INPUT, "isInteger", "()Z");
+		m_code.jump(Opcode.IFNE, integerLabel);
+		pushErrorHandler();
+		m_code.pushString(message[0]);
+		m_code.loadReference(inputLocal);
+		m_code.invoke(Opcode.INVOKEVIRTUAL, INPUT, "getLine", "()Ljava/lang/String;");
+		m_code.pushString(message[1]);
+		m_code.invoke(Opcode.INVOKEVIRTUAL, RUNTIME_ERROR_HANDLER, "warn", "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)V");
+		m_code.jump(Opcode.GOTO, lineLabel);
+		m_code.mark(integerLabel);
+		Location location = read.getLocation();
+		if (expressionParser.isIntegerLocal(location)) {
+			m_code.loadReference(inputLocal);
+			m_code.invoke(Opcode.INVOKEVIRTUAL, INPUT, "getInteger", "()I");
+			m_code.storeInteger(m_layout.getIntegerLocal(((parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable) location).getVariable()));
+		} else {
+			int valueLocal = m_layout.allocateLocal();
+			m_code.loadReference(inputLocal);
+			m_code.invoke(Opcode.INVOKEVIRTUAL, INPUT, "getInteger", "()I");
+			m_code.storeInteger(valueLocal);
+			expressionParser.parseAddress(location);
+			expressionParser.parseArray(ClassExpressionParser.getVariable(location));
+			m_code.emit(Opcode.SWAP);
+			m_code.loadInteger(valueLocal);
+			m_code.emit(Opcode.IASTORE);
+		}
+		m_code.mark(endLabel);
+	}
+
+	/**
+	 * Generates a repeat instruction.
+	 *
+	 * @param repeat The repeat instruction to generate.
+	 */
+	protected void generateRepeat(Repeat repeat) {
+		Label startLabel = new Label();
+		m_code.mark(startLabel);
+		generateInstructions(repeat.getInstructions());
+		ClassExpressionParser.getInstance().jumpOnCondition(repeat.getCondition(), true, startLabel);
+	}
+
+	/**
+	 * Generates an if instruction.
+	 *
+	 * @param ifInstruction The if instruction to generate.
+	 */
+	protected void generateIf(If ifInstruction) {
+		Label falseLabel = new Label();
+		ClassExpressionParser.getInstance().jumpOnCondition(ifInstruction.getCondition(), false, falseLabel);
+		generateInstructions(ifInstruction.getTrueInstructions());
+		if (ifInstruction.falseInstructionsExist()) {
+			Label endLabel = new Label();
+			m_code.jump(Opcode.GOTO, endLabel);
+			m_code.mark(falseLabel);
+			generateInstructions(ifInstruction.getFalseInstructions());
+			m_code.mark(endLabel);
+		} else {
+			m_code.mark(falseLabel);
+		}
+	}
+
+	/**
+	 * Generates an assign instruction.
+	 * An integer is assigned after its location's address and then its value are computed; an aggregate is copied after its destination's and then its source's addresses are computed.
+	 *
+	 * @param assign The assign instruction to generate.
+	 */
+	protected void generateAssign(Assign assign) {
+		ClassExpressionParser expressionParser = ClassExpressionParser.getInstance();
+		Location location = assign.getLocation();
+		if (expressionParser.isIntegerLocal(location)) {
+			expressionParser.parseExpression(assign.getExpression());
+			m_code.storeInteger(m_layout.getIntegerLocal(((parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable) location).getVariable()));
+		} else if (location.getType() instanceof Integer || !(assign.getExpression() instanceof Location)) {
+			expressionParser.parseAddress(location);
+			expressionParser.parseExpression(assign.getExpression());
+			expressionParser.parseArray(ClassExpressionParser.getVariable(location));
+			m_code.emit(Opcode.DUP_X2);
+			m_code.emit(Opcode.POP);
+			m_code.emit(Opcode.IASTORE);
+		} else {
+			Location source = (Location) assign.getExpression();
+			int destinationLocal = m_layout.allocateLocal();
+			expressionParser.parseAddress(location);
+			m_code.storeInteger(destinationLocal);
+			expressionParser.parseAddress(source);
+			expressionParser.parseArray(ClassExpressionParser.getVariable(source));
+			m_code.emit(Opcode.SWAP);
+			expressionParser.parseArray(ClassExpressionParser.getVariable(location));
+			m_code.loadInteger(destinationLocal);
+			m_code.pushInteger(getSize(location.getType()));
+			m_code.invoke(Opcode.INVOKESTATIC, "java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V");
+		}
+	}
+
+	/**
+	 * Generates a call instruction.
+	 *
+	 * @param call The instruction to generate.
+	 */
+	protected void generateCall(Call call) {
+		ClassExpressionParser.getInstance().parseCall(call);
+	}
+
+	/**
+	 * Pushes the runtime error handler.
+	 */
+	void pushErrorHandler() {
+		m_code.invoke(Opcode.INVOKESTATIC, RUNTIME_ERROR_HANDLER, "getInstance", "()L" + RUNTIME_ERROR_HANDLER + ";");
+	}
+
+	/**
+	 * Gets the code of the method being generated.
+	 */
+	Code getCode() {
+		return m_code;
+	}
+
+	/**
+	 * Gets the layout of the method being generated.
+	 */
+	Layout getLayout() {
+		return m_layout;
+	}
+
+	/**
+	 * Gets the address of a program's variable within its memory.
+	 *
+	 * @param variable The variable.
+	 */
+	int getAddress(Variable variable) {
+		java.lang.Integer address = m_addresses.get(variable);
+		if (address == null) {
+			return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+		return address;
+	}
+
+	/**
+	 * Gets the name of the method of a procedure, which is generated once the program's method has been.
+	 * Names are numbered, since a procedure's name may be that of another method (e.g. "run").
+	 *
+	 * @param procedure The procedure.
+	 */
+	String getMethodName(Procedure procedure) {
+		String name = m_methodNames.get(procedure);
+		if (name == null) {
+			name = procedure.getName() + "$" + m_procedures.size();
+			m_methodNames.put(procedure, name);
+			m_procedures.add(procedure);
+		}
+		return name;
+	}
+
+	/**
+	 * Gets the descriptor of the method of a procedure, whose parameters are passed as arrays and addresses.
+	 *
+	 * @param procedure The procedure.
+	 */
+	String getMethodDescriptor(Procedure procedure) {
+		StringBuilder descriptor = new StringBuilder("(");
+		for (int i = 0; i < procedure.getParameters().size(); i++) {
+			descriptor.append("[II");
+		}
+		return descriptor.append(procedure.getReturnExpression() != null ? ")I" : ")V").toString();
+	}
+
+	/**
+	 * Gets the size of a type in words.
+	 *
+	 * @param type The type.
+	 */
+	static int getSize(Type type) {
+		return type.getSize() / WORD_SIZE;
+	}
+
+	/**
+	 * Generates the method of a procedure, whose local variables are allocated upon each call.
+	 *
+	 * @param procedure The procedure.
+	 */
+	private void generateProcedure(Procedure procedure) {
+		Set<Variable> referenced = new HashSet<Variable>();
+		collectReferencedVariables(procedure.getInstructions(), referenced);
+		if (procedure.getReturnExpression() != null) {
+			collectReferencedVariables(procedure.getReturnExpression(), referenced);
+		}
+		m_layout = new Layout(procedure, referenced);
+		m_code = new Code(m_classFile, m_layout.getParameterSize());
+		for (Map.Entry<Variable, java.lang.Integer> entry : m_layout.getIntegers().entrySet()) {
+			m_code.pushInteger(0);
+			m_code.storeInteger(entry.getValue());
+		}
+		for (Map.Entry<Variable, java.lang.Integer> entry : m_layout.getArrays().entrySet()) {
+			if (!procedure.getParameters().contains(entry.getKey())) {
+				m_code.pushInteger(getSize(entry.getKey().getType()));
+				m_code.newIntegerArray();
+				m_code.storeReference(entry.getValue());
+			}
+		}
+		generateInstructions(procedure.getInstructions());
+		if (procedure.getReturnExpression() != null) {
+			ClassExpressionParser.getInstance().parseExpression(procedure.getReturnExpression());
+			m_code.emit(Opcode.IRETURN);
+		} else {
+			m_code.emit(Opcode.RETURN);
+		}
+		addMethod(ClassFile.ACC_PRIVATE | ClassFile.ACC_STATIC, getMethodName(procedure), getMethodDescriptor(procedure), "procedure, \"" + procedure.getName() + "\"");
+	}
+
+	/**
+	 * Adds the method being generated to the class, unless its code is too large to be encoded.
+	 *
+	 * @param access      The access flags of the method.
+	 * @param name        The name of the method.
+	 * @param descriptor  The descriptor of the method.
+	 * @param description The description of the method's unit, which is reported if its code is too large.
+	 */
+	private void addMethod(int access, String name, String descriptor, String description) {
+		if (m_code.getSize() > Code.MAXIMUM_SIZE) {
+			ExceptionHandler.getInstance().throwException(Exception.CODE_TOO_LARGE, ExceptionStrength.STRONG, description);
+		}
+		m_classFile.addMethod(access, name, descriptor, m_code);
+	}
+
+	/**
+	 * Generates the static initializer, which allocates the program's memory.
+	 *
+	 * @param programSize The number of words of the program's variables.
+	 */
+	private void generateStaticInitializer(int programSize) {
+		m_code = new Code(m_classFile, 0);
+		m_code.pushInteger(programSize);
+		m_code.newIntegerArray();
+		m_code.field(Opcode.PUTSTATIC, CLASS_NAME, MEMORY_FIELD, "[I");
+		m_code.emit(Opcode.RETURN);
+		m_classFile.addMethod(ClassFile.ACC_STATIC, "<clinit>", "()V", m_code);
+	}
+
+	/**
+	 * Generates the constructor, which calls that of {@link Object}.
+	 */
+	private void generateConstructor() {
+		m_code = new Code(m_classFile, 1);
+		m_code.loadReference(0);
+		m_code.invoke(Opcode.INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+		m_code.emit(Opcode.RETURN);
+		m_classFile.addMethod(ClassFile.ACC_PUBLIC, "<init>", "()V", m_code);
+	}
+
+	/**
+	 * Generates the main method, which launches the program (see {@link Launcher}).
+	 */
+	private void generateMain() {
+		String[] message = ClassExpressionParser.format(Exception.EXCEEDED_MEMORY_BUDGET, "\u0000").split("\u0000", -1);
+		m_code = new Code(m_classFile, 1);
+		m_code.type(Opcode.NEW, CLASS_NAME);
+		m_code.emit(Opcode.DUP);
+		m_code.invoke(Opcode.INVOKESPECIAL, CLASS_NAME, "<init>", "()V");
+		m_code.pushString(message[0]);
+		m_code.pushString(message[1]);
+		m_code.invoke(Opcode.INVOKESTATIC, LAUNCHER, "launch", "(Ljava/lang/Runnable;Ljava/lang/String;Ljava/lang/String;)V");
+		m_code.emit(Opcode.RETURN);
+		m_classFile.addMethod(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "main", "([Ljava/lang/String;)V", m_code);
+	}
+
+	/**
+	 * Writes the generated class and the run-time classes into an executable jar.
+	 */
+	private void writeJar() {
+		try {
+			Manifest manifest = new Manifest();
+			manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+			manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, CLASS_NAME);
+			JarOutputStream jarOutputStream = new JarOutputStream(s_outputStream, manifest);
+			jarOutputStream.putNextEntry(new JarEntry(CLASS_NAME + ".class"));
+			jarOutputStream.write(m_classFile.toByteArray());
+			jarOutputStream.closeEntry();
+			for (Class<?> runtimeClass : RUNTIME_CLASSES) {
+				String entryName = getInternalName(runtimeClass) + ".class";
+				InputStream inputStream = ClassGenerator.class.getClassLoader().getResourceAsStream(entryName);
+				if (inputStream == null) {
+					ExceptionHandler.getInstance().throwException(Exception.IO_ERROR, ExceptionStrength.STRONG);
+				}
+				jarOutputStream.putNextEntry(new JarEntry(entryName));
+				byte[] buffer = new byte[4096];
+				for (int count = inputStream.read(buffer); count >= 0; count = inputStream.read(buffer)) {
+					jarOutputStream.write(buffer, 0, count);
+				}
+				inputStream.close();
+				jarOutputStream.closeEntry();
+			}
+			jarOutputStream.close();
+		} catch (IOException e) {
+			ExceptionHandler.getInstance().throwException(Exception.IO_ERROR, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Collects the variables whose locations are passed to procedures within a list of instructions, which must thus be held in arrays.
+	 *
+	 * @param instructions The instructions.
+	 * @param referenced   The variables collected so far.
+	 */
+	private static void collectReferencedVariables(List<Instruction> instructions, Set<Variable> referenced) {
+		for (Instruction instruction : instructions) {
+			if (instruction instanceof Assign) {
+				collectReferencedVariables(((Assign) instruction).getLocation(), referenced);
+				collectReferencedVariables(((Assign) instruction).getExpression(), referenced);
+			} else if (instruction instanceof If) {
+				If ifInstruction = (If) instruction;
+				collectReferencedVariables(ifInstruction.getCondition(), referenced);
+				collectReferencedVariables(ifInstruction.getTrueInstructions(), referenced);
+				if (ifInstruction.falseInstructionsExist()) {
+					collectReferencedVariables(ifInstruction.getFalseInstructions(), referenced);
+				}
+			} else if (instruction instanceof Repeat) {
+				collectReferencedVariables(((Repeat) instruction).getInstructions(), referenced);
+				collectReferencedVariables(((Repeat) instruction).getCondition(), referenced);
+			} else if (instruction instanceof Read) {
+				collectReferencedVariables(((Read) instruction).getLocation(), referenced);
+			} else if (instruction instanceof Write) {
+				collectReferencedVariables(((Write) instruction).getExpression(), referenced);
+			} else if (instruction instanceof Call) {
+				collectReferencedVariables((Call) instruction, referenced);
+			}
+		}
+	}
+
+	/**
+	 * Collects the variables whose locations are passed to procedures within a condition.
+	 *
+	 * @param condition  The condition.
+	 * @param referenced The variables collected so far.
+	 */
+	private static void collectReferencedVariables(Condition condition, Set<Variable> referenced) {
+		collectReferencedVariables(condition.getLeftExpression(), referenced);
+		collectReferencedVariables(condition.getRightExpression(), referenced);
+	}
+
+	/**
+	 * Collects the variables whose locations are passed to procedures within an expression.
+	 *
+	 * @param expression The expression.
+	 * @param referenced The variables collected so far.
+	 */
+	private static void collectReferencedVariables(Expression expression, Set<Variable> referenced) {
+		if (expression instanceof Binary) {
+			collectReferencedVariables(((Binary) expression).getLeftExpression(), referenced);
+			collectReferencedVariables(((Binary) expression).getRightExpression(), referenced);
+		} else if (expression instanceof Function) {
+			collectReferencedVariables(((Function) expression).getCall(), referenced);
+		} else if (expression instanceof Index) {
+			collectReferencedVariables(((Index) expression).getVariable(), referenced);
+			collectReferencedVariables(((Index) expression).getExpression(), referenced);
+		} else if (expression instanceof Field) {
+			collectReferencedVariables(((Field) expression).getVariable(), referenced);
+		}
+	}
+
+	/**
+	 * Collects the variables whose locations are passed to procedures within a call, including those passed by the call itself.
+	 *
+	 * @param call       The call.
+	 * @param referenced The variables collected so far.
+	 */
+	private static void collectReferencedVariables(Call call, Set<Variable> referenced) {
+		for (Argument argument : call.getArguments()) {
+			Expression expression = argument.getExpression();
+			if (expression instanceof Location) {
+				referenced.add(ClassExpressionParser.getVariable((Location) expression));
+			}
+			collectReferencedVariables(expression, referenced);
+		}
+	}
+
+	/**
+	 * Gets the internal name of a class (e.g. "runtime/Output").
+	 *
+	 * @param c The class.
+	 */
+	private static String getInternalName(Class<?> c) {
+		return c.getName().replace('.', '/');
+	}
+}
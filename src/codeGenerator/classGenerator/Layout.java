@@ -0,0 +1,128 @@
+package codeGenerator.classGenerator;
+
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Parameter;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Procedure;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.variable.Variable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the local variables of a generated method (i.e. of the program or of a procedure).
+ * A parameter occupies two local variables, which hold the array and the address of its argument; a local integer whose location is never passed to a procedure occupies an integer local variable; every other local variable occupies an array of its own.
+ */
+final class Layout {
+
+	/**
+	 * Represents the procedure, or null if the method holds the program's instructions.
+	 */
+	private final Procedure m_procedure;
+	/**
+	 * Represents the local variable that holds each integer.
+	 */
+	private final Map<Variable, java.lang.Integer> m_integers;
+	/**
+	 * Represents the local variable that holds the array of each parameter and aggregate, which the address of a parameter follows.
+	 */
+	private final Map<Variable, java.lang.Integer> m_arrays;
+	/**
+	 * Represents the number of local variables.
+	 */
+	private int m_localCount;
+
+	/**
+	 * Constructs the layout of the program's method, whose only local variable is "this".
+	 */
+	Layout() {
+		m_procedure = null;
+		m_integers = new LinkedHashMap<Variable, java.lang.Integer>();
+		m_arrays = new LinkedHashMap<Variable, java.lang.Integer>();
+		m_localCount = 1;
+	}
+
+	/**
+	 * Constructs the layout of a procedure's method.
+	 *
+	 * @param procedure  The procedure.
+	 * @param referenced The local variables whose locations are passed to procedures.
+	 */
+	Layout(Procedure procedure, Set<Variable> referenced) {
+		m_procedure = procedure;
+		m_integers = new LinkedHashMap<Variable, java.lang.Integer>();
+		m_arrays = new LinkedHashMap<Variable, java.lang.Integer>();
+		List<Parameter> parameters = procedure.getParameters();
+		for (Parameter parameter : parameters) {
+			m_arrays.put(parameter, m_localCount);
+			m_localCount += 2;
+		}
+		for (Declaration declaration : procedure.getLocalVariables().getMap().values()) {
+			if (declaration instanceof Variable && !(declaration instanceof Parameter)) {
+				Variable variable = (Variable) declaration;
+				if (variable.getType() instanceof Integer && !referenced.contains(variable)) {
+					m_integers.put(variable, m_localCount++);
+				} else {
+					m_arrays.put(variable, m_localCount++);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the procedure, or null if the method holds the program's instructions.
+	 */
+	Procedure getProcedure() {
+		return m_procedure;
+	}
+
+	/**
+	 * Gets the number of local variables occupied by the parameters.
+	 */
+	int getParameterSize() {
+		return m_procedure == null ? 1 : 2 * m_procedure.getParameters().size();
+	}
+
+	/**
+	 * Gets the local variables that hold integers.
+	 */
+	Map<Variable, java.lang.Integer> getIntegers() {
+		return m_integers;
+	}
+
+	/**
+	 * Gets the local variables that hold arrays, including those of the parameters.
+	 */
+	Map<Variable, java.lang.Integer> getArrays() {
+		return m_arrays;
+	}
+
+	/**
+	 * Gets the local variable that holds an integer, or -1 if the variable is held in an array.
+	 *
+	 * @param variable The variable.
+	 */
+	int getIntegerLocal(Variable variable) {
+		java.lang.Integer local = m_integers.get(variable);
+		return local == null ? -1 : local;
+	}
+
+	/**
+	 * Gets the local variable that holds the array of a variable, or -1 if the variable is held in the program's memory.
+	 *
+	 * @param variable The variable.
+	 */
+	int getArrayLocal(Variable variable) {
+		java.lang.Integer local = m_arrays.get(variable);
+		return local == null ? -1 : local;
+	}
+
+	/**
+	 * Allocates a local variable for an intermediate integer (e.g. an index that is checked before it is used).
+	 */
+	int allocateLocal() {
+		return m_localCount++;
+	}
+}
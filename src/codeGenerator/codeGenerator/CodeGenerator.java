@@ -2,7 +2,11 @@ package codeGenerator.codeGenerator;
 
 import codeGenerator.AbstractCodeGenerator;
 import codeGenerator.utilities.DeclarationMangler;
+import codeGenerator.utilities.IRegister;
+import codeGenerator.utilities.Immediate;
 import codeGenerator.utilities.Instruction;
+import codeGenerator.utilities.Label;
+import codeGenerator.utilities.Memory;
 import codeGenerator.utilities.Register;
 import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
@@ -52,7 +56,7 @@ public class CodeGenerator extends AbstractCodeGenerator {
 
 		if (assign.getLocation().getType() instanceof Integer) {
 			print(Instruction.MOVQ, Register.R9, ExpressionParser.getInstance().getExpressionValue(assign.getExpression()));
-			print(Instruction.MOV, "qword ptr [" + Register.R8 + "]", Register.R9);
+			print(Instruction.MOV, new Memory(Register.R8), Register.R9);
 		} else {
 			print(Instruction.MOVQ, Register.R9, ExpressionParser.getInstance().getLocationAddress((Location) assign.getExpression()));
 			int size;
@@ -74,11 +78,11 @@ public class CodeGenerator extends AbstractCodeGenerator {
 				if (j != 0) {
 					j = 8;
 				}
-				print(Instruction.ADDQ, Register.R8, j);
-				print(Instruction.ADDQ, Register.R9, j);
+				print(Instruction.ADDQ, Register.R8, new Immediate(j));
+				print(Instruction.ADDQ, Register.R9, new Immediate(j));
 
-				print(Instruction.MOV, Register.R10, "qword ptr [" + Register.R9 + "]");
-				print(Instruction.MOV, "qword ptr [" + Register.R8 + "]", Register.R10);
+				print(Instruction.MOV, Register.R10, new Memory(Register.R9));
+				print(Instruction.MOV, new Memory(Register.R8), Register.R10);
 			}
 		}
 	}
@@ -130,55 +134,21 @@ public class CodeGenerator extends AbstractCodeGenerator {
 	 */
 	@Override
 	protected void printMainInitialization() {
-		print(codeGenerator.utilities.Instruction.LEA, Register.R8, "_base");
-		print(Instruction.ADDQ, Register.R8, 8);
-		print(codeGenerator.utilities.Instruction.MOVQ, "_base", Register.R8);
+		print(codeGenerator.utilities.Instruction.LEA, Register.R8, new Memory("_base"));
+		print(Instruction.ADDQ, Register.R8, new Immediate(8));
+		print(codeGenerator.utilities.Instruction.MOVQ, new Memory("_base"), Register.R8);
 	}
 
 	/**
-	 * Generates an if instruction.
+	 * Compares the left expression of a condition with its right expression.
 	 *
-	 * @param ifInstruction The if instruction to generate.
+	 * @param condition The condition.
 	 */
 	@Override
-	protected void generateIf(If ifInstruction) {
-		print(Instruction.MOVQ, Register.R8, ExpressionParser.getInstance().getExpressionValue(ifInstruction.getCondition().getLeftExpression()));
-		print(Instruction.MOVQ, Register.R9, ExpressionParser.getInstance().getExpressionValue(ifInstruction.getCondition().getRightExpression()));
+	protected void generateComparison(Condition condition) {
+		print(Instruction.MOVQ, Register.R8, ExpressionParser.getInstance().getExpressionValue(condition.getLeftExpression()));
+		print(Instruction.MOVQ, Register.R9, ExpressionParser.getInstance().getExpressionValue(condition.getRightExpression()));
 		print(Instruction.CMP, Register.R8, Register.R9);
-		if (ifInstruction.getTrueInstructions().size() > 0) {
-			jumpOnCondition(ifInstruction.getCondition(), m_instructionCounter);
-			Condition condition = ifInstruction.getCondition().clone();
-			condition.negateExpression();
-			if (ifInstruction.getFalseInstructions().size() > 0) {
-				int instructionCounter = m_instructionCounter + ifInstruction.getNumberOfFalseInstructions();
-				jumpOnCondition(condition, instructionCounter);
-			} else {
-				jumpOnCondition(condition, m_instructionCounter);
-			}
-			generateInstructions(ifInstruction.getTrueInstructions());
-		}
-		if (ifInstruction.getFalseInstructions().size() > 0) {
-			print(Instruction.MOVQ, Register.R8, ExpressionParser.getInstance().getExpressionValue(ifInstruction.getCondition().getLeftExpression()));
-			print(Instruction.MOVQ, Register.R9, ExpressionParser.getInstance().getExpressionValue(ifInstruction.getCondition().getRightExpression()));
-			print(Instruction.CMP, Register.R8, Register.R9);
-			jumpOnCondition(ifInstruction.getCondition(), m_instructionCounter + 1);
-			generateInstructions(ifInstruction.getFalseInstructions());
-		}
-	}
-
-	/**
-	 * Generates a repeat instruction.
-	 *
-	 * @param repeat The repeat instruction to generate.
-	 */
-	@Override
-	protected void generateRepeat(Repeat repeat) {
-		int currentInstruction = m_instructionCounter - 1;
-		generateInstructions(repeat.getInstructions());
-		print(Instruction.MOVQ, Register.R8, ExpressionParser.getInstance().getExpressionValue(repeat.getCondition().getLeftExpression()));
-		print(Instruction.MOVQ, Register.R9, ExpressionParser.getInstance().getExpressionValue(repeat.getCondition().getRightExpression()));
-		print(Instruction.CMP, Register.R8, Register.R9);
-		jumpOnCondition(repeat.getCondition(), currentInstruction);
 	}
 
 	/**
@@ -188,9 +158,9 @@ public class CodeGenerator extends AbstractCodeGenerator {
 	 */
 	@Override
 	protected void generateRead(Read read) {
-		print(Instruction.CALL, "read");
-		print(Instruction.MOVQ, Register.R8, "_read");
-		print(Instruction.MOVQ, ExpressionParser.getInstance().getLocationValue(read.getLocation()), "_read");
+		print(Instruction.CALL, new Label("read"));
+		print(Instruction.MOVQ, Register.R8, new Memory("_read"));
+		print(Instruction.MOVQ, ExpressionParser.getInstance().getLocationValue(read.getLocation()), new Memory("_read"));
 	}
 
 	/**
@@ -201,8 +171,8 @@ public class CodeGenerator extends AbstractCodeGenerator {
 	@Override
 	protected void generateWrite(Write write) {
 		print(Instruction.MOVQ, Register.R8, ExpressionParser.getInstance().getExpressionValue(write.getExpression()));
-		print(Instruction.MOVQ, "_write", Register.R8);
-		print(Instruction.CALL, "write");
+		print(Instruction.MOVQ, new Memory("_write"), Register.R8);
+		print(Instruction.CALL, new Label("write"));
 	}
 
 	/**
@@ -234,10 +204,10 @@ public class CodeGenerator extends AbstractCodeGenerator {
 	protected void printRead() {
 		print("read:");
 		indent();
-		print(Instruction.LEA, Register.RDI, "formatRead");
-		print(Instruction.LEA, Register.RSI, "_read");
+		print(Instruction.LEA, Register.RDI, new Memory("formatRead"));
+		print(Instruction.LEA, Register.RSI, new Memory("_read"));
 		print(Instruction.XOR, Register.RAX, Register.RAX);
-		print(Instruction.CALL, "scanf");
+		print(Instruction.CALL, new Label("scanf"));
 		print(Instruction.RET);
 		removeIndent();
 		print("formatRead:");
@@ -253,10 +223,10 @@ public class CodeGenerator extends AbstractCodeGenerator {
 	protected void printWrite() {
 		print("write:");
 		indent();
-		print(Instruction.LEA, Register.RDI, "formatWrite");
-		print(Instruction.MOVQ, Register.RSI, "_write");
+		print(Instruction.LEA, Register.RDI, new Memory("formatWrite"));
+		print(Instruction.MOVQ, Register.RSI, new Memory("_write"));
 		print(Instruction.XOR, Register.RAX, Register.RAX);
-		print(Instruction.CALL, "printf");
+		print(Instruction.CALL, new Label("printf"));
 		print(Instruction.RET);
 		removeIndent();
 		print("formatWrite:");
@@ -275,13 +245,13 @@ public class CodeGenerator extends AbstractCodeGenerator {
 			print(AbstractCodeGenerator.ARRAY_EXCEPTION_PREFIX + i + ":");
 			indent();
 
-			print(Instruction.MOV, Register.RDI, "qword ptr stderr[" + Register.RIP + "]");
-			print(Instruction.LEA, Register.RSI, AbstractCodeGenerator.ARRAY_EXCEPTION_MESSAGE_PREFIX + i);
+			print(Instruction.MOV, Register.RDI, new Memory("stderr", Register.RIP));
+			print(Instruction.LEA, Register.RSI, new Memory(AbstractCodeGenerator.ARRAY_EXCEPTION_MESSAGE_PREFIX + i));
 			print(Instruction.XOR, Register.RAX, Register.RAX);
-			print(Instruction.CALL, "fprintf");
+			print(Instruction.CALL, new Label("fprintf"));
 			// Exit
-			print(Instruction.MOVQ, Register.RDI, 0);
-			print(Instruction.CALL, "exit");
+			print(Instruction.MOVQ, Register.RDI, new Immediate(0));
+			print(Instruction.CALL, new Label("exit"));
 
 			removeIndent();
 
@@ -299,15 +269,15 @@ public class CodeGenerator extends AbstractCodeGenerator {
 	 * @param register The register that contains the value of the index.
 	 */
 	@Override
-	public void generateArrayBoundsChecking(Location location, Register register) {
+	public void generateArrayBoundsChecking(Location location, IRegister register) {
 		int upperBoundsExceptionIndex = s_arrayCounter++, lowerBoundsExceptionIndex = s_arrayCounter++;
 		s_arrayExceptions.add("UpperOutOfBoundsException: " + location.toString() + " @" + location.getType().getPosition());
 		s_arrayExceptions.add("NegativeOutOfBoundsException: " + location.toString() + " @" + location.getType().getPosition());
 
 
-		print(codeGenerator.utilities.Instruction.CMP, register, ((Array) ((Index) location).getVariable().getType()).getLength() * 8);
-		print(codeGenerator.utilities.Instruction.JGE, ARRAY_EXCEPTION_PREFIX + upperBoundsExceptionIndex);
-		print(codeGenerator.utilities.Instruction.CMP, register, 0);
-		print(codeGenerator.utilities.Instruction.JL, ARRAY_EXCEPTION_PREFIX + lowerBoundsExceptionIndex);
+		print(codeGenerator.utilities.Instruction.CMP, register, new Immediate(((Array) ((Index) location).getVariable().getType()).getLength() * 8));
+		print(codeGenerator.utilities.Instruction.JGE, new Label(ARRAY_EXCEPTION_PREFIX + upperBoundsExceptionIndex));
+		print(codeGenerator.utilities.Instruction.CMP, register, new Immediate(0));
+		print(codeGenerator.utilities.Instruction.JL, new Label(ARRAY_EXCEPTION_PREFIX + lowerBoundsExceptionIndex));
 	}
 }
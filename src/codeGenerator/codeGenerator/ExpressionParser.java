@@ -1,7 +1,10 @@
 package codeGenerator.codeGenerator;
 
 import codeGenerator.AbstractExpressionParser;
+import codeGenerator.utilities.Immediate;
 import codeGenerator.utilities.Instruction;
+import codeGenerator.utilities.Memory;
+import codeGenerator.utilities.Operand;
 import codeGenerator.utilities.Register;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
@@ -39,14 +42,14 @@ public class ExpressionParser extends AbstractExpressionParser {
 	private ExpressionParser() {}
 
 	/**
-	 * Gets the value from a location, returning either the mangled name of the variable for use in assembly or the stringified representation of the register that contains the value of the variable.
+	 * Gets the value from a location, returning the register that contains the value of the variable.
 	 *
 	 * @param location The location whose value will be returned.
 	 */
 	@Override
-	public String getLocationValue(Location location) {
-		String register = getLocationAddress(location);
-		print(Instruction.MOV, register, "qword ptr[" + register + "]");
+	public Register getLocationValue(Location location) {
+		Register register = getLocationAddress(location);
+		print(Instruction.MOV, register, new Memory(register));
 		return register;
 	}
 
@@ -56,9 +59,9 @@ public class ExpressionParser extends AbstractExpressionParser {
 	 * @param location The location whose address will be returned.
 	 */
 	@Override
-	public String getLocationAddress(Location location) {
-		String register = getLocationOffset(location);
-		print(Instruction.ADDQ, register, "_base");
+	public Register getLocationAddress(Location location) {
+		Register register = getLocationOffset(location);
+		print(Instruction.ADDQ, register, new Memory("_base"));
 		return register;
 	}
 
@@ -68,80 +71,81 @@ public class ExpressionParser extends AbstractExpressionParser {
 	 * @param location The location whose offset will be returned.
 	 */
 	@Override
-	protected String getLocationOffset(Location location) {
+	protected Register getLocationOffset(Location location) {
 		if (location instanceof Field) {
 			Field field = (Field) location;
 			getLocationOffset(field.getVariable()); // R15 has the offset of the VARIABLE
-			try {
-				parseBinaryExpression(Register.R15 + " + " + String.valueOf(((Variable) field.getSelection()).getVariable().getOffset())); // Offset of the SELECTION
+			if (field.getSelection() instanceof Variable) {
+				parseBinaryExpression(Register.R15, Operator.PLUS, new Immediate(((Variable) field.getSelection()).getVariable().getOffset())); // Offset of the SELECTION
 				print(Instruction.MOVQ, Register.R15, Register.R13); // R15 has the COMPLETE offset (e.g. a.x)
-			} catch (Exception ignored) {
+			} else {
 				Index array = (Index) field.getVariable();
 				getExpressionValue(array.getExpression()); // R14 has the INDEX of the array.
-				parseBinaryExpression(Register.R14 + " * " + array.getVariable().getType().getSize()); // R13 has the OFFSET of the INDEX.  R14 = i * size
+				parseBinaryExpression(Register.R14, Operator.MULTIPLICATION, new Immediate(array.getVariable().getType().getSize())); // R13 has the OFFSET of the INDEX.  R14 = i * size
 				print(Instruction.MOVQ, Register.R14, Register.R13); // R14 has the OFFSET of the INDEX.  R14 = i * size
-				parseBinaryExpression(String.valueOf(field.getSelection().getType().getSize()) + " * " + Register.R14); // Size type of array * index of array => 13 has the COMPLETE offset (e.g. a.a[1]).
+				parseBinaryExpression(new Immediate(field.getSelection().getType().getSize()), Operator.MULTIPLICATION, Register.R14); // Size type of array * index of array => 13 has the COMPLETE offset (e.g. a.a[1]).
 				print(Instruction.MOVQ, Register.R15, Register.R13);
 			}
 		} else if (location instanceof Index) {
 			Index index = (Index) location;
 			Array array = (Array) index.getVariable().getType();
+			Memory temporaryIndex = new Memory("_temp_index");
 			getLocationOffset(index.getVariable()); // R15 has the address of a, when the expression is a[i].  We need to evaluate the expression, multiplying its value by the size of the type.
 			print(Instruction.PUSH, Register.R15); // Save the address of a[0].
 			print(Instruction.MOVQ, Register.R15, getExpressionValue(index.getExpression())); // R15 has the value of i
-			print(Instruction.MOVQ, "_temp_index", array.getElementType().getSize()); // temp has the size of each element.
-			parseBinaryExpression(Register.R15 + "* _temp_index"); // R13 has the value of sizeOfElement*i
+			print(Instruction.MOVQ, temporaryIndex, new Immediate(array.getElementType().getSize())); // temp has the size of each element.
+			parseBinaryExpression(Register.R15, Operator.MULTIPLICATION, temporaryIndex); // R13 has the value of sizeOfElement*i
 			print(Instruction.MOVQ, Register.R15, Register.R13); // R15 has the value of sizeOfElement*i
 
-			parseBinaryExpression(Register.R15 + "/ 8");
+			parseBinaryExpression(Register.R15, Operator.DIV, new Immediate(8));
 			CodeGenerator.getInstance().generateArrayBoundsChecking(location, Register.R13);
 
 
-			print(Instruction.POP, "_temp_index"); // temp has the address of a[0]
-			parseBinaryExpression(Register.R15 + "+ _temp_index"); // R15 has the address of a[i]
+			print(Instruction.POP, temporaryIndex); // temp has the address of a[0]
+			parseBinaryExpression(Register.R15, Operator.PLUS, temporaryIndex); // R15 has the address of a[i]
 			print(Instruction.MOVQ, Register.R15, Register.R13);
 		} else if (location instanceof Variable) {
 			Variable variable = (Variable) location;
-			print(Instruction.MOVQ, Register.R15, variable.getVariable().getOffset()); // R15 has the address of the variable.
+			print(Instruction.MOVQ, Register.R15, new Immediate(variable.getVariable().getOffset())); // R15 has the address of the variable.
 		}
-		return Register.R15.toString();
+		return Register.R15;
 	}
 
 	/**
-	 * Gets the value from a location, returning either the mangled name of the variable for use in assembly or the stringified representation of R14 if using a non-optimized code generator, which contains the value of the expression.
+	 * Gets the value of an expression, returning R14, which contains the value of the expression.
 	 *
 	 * @param expression The expression whose value will be returned.
 	 */
 	@Override
-	public String getExpressionValue(Expression expression) {
+	public Register getExpressionValue(Expression expression) {
 		if (expression instanceof Location) {
-			print(Instruction.MOV, Register.R14, "qword ptr [" + getLocationAddress((Location) expression) + "]");
+			print(Instruction.MOV, Register.R14, new Memory(getLocationAddress((Location) expression)));
 		} else if (expression instanceof Binary) {
 			Binary binary = (Binary) expression;
+			Memory left = new Memory("_temp_expression_left");
+			Memory right = new Memory("_temp_expression_right");
 			print(Instruction.PUSH, getExpressionValue(binary.getRightExpression()));
 			print(Instruction.PUSH, getExpressionValue(binary.getLeftExpression()));
-			print(Instruction.POP, "_temp_expression_left");
-			print(Instruction.POP, "_temp_expression_right");
-			parseBinaryExpression("_temp_expression_left " + Operator.getOperator(binary.getOperator()) + " _temp_expression_right");
+			print(Instruction.POP, left);
+			print(Instruction.POP, right);
+			parseBinaryExpression(left, binary.getOperator(), right);
 			print(Instruction.MOVQ, Register.R14, Register.R13);
 		} else if (expression instanceof Number) {
 			Number number = (Number) expression;
-			print(Instruction.MOVQ, Register.R14, String.valueOf(number.getConstant().getValue()));
+			print(Instruction.MOVQ, Register.R14, new Immediate(number.getConstant().getValue()));
 		}
-		return Register.R14.toString();
+		return Register.R14;
 	}
 
 	/**
-	 * Parsers a binary expression, putting the result in R13 if using a non-optimized code generator.
+	 * Gets the value of a binary operation on two operands, putting the result in R13.
 	 *
-	 * @param binary The binary expression to reduce.
+	 * @param left     The left operand.
+	 * @param operator The operator.
+	 * @param right    The right operand.
 	 */
 	@Override
-	protected String parseBinaryExpression(String binary) {
-		int operatorIndex = getIndexOfOperator(binary);
-		String left = getLeftOperand(binary.substring(0, operatorIndex)).trim();
-		String right = getRightOperand(binary.substring(operatorIndex + 1)).trim();
-		Operator operator = Operator.getOperator(binary.substring(getIndexOfOperator(binary), getIndexOfOperator(binary) + 1));
+	protected Register parseBinaryExpression(Operand left, Operator operator, Operand right) {
 		switch (operator) {
 			case MINUS:
 			case PLUS:
@@ -156,7 +160,7 @@ public class ExpressionParser extends AbstractExpressionParser {
 			case MULTIPLICATION:
 			case DIV:
 			case MOD:
-				print(Instruction.MOVQ, Register.RDX, "0");
+				print(Instruction.MOVQ, Register.RDX, new Immediate(0));
 				print(Instruction.MOVQ, Register.RAX, left);
 				print(Instruction.CQO);
 				print(Instruction.MOVQ, Register.R13, right);
@@ -174,6 +178,6 @@ public class ExpressionParser extends AbstractExpressionParser {
 				}
 				break;
 		}
-		return Register.R13.toString();
+		return Register.R13;
 	}
 }
@@ -0,0 +1,173 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a basic block: a run of straight-line instructions (i.e. assignments, reads, writes and calls) that ends in a branch.
+ * A block either branches on a condition to one of two successors, falls through to a single successor, or ends the program.
+ */
+public class BasicBlock {
+
+	/**
+	 * Represents the number of the block, which is its position in the layout of the graph.
+	 */
+	private int m_number;
+	/**
+	 * Represents the straight-line instructions of the block.
+	 */
+	private List<Instruction> m_instructions;
+	/**
+	 * Represents the condition on which the block branches, or null if it has at most one successor.
+	 */
+	private Condition m_condition;
+	/**
+	 * Represents the successor to which the block branches if its condition holds, or its only successor, or null if the block ends the program.
+	 */
+	private BasicBlock m_trueSuccessor;
+	/**
+	 * Represents the successor to which the block branches if its condition does not hold, or null if the block has no condition.
+	 */
+	private BasicBlock m_falseSuccessor;
+	/**
+	 * Represents the blocks that branch to the block.
+	 */
+	private List<BasicBlock> m_predecessors;
+	/**
+	 * Represents the immediate dominator of the block, or null if it is the entry of the graph.
+	 */
+	private BasicBlock m_immediateDominator;
+	/**
+	 * Represents the blocks that the block immediately dominates.
+	 */
+	private List<BasicBlock> m_dominatedBlocks;
+
+	/**
+	 * Constructs an empty basic block that ends the program.
+	 */
+	BasicBlock() {
+		m_instructions = new ArrayList<Instruction>();
+		m_predecessors = new ArrayList<BasicBlock>();
+		m_dominatedBlocks = new ArrayList<BasicBlock>();
+	}
+
+	/**
+	 * Gets the number of the block, which is its position in the layout of the graph.
+	 */
+	public int getNumber() {
+		return m_number;
+	}
+
+	/**
+	 * Sets the number of the block.
+	 *
+	 * @param number The number.
+	 */
+	void setNumber(int number) {
+		m_number = number;
+	}
+
+	/**
+	 * Gets the straight-line instructions of the block.
+	 */
+	public List<Instruction> getInstructions() {
+		return m_instructions;
+	}
+
+	/**
+	 * Gets the condition on which the block branches, or null if it has at most one successor.
+	 */
+	public Condition getCondition() {
+		return m_condition;
+	}
+
+	/**
+	 * Gets the successor to which the block branches if its condition holds, or its only successor, or null if the block ends the program.
+	 */
+	public BasicBlock getTrueSuccessor() {
+		return m_trueSuccessor;
+	}
+
+	/**
+	 * Gets the successor to which the block branches if its condition does not hold, or null if the block has no condition.
+	 */
+	public BasicBlock getFalseSuccessor() {
+		return m_falseSuccessor;
+	}
+
+	/**
+	 * Gets the distinct successors of the block.
+	 */
+	public List<BasicBlock> getSuccessors() {
+		List<BasicBlock> successors = new ArrayList<BasicBlock>(2);
+		if (m_trueSuccessor != null) {
+			successors.add(m_trueSuccessor);
+		}
+		if (m_falseSuccessor != null && m_falseSuccessor != m_trueSuccessor) {
+			successors.add(m_falseSuccessor);
+		}
+		return successors;
+	}
+
+	/**
+	 * Ends the block in a branch on a condition.
+	 *
+	 * @param condition      The condition.
+	 * @param trueSuccessor  The successor to which the block branches if the condition holds.
+	 * @param falseSuccessor The successor to which the block branches if the condition does not hold.
+	 */
+	void setBranch(Condition condition, BasicBlock trueSuccessor, BasicBlock falseSuccessor) {
+		m_condition = condition;
+		m_trueSuccessor = trueSuccessor;
+		m_falseSuccessor = falseSuccessor;
+	}
+
+	/**
+	 * Ends the block in a fall through to a single successor.
+	 *
+	 * @param successor The successor, or null if the block ends the program.
+	 */
+	void setSuccessor(BasicBlock successor) {
+		setBranch(null, successor, null);
+	}
+
+	/**
+	 * Gets the blocks that branch to the block, in the order in which they appear in the layout of the graph.
+	 */
+	public List<BasicBlock> getPredecessors() {
+		return m_predecessors;
+	}
+
+	/**
+	 * Gets the immediate dominator of the block, or null if it is the entry of the graph.
+	 */
+	public BasicBlock getImmediateDominator() {
+		return m_immediateDominator;
+	}
+
+	/**
+	 * Sets the immediate dominator of the block.
+	 *
+	 * @param immediateDominator The immediate dominator.
+	 */
+	void setImmediateDominator(BasicBlock immediateDominator) {
+		m_immediateDominator = immediateDominator;
+	}
+
+	/**
+	 * Gets the blocks that the block immediately dominates.
+	 */
+	public List<BasicBlock> getDominatedBlocks() {
+		return m_dominatedBlocks;
+	}
+
+	/**
+	 * Queries if the block has no instructions and falls through to a single successor.
+	 */
+	boolean isEmpty() {
+		return m_instructions.isEmpty() && m_condition == null && m_trueSuccessor != null;
+	}
+}
@@ -0,0 +1,314 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Operator;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Assign;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+
+import java.util.List;
+
+/**
+ * Propagates constants through the static single assignment form of a control-flow graph, using the sparse conditional algorithm of Wegman and Zadeck.
+ * A variable is only assumed to be overdefined once it is shown to be; a branch is only assumed to be taken once its block is shown to be executable and its condition allows it.
+ * This finds constants that flow around loops and through branches that are never taken, which propagating constants statement by statement does not.
+ */
+class ConstantPropagator {
+
+	/**
+	 * Represents the state of a definition that has not been shown to be executed.
+	 */
+	private static final int UNDEFINED = 0;
+	/**
+	 * Represents the state of a definition that has only been shown to take one value.
+	 */
+	private static final int CONSTANT = 1;
+	/**
+	 * Represents the state of a definition that may take more than one value.
+	 */
+	private static final int OVERDEFINED = 2;
+
+	/**
+	 * Represents the instance of the constant propagator.
+	 */
+	private static ConstantPropagator m_instance;
+
+	/**
+	 * Represents the static single assignment form whose definitions are being evaluated.
+	 */
+	private StaticSingleAssignment m_form;
+	/**
+	 * Represents the state of each definition, by number.
+	 */
+	private int[] m_states;
+	/**
+	 * Represents the value of each constant definition, by number.
+	 */
+	private int[] m_values;
+	/**
+	 * Represents whether each block has been shown to be executable, by number.
+	 */
+	private boolean[] m_isExecutable;
+	/**
+	 * Represents whether the branch of each block to its true successor (or its only successor) has been shown to be taken, by number.
+	 */
+	private boolean[] m_isTrueBranchTaken;
+	/**
+	 * Represents whether the branch of each block to its false successor has been shown to be taken, by number.
+	 */
+	private boolean[] m_isFalseBranchTaken;
+	/**
+	 * Represents whether a state has changed during the current pass over the graph.
+	 */
+	private boolean m_isChanged;
+	/**
+	 * Represents the value of the expression that was evaluated last, if it is constant.
+	 */
+	private int m_value;
+
+	/**
+	 * Gets the instance of the constant propagator.
+	 */
+	static ConstantPropagator getInstance() {
+		if (m_instance == null) {
+			m_instance = new ConstantPropagator();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the constant propagator.
+	 */
+	private ConstantPropagator() {
+	}
+
+	/**
+	 * Finds the definitions of a static single assignment form that are constant, and records their values.
+	 * Passes are made over the executable blocks in reverse postorder until no state changes; since states only ever rise, this terminates.
+	 *
+	 * @param graph The graph.
+	 * @param form  The static single assignment form of the graph.
+	 */
+	void propagate(ControlFlowGraph graph, StaticSingleAssignment form) {
+		m_form = form;
+		int blockCount = graph.getBlocks().size();
+		m_states = new int[form.getDefinitions().size()];
+		m_values = new int[form.getDefinitions().size()];
+		m_isExecutable = new boolean[blockCount];
+		m_isTrueBranchTaken = new boolean[blockCount];
+		m_isFalseBranchTaken = new boolean[blockCount];
+		for (Definition definition : form.getDefinitions()) {
+			if (definition.isEntry()) {
+				m_states[definition.getNumber()] = CONSTANT; // Every variable is zero when the program starts.
+			}
+		}
+		m_isExecutable[graph.getEntry().getNumber()] = true;
+		m_isChanged = true;
+		while (m_isChanged) {
+			m_isChanged = false;
+			for (BasicBlock block : graph.getReversePostorder()) {
+				if (m_isExecutable[block.getNumber()]) {
+					evaluate(block);
+				}
+			}
+		}
+		for (Definition definition : form.getDefinitions()) {
+			definition.setConstant(m_states[definition.getNumber()] == CONSTANT ? m_values[definition.getNumber()] : null);
+		}
+		m_form = null;
+	}
+
+	/**
+	 * Evaluates the phi functions, definitions and branch of an executable block.
+	 *
+	 * @param block The block.
+	 */
+	private void evaluate(BasicBlock block) {
+		List<BasicBlock> predecessors = block.getPredecessors();
+		for (Definition phi : m_form.getPhis(block)) {
+			int state = UNDEFINED, value = 0;
+			for (int i = 0; i < predecessors.size() && state != OVERDEFINED; i++) {
+				if (isBranchTaken(predecessors.get(i), block)) {
+					int operand = phi.getOperands()[i].getNumber();
+					if (m_states[operand] == OVERDEFINED || (m_states[operand] == CONSTANT && state == CONSTANT && m_values[operand] != value)) {
+						state = OVERDEFINED;
+					} else if (m_states[operand] == CONSTANT) {
+						state = CONSTANT;
+						value = m_values[operand];
+					}
+				}
+			}
+			lower(phi, state, value);
+		}
+		for (Instruction instruction : block.getInstructions()) {
+			Definition definition = m_form.getDefinition(instruction);
+			if (definition != null) {
+				if (instruction instanceof Assign) {
+					int state = evaluate(((Assign) instruction).getExpression());
+					lower(definition, state, m_value);
+				} else {
+					lower(definition, OVERDEFINED, 0);
+				}
+			}
+		}
+		Condition condition = block.getCondition();
+		if (condition == null) {
+			takeBranch(block, true);
+		} else {
+			int leftState = evaluate(condition.getLeftExpression());
+			int left = m_value;
+			int rightState = evaluate(condition.getRightExpression());
+			int right = m_value;
+			if (leftState == CONSTANT && rightState == CONSTANT) {
+				takeBranch(block, compare(condition.getRelation(), left, right));
+			} else if (leftState == OVERDEFINED || rightState == OVERDEFINED) {
+				takeBranch(block, true);
+				takeBranch(block, false);
+			}
+		}
+	}
+
+	/**
+	 * Evaluates an expression from the states of the definitions it reads.  Arrays and records are not tracked, so their elements are overdefined.
+	 *
+	 * @param expression The expression.
+	 * @return The state of the expression; if it is constant, its value is left in m_value.
+	 */
+	private int evaluate(Expression expression) {
+		if (expression instanceof Number) {
+			m_value = ((Number) expression).getConstant().getValue();
+			return CONSTANT;
+		} else if (expression instanceof Variable && StaticSingleAssignment.isInteger((Variable) expression)) {
+			int definition = m_form.getDefinition((Variable) expression).getNumber();
+			m_value = m_values[definition];
+			return m_states[definition];
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			int leftState = evaluate(binary.getLeftExpression());
+			int left = m_value;
+			int rightState = evaluate(binary.getRightExpression());
+			int right = m_value;
+			if (leftState == OVERDEFINED || rightState == OVERDEFINED) {
+				return OVERDEFINED;
+			} else if (leftState == UNDEFINED || rightState == UNDEFINED) {
+				return UNDEFINED;
+			}
+			java.lang.Integer value = fold(binary.getOperator(), left, right);
+			if (value == null) {
+				return OVERDEFINED;
+			}
+			m_value = value;
+			return CONSTANT;
+		}
+		return OVERDEFINED;
+	}
+
+	/**
+	 * Lowers the state of a definition in the lattice, if the new state is lower.  A constant that takes a second value becomes overdefined.
+	 *
+	 * @param definition The definition.
+	 * @param state      The new state.
+	 * @param value      The new value, if the new state is constant.
+	 */
+	private void lower(Definition definition, int state, int value) {
+		int number = definition.getNumber();
+		if (state == CONSTANT && m_states[number] == CONSTANT && m_values[number] != value) {
+			state = OVERDEFINED;
+		}
+		if (state > m_states[number]) {
+			m_states[number] = state;
+			m_values[number] = value;
+			m_isChanged = true;
+		}
+	}
+
+	/**
+	 * Shows that a block takes one of its branches, and that the successor it leads to is executable.
+	 *
+	 * @param block     The block.
+	 * @param isTrue    Whether the branch is to the true successor (or the only successor) of the block.
+	 */
+	private void takeBranch(BasicBlock block, boolean isTrue) {
+		boolean[] isBranchTaken = isTrue ? m_isTrueBranchTaken : m_isFalseBranchTaken;
+		BasicBlock successor = isTrue ? block.getTrueSuccessor() : block.getFalseSuccessor();
+		if (successor != null && !isBranchTaken[block.getNumber()]) {
+			isBranchTaken[block.getNumber()] = true;
+			m_isExecutable[successor.getNumber()] = true;
+			m_isChanged = true;
+		}
+	}
+
+	/**
+	 * Queries if a block has been shown to branch to a successor.
+	 *
+	 * @param block     The block.
+	 * @param successor The successor.
+	 */
+	private boolean isBranchTaken(BasicBlock block, BasicBlock successor) {
+		return (block.getTrueSuccessor() == successor && m_isTrueBranchTaken[block.getNumber()]) || (block.getFalseSuccessor() == successor && m_isFalseBranchTaken[block.getNumber()]);
+	}
+
+	/**
+	 * Folds a binary operation on two constants, using SIMPLE's integer semantics (i.e. DIV truncates toward zero and MOD takes the sign of the dividend).
+	 *
+	 * @param operator The operator.
+	 * @param left     The left constant.
+	 * @param right    The right constant.
+	 * @return The value of the operation, or null if it divides by zero or overflows (the code generators and the interpreter disagree on the width of an integer).
+	 */
+	static java.lang.Integer fold(Operator operator, int left, int right) {
+		long value;
+		switch (operator) {
+			case PLUS:
+				value = (long) left + right;
+				break;
+			case MINUS:
+				value = (long) left - right;
+				break;
+			case MULTIPLICATION:
+				value = (long) left * right;
+				break;
+			case DIV:
+				if (right == 0) {
+					return null;
+				}
+				value = (long) left / right;
+				break;
+			default:
+				if (right == 0) {
+					return null;
+				}
+				value = (long) left % right;
+				break;
+		}
+		return value < java.lang.Integer.MIN_VALUE || value > java.lang.Integer.MAX_VALUE ? null : (int) value;
+	}
+
+	/**
+	 * Compares two constants.
+	 *
+	 * @param relation The relation with which to compare them.
+	 * @param left     The left constant.
+	 * @param right    The right constant.
+	 */
+	static boolean compare(Relation relation, int left, int right) {
+		switch (relation) {
+			case EQUALITY:
+				return left == right;
+			case INEQUALITY:
+				return left != right;
+			case LESS_THAN:
+				return left < right;
+			case GREATER_THAN:
+				return left > right;
+			case LESS_THAN_OR_EQUAL_TO:
+				return left <= right;
+			default:
+				return left >= right;
+		}
+	}
+}
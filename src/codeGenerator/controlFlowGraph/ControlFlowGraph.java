@@ -0,0 +1,288 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the control-flow graph of a list of SIMPLE instructions, i.e. its basic blocks in the order in which they are laid out.
+ * Control falls from each block into the next one in the layout unless the block branches elsewhere.
+ */
+public class ControlFlowGraph {
+
+	/**
+	 * Represents the block at which the program starts.
+	 */
+	private BasicBlock m_entry;
+	/**
+	 * Represents the blocks in the order in which they are laid out, starting with the entry.
+	 */
+	private List<BasicBlock> m_blocks;
+	/**
+	 * Represents the blocks in reverse postorder, in which each block comes before its successors except along back edges.
+	 */
+	private List<BasicBlock> m_reversePostorder;
+	/**
+	 * Represents the offsets of the array elements that the loop optimizer keeps in variables, by index.
+	 */
+	private Map<Index, ElementOffset> m_elementOffsets;
+
+	/**
+	 * Constructs a control-flow graph.
+	 *
+	 * @param entry  The block at which the program starts.
+	 * @param blocks The blocks in the order in which they are laid out.
+	 */
+	ControlFlowGraph(BasicBlock entry, List<BasicBlock> blocks) {
+		m_entry = entry;
+		m_blocks = blocks;
+		m_elementOffsets = new IdentityHashMap<Index, ElementOffset>();
+		update();
+	}
+
+	/**
+	 * Gets the block at which the program starts.
+	 */
+	public BasicBlock getEntry() {
+		return m_entry;
+	}
+
+	/**
+	 * Gets the blocks in the order in which they are laid out, starting with the entry.
+	 */
+	public List<BasicBlock> getBlocks() {
+		return m_blocks;
+	}
+
+	/**
+	 * Gets the blocks in reverse postorder.
+	 */
+	List<BasicBlock> getReversePostorder() {
+		return m_reversePostorder;
+	}
+
+	/**
+	 * Gets the offset of the element that an index selects, if the loop optimizer keeps it in a variable.
+	 *
+	 * @param index The index.
+	 * @return The offset, or null if it must be computed from the index.
+	 */
+	public ElementOffset getElementOffset(Index index) {
+		return m_elementOffsets.get(index);
+	}
+
+	/**
+	 * Sets the offset of the element that an index selects.
+	 *
+	 * @param index         The index.
+	 * @param elementOffset The offset.
+	 */
+	void setElementOffset(Index index, ElementOffset elementOffset) {
+		m_elementOffsets.put(index, elementOffset);
+	}
+
+	/**
+	 * Brings the graph up to date after its branches have changed.
+	 * Empty blocks are bypassed, unreachable blocks are removed, blocks that only fall into one another are merged, and the numbers, predecessors and dominators of the remaining blocks are recomputed.
+	 */
+	void update() {
+		do {
+			bypassEmptyBlocks();
+			computeReversePostorder();
+			List<BasicBlock> blocks = new ArrayList<BasicBlock>(m_reversePostorder.size());
+			blocks.add(m_entry);
+			for (BasicBlock block : m_blocks) {
+				if (block != m_entry && block.getNumber() >= 0) {
+					blocks.add(block);
+				}
+			}
+			m_blocks = blocks;
+			for (int i = 0; i < m_blocks.size(); i++) {
+				m_blocks.get(i).setNumber(i);
+				m_blocks.get(i).getPredecessors().clear();
+				m_blocks.get(i).getDominatedBlocks().clear();
+			}
+			for (BasicBlock block : m_blocks) {
+				for (BasicBlock successor : block.getSuccessors()) {
+					successor.getPredecessors().add(block);
+				}
+			}
+		} while (mergeBlocks());
+		computeDominators();
+	}
+
+	/**
+	 * Walks the dominator tree depth-first, without recursing (the tree of a long program is deep).
+	 *
+	 * @param visitor The visitor to which to present each block.
+	 */
+	void walkDominatorTree(IDominatorTreeVisitor visitor) {
+		List<BasicBlock> blocks = new ArrayList<BasicBlock>();
+		List<java.lang.Integer> children = new ArrayList<java.lang.Integer>();
+		visitor.enter(m_entry);
+		blocks.add(m_entry);
+		children.add(0);
+		while (!blocks.isEmpty()) {
+			int top = blocks.size() - 1;
+			BasicBlock block = blocks.get(top);
+			int child = children.get(top);
+			if (child < block.getDominatedBlocks().size()) {
+				children.set(top, child + 1);
+				BasicBlock dominatedBlock = block.getDominatedBlocks().get(child);
+				visitor.enter(dominatedBlock);
+				blocks.add(dominatedBlock);
+				children.add(0);
+			} else {
+				visitor.exit(block);
+				blocks.remove(top);
+				children.remove(top);
+			}
+		}
+	}
+
+	/**
+	 * Redirects each branch to an empty block to the block to which it falls through.
+	 * The entry itself is kept even if it is empty, so that no branch ever leads to it (e.g. from the end of a loop with which the program starts).
+	 */
+	private void bypassEmptyBlocks() {
+		for (BasicBlock block : m_blocks) {
+			if (block.getCondition() != null) {
+				block.setBranch(block.getCondition(), bypass(block.getTrueSuccessor()), bypass(block.getFalseSuccessor()));
+			} else if (block.getTrueSuccessor() != null) {
+				block.setSuccessor(bypass(block.getTrueSuccessor()));
+			}
+		}
+	}
+
+	/**
+	 * Gets the first block on the path from a block that is not empty.
+	 *
+	 * @param block The block.
+	 */
+	private BasicBlock bypass(BasicBlock block) {
+		// A cycle of empty blocks (an empty loop with no way out) is left alone; the bound stops us from following it forever.
+		for (int i = 0; i < m_blocks.size() && block.isEmpty(); i++) {
+			block = block.getTrueSuccessor();
+		}
+		return block;
+	}
+
+	/**
+	 * Appends to each block that falls into a single successor the successor, if the block is its only predecessor (e.g. the pieces of a branch that was folded away).
+	 * A merged successor is left without instructions or successors, so that the next pass over the graph removes it.
+	 *
+	 * @return Whether any block was merged.
+	 */
+	private boolean mergeBlocks() {
+		boolean isMerged = false;
+		for (BasicBlock block : m_blocks) {
+			BasicBlock successor = block.getTrueSuccessor();
+			while (block.getCondition() == null && successor != null && successor != m_entry && successor != block && successor.getPredecessors().size() == 1) {
+				block.getInstructions().addAll(successor.getInstructions());
+				block.setBranch(successor.getCondition(), successor.getTrueSuccessor(), successor.getFalseSuccessor());
+				successor.getInstructions().clear();
+				successor.setSuccessor(null);
+				successor = block.getTrueSuccessor();
+				isMerged = true;
+			}
+		}
+		return isMerged;
+	}
+
+	/**
+	 * Computes the reverse postorder of the blocks that are reachable from the entry, and marks every other block by numbering it -1.
+	 */
+	private void computeReversePostorder() {
+		for (BasicBlock block : m_blocks) {
+			block.setNumber(-1);
+		}
+		m_reversePostorder = new ArrayList<BasicBlock>(m_blocks.size());
+		List<BasicBlock> blocks = new ArrayList<BasicBlock>();
+		List<java.lang.Integer> successors = new ArrayList<java.lang.Integer>();
+		m_entry.setNumber(0);
+		blocks.add(m_entry);
+		successors.add(0);
+		while (!blocks.isEmpty()) {
+			int top = blocks.size() - 1;
+			BasicBlock block = blocks.get(top);
+			int successor = successors.get(top);
+			if (successor < block.getSuccessors().size()) {
+				successors.set(top, successor + 1);
+				BasicBlock successorBlock = block.getSuccessors().get(successor);
+				if (successorBlock.getNumber() < 0) {
+					successorBlock.setNumber(0);
+					blocks.add(successorBlock);
+					successors.add(0);
+				}
+			} else {
+				m_reversePostorder.add(block);
+				blocks.remove(top);
+				successors.remove(top);
+			}
+		}
+		Collections.reverse(m_reversePostorder);
+	}
+
+	/**
+	 * Computes the immediate dominator of each block, using the iterative algorithm of Cooper, Harvey and Kennedy.
+	 */
+	private void computeDominators() {
+		int[] postorder = new int[m_blocks.size()];
+		for (int i = 0; i < m_reversePostorder.size(); i++) {
+			postorder[m_reversePostorder.get(i).getNumber()] = m_reversePostorder.size() - 1 - i;
+		}
+		BasicBlock[] immediateDominators = new BasicBlock[m_blocks.size()];
+		immediateDominators[m_entry.getNumber()] = m_entry;
+		boolean isChanged = true;
+		while (isChanged) {
+			isChanged = false;
+			for (BasicBlock block : m_reversePostorder) {
+				if (block == m_entry) {
+					continue;
+				}
+				BasicBlock immediateDominator = null;
+				for (BasicBlock predecessor : block.getPredecessors()) {
+					if (immediateDominators[predecessor.getNumber()] != null) {
+						immediateDominator = immediateDominator == null ? predecessor : intersect(predecessor, immediateDominator, immediateDominators, postorder);
+					}
+				}
+				if (immediateDominators[block.getNumber()] != immediateDominator) {
+					immediateDominators[block.getNumber()] = immediateDominator;
+					isChanged = true;
+				}
+			}
+		}
+		for (BasicBlock block : m_blocks) {
+			if (block == m_entry) {
+				block.setImmediateDominator(null);
+			} else {
+				block.setImmediateDominator(immediateDominators[block.getNumber()]);
+				immediateDominators[block.getNumber()].getDominatedBlocks().add(block);
+			}
+		}
+	}
+
+	/**
+	 * Finds the nearest common dominator of two blocks.
+	 *
+	 * @param block                The first block.
+	 * @param otherBlock           The second block.
+	 * @param immediateDominators  The immediate dominators found so far, by block number.
+	 * @param postorder            The postorder number of each block, by block number.
+	 */
+	private BasicBlock intersect(BasicBlock block, BasicBlock otherBlock, BasicBlock[] immediateDominators, int[] postorder) {
+		while (block != otherBlock) {
+			while (postorder[block.getNumber()] < postorder[otherBlock.getNumber()]) {
+				block = immediateDominators[block.getNumber()];
+			}
+			while (postorder[otherBlock.getNumber()] < postorder[block.getNumber()]) {
+				otherBlock = immediateDominators[otherBlock.getNumber()];
+			}
+		}
+		return block;
+	}
+}
@@ -0,0 +1,106 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.If;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Repeat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the control-flow graph of a list of SIMPLE instructions.
+ * If and repeat instructions become branches between basic blocks; every other instruction is straight-line code within a block.
+ */
+public class ControlFlowGraphBuilder {
+
+	/**
+	 * Represents the instance of the control-flow graph builder.
+	 */
+	private static ControlFlowGraphBuilder m_instance;
+
+	/**
+	 * Represents the blocks of the graph being built, in the order in which they were created.
+	 */
+	private List<BasicBlock> m_blocks;
+
+	/**
+	 * Gets the instance of the control-flow graph builder.
+	 */
+	public static ControlFlowGraphBuilder getInstance() {
+		if (m_instance == null) {
+			m_instance = new ControlFlowGraphBuilder();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the control-flow graph builder.
+	 */
+	private ControlFlowGraphBuilder() {
+	}
+
+	/**
+	 * Builds the control-flow graph of a list of instructions.  The instructions themselves are shared with the graph, but not modified.
+	 *
+	 * @param instructions The instructions.
+	 */
+	public ControlFlowGraph build(List<Instruction> instructions) {
+		m_blocks = new ArrayList<BasicBlock>();
+		BasicBlock entry = createBlock();
+		build(instructions, entry);
+		ControlFlowGraph graph = new ControlFlowGraph(entry, m_blocks);
+		m_blocks = null;
+		return graph;
+	}
+
+	/**
+	 * Builds the blocks of a list of instructions, starting in a given block.
+	 * Blocks are created in the order in which their code appears in the program, so that most of them fall through to the next one.
+	 *
+	 * @param instructions The instructions.
+	 * @param block        The block in which the instructions start.
+	 * @return The block in which the instructions end.
+	 */
+	private BasicBlock build(List<Instruction> instructions, BasicBlock block) {
+		for (Instruction instruction : instructions) {
+			if (instruction instanceof If) {
+				If ifInstruction = (If) instruction;
+				BasicBlock trueBlock = createBlock();
+				BasicBlock trueExit = build(ifInstruction.getTrueInstructions(), trueBlock);
+				BasicBlock falseBlock = null, falseExit = null;
+				if (ifInstruction.falseInstructionsExist()) {
+					falseBlock = createBlock();
+					falseExit = build(ifInstruction.getFalseInstructions(), falseBlock);
+				}
+				BasicBlock join = createBlock();
+				block.setBranch(ifInstruction.getCondition(), trueBlock, falseBlock == null ? join : falseBlock);
+				trueExit.setSuccessor(join);
+				if (falseExit != null) {
+					falseExit.setSuccessor(join);
+				}
+				block = join;
+			} else if (instruction instanceof Repeat) {
+				Repeat repeat = (Repeat) instruction;
+				BasicBlock body = createBlock();
+				block.setSuccessor(body);
+				BasicBlock bodyExit = build(repeat.getInstructions(), body);
+				BasicBlock exit = createBlock();
+				// The parser has already negated the condition of REPEAT...UNTIL, so the loop repeats while it holds.
+				bodyExit.setBranch(repeat.getCondition(), body, exit);
+				block = exit;
+			} else {
+				block.getInstructions().add(instruction);
+			}
+		}
+		return block;
+	}
+
+	/**
+	 * Creates a block and appends it to the layout.
+	 */
+	private BasicBlock createBlock() {
+		BasicBlock block = new BasicBlock();
+		m_blocks.add(block);
+		return block;
+	}
+}
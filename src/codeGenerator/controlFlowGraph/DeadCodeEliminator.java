@@ -0,0 +1,136 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Operator;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Assign;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Removes the assignments to integer variables whose values are never used, by marking the definitions that the program needs from its static single assignment form.
+ * Reads, writes, branches and stores to arrays and records are needed; so is every definition that a needed instruction or phi function uses.
+ */
+class DeadCodeEliminator {
+
+	/**
+	 * Represents the instance of the dead-code eliminator.
+	 */
+	private static DeadCodeEliminator m_instance;
+
+	/**
+	 * Gets the instance of the dead-code eliminator.
+	 */
+	static DeadCodeEliminator getInstance() {
+		if (m_instance == null) {
+			m_instance = new DeadCodeEliminator();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the dead-code eliminator.
+	 */
+	private DeadCodeEliminator() {
+	}
+
+	/**
+	 * Removes the assignments of a graph whose values are never used.
+	 *
+	 * @param graph The graph.
+	 * @param form  The static single assignment form of the graph.
+	 */
+	void eliminate(ControlFlowGraph graph, StaticSingleAssignment form) {
+		boolean[] isNeeded = new boolean[form.getDefinitions().size()];
+		List<Definition> worklist = new ArrayList<Definition>();
+		List<Variable> uses = new ArrayList<Variable>();
+		for (BasicBlock block : graph.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				if (!isRemovable(instruction, form)) {
+					StaticSingleAssignment.collectUses(instruction, uses);
+				}
+			}
+			if (block.getCondition() != null) {
+				StaticSingleAssignment.collectUses(block.getCondition(), uses);
+			}
+		}
+		need(uses, form, isNeeded, worklist);
+		while (!worklist.isEmpty()) {
+			Definition definition = worklist.remove(worklist.size() - 1);
+			if (definition.isPhi()) {
+				for (Definition operand : definition.getOperands()) {
+					if (!isNeeded[operand.getNumber()]) {
+						isNeeded[operand.getNumber()] = true;
+						worklist.add(operand);
+					}
+				}
+			} else if (definition.getInstruction() != null) {
+				StaticSingleAssignment.collectUses(definition.getInstruction(), uses);
+				need(uses, form, isNeeded, worklist);
+			}
+		}
+		for (BasicBlock block : graph.getBlocks()) {
+			for (Iterator<Instruction> iterator = block.getInstructions().iterator(); iterator.hasNext(); ) {
+				Instruction instruction = iterator.next();
+				if (isRemovable(instruction, form) && !isNeeded[form.getDefinition(instruction).getNumber()]) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks the definitions that a list of uses reads as needed, and clears the list.
+	 *
+	 * @param uses     The uses.
+	 * @param form     The static single assignment form.
+	 * @param isNeeded Whether each definition is needed, by number.
+	 * @param worklist The needed definitions whose own uses have yet to be marked.
+	 */
+	private void need(List<Variable> uses, StaticSingleAssignment form, boolean[] isNeeded, List<Definition> worklist) {
+		for (Variable use : uses) {
+			Definition definition = form.getDefinition(use);
+			if (!isNeeded[definition.getNumber()]) {
+				isNeeded[definition.getNumber()] = true;
+				worklist.add(definition);
+			}
+		}
+		uses.clear();
+	}
+
+	/**
+	 * Queries if an instruction may be removed if its value is never used, i.e. it assigns to an integer variable an expression that cannot fail.
+	 *
+	 * @param instruction The instruction.
+	 * @param form        The static single assignment form.
+	 */
+	private boolean isRemovable(Instruction instruction, StaticSingleAssignment form) {
+		return instruction instanceof Assign && form.getDefinition(instruction) != null && !canFail(((Assign) instruction).getExpression());
+	}
+
+	/**
+	 * Queries if evaluating an expression may fail at run time, i.e. it divides by something that may be zero, indexes an array (whose bounds are checked), or calls a function.
+	 *
+	 * @param expression The expression.
+	 */
+	static boolean canFail(Expression expression) {
+		if (expression instanceof Number || expression instanceof Variable) {
+			return false;
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			if ((binary.getOperator() == Operator.DIV || binary.getOperator() == Operator.MOD) && !(binary.getRightExpression() instanceof Number && ((Number) binary.getRightExpression()).getConstant().getValue() != 0)) {
+				return true;
+			}
+			return canFail(binary.getLeftExpression()) || canFail(binary.getRightExpression());
+		} else if (expression instanceof Field) {
+			return canFail(((Field) expression).getVariable());
+		}
+		return true;
+	}
+}
@@ -0,0 +1,117 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+
+/**
+ * Represents a definition of an integer variable in static single assignment form, i.e. one version of the variable.
+ * A version is defined on entry to the program (where every variable is zero), by an assignment or a read, or by a phi function that merges the versions that reach a block.
+ */
+class Definition {
+
+	/**
+	 * Represents the number of the definition, which is unique within its static single assignment form.
+	 */
+	private final int m_number;
+	/**
+	 * Represents the index of the variable that the definition defines.
+	 */
+	private final int m_variable;
+	/**
+	 * Represents the block in which the definition is made.
+	 */
+	private final BasicBlock m_block;
+	/**
+	 * Represents the assignment or read that makes the definition, or null if it is made on entry or by a phi function.
+	 */
+	private final Instruction m_instruction;
+	/**
+	 * Represents the versions that a phi function merges, by predecessor of its block, or null if the definition is not made by a phi function.
+	 */
+	private final Definition[] m_operands;
+	/**
+	 * Represents the constant value of the definition, or null if it is not known to be constant.
+	 */
+	private java.lang.Integer m_constant;
+
+	/**
+	 * Constructs a definition.
+	 *
+	 * @param number       The number of the definition.
+	 * @param variable     The index of the variable that the definition defines.
+	 * @param block        The block in which the definition is made.
+	 * @param instruction  The assignment or read that makes the definition, or null if it is made on entry or by a phi function.
+	 * @param operandCount The number of versions that a phi function merges, or -1 if the definition is not made by a phi function.
+	 */
+	Definition(int number, int variable, BasicBlock block, Instruction instruction, int operandCount) {
+		m_number = number;
+		m_variable = variable;
+		m_block = block;
+		m_instruction = instruction;
+		m_operands = operandCount < 0 ? null : new Definition[operandCount];
+	}
+
+	/**
+	 * Gets the number of the definition.
+	 */
+	int getNumber() {
+		return m_number;
+	}
+
+	/**
+	 * Gets the index of the variable that the definition defines.
+	 */
+	int getVariable() {
+		return m_variable;
+	}
+
+	/**
+	 * Gets the block in which the definition is made.
+	 */
+	BasicBlock getBlock() {
+		return m_block;
+	}
+
+	/**
+	 * Gets the assignment or read that makes the definition, or null if it is made on entry or by a phi function.
+	 */
+	Instruction getInstruction() {
+		return m_instruction;
+	}
+
+	/**
+	 * Queries if the definition is made by a phi function.
+	 */
+	boolean isPhi() {
+		return m_operands != null;
+	}
+
+	/**
+	 * Queries if the definition is made on entry to the program.
+	 */
+	boolean isEntry() {
+		return m_instruction == null && m_operands == null;
+	}
+
+	/**
+	 * Gets the versions that a phi function merges, by predecessor of its block.
+	 */
+	Definition[] getOperands() {
+		return m_operands;
+	}
+
+	/**
+	 * Gets the constant value of the definition, or null if it is not known to be constant.
+	 */
+	java.lang.Integer getConstant() {
+		return m_constant;
+	}
+
+	/**
+	 * Sets the constant value of the definition.
+	 *
+	 * @param constant The constant value, or null if it is not known to be constant.
+	 */
+	void setConstant(java.lang.Integer constant) {
+		m_constant = constant;
+	}
+}
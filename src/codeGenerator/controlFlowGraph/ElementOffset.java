@@ -0,0 +1,57 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+
+/**
+ * Represents the offset of the element that an array index selects, when it is kept in an integer variable by the loop optimizer rather than computed from the index.
+ * The offset of the element is the value of the variable plus a constant displacement, in bytes, from the start of the array.
+ */
+public class ElementOffset {
+
+	/**
+	 * Represents the variable that holds the offset.
+	 */
+	private Variable m_variable;
+	/**
+	 * Represents the displacement, in bytes, to add to the value of the variable.
+	 */
+	private int m_displacement;
+	/**
+	 * Represents whether the index has been shown to be within the bounds of the array, so that it need not be checked.
+	 */
+	private boolean m_isInBounds;
+
+	/**
+	 * Constructs the offset of an element.
+	 *
+	 * @param variable     The variable that holds the offset.
+	 * @param displacement The displacement, in bytes, to add to the value of the variable.
+	 * @param isInBounds   Whether the index has been shown to be within the bounds of the array.
+	 */
+	ElementOffset(Variable variable, int displacement, boolean isInBounds) {
+		m_variable = variable;
+		m_displacement = displacement;
+		m_isInBounds = isInBounds;
+	}
+
+	/**
+	 * Gets the variable that holds the offset.
+	 */
+	public Variable getVariable() {
+		return m_variable;
+	}
+
+	/**
+	 * Gets the displacement, in bytes, to add to the value of the variable.
+	 */
+	public int getDisplacement() {
+		return m_displacement;
+	}
+
+	/**
+	 * Queries if the index has been shown to be within the bounds of the array, so that it need not be checked.
+	 */
+	public boolean isInBounds() {
+		return m_isInBounds;
+	}
+}
@@ -0,0 +1,21 @@
+package codeGenerator.controlFlowGraph;
+
+/**
+ * Visits the blocks of a control-flow graph in the order of a depth-first walk of its dominator tree.
+ */
+interface IDominatorTreeVisitor {
+
+	/**
+	 * Visits a block before the blocks it dominates.
+	 *
+	 * @param block The block.
+	 */
+	void enter(BasicBlock block);
+
+	/**
+	 * Visits a block after the blocks it dominates.
+	 *
+	 * @param block The block.
+	 */
+	void exit(BasicBlock block);
+}
@@ -0,0 +1,94 @@
+package codeGenerator.controlFlowGraph;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Represents a natural loop of a control-flow graph: a header that dominates the blocks of the loop, and the blocks that branch back to it.
+ * Each REPEAT (and so each WHILE, which the parser lowers to an IF around a REPEAT) forms a loop whose only back edge comes from the block that evaluates its condition.
+ */
+class Loop {
+
+	/**
+	 * Represents the block through which the loop is entered.
+	 */
+	private BasicBlock m_header;
+	/**
+	 * Represents the blocks of the loop, including its header.
+	 */
+	private Set<BasicBlock> m_blocks;
+	/**
+	 * Represents the only block that branches back to the header, or null if there is more than one.
+	 */
+	private BasicBlock m_latch;
+	/**
+	 * Represents the block through which every entry to the loop passes before the header, or null if it has yet to be created.
+	 */
+	private BasicBlock m_preheader;
+
+	/**
+	 * Constructs a loop.
+	 *
+	 * @param header The block through which the loop is entered.
+	 * @param latch  The block that branches back to the header.
+	 */
+	Loop(BasicBlock header, BasicBlock latch) {
+		m_header = header;
+		m_latch = latch;
+		m_blocks = new HashSet<BasicBlock>();
+		m_blocks.add(header);
+	}
+
+	/**
+	 * Gets the block through which the loop is entered.
+	 */
+	BasicBlock getHeader() {
+		return m_header;
+	}
+
+	/**
+	 * Gets the blocks of the loop, including its header.
+	 */
+	Set<BasicBlock> getBlocks() {
+		return m_blocks;
+	}
+
+	/**
+	 * Queries if a block belongs to the loop.
+	 *
+	 * @param block The block.
+	 */
+	boolean contains(BasicBlock block) {
+		return m_blocks.contains(block);
+	}
+
+	/**
+	 * Gets the only block that branches back to the header, or null if there is more than one.
+	 */
+	BasicBlock getLatch() {
+		return m_latch;
+	}
+
+	/**
+	 * Adds another block that branches back to the header, after which the loop no longer has a single latch.
+	 */
+	void addLatch() {
+		m_latch = null;
+	}
+
+	/**
+	 * Gets the block through which every entry to the loop passes before the header.
+	 */
+	BasicBlock getPreheader() {
+		return m_preheader;
+	}
+
+	/**
+	 * Sets the block through which every entry to the loop passes before the header.
+	 *
+	 * @param preheader The preheader.
+	 */
+	void setPreheader(BasicBlock preheader) {
+		m_preheader = preheader;
+	}
+}
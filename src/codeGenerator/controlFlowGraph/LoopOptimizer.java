@@ -0,0 +1,723 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Operator;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Assign;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Read;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Write;
+import parser.semanticAnalysis.symbolTable.declarations.constants.constant.Constant;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optimizes the natural loops of a control-flow graph, from the outermost loop in.
+ * Arithmetic on values that do not change within a loop is hoisted into a preheader, and is done once rather than on every iteration.
+ * The offset of an array element whose index steps with an induction variable (e.g. a[i] in a loop that adds 1 to i) is kept in a variable that steps with it, rather than multiplied out on every access; the offset of an element whose index does not change is computed once, in the preheader.
+ * An index that the condition of its loop keeps within the bounds of its array is not checked.
+ */
+class LoopOptimizer {
+
+	/**
+	 * Represents the instance of the loop optimizer.
+	 */
+	private static LoopOptimizer m_instance;
+
+	/**
+	 * Represents the graph whose loops are being optimized.
+	 */
+	private ControlFlowGraph m_graph;
+	/**
+	 * Represents the static single assignment form of the graph, as it was before its loops were optimized.
+	 */
+	private StaticSingleAssignment m_form;
+	/**
+	 * Represents the temporary variables that the loop optimizer has introduced, and the blocks in which each is assigned.
+	 */
+	private Map<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, List<BasicBlock>> m_temporaries;
+	/**
+	 * Represents the number of times that each index appears in the graph.  An index that appears more than once (e.g. in the condition of a WHILE, which is tested both before its loop and within it) is left alone.
+	 */
+	private Map<Index, java.lang.Integer> m_indexCounts;
+	/**
+	 * Represents the constant that was added to the variable of the induction expression that was matched last.
+	 */
+	private int m_addend;
+
+	/**
+	 * Gets the instance of the loop optimizer.
+	 */
+	static LoopOptimizer getInstance() {
+		if (m_instance == null) {
+			m_instance = new LoopOptimizer();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the loop optimizer.
+	 */
+	private LoopOptimizer() {
+	}
+
+	/**
+	 * Optimizes the loops of a graph.  The graph must be updated afterwards, since preheaders are added to it.
+	 *
+	 * @param graph The graph.
+	 * @param form  The static single assignment form of the graph.
+	 */
+	void optimize(ControlFlowGraph graph, StaticSingleAssignment form) {
+		m_graph = graph;
+		m_form = form;
+		m_temporaries = new HashMap<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, List<BasicBlock>>();
+		m_indexCounts = new IdentityHashMap<Index, java.lang.Integer>();
+		List<Loop> loops = findLoops();
+		for (BasicBlock block : m_graph.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				countIndices(instruction);
+			}
+			if (block.getCondition() != null) {
+				countIndices(block.getCondition().getLeftExpression());
+				countIndices(block.getCondition().getRightExpression());
+			}
+		}
+		for (Loop loop : loops) {
+			createPreheader(loop, loops);
+		}
+		for (Loop loop : loops) {
+			hoistInvariants(loop);
+			List<Index> indices = new ArrayList<Index>();
+			for (BasicBlock block : m_graph.getBlocks()) {
+				if (loop.contains(block)) {
+					collectIndices(block, indices);
+				}
+			}
+			reduceInductionVariables(loop, indices);
+			hoistInvariantIndices(loop, indices);
+		}
+		m_graph = null;
+		m_form = null;
+		m_temporaries = null;
+		m_indexCounts = null;
+	}
+
+	/**
+	 * Finds the natural loops of the graph, i.e. the blocks that reach each edge whose target dominates its source without passing through that target.
+	 *
+	 * @return The loops, each before the loops that it contains.
+	 */
+	private List<Loop> findLoops() {
+		Map<BasicBlock, Loop> loops = new LinkedHashMap<BasicBlock, Loop>();
+		for (BasicBlock block : m_graph.getBlocks()) {
+			for (BasicBlock successor : block.getSuccessors()) {
+				if (dominates(successor, block)) {
+					Loop loop = loops.get(successor);
+					if (loop == null) {
+						loop = new Loop(successor, block);
+						loops.put(successor, loop);
+					} else {
+						loop.addLatch();
+					}
+					List<BasicBlock> worklist = new ArrayList<BasicBlock>();
+					worklist.add(block);
+					while (!worklist.isEmpty()) {
+						BasicBlock loopBlock = worklist.remove(worklist.size() - 1);
+						if (loop.getBlocks().add(loopBlock)) {
+							worklist.addAll(loopBlock.getPredecessors());
+						}
+					}
+				}
+			}
+		}
+		List<Loop> sortedLoops = new ArrayList<Loop>(loops.values());
+		// A loop has more blocks than any loop it contains.
+		Collections.sort(sortedLoops, new Comparator<Loop>() {
+			@Override
+			public int compare(Loop loop, Loop otherLoop) {
+				return otherLoop.getBlocks().size() - loop.getBlocks().size();
+			}
+		});
+		return sortedLoops;
+	}
+
+	/**
+	 * Queries if a block dominates another.
+	 *
+	 * @param block      The block.
+	 * @param otherBlock The other block.
+	 */
+	private boolean dominates(BasicBlock block, BasicBlock otherBlock) {
+		for (BasicBlock dominator = otherBlock; dominator != null; dominator = dominator.getImmediateDominator()) {
+			if (dominator == block) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Creates the preheader of a loop, redirecting to it every branch to the header from outside of the loop.  The preheader belongs to every loop that contains the loop.
+	 *
+	 * @param loop  The loop.
+	 * @param loops The loops of the graph.
+	 */
+	private void createPreheader(Loop loop, List<Loop> loops) {
+		BasicBlock header = loop.getHeader();
+		BasicBlock preheader = new BasicBlock();
+		for (BasicBlock predecessor : header.getPredecessors()) {
+			if (!loop.contains(predecessor)) {
+				if (predecessor.getCondition() != null) {
+					BasicBlock trueSuccessor = predecessor.getTrueSuccessor() == header ? preheader : predecessor.getTrueSuccessor();
+					BasicBlock falseSuccessor = predecessor.getFalseSuccessor() == header ? preheader : predecessor.getFalseSuccessor();
+					predecessor.setBranch(predecessor.getCondition(), trueSuccessor, falseSuccessor);
+				} else {
+					predecessor.setSuccessor(preheader);
+				}
+			}
+		}
+		preheader.setSuccessor(header);
+		m_graph.getBlocks().add(m_graph.getBlocks().indexOf(header), preheader);
+		loop.setPreheader(preheader);
+		for (Loop otherLoop : loops) {
+			if (otherLoop != loop && otherLoop.contains(header)) {
+				otherLoop.getBlocks().add(preheader);
+			}
+		}
+	}
+
+	/**
+	 * Hoists the arithmetic in a loop on values that do not change within it into temporary variables assigned in its preheader.
+	 *
+	 * @param loop The loop.
+	 */
+	private void hoistInvariants(Loop loop) {
+		for (BasicBlock block : m_graph.getBlocks()) {
+			if (!loop.contains(block)) {
+				continue;
+			}
+			List<Instruction> instructions = block.getInstructions();
+			for (int i = 0; i < instructions.size(); i++) {
+				instructions.set(i, hoist(instructions.get(i), loop));
+			}
+			Condition condition = block.getCondition();
+			if (condition != null) {
+				Expression left = hoist(condition.getLeftExpression(), loop);
+				Expression right = hoist(condition.getRightExpression(), loop);
+				if (left != condition.getLeftExpression() || right != condition.getRightExpression()) {
+					block.setBranch(new Condition(left, right, condition.getRelation()), block.getTrueSuccessor(), block.getFalseSuccessor());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Hoists the invariant arithmetic out of an instruction.  The instruction is not modified; if anything in it changes, a new instruction is returned.
+	 *
+	 * @param instruction The instruction.
+	 * @param loop        The loop that contains the instruction.
+	 */
+	private Instruction hoist(Instruction instruction, Loop loop) {
+		if (instruction instanceof Assign) {
+			Assign assign = (Assign) instruction;
+			Location location = hoist(assign.getLocation(), loop);
+			Expression expression = hoist(assign.getExpression(), loop);
+			return location == assign.getLocation() && expression == assign.getExpression() ? assign : new Assign(location, expression);
+		} else if (instruction instanceof Read) {
+			Location location = hoist(((Read) instruction).getLocation(), loop);
+			return location == ((Read) instruction).getLocation() ? instruction : new Read(location);
+		} else if (instruction instanceof Write) {
+			Expression expression = hoist(((Write) instruction).getExpression(), loop);
+			return expression == ((Write) instruction).getExpression() ? instruction : new Write(expression);
+		}
+		return instruction;
+	}
+
+	/**
+	 * Hoists the invariant arithmetic out of an expression, replacing each largest invariant operation with the temporary variable that holds its value.
+	 * An operation that may fail (i.e. divide by something that may be zero) is not hoisted, since the loop may never reach it.
+	 *
+	 * @param expression The expression.
+	 * @param loop       The loop that contains the expression.
+	 */
+	private Expression hoist(Expression expression, Loop loop) {
+		if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			if (isInvariant(binary, loop) && !DeadCodeEliminator.canFail(binary)) {
+				parser.semanticAnalysis.symbolTable.declarations.variable.Variable temporary = createTemporary();
+				BasicBlock preheader = loop.getPreheader();
+				return assign(temporary, binary, preheader, preheader.getInstructions().size());
+			}
+			Expression left = hoist(binary.getLeftExpression(), loop);
+			Expression right = hoist(binary.getRightExpression(), loop);
+			if (left != binary.getLeftExpression() || right != binary.getRightExpression()) {
+				return new Binary(binary.getOperator(), left, right, binary.getType());
+			}
+		} else if (expression instanceof Location) {
+			return hoist((Location) expression, loop);
+		}
+		return expression;
+	}
+
+	/**
+	 * Hoists the invariant arithmetic out of the indices in a location.
+	 *
+	 * @param location The location.
+	 * @param loop     The loop that contains the location.
+	 */
+	private Location hoist(Location location, Loop loop) {
+		if (location instanceof Index) {
+			Index index = (Index) location;
+			ElementOffset elementOffset = m_graph.getElementOffset(index);
+			Location variable = hoist(index.getVariable(), loop);
+			// An index whose element offset is kept in a variable is never evaluated, so there is nothing in it to hoist.
+			Expression expression = elementOffset == null ? hoist(index.getExpression(), loop) : index.getExpression();
+			if (variable != index.getVariable() || expression != index.getExpression()) {
+				Index hoistedIndex = new Index(variable, expression, index.getType());
+				if (elementOffset != null) {
+					m_graph.setElementOffset(hoistedIndex, elementOffset);
+				}
+				return hoistedIndex;
+			}
+		} else if (location instanceof Field) {
+			Field field = (Field) location;
+			Location variable = hoist(field.getVariable(), loop);
+			if (variable != field.getVariable()) {
+				return new Field(variable, field.getSelection(), field.getType());
+			}
+		}
+		return location;
+	}
+
+	/**
+	 * Keeps the offsets of the elements that the indices in a loop select in variables that step with the induction variables of the loop, where the indices are an induction variable plus or minus a constant.
+	 * An induction variable is one that the loop only assigns by adding a constant to it once per iteration.  If the values it takes on entry to the loop are constant, and the condition of the loop bounds it, the indices that are shown to be within the bounds of their arrays are marked as such.
+	 *
+	 * @param loop    The loop.
+	 * @param indices The indices in the loop.
+	 */
+	private void reduceInductionVariables(Loop loop, List<Index> indices) {
+		BasicBlock latch = loop.getLatch();
+		if (latch == null) {
+			return;
+		}
+		int latchIndex = loop.getHeader().getPredecessors().indexOf(latch);
+		for (Definition phi : m_form.getPhis(loop.getHeader())) {
+			Definition step = phi.getOperands()[latchIndex];
+			java.lang.Integer increment = getIncrement(phi, step, loop);
+			int stepIndex = increment == null ? -1 : indexOf(step);
+			if (stepIndex < 0 || !isOnlyAssignedBy(phi, step, loop)) {
+				continue;
+			}
+			long[] range = getRange(loop, phi, step, increment, latchIndex);
+			Map<java.lang.Integer, Variable> offsets = new HashMap<java.lang.Integer, Variable>();
+			for (Index index : indices) {
+				if (!isUnique(index) || m_graph.getElementOffset(index) != null) {
+					continue;
+				}
+				Variable use = getInductionUse(index.getExpression());
+				if (use == null || (m_form.getDefinition(use) != phi && m_form.getDefinition(use) != step)) {
+					continue;
+				}
+				Array array = (Array) index.getVariable().getType();
+				int elementSize = array.getElementType().getSize();
+				long displacement = (long) m_addend * elementSize, stepSize = (long) increment * elementSize;
+				if (displacement != (int) displacement || stepSize != (int) stepSize) {
+					continue;
+				}
+				Variable offset = offsets.get(elementSize);
+				if (offset == null) {
+					parser.semanticAnalysis.symbolTable.declarations.variable.Variable temporary = createTemporary();
+					java.lang.Integer entryValue = getEntryValue(phi, latchIndex);
+					Expression initialValue;
+					if (entryValue != null && (long) entryValue * elementSize == entryValue * elementSize) {
+						initialValue = new Number(new Constant(entryValue * elementSize));
+					} else {
+						initialValue = new Binary(Operator.MULTIPLICATION, m_form.getNode(phi.getVariable()).clone(), new Number(new Constant(elementSize)), Integer.getInstance());
+					}
+					BasicBlock preheader = loop.getPreheader();
+					offset = assign(temporary, initialValue, preheader, preheader.getInstructions().size());
+					Expression nextValue = new Binary(Operator.PLUS, offset.clone(), new Number(new Constant((int) stepSize)), Integer.getInstance());
+					assign(temporary, nextValue, step.getBlock(), stepIndex + 1);
+					offsets.put(elementSize, offset);
+				}
+				long addend = m_form.getDefinition(use) == step ? m_addend + (long) increment : m_addend;
+				boolean isInBounds = range != null && range[0] + addend >= 0 && range[1] + addend < array.getLength();
+				m_graph.setElementOffset(index, new ElementOffset(offset, (int) displacement, isInBounds));
+			}
+		}
+	}
+
+	/**
+	 * Keeps the offsets of the elements that the indices in a loop select in variables assigned in its preheader, where the indices do not change within the loop.  The indices are still checked.
+	 *
+	 * @param loop    The loop.
+	 * @param indices The indices in the loop.
+	 */
+	private void hoistInvariantIndices(Loop loop, List<Index> indices) {
+		for (Index index : indices) {
+			Expression expression = index.getExpression();
+			if (expression instanceof Number || !isUnique(index) || m_graph.getElementOffset(index) != null || !isInvariant(expression, loop) || DeadCodeEliminator.canFail(expression)) {
+				continue;
+			}
+			int elementSize = ((Array) index.getVariable().getType()).getElementType().getSize();
+			Expression offsetValue = new Binary(Operator.MULTIPLICATION, expression.clone(), new Number(new Constant(elementSize)), Integer.getInstance());
+			BasicBlock preheader = loop.getPreheader();
+			Variable offset = assign(createTemporary(), offsetValue, preheader, preheader.getInstructions().size());
+			m_graph.setElementOffset(index, new ElementOffset(offset, 0, false));
+		}
+	}
+
+	/**
+	 * Gets the constant that a definition adds to a phi function, if it is an assignment of the variable of the phi function plus or minus a nonzero constant.
+	 *
+	 * @param phi  The phi function.
+	 * @param step The definition.
+	 * @param loop The loop whose header has the phi function.
+	 * @return The constant, or null if the definition is not such an assignment.
+	 */
+	private java.lang.Integer getIncrement(Definition phi, Definition step, Loop loop) {
+		if (!(step.getInstruction() instanceof Assign) || !loop.contains(step.getBlock())) {
+			return null;
+		}
+		Variable use = getInductionUse(((Assign) step.getInstruction()).getExpression());
+		if (use == null || m_form.getDefinition(use) != phi || m_addend == 0) {
+			return null;
+		}
+		return m_addend;
+	}
+
+	/**
+	 * Gets the variable of an expression that is a variable plus or minus a constant, leaving the constant in m_addend.
+	 *
+	 * @param expression The expression.
+	 * @return The variable, or null if the expression is not of that form.
+	 */
+	private Variable getInductionUse(Expression expression) {
+		Expression variable = expression, constant = null;
+		if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			variable = binary.getLeftExpression();
+			constant = binary.getRightExpression();
+			if (binary.getOperator() == Operator.PLUS && variable instanceof Number) {
+				variable = binary.getRightExpression();
+				constant = binary.getLeftExpression();
+			} else if (binary.getOperator() != Operator.PLUS && binary.getOperator() != Operator.MINUS) {
+				return null;
+			}
+			if (!(constant instanceof Number)) {
+				return null;
+			}
+		}
+		if (!(variable instanceof Variable) || !StaticSingleAssignment.isInteger((Variable) variable)) {
+			return null;
+		}
+		m_addend = constant == null ? 0 : ((Number) constant).getConstant().getValue();
+		if (expression instanceof Binary && ((Binary) expression).getOperator() == Operator.MINUS) {
+			if (m_addend == java.lang.Integer.MIN_VALUE) {
+				return null;
+			}
+			m_addend = -m_addend;
+		}
+		return (Variable) variable;
+	}
+
+	/**
+	 * Queries if the only definitions of a variable within a loop are the phi function at its header and a step.
+	 *
+	 * @param phi  The phi function.
+	 * @param step The step.
+	 * @param loop The loop.
+	 */
+	private boolean isOnlyAssignedBy(Definition phi, Definition step, Loop loop) {
+		for (Definition definition : m_form.getDefinitions()) {
+			if (definition.getVariable() == phi.getVariable() && definition != phi && definition != step && loop.contains(definition.getBlock())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the range of the values that an induction variable takes at the header of its loop, i.e. the values with which the loop is entered and the values that pass the condition of the loop on its back edge.
+	 *
+	 * @param loop       The loop.
+	 * @param phi        The phi function of the induction variable.
+	 * @param step       The definition that adds the increment to the induction variable.
+	 * @param increment  The increment.
+	 * @param latchIndex The position of the latch among the predecessors of the header.
+	 * @return The least and greatest values, or null if the values are not bounded.
+	 */
+	private long[] getRange(Loop loop, Definition phi, Definition step, int increment, int latchIndex) {
+		long least = Long.MAX_VALUE, greatest = Long.MIN_VALUE;
+		for (int i = 0; i < phi.getOperands().length; i++) {
+			if (i != latchIndex) {
+				java.lang.Integer value = getConstant(phi.getOperands()[i]);
+				if (value == null) {
+					return null;
+				}
+				least = Math.min(least, value);
+				greatest = Math.max(greatest, value);
+			}
+		}
+		BasicBlock latch = loop.getLatch();
+		Condition condition = latch.getCondition();
+		if (condition == null || latch.getTrueSuccessor() == latch.getFalseSuccessor()) {
+			return null;
+		}
+		Relation relation = latch.getTrueSuccessor() == loop.getHeader() ? condition.getRelation() : condition.getRelation().getNegation();
+		Expression tested = condition.getLeftExpression(), bound = condition.getRightExpression();
+		if (tested instanceof Number) {
+			tested = condition.getRightExpression();
+			bound = condition.getLeftExpression();
+			relation = mirror(relation);
+		}
+		if (!(tested instanceof Variable) || !StaticSingleAssignment.isInteger((Variable) tested) || !(bound instanceof Number)) {
+			return null;
+		}
+		long testedAddend;
+		if (m_form.getDefinition((Variable) tested) == phi) {
+			testedAddend = 0;
+		} else if (m_form.getDefinition((Variable) tested) == step) {
+			testedAddend = increment;
+		} else {
+			return null;
+		}
+		// The value on the back edge is the tested value, less what had been added to it when it was tested, plus the increment.
+		long limit = ((Number) bound).getConstant().getValue();
+		if (increment > 0 && relation == Relation.LESS_THAN) {
+			greatest = Math.max(greatest, limit - 1 - testedAddend + increment);
+		} else if (increment > 0 && relation == Relation.LESS_THAN_OR_EQUAL_TO) {
+			greatest = Math.max(greatest, limit - testedAddend + increment);
+		} else if (increment < 0 && relation == Relation.GREATER_THAN) {
+			least = Math.min(least, limit + 1 - testedAddend + increment);
+		} else if (increment < 0 && relation == Relation.GREATER_THAN_OR_EQUAL_TO) {
+			least = Math.min(least, limit - testedAddend + increment);
+		} else {
+			return null;
+		}
+		return new long[]{least, greatest};
+	}
+
+	/**
+	 * Gets the value with which an induction variable enters its loop, if it is the same constant on every entry.
+	 *
+	 * @param phi        The phi function of the induction variable.
+	 * @param latchIndex The position of the latch among the predecessors of the header.
+	 * @return The value, or null if it is not constant.
+	 */
+	private java.lang.Integer getEntryValue(Definition phi, int latchIndex) {
+		java.lang.Integer entryValue = null;
+		for (int i = 0; i < phi.getOperands().length; i++) {
+			if (i != latchIndex) {
+				java.lang.Integer value = getConstant(phi.getOperands()[i]);
+				if (value == null || (entryValue != null && !entryValue.equals(value))) {
+					return null;
+				}
+				entryValue = value;
+			}
+		}
+		return entryValue;
+	}
+
+	/**
+	 * Gets the constant that a definition assigns, if it assigns one.
+	 *
+	 * @param definition The definition.
+	 */
+	private java.lang.Integer getConstant(Definition definition) {
+		if (definition.isEntry()) {
+			return 0;
+		} else if (definition.getInstruction() instanceof Assign && ((Assign) definition.getInstruction()).getExpression() instanceof Number) {
+			return ((Number) ((Assign) definition.getInstruction()).getExpression()).getConstant().getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the relation that holds between two operands when they are swapped.
+	 *
+	 * @param relation The relation.
+	 */
+	private Relation mirror(Relation relation) {
+		switch (relation) {
+			case LESS_THAN:
+				return Relation.GREATER_THAN;
+			case GREATER_THAN:
+				return Relation.LESS_THAN;
+			case LESS_THAN_OR_EQUAL_TO:
+				return Relation.GREATER_THAN_OR_EQUAL_TO;
+			case GREATER_THAN_OR_EQUAL_TO:
+				return Relation.LESS_THAN_OR_EQUAL_TO;
+			default:
+				return relation;
+		}
+	}
+
+	/**
+	 * Gets the position of the instruction of a definition within its block.
+	 *
+	 * @param definition The definition.
+	 * @return The position, or -1 if the instruction is no longer in the block.
+	 */
+	private int indexOf(Definition definition) {
+		List<Instruction> instructions = definition.getBlock().getInstructions();
+		for (int i = 0; i < instructions.size(); i++) {
+			if (instructions.get(i) == definition.getInstruction()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Queries if an expression has the same value throughout a loop, i.e. it is arithmetic on constants and on integer variables that the loop does not assign.
+	 *
+	 * @param expression The expression.
+	 * @param loop       The loop.
+	 */
+	private boolean isInvariant(Expression expression, Loop loop) {
+		if (expression instanceof Number) {
+			return true;
+		} else if (expression instanceof Variable && StaticSingleAssignment.isInteger((Variable) expression)) {
+			List<BasicBlock> blocks = m_temporaries.get(((Variable) expression).getVariable());
+			if (blocks != null) {
+				for (BasicBlock block : blocks) {
+					if (loop.contains(block)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			Definition definition = m_form.getDefinition((Variable) expression);
+			return definition != null && !loop.contains(definition.getBlock());
+		} else if (expression instanceof Binary) {
+			return isInvariant(((Binary) expression).getLeftExpression(), loop) && isInvariant(((Binary) expression).getRightExpression(), loop);
+		}
+		return false;
+	}
+
+	/**
+	 * Creates a temporary integer variable.  Temporary variables are held in registers, so they take no memory.
+	 */
+	private parser.semanticAnalysis.symbolTable.declarations.variable.Variable createTemporary() {
+		parser.semanticAnalysis.symbolTable.declarations.variable.Variable temporary = new parser.semanticAnalysis.symbolTable.declarations.variable.Variable();
+		temporary.setName("$" + m_temporaries.size()); // No identifier starts with a dollar sign, so the name is unique.
+		temporary.setType(Integer.getInstance());
+		m_temporaries.put(temporary, new ArrayList<BasicBlock>());
+		return temporary;
+	}
+
+	/**
+	 * Inserts an assignment to a temporary variable into a block.
+	 *
+	 * @param temporary  The temporary variable.
+	 * @param expression The expression to assign.
+	 * @param block      The block.
+	 * @param position   The position in the block at which to insert the assignment.
+	 * @return A use of the temporary variable.
+	 */
+	private Variable assign(parser.semanticAnalysis.symbolTable.declarations.variable.Variable temporary, Expression expression, BasicBlock block, int position) {
+		block.getInstructions().add(position, new Assign(new Variable(temporary, Integer.getInstance()), expression));
+		m_temporaries.get(temporary).add(block);
+		return new Variable(temporary, Integer.getInstance());
+	}
+
+	/**
+	 * Queries if an index appears only once in the graph.
+	 *
+	 * @param index The index.
+	 */
+	private boolean isUnique(Index index) {
+		java.lang.Integer count = m_indexCounts.get(index);
+		return count == null || count == 1;
+	}
+
+	/**
+	 * Counts the indices in an instruction.
+	 *
+	 * @param instruction The instruction.
+	 */
+	private void countIndices(Instruction instruction) {
+		if (instruction instanceof Assign) {
+			countIndices(((Assign) instruction).getLocation());
+			countIndices(((Assign) instruction).getExpression());
+		} else if (instruction instanceof Read) {
+			countIndices(((Read) instruction).getLocation());
+		} else if (instruction instanceof Write) {
+			countIndices(((Write) instruction).getExpression());
+		}
+	}
+
+	/**
+	 * Counts the indices in an expression.
+	 *
+	 * @param expression The expression.
+	 */
+	private void countIndices(Expression expression) {
+		List<Index> indices = new ArrayList<Index>();
+		collectIndices(expression, indices);
+		for (Index index : indices) {
+			java.lang.Integer count = m_indexCounts.get(index);
+			m_indexCounts.put(index, count == null ? 1 : count + 1);
+		}
+	}
+
+	/**
+	 * Collects the indices in the instructions and condition of a block.
+	 *
+	 * @param block   The block.
+	 * @param indices The list to which to add the indices.
+	 */
+	private void collectIndices(BasicBlock block, List<Index> indices) {
+		for (Instruction instruction : block.getInstructions()) {
+			if (instruction instanceof Assign) {
+				collectIndices(((Assign) instruction).getLocation(), indices);
+				collectIndices(((Assign) instruction).getExpression(), indices);
+			} else if (instruction instanceof Read) {
+				collectIndices(((Read) instruction).getLocation(), indices);
+			} else if (instruction instanceof Write) {
+				collectIndices(((Write) instruction).getExpression(), indices);
+			}
+		}
+		if (block.getCondition() != null) {
+			collectIndices(block.getCondition().getLeftExpression(), indices);
+			collectIndices(block.getCondition().getRightExpression(), indices);
+		}
+	}
+
+	/**
+	 * Collects the indices in an expression, each before the indices within it.
+	 *
+	 * @param expression The expression.
+	 * @param indices    The list to which to add the indices.
+	 */
+	private void collectIndices(Expression expression, List<Index> indices) {
+		if (expression instanceof Index) {
+			indices.add((Index) expression);
+			collectIndices(((Index) expression).getVariable(), indices);
+			collectIndices(((Index) expression).getExpression(), indices);
+		} else if (expression instanceof Field) {
+			collectIndices(((Field) expression).getVariable(), indices);
+		} else if (expression instanceof Binary) {
+			collectIndices(((Binary) expression).getLeftExpression(), indices);
+			collectIndices(((Binary) expression).getRightExpression(), indices);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Function;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Assign;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Call;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Read;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Write;
+
+/**
+ * Optimizes a control-flow graph across statements, through its static single assignment form.
+ * Constants are propagated (and branches on constant conditions folded), copies and redundant expressions are replaced by the variables that already hold their values, and assignments whose values are never used are removed.
+ * Finally, invariant arithmetic is hoisted out of loops, and the array indices in loops are strength-reduced (see LoopOptimizer).
+ */
+public class Optimizer {
+
+	/**
+	 * Represents the instance of the optimizer.
+	 */
+	private static Optimizer m_instance;
+
+	/**
+	 * Gets the instance of the optimizer.
+	 */
+	public static Optimizer getInstance() {
+		if (m_instance == null) {
+			m_instance = new Optimizer();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the optimizer.
+	 */
+	private Optimizer() {
+	}
+
+	/**
+	 * Optimizes a control-flow graph in place.  The instructions of the program are not modified; any instruction that changes is replaced in its block.
+	 * A program that calls a procedure is left as it is, since a procedure may read and write any of its variables.
+	 *
+	 * @param graph The graph.
+	 */
+	public void optimize(ControlFlowGraph graph) {
+		if (callsProcedures(graph)) {
+			return;
+		}
+		StaticSingleAssignment form = new StaticSingleAssignment(graph);
+		ConstantPropagator.getInstance().propagate(graph, form);
+		ValueNumberer.getInstance().number(graph, form);
+		graph.update();
+		DeadCodeEliminator.getInstance().eliminate(graph, new StaticSingleAssignment(graph));
+		graph.update();
+		LoopOptimizer.getInstance().optimize(graph, new StaticSingleAssignment(graph));
+		graph.update();
+	}
+
+	/**
+	 * Queries if a graph calls a procedure or function.
+	 *
+	 * @param graph The graph.
+	 */
+	private boolean callsProcedures(ControlFlowGraph graph) {
+		for (BasicBlock block : graph.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				if (instruction instanceof Call) {
+					return true;
+				} else if (instruction instanceof Assign && (callsFunctions(((Assign) instruction).getLocation()) || callsFunctions(((Assign) instruction).getExpression()))) {
+					return true;
+				} else if (instruction instanceof Read && callsFunctions(((Read) instruction).getLocation())) {
+					return true;
+				} else if (instruction instanceof Write && callsFunctions(((Write) instruction).getExpression())) {
+					return true;
+				}
+			}
+			if (block.getCondition() != null && (callsFunctions(block.getCondition().getLeftExpression()) || callsFunctions(block.getCondition().getRightExpression()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Queries if an expression calls a function.
+	 *
+	 * @param expression The expression.
+	 */
+	private boolean callsFunctions(Expression expression) {
+		if (expression instanceof Function) {
+			return true;
+		} else if (expression instanceof Binary) {
+			return callsFunctions(((Binary) expression).getLeftExpression()) || callsFunctions(((Binary) expression).getRightExpression());
+		} else if (expression instanceof Index) {
+			return callsFunctions(((Index) expression).getVariable()) || callsFunctions(((Index) expression).getExpression());
+		} else if (expression instanceof Field) {
+			return callsFunctions(((Field) expression).getVariable());
+		}
+		return false;
+	}
+}
@@ -0,0 +1,412 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Assign;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Read;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Write;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the static single assignment form of the integer variables of a control-flow graph.
+ * The instructions of the graph are left as they are; the form records which version of a variable each use reads, and which version each assignment or read defines.
+ * Arrays and records are not put in this form, since their elements may be reached through computed indices.
+ */
+class StaticSingleAssignment {
+
+	/**
+	 * Represents the graph.
+	 */
+	private final ControlFlowGraph m_graph;
+	/**
+	 * Represents the integer variables of the graph, by index.
+	 */
+	private final List<parser.semanticAnalysis.symbolTable.declarations.variable.Variable> m_variables;
+	/**
+	 * Represents the index of each integer variable of the graph.
+	 */
+	private final Map<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer> m_variableIndices;
+	/**
+	 * Represents a use of each integer variable of the graph, by index, from which new uses can be cloned.
+	 */
+	private final List<Variable> m_nodes;
+	/**
+	 * Represents every definition, by number.
+	 */
+	private final List<Definition> m_definitions;
+	/**
+	 * Represents the definitions made on entry to the program, by variable.
+	 */
+	private final Definition[] m_entryDefinitions;
+	/**
+	 * Represents the definitions made by phi functions, by block number.
+	 */
+	private final List<List<Definition>> m_phis;
+	/**
+	 * Represents the definition made by each assignment to or read of an integer variable.
+	 */
+	private final Map<Instruction, Definition> m_instructionDefinitions;
+	/**
+	 * Represents the definition that each use of an integer variable reads.
+	 */
+	private final Map<Variable, Definition> m_uses;
+
+	/**
+	 * Puts the integer variables of a graph in static single assignment form, using the algorithm of Cytron et al.: phi functions are placed on the iterated dominance frontiers of the definitions of each variable, and the uses are then renamed on a walk of the dominator tree.
+	 *
+	 * @param graph The graph.
+	 */
+	StaticSingleAssignment(ControlFlowGraph graph) {
+		m_graph = graph;
+		m_variables = new ArrayList<parser.semanticAnalysis.symbolTable.declarations.variable.Variable>();
+		m_variableIndices = new HashMap<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer>();
+		m_nodes = new ArrayList<Variable>();
+		m_definitions = new ArrayList<Definition>();
+		m_phis = new ArrayList<List<Definition>>(graph.getBlocks().size());
+		m_instructionDefinitions = new IdentityHashMap<Instruction, Definition>();
+		m_uses = new IdentityHashMap<Variable, Definition>();
+		findVariables();
+		m_entryDefinitions = new Definition[m_variables.size()];
+		for (int variable = 0; variable < m_variables.size(); variable++) {
+			m_entryDefinitions[variable] = createDefinition(variable, graph.getEntry(), null, -1);
+		}
+		placePhis();
+		rename();
+	}
+
+	/**
+	 * Gets the number of integer variables.
+	 */
+	int getVariableCount() {
+		return m_variables.size();
+	}
+
+	/**
+	 * Gets a use of an integer variable, from which new uses can be cloned.
+	 *
+	 * @param variable The index of the variable.
+	 */
+	Variable getNode(int variable) {
+		return m_nodes.get(variable);
+	}
+
+	/**
+	 * Gets every definition, by number.
+	 */
+	List<Definition> getDefinitions() {
+		return m_definitions;
+	}
+
+	/**
+	 * Gets the definitions made by phi functions at the start of a block.
+	 *
+	 * @param block The block.
+	 */
+	List<Definition> getPhis(BasicBlock block) {
+		return m_phis.get(block.getNumber());
+	}
+
+	/**
+	 * Gets the definition made by an instruction, or null if it does not assign to or read an integer variable.
+	 *
+	 * @param instruction The instruction.
+	 */
+	Definition getDefinition(Instruction instruction) {
+		return m_instructionDefinitions.get(instruction);
+	}
+
+	/**
+	 * Gets the definition that a use of an integer variable reads.
+	 *
+	 * @param use The use.
+	 */
+	Definition getDefinition(Variable use) {
+		return m_uses.get(use);
+	}
+
+	/**
+	 * Gets the index of the integer variable that a location names, or -1 if it does not name an integer variable.
+	 *
+	 * @param location The location.
+	 */
+	int getVariable(Location location) {
+		if (location instanceof Variable) {
+			java.lang.Integer variable = m_variableIndices.get(((Variable) location).getVariable());
+			if (variable != null) {
+				return variable;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Collects the uses of integer variables in an instruction, i.e. every integer variable it reads.
+	 *
+	 * @param instruction The instruction.
+	 * @param uses        The list to which to add the uses.
+	 */
+	static void collectUses(Instruction instruction, List<Variable> uses) {
+		if (instruction instanceof Assign) {
+			Assign assign = (Assign) instruction;
+			if (!isInteger(assign.getLocation())) {
+				collectUses(assign.getLocation(), uses);
+			}
+			collectUses(assign.getExpression(), uses);
+		} else if (instruction instanceof Read) {
+			if (!isInteger(((Read) instruction).getLocation())) {
+				collectUses(((Read) instruction).getLocation(), uses);
+			}
+		} else if (instruction instanceof Write) {
+			collectUses(((Write) instruction).getExpression(), uses);
+		}
+	}
+
+	/**
+	 * Collects the uses of integer variables in a condition.
+	 *
+	 * @param condition The condition.
+	 * @param uses      The list to which to add the uses.
+	 */
+	static void collectUses(Condition condition, List<Variable> uses) {
+		collectUses(condition.getLeftExpression(), uses);
+		collectUses(condition.getRightExpression(), uses);
+	}
+
+	/**
+	 * Collects the uses of integer variables in an expression.  The selection of a field names a field of a record rather than a variable, so it is not a use.
+	 *
+	 * @param expression The expression.
+	 * @param uses       The list to which to add the uses.
+	 */
+	static void collectUses(Expression expression, List<Variable> uses) {
+		if (expression instanceof Variable) {
+			if (isInteger((Variable) expression)) {
+				uses.add((Variable) expression);
+			}
+		} else if (expression instanceof Binary) {
+			collectUses(((Binary) expression).getLeftExpression(), uses);
+			collectUses(((Binary) expression).getRightExpression(), uses);
+		} else if (expression instanceof Index) {
+			collectUses(((Index) expression).getVariable(), uses);
+			collectUses(((Index) expression).getExpression(), uses);
+		} else if (expression instanceof Field) {
+			collectUses(((Field) expression).getVariable(), uses);
+		}
+	}
+
+	/**
+	 * Queries if a location is an integer variable.
+	 *
+	 * @param location The location.
+	 */
+	static boolean isInteger(Location location) {
+		return location instanceof Variable && ((Variable) location).getVariable().getType() instanceof Integer;
+	}
+
+	/**
+	 * Finds the integer variables that the instructions of the graph read or write.
+	 */
+	private void findVariables() {
+		List<Variable> uses = new ArrayList<Variable>();
+		for (BasicBlock block : m_graph.getBlocks()) {
+			for (Instruction instruction : block.getInstructions()) {
+				collectUses(instruction, uses);
+				Location target = getTarget(instruction);
+				if (isInteger(target)) {
+					uses.add((Variable) target);
+				}
+			}
+			if (block.getCondition() != null) {
+				collectUses(block.getCondition(), uses);
+			}
+		}
+		for (Variable use : uses) {
+			if (!m_variableIndices.containsKey(use.getVariable())) {
+				m_variableIndices.put(use.getVariable(), m_variables.size());
+				m_variables.add(use.getVariable());
+				m_nodes.add(use);
+			}
+		}
+	}
+
+	/**
+	 * Places phi functions on the iterated dominance frontier of the blocks that define each variable.
+	 */
+	private void placePhis() {
+		List<BasicBlock> blocks = m_graph.getBlocks();
+		List<List<BasicBlock>> dominanceFrontiers = new ArrayList<List<BasicBlock>>(blocks.size());
+		List<List<BasicBlock>> definingBlocks = new ArrayList<List<BasicBlock>>(m_variables.size());
+		for (int i = 0; i < blocks.size(); i++) {
+			dominanceFrontiers.add(new ArrayList<BasicBlock>());
+			m_phis.add(new ArrayList<Definition>());
+		}
+		for (int variable = 0; variable < m_variables.size(); variable++) {
+			definingBlocks.add(new ArrayList<BasicBlock>());
+		}
+		for (BasicBlock block : blocks) {
+			if (block.getPredecessors().size() > 1) {
+				for (BasicBlock predecessor : block.getPredecessors()) {
+					for (BasicBlock runner = predecessor; runner != block.getImmediateDominator(); runner = runner.getImmediateDominator()) {
+						List<BasicBlock> dominanceFrontier = dominanceFrontiers.get(runner.getNumber());
+						if (!dominanceFrontier.contains(block)) {
+							dominanceFrontier.add(block);
+						}
+					}
+				}
+			}
+			for (Instruction instruction : block.getInstructions()) {
+				int variable = getVariable(getTarget(instruction));
+				if (variable >= 0) {
+					List<BasicBlock> variableBlocks = definingBlocks.get(variable);
+					if (variableBlocks.isEmpty() || variableBlocks.get(variableBlocks.size() - 1) != block) {
+						variableBlocks.add(block);
+					}
+				}
+			}
+		}
+		// Every variable is also defined on entry, but the entry dominates every block, so its dominance frontier is empty.
+		int[] hasPhi = new int[blocks.size()];
+		int[] isQueued = new int[blocks.size()];
+		for (int variable = 0; variable < m_variables.size(); variable++) {
+			List<BasicBlock> worklist = new ArrayList<BasicBlock>(definingBlocks.get(variable));
+			for (BasicBlock block : worklist) {
+				isQueued[block.getNumber()] = variable + 1;
+			}
+			while (!worklist.isEmpty()) {
+				BasicBlock block = worklist.remove(worklist.size() - 1);
+				for (BasicBlock frontierBlock : dominanceFrontiers.get(block.getNumber())) {
+					if (hasPhi[frontierBlock.getNumber()] != variable + 1) {
+						hasPhi[frontierBlock.getNumber()] = variable + 1;
+						m_phis.get(frontierBlock.getNumber()).add(createDefinition(variable, frontierBlock, null, frontierBlock.getPredecessors().size()));
+						if (isQueued[frontierBlock.getNumber()] != variable + 1) {
+							isQueued[frontierBlock.getNumber()] = variable + 1;
+							worklist.add(frontierBlock);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Renames the uses and definitions of each variable on a walk of the dominator tree, during which the version of each variable that is current is on top of its stack.
+	 */
+	private void rename() {
+		final List<List<Definition>> stacks = new ArrayList<List<Definition>>(m_variables.size());
+		for (int variable = 0; variable < m_variables.size(); variable++) {
+			stacks.add(new ArrayList<Definition>());
+			stacks.get(variable).add(m_entryDefinitions[variable]);
+		}
+		final List<java.lang.Integer> pushedVariables = new ArrayList<java.lang.Integer>();
+		final int[] marks = new int[m_graph.getBlocks().size()];
+		final List<Variable> uses = new ArrayList<Variable>();
+		m_graph.walkDominatorTree(new IDominatorTreeVisitor() {
+			@Override
+			public void enter(BasicBlock block) {
+				marks[block.getNumber()] = pushedVariables.size();
+				for (Definition phi : getPhis(block)) {
+					push(phi);
+				}
+				for (Instruction instruction : block.getInstructions()) {
+					uses.clear();
+					collectUses(instruction, uses);
+					renameUses();
+					int variable = getVariable(getTarget(instruction));
+					if (variable >= 0) {
+						Definition definition = createDefinition(variable, block, instruction, -1);
+						m_instructionDefinitions.put(instruction, definition);
+						push(definition);
+					}
+				}
+				if (block.getCondition() != null) {
+					uses.clear();
+					collectUses(block.getCondition(), uses);
+					renameUses();
+				}
+				for (BasicBlock successor : block.getSuccessors()) {
+					int predecessor = successor.getPredecessors().indexOf(block);
+					for (Definition phi : getPhis(successor)) {
+						phi.getOperands()[predecessor] = top(phi.getVariable());
+					}
+				}
+			}
+
+			@Override
+			public void exit(BasicBlock block) {
+				while (pushedVariables.size() > marks[block.getNumber()]) {
+					List<Definition> stack = stacks.get(pushedVariables.remove(pushedVariables.size() - 1));
+					stack.remove(stack.size() - 1);
+				}
+			}
+
+			/**
+			 * Records the current version of each collected use.
+			 */
+			private void renameUses() {
+				for (Variable use : uses) {
+					m_uses.put(use, top(getVariable(use)));
+				}
+			}
+
+			/**
+			 * Makes a definition the current version of its variable.
+			 *
+			 * @param definition The definition.
+			 */
+			private void push(Definition definition) {
+				stacks.get(definition.getVariable()).add(definition);
+				pushedVariables.add(definition.getVariable());
+			}
+
+			/**
+			 * Gets the current version of a variable.
+			 *
+			 * @param variable The index of the variable.
+			 */
+			private Definition top(int variable) {
+				List<Definition> stack = stacks.get(variable);
+				return stack.get(stack.size() - 1);
+			}
+		});
+	}
+
+	/**
+	 * Creates a definition and numbers it.
+	 *
+	 * @param variable     The index of the variable that the definition defines.
+	 * @param block        The block in which the definition is made.
+	 * @param instruction  The assignment or read that makes the definition, or null if it is made on entry or by a phi function.
+	 * @param operandCount The number of versions that a phi function merges, or -1 if the definition is not made by a phi function.
+	 */
+	private Definition createDefinition(int variable, BasicBlock block, Instruction instruction, int operandCount) {
+		Definition definition = new Definition(m_definitions.size(), variable, block, instruction, operandCount);
+		m_definitions.add(definition);
+		return definition;
+	}
+
+	/**
+	 * Gets the location to which an instruction writes, or null if it writes to none.
+	 *
+	 * @param instruction The instruction.
+	 */
+	static Location getTarget(Instruction instruction) {
+		if (instruction instanceof Assign) {
+			return ((Assign) instruction).getLocation();
+		} else if (instruction instanceof Read) {
+			return ((Read) instruction).getLocation();
+		}
+		return null;
+	}
+}
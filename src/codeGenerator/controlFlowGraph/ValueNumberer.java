@@ -0,0 +1,462 @@
+package codeGenerator.controlFlowGraph;
+
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Operator;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Assign;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Read;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Write;
+import parser.semanticAnalysis.symbolTable.declarations.constants.constant.Constant;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numbers the values that the instructions of a control-flow graph compute, on a walk of its dominator tree (the dominator-based value numbering of Briggs, Cooper and Simpson), and rewrites the instructions with what it finds.
+ * An expression whose value is constant becomes a number (constant propagation); an expression whose value a variable already holds becomes that variable (copy propagation and the elimination of redundant expressions); and a branch on a constant condition becomes a fall through.
+ * Since the value of an expression is only known in the blocks that its computation dominates, a value is forgotten once the walk leaves them.
+ */
+class ValueNumberer {
+
+	/**
+	 * Represents the instance of the value numberer.
+	 */
+	private static ValueNumberer m_instance;
+
+	/**
+	 * Represents the static single assignment form of the graph being rewritten.
+	 */
+	private StaticSingleAssignment m_form;
+	/**
+	 * Represents the number of values that have been numbered.
+	 */
+	private int m_valueCount;
+	/**
+	 * Represents the value number of each definition, by definition number, or -1 if it has not been numbered.
+	 */
+	private int[] m_definitionValues;
+	/**
+	 * Represents the value number of each constant.
+	 */
+	private Map<java.lang.Integer, java.lang.Integer> m_constantValues;
+	/**
+	 * Represents the constant of each value number that is constant.
+	 */
+	private Map<java.lang.Integer, java.lang.Integer> m_constants;
+	/**
+	 * Represents the value number of each operation computed in the blocks that dominate the current one, keyed by its operator and operands.
+	 */
+	private Map<String, java.lang.Integer> m_operationValues;
+	/**
+	 * Represents the operations entered in each block being walked, so that they can be forgotten once the walk leaves the block.
+	 */
+	private List<String> m_operationLog;
+	/**
+	 * Represents the definition that first took each value in the blocks that dominate the current one.
+	 */
+	private Map<java.lang.Integer, Definition> m_leaders;
+	/**
+	 * Represents the leaders replaced in each block being walked (pairs of value number and replaced definition), so that they can be restored once the walk leaves the block.
+	 */
+	private List<Object> m_leaderLog;
+	/**
+	 * Represents the current version of each variable, on top of its stack.
+	 */
+	private List<List<Definition>> m_stacks;
+	/**
+	 * Represents the variables whose versions were pushed in each block being walked.
+	 */
+	private List<java.lang.Integer> m_pushedVariables;
+	/**
+	 * Represents the value number of the expression that was rewritten last.
+	 */
+	private int m_value;
+
+	/**
+	 * Gets the instance of the value numberer.
+	 */
+	static ValueNumberer getInstance() {
+		if (m_instance == null) {
+			m_instance = new ValueNumberer();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the value numberer.
+	 */
+	private ValueNumberer() {
+	}
+
+	/**
+	 * Rewrites the instructions of a graph.  The constant propagator must have run on the static single assignment form first.
+	 * Branches that are never taken are removed from the blocks, but the blocks are left in the graph until it is updated.
+	 *
+	 * @param graph The graph.
+	 * @param form  The static single assignment form of the graph.
+	 */
+	void number(ControlFlowGraph graph, StaticSingleAssignment form) {
+		m_form = form;
+		m_valueCount = 0;
+		m_definitionValues = new int[form.getDefinitions().size()];
+		Arrays.fill(m_definitionValues, -1);
+		m_constantValues = new HashMap<java.lang.Integer, java.lang.Integer>();
+		m_constants = new HashMap<java.lang.Integer, java.lang.Integer>();
+		m_operationValues = new HashMap<String, java.lang.Integer>();
+		m_operationLog = new ArrayList<String>();
+		m_leaders = new HashMap<java.lang.Integer, Definition>();
+		m_leaderLog = new ArrayList<Object>();
+		m_stacks = new ArrayList<List<Definition>>(form.getVariableCount());
+		m_pushedVariables = new ArrayList<java.lang.Integer>();
+		for (int variable = 0; variable < form.getVariableCount(); variable++) {
+			m_stacks.add(new ArrayList<Definition>());
+		}
+		for (Definition definition : form.getDefinitions()) {
+			if (definition.isEntry()) {
+				push(definition, getValue(definition));
+			}
+		}
+		final int[][] marks = new int[graph.getBlocks().size()][];
+		graph.walkDominatorTree(new IDominatorTreeVisitor() {
+			@Override
+			public void enter(BasicBlock block) {
+				marks[block.getNumber()] = new int[]{m_operationLog.size(), m_leaderLog.size(), m_pushedVariables.size()};
+				rewrite(block);
+			}
+
+			@Override
+			public void exit(BasicBlock block) {
+				int[] mark = marks[block.getNumber()];
+				while (m_operationLog.size() > mark[0]) {
+					m_operationValues.remove(m_operationLog.remove(m_operationLog.size() - 1));
+				}
+				while (m_leaderLog.size() > mark[1]) {
+					Definition leader = (Definition) m_leaderLog.remove(m_leaderLog.size() - 1);
+					java.lang.Integer value = (java.lang.Integer) m_leaderLog.remove(m_leaderLog.size() - 1);
+					if (leader == null) {
+						m_leaders.remove(value);
+					} else {
+						m_leaders.put(value, leader);
+					}
+				}
+				while (m_pushedVariables.size() > mark[2]) {
+					List<Definition> stack = m_stacks.get(m_pushedVariables.remove(m_pushedVariables.size() - 1));
+					stack.remove(stack.size() - 1);
+				}
+			}
+		});
+		m_form = null;
+		m_definitionValues = null;
+		m_constantValues = m_constants = null;
+		m_operationValues = null;
+		m_leaders = null;
+		m_operationLog = null;
+		m_leaderLog = null;
+		m_pushedVariables = null;
+		m_stacks = null;
+	}
+
+	/**
+	 * Numbers the phi functions of a block, and rewrites its instructions and its branch.
+	 *
+	 * @param block The block.
+	 */
+	private void rewrite(BasicBlock block) {
+		for (Definition phi : m_form.getPhis(block)) {
+			push(phi, getPhiValue(phi));
+		}
+		List<Instruction> instructions = new ArrayList<Instruction>(block.getInstructions().size());
+		for (Instruction instruction : block.getInstructions()) {
+			Definition definition = m_form.getDefinition(instruction);
+			if (instruction instanceof Assign) {
+				Assign assign = (Assign) instruction;
+				if (definition != null) {
+					Expression expression = rewrite(assign.getExpression());
+					int value = definition.getConstant() != null ? getConstantValue(definition.getConstant()) : m_value;
+					// An assignment of the value that the variable already holds (e.g. the second of two identical assignments) does nothing.
+					if (!(expression instanceof Variable && m_form.getVariable((Variable) expression) == definition.getVariable())) {
+						instructions.add(expression == assign.getExpression() ? assign : new Assign(assign.getLocation(), expression));
+					}
+					push(definition, value);
+				} else {
+					Location location = rewriteLocation(assign.getLocation());
+					Expression expression = rewrite(assign.getExpression());
+					instructions.add(location == assign.getLocation() && expression == assign.getExpression() ? assign : new Assign(location, expression));
+				}
+			} else if (instruction instanceof Read) {
+				Read read = (Read) instruction;
+				if (definition != null) {
+					instructions.add(read);
+					push(definition, getValue(definition));
+				} else {
+					Location location = rewriteLocation(read.getLocation());
+					instructions.add(location == read.getLocation() ? read : new Read(location));
+				}
+			} else if (instruction instanceof Write) {
+				Write write = (Write) instruction;
+				Expression expression = rewrite(write.getExpression());
+				instructions.add(expression == write.getExpression() ? write : new Write(expression));
+			} else {
+				instructions.add(instruction);
+			}
+		}
+		block.getInstructions().clear();
+		block.getInstructions().addAll(instructions);
+		Condition condition = block.getCondition();
+		if (condition != null) {
+			Expression left = rewrite(condition.getLeftExpression());
+			Expression right = rewrite(condition.getRightExpression());
+			if (left instanceof Number && right instanceof Number) {
+				boolean isTrue = ConstantPropagator.compare(condition.getRelation(), ((Number) left).getConstant().getValue(), ((Number) right).getConstant().getValue());
+				block.setSuccessor(isTrue ? block.getTrueSuccessor() : block.getFalseSuccessor());
+			} else if (left != condition.getLeftExpression() || right != condition.getRightExpression()) {
+				block.setBranch(new Condition(left, right, condition.getRelation()), block.getTrueSuccessor(), block.getFalseSuccessor());
+			}
+		}
+	}
+
+	/**
+	 * Rewrites an expression, leaving its value number in m_value.  The expression is not modified; if anything in it changes, a new expression is returned.
+	 *
+	 * @param expression The expression.
+	 */
+	private Expression rewrite(Expression expression) {
+		if (expression instanceof Number) {
+			m_value = getConstantValue(((Number) expression).getConstant().getValue());
+			return expression;
+		} else if (expression instanceof Variable && StaticSingleAssignment.isInteger((Variable) expression)) {
+			m_value = getValue(m_form.getDefinition((Variable) expression));
+			return replace(expression, m_value);
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			Expression left = rewrite(binary.getLeftExpression());
+			int leftValue = m_value;
+			Expression right = rewrite(binary.getRightExpression());
+			int rightValue = m_value;
+			m_value = getOperationValue(binary.getOperator(), leftValue, rightValue);
+			if (left != binary.getLeftExpression() || right != binary.getRightExpression()) {
+				expression = new Binary(binary.getOperator(), left, right, binary.getType());
+			}
+			return replace(expression, m_value);
+		} else if (expression instanceof Location) {
+			expression = rewriteLocation((Location) expression);
+		}
+		// The elements of arrays and records (and the results of functions) are not numbered, since they may change behind the back of any variable.
+		m_value = m_valueCount++;
+		return expression;
+	}
+
+	/**
+	 * Rewrites the indices in a location that is an array or record, or an element of one.
+	 * An index is not replaced by a number that is out of the bounds of its array, since the optimized code generator rejects such an index when it compiles it, even though the program may never reach it.
+	 *
+	 * @param location The location.
+	 */
+	private Location rewriteLocation(Location location) {
+		if (location instanceof Index) {
+			Index index = (Index) location;
+			Location variable = rewriteLocation(index.getVariable());
+			Expression expression = rewrite(index.getExpression());
+			if (expression instanceof Number && !(index.getExpression() instanceof Number)) {
+				int value = ((Number) expression).getConstant().getValue();
+				if (value < 0 || value >= ((Array) index.getVariable().getType()).getLength()) {
+					expression = index.getExpression();
+				}
+			}
+			if (variable != index.getVariable() || expression != index.getExpression()) {
+				return new Index(variable, expression, index.getType());
+			}
+		} else if (location instanceof Field) {
+			Field field = (Field) location;
+			Location variable = rewriteLocation(field.getVariable());
+			if (variable != field.getVariable()) {
+				return new Field(variable, field.getSelection(), field.getType());
+			}
+		}
+		return location;
+	}
+
+	/**
+	 * Replaces an expression with a number if its value is constant, or otherwise with the variable that holds its value, if one does.
+	 *
+	 * @param expression The expression.
+	 * @param value      The value number of the expression.
+	 */
+	private Expression replace(Expression expression, int value) {
+		java.lang.Integer constant = m_constants.get(value);
+		if (constant != null) {
+			return expression instanceof Number ? expression : new Number(new Constant(constant));
+		}
+		Definition leader = m_leaders.get(value);
+		if (leader != null && top(leader.getVariable()) == leader && !(expression instanceof Variable && m_form.getVariable((Variable) expression) == leader.getVariable())) {
+			return m_form.getNode(leader.getVariable()).clone();
+		}
+		return expression;
+	}
+
+	/**
+	 * Gets the value number of a binary operation.  Operations on constants are folded, and operations that leave an operand as it is (e.g. x+0 and x*1) take the value number of that operand.
+	 * Identities that would discard an operand (e.g. x*0) are not applied, since the operand may divide by zero.
+	 *
+	 * @param operator The operator.
+	 * @param left     The value number of the left operand.
+	 * @param right    The value number of the right operand.
+	 */
+	private int getOperationValue(Operator operator, int left, int right) {
+		java.lang.Integer leftConstant = m_constants.get(left), rightConstant = m_constants.get(right);
+		if (leftConstant != null && rightConstant != null) {
+			java.lang.Integer value = ConstantPropagator.fold(operator, leftConstant, rightConstant);
+			if (value != null) {
+				return getConstantValue(value);
+			}
+		}
+		switch (operator) {
+			case PLUS:
+				if (isConstant(leftConstant, 0)) {
+					return right;
+				}
+				// Fall through: x+0 is x.
+			case MINUS:
+				if (isConstant(rightConstant, 0)) {
+					return left;
+				}
+				break;
+			case MULTIPLICATION:
+				if (isConstant(leftConstant, 1)) {
+					return right;
+				}
+				// Fall through: x*1 is x.
+			case DIV:
+				if (isConstant(rightConstant, 1)) {
+					return left;
+				}
+				break;
+		}
+		if ((operator == Operator.PLUS || operator == Operator.MULTIPLICATION) && left > right) {
+			int swap = left;
+			left = right;
+			right = swap;
+		}
+		String key = operator.name() + " " + left + " " + right;
+		java.lang.Integer value = m_operationValues.get(key);
+		if (value == null) {
+			value = m_valueCount++;
+			m_operationValues.put(key, value);
+			m_operationLog.add(key);
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the value number of a phi function.  A phi function that merges a single value takes its value number, as does one that merges the same values as another phi function of its block.
+	 * An operand that flows along a back edge has not been numbered yet, so a phi function at the head of a loop usually takes a new value number.
+	 *
+	 * @param phi The phi function.
+	 */
+	private int getPhiValue(Definition phi) {
+		if (phi.getConstant() != null) {
+			return getConstantValue(phi.getConstant());
+		}
+		StringBuilder key = new StringBuilder("PHI ").append(phi.getBlock().getNumber());
+		int value = -1;
+		boolean isSingleValue = true;
+		for (Definition operand : phi.getOperands()) {
+			int operandValue = operand.getConstant() != null ? getConstantValue(operand.getConstant()) : m_definitionValues[operand.getNumber()];
+			if (operandValue < 0) {
+				return m_valueCount++;
+			}
+			isSingleValue &= value < 0 || value == operandValue;
+			value = operandValue;
+			key.append(' ').append(operandValue);
+		}
+		if (isSingleValue) {
+			return value;
+		}
+		java.lang.Integer phiValue = m_operationValues.get(key.toString());
+		if (phiValue == null) {
+			phiValue = m_valueCount++;
+			m_operationValues.put(key.toString(), phiValue);
+			m_operationLog.add(key.toString());
+		}
+		return phiValue;
+	}
+
+	/**
+	 * Gets the value number of a definition, numbering it anew if it has not been numbered.
+	 *
+	 * @param definition The definition.
+	 */
+	private int getValue(Definition definition) {
+		if (definition.getConstant() != null) {
+			return getConstantValue(definition.getConstant());
+		}
+		if (m_definitionValues[definition.getNumber()] < 0) {
+			m_definitionValues[definition.getNumber()] = m_valueCount++;
+		}
+		return m_definitionValues[definition.getNumber()];
+	}
+
+	/**
+	 * Gets the value number of a constant.
+	 *
+	 * @param constant The constant.
+	 */
+	private int getConstantValue(int constant) {
+		java.lang.Integer value = m_constantValues.get(constant);
+		if (value == null) {
+			value = m_valueCount++;
+			m_constantValues.put(constant, value);
+			m_constants.put(value, constant);
+		}
+		return value;
+	}
+
+	/**
+	 * Queries if a constant is of a given value.
+	 *
+	 * @param constant The constant, or null if there is none.
+	 * @param value    The value.
+	 */
+	private boolean isConstant(java.lang.Integer constant, int value) {
+		return constant != null && constant == value;
+	}
+
+	/**
+	 * Makes a definition the current version of its variable, and the leader of its value if the value has no leader that still holds it.
+	 *
+	 * @param definition The definition.
+	 * @param value      The value number of the definition.
+	 */
+	private void push(Definition definition, int value) {
+		m_definitionValues[definition.getNumber()] = value;
+		m_stacks.get(definition.getVariable()).add(definition);
+		m_pushedVariables.add(definition.getVariable());
+		Definition leader = m_leaders.get(value);
+		if (!m_constants.containsKey(value) && (leader == null || top(leader.getVariable()) != leader)) {
+			m_leaderLog.add(value);
+			m_leaderLog.add(leader);
+			m_leaders.put(value, definition);
+		}
+	}
+
+	/**
+	 * Gets the current version of a variable.
+	 *
+	 * @param variable The index of the variable.
+	 */
+	private Definition top(int variable) {
+		List<Definition> stack = m_stacks.get(variable);
+		return stack.get(stack.size() - 1);
+	}
+}
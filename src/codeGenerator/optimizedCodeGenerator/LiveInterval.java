@@ -0,0 +1,97 @@
+package codeGenerator.optimizedCodeGenerator;
+
+import codeGenerator.utilities.Register;
+import codeGenerator.utilities.VirtualRegister;
+
+/**
+ * Represents the interval of lines over which a virtual register is live, and the register or spill slot that holds it.
+ */
+class LiveInterval {
+
+	/**
+	 * Represents the virtual register.
+	 */
+	private final VirtualRegister m_virtualRegister;
+	/**
+	 * Represents the first line at which the virtual register is live.
+	 */
+	private final int m_start;
+	/**
+	 * Represents the last line at which the virtual register is live.
+	 */
+	private final int m_end;
+	/**
+	 * Represents the register that holds the virtual register, or null if it is spilled.
+	 */
+	private Register m_register;
+	/**
+	 * Represents the spill slot that holds the virtual register, or -1 if it is held in a register.
+	 */
+	private int m_spillSlot = -1;
+
+	/**
+	 * Constructs a live interval.
+	 *
+	 * @param virtualRegister The virtual register.
+	 * @param start           The first line at which the virtual register is live.
+	 * @param end             The last line at which the virtual register is live.
+	 */
+	LiveInterval(VirtualRegister virtualRegister, int start, int end) {
+		m_virtualRegister = virtualRegister;
+		m_start = start;
+		m_end = end;
+	}
+
+	/**
+	 * Gets the virtual register.
+	 */
+	VirtualRegister getVirtualRegister() {
+		return m_virtualRegister;
+	}
+
+	/**
+	 * Gets the first line at which the virtual register is live.
+	 */
+	int getStart() {
+		return m_start;
+	}
+
+	/**
+	 * Gets the last line at which the virtual register is live.
+	 */
+	int getEnd() {
+		return m_end;
+	}
+
+	/**
+	 * Gets the register that holds the virtual register, or null if it is spilled.
+	 */
+	Register getRegister() {
+		return m_register;
+	}
+
+	/**
+	 * Sets the register that holds the virtual register.
+	 *
+	 * @param register The register, or null if the virtual register is spilled.
+	 */
+	void setRegister(Register register) {
+		m_register = register;
+	}
+
+	/**
+	 * Gets the spill slot that holds the virtual register, or -1 if it is held in a register.
+	 */
+	int getSpillSlot() {
+		return m_spillSlot;
+	}
+
+	/**
+	 * Sets the spill slot that holds the virtual register.
+	 *
+	 * @param spillSlot The spill slot.
+	 */
+	void setSpillSlot(int spillSlot) {
+		m_spillSlot = spillSlot;
+	}
+}
@@ -1,9 +1,17 @@
 package codeGenerator.optimizedCodeGenerator;
 
 import codeGenerator.AbstractCodeGenerator;
-import codeGenerator.utilities.DeclarationMangler;
+import codeGenerator.controlFlowGraph.ControlFlowGraph;
+import codeGenerator.controlFlowGraph.ElementOffset;
+import codeGenerator.controlFlowGraph.Optimizer;
+import codeGenerator.utilities.IRegister;
+import codeGenerator.utilities.Immediate;
 import codeGenerator.utilities.Instruction;
+import codeGenerator.utilities.Label;
+import codeGenerator.utilities.Memory;
+import codeGenerator.utilities.Operand;
 import codeGenerator.utilities.Register;
+import codeGenerator.utilities.VirtualRegister;
 import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
@@ -13,12 +21,8 @@ import parser.semanticAnalysis.abstractSyntaxTree.instructions.*;
 import parser.semanticAnalysis.symbolTable.declarations.Declaration;
 import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
 import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
-import parser.semanticAnalysis.symbolTable.declarations.types.record.Record;
 import parser.semanticAnalysis.symbolTable.scope.ScopeManager;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Generates optimized AMD64 assembly code given a list of SIMPLE instructions.
  */
@@ -30,9 +34,14 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	private static OptimizedCodeGenerator m_instance;
 
 	/**
-	 * Represents the map of mangled variable names to their addresses in memory.
+	 * Represents the control-flow graph of the program being generated.
+	 */
+	private ControlFlowGraph m_graph;
+
+	/**
+	 * Represents the first line of the main routine, from which registers are allocated.
 	 */
-	private Map<String, java.lang.Integer> m_variables;
+	private int m_entry;
 
 	/**
 	 * Represents the name of the variable that contains the contiguous allocated space for the variables.
@@ -40,9 +49,9 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	public static final String SPACE = "space";
 
 	/**
-	 * Represents the name of the variable that contains the offset of the program's memory.
+	 * Represents the register that contains the offset of the program's memory.
 	 */
-	public static final String OFFSET = Register.R8.toString();
+	public static final Register OFFSET = Register.R8;
 
 	/**
 	 * Gets the instance of the optimized code generator.
@@ -58,7 +67,27 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	 * Constructs the optimized code generator.
 	 */
 	private OptimizedCodeGenerator() {
-		m_variables = new HashMap<String, java.lang.Integer>();
+	}
+
+	/**
+	 * Optimizes the control-flow graph of the program across statements before code is generated for it.
+	 *
+	 * @param graph The graph.
+	 */
+	@Override
+	protected void optimize(ControlFlowGraph graph) {
+		m_graph = graph;
+		Optimizer.getInstance().optimize(graph);
+	}
+
+	/**
+	 * Gets the offset of the element that an index selects, if the optimizer keeps it in a variable.
+	 *
+	 * @param index The index.
+	 * @return The offset, or null if it must be computed from the index.
+	 */
+	public ElementOffset getElementOffset(Index index) {
+		return m_graph == null ? null : m_graph.getElementOffset(index);
 	}
 
 	/**
@@ -68,12 +97,22 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	 */
 	@Override
 	protected void generateAssign(Assign assign) {
-		String leftExpression = OptimizedExpressionParser.getInstance().getLocationAddress(assign.getLocation());
-		String rightExpression;
+		VirtualRegister register = OptimizedExpressionParser.getInstance().getVariableRegister(assign.getLocation());
+		if (register != null) {
+			print(codeGenerator.utilities.Instruction.MOVQ, register, OptimizedExpressionParser.getInstance().getExpressionValue(assign.getExpression()));
+			return;
+		}
 		if (assign.getLocation().getType() instanceof Integer) {
-			rightExpression = OptimizedExpressionParser.getInstance().getExpressionValue(assign.getExpression());
-			print(codeGenerator.utilities.Instruction.MOV, "qword ptr [" + leftExpression + "]", rightExpression);
+			Memory leftExpression = OptimizedExpressionParser.getInstance().getLocationMemory(assign.getLocation());
+			Operand rightExpression = OptimizedExpressionParser.getInstance().getExpressionValue(assign.getExpression());
+			if (rightExpression instanceof Immediate && ((Immediate) rightExpression).getValue() != (int) ((Immediate) rightExpression).getValue()) {
+				IRegister temp = RegisterPool.getInstance().requestNewRegister();
+				print(Instruction.MOVQ, temp, rightExpression);
+				rightExpression = temp;
+			}
+			print(codeGenerator.utilities.Instruction.MOV, leftExpression, rightExpression);
 		} else {
+			IRegister leftExpression = OptimizedExpressionParser.getInstance().getLocationAddress(assign.getLocation());
 			int size;
 			try {
 				Variable variable = (Variable) assign.getLocation();
@@ -88,15 +127,13 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 					size = array.getSize();
 				}
 			}
+			IRegister rightExpression = OptimizedExpressionParser.getInstance().getLocationAddress((Location) assign.getExpression());
 			print(codeGenerator.utilities.Instruction.MOVQ, Register.RDI, leftExpression);
-			rightExpression = OptimizedExpressionParser.getInstance().getLocationAddress((Location) assign.getExpression());
 			print(codeGenerator.utilities.Instruction.MOVQ, Register.RSI, rightExpression);
-			print(codeGenerator.utilities.Instruction.MOVQ, Register.RDX, size);
-			print(codeGenerator.utilities.Instruction.CALL, "memmove");
+			print(codeGenerator.utilities.Instruction.MOVQ, Register.RDX, new Immediate(size));
+			print(codeGenerator.utilities.Instruction.CALL, new Label("memmove"));
+			print(Instruction.LEA, OFFSET, new Memory(SPACE));
 		}
-		RegisterPool.getInstance().freeRegister(leftExpression);
-		RegisterPool.getInstance().freeRegister(rightExpression);
-		RegisterPool.getInstance().reset();
 	}
 
 	/**
@@ -110,72 +147,25 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	}
 
 	/**
-	 * Generates an if instruction.
+	 * Compares the left expression of a condition with its right expression.
 	 *
-	 * @param ifInstruction The if instruction to generate.
+	 * @param condition The condition.
 	 */
 	@Override
-	protected void generateIf(If ifInstruction) {
-		String leftExpression = OptimizedExpressionParser.getInstance().getExpressionValue(ifInstruction.getCondition().getLeftExpression());
-		if (!Register.contains(leftExpression)) {
-			String temp = RegisterPool.getInstance().requestNewRegister().toString();
+	protected void generateComparison(Condition condition) {
+		Operand leftExpression = OptimizedExpressionParser.getInstance().getExpressionValue(condition.getLeftExpression());
+		if (!(leftExpression instanceof IRegister)) {
+			IRegister temp = RegisterPool.getInstance().requestNewRegister();
 			print(Instruction.MOVQ, temp, leftExpression);
 			leftExpression = temp;
 		}
-		String rightExpression = OptimizedExpressionParser.getInstance().getExpressionValue(ifInstruction.getCondition().getRightExpression());
-		if (!Register.contains(rightExpression)) {
-			String temp = RegisterPool.getInstance().requestNewRegister().toString();
+		Operand rightExpression = OptimizedExpressionParser.getInstance().getExpressionValue(condition.getRightExpression());
+		if (rightExpression instanceof Immediate && ((Immediate) rightExpression).getValue() != (int) ((Immediate) rightExpression).getValue()) {
+			IRegister temp = RegisterPool.getInstance().requestNewRegister();
 			print(Instruction.MOVQ, temp, rightExpression);
 			rightExpression = temp;
 		}
-		print(codeGenerator.utilities.Instruction.CMP, leftExpression, rightExpression);
-		RegisterPool.getInstance().freeRegister(leftExpression);
-		RegisterPool.getInstance().freeRegister(rightExpression);
-		if (ifInstruction.getTrueInstructions().size() > 0) {
-			jumpOnCondition(ifInstruction.getCondition(), m_instructionCounter);
-			Condition condition = ifInstruction.getCondition().clone();
-			condition.negateExpression();
-			if (ifInstruction.getFalseInstructions().size() > 0) {
-				int instructionCounter = m_instructionCounter + ifInstruction.getNumberOfFalseInstructions();
-				jumpOnCondition(condition, instructionCounter);
-			} else {
-				jumpOnCondition(condition, m_instructionCounter);
-			}
-			generateInstructions(ifInstruction.getTrueInstructions());
-		}
-		if (ifInstruction.getFalseInstructions().size() > 0) {
-			jumpOnCondition(ifInstruction.getCondition(), m_instructionCounter + 1);
-			generateInstructions(ifInstruction.getFalseInstructions());
-		}
-		RegisterPool.getInstance().reset();
-	}
-
-	/**
-	 * Generates a repeat instruction.
-	 *
-	 * @param repeat The repeat instruction to generate.
-	 */
-	@Override
-	protected void generateRepeat(Repeat repeat) {
-		int currentInstruction = m_instructionCounter - 1;
-		generateInstructions(repeat.getInstructions());
-		String leftExpression = OptimizedExpressionParser.getInstance().getExpressionValue(repeat.getCondition().getLeftExpression());
-		if (!Register.contains(leftExpression)) {
-			String temp = RegisterPool.getInstance().requestNewRegister().toString();
-			print(Instruction.MOVQ, temp, leftExpression);
-			leftExpression = temp;
-		}
-		String rightExpression = OptimizedExpressionParser.getInstance().getExpressionValue(repeat.getCondition().getRightExpression());
-		if (!Register.contains(rightExpression)) {
-			String temp = RegisterPool.getInstance().requestNewRegister().toString();
-			print(Instruction.MOVQ, temp, rightExpression);
-			rightExpression = temp;
-		}
-		print(codeGenerator.utilities.Instruction.CMP, leftExpression, rightExpression);
-		RegisterPool.getInstance().freeRegister(leftExpression);
-		RegisterPool.getInstance().freeRegister(rightExpression);
-		jumpOnCondition(repeat.getCondition(), currentInstruction);
-		RegisterPool.getInstance().reset();
+		print(Instruction.CMP, leftExpression, rightExpression);
 	}
 
 	/**
@@ -185,11 +175,15 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	 */
 	@Override
 	protected void generateRead(Read read) {
-		print(codeGenerator.utilities.Instruction.CALL, "read");
-		String register = OptimizedExpressionParser.getInstance().getLocationAddress(read.getLocation());
-		print(Instruction.MOVQ, Register.RSI, "qword ptr [" + register + "]");
-		RegisterPool.getInstance().freeRegister(register);
-		RegisterPool.getInstance().reset();
+		VirtualRegister variable = OptimizedExpressionParser.getInstance().getVariableRegister(read.getLocation());
+		if (variable != null) {
+			print(codeGenerator.utilities.Instruction.CALL, new Label("read"));
+			print(Instruction.MOVQ, variable, Register.RAX);
+		} else {
+			Memory memory = OptimizedExpressionParser.getInstance().getLocationMemory(read.getLocation());
+			print(codeGenerator.utilities.Instruction.CALL, new Label("read"));
+			print(Instruction.MOV, memory, Register.RAX);
+		}
 	}
 
 	/**
@@ -199,39 +193,55 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	 */
 	@Override
 	protected void generateWrite(Write write) {
-		String register = OptimizedExpressionParser.getInstance().getExpressionValue(write.getExpression());
+		Operand register = OptimizedExpressionParser.getInstance().getExpressionValue(write.getExpression());
 		print(Instruction.MOVQ, Register.RSI, register);
-		RegisterPool.getInstance().freeRegister(register);
-		print(codeGenerator.utilities.Instruction.CALL, "write");
-		RegisterPool.getInstance().reset();
+		print(codeGenerator.utilities.Instruction.CALL, new Label("write"));
 	}
 
 	/**
 	 * Generates array bounds checking for a location.
 	 *
+	 * A single unsigned comparison with the size of the array checks both bounds, since a negative offset compares as a very large one.
+	 *
 	 * @param location The location containing the potential out-of-bounds expression.
-	 * @param register The register that contains the value of the index.
+	 * @param register The register that contains the offset of the element, in bytes, from the start of the array.
 	 */
 	@Override
-	public void generateArrayBoundsChecking(Location location, Register register) {
-		print(codeGenerator.utilities.Instruction.CMP, register, ((Array) ((Index) location).getVariable().getType()).getLength() * 8);
-		print(Instruction.JGE, "indexOutOfBounds");
-		print(codeGenerator.utilities.Instruction.CMP, register, 0);
-		print(Instruction.JL, "indexOutOfBounds");
+	public void generateArrayBoundsChecking(Location location, IRegister register) {
+		generateArrayBoundsChecking(location, register, 1);
 	}
 
 	/**
-	 * Prints the read subroutine.
+	 * Generates array bounds checking for a location whose offset is kept in units of the scale by which an addressing mode multiplies it (e.g. the index of an array of integers, whose scale is 8).
+	 *
+	 * @param location The location containing the potential out-of-bounds expression.
+	 * @param register The register that contains the offset of the element from the start of the array, in units of the scale.
+	 * @param scale    The number of bytes in a unit of the offset.
+	 */
+	public void generateArrayBoundsChecking(Location location, IRegister register, int scale) {
+		int exceptionIndex = s_arrayCounter++;
+		Array array = (Array) ((Index) location).getVariable().getType();
+		s_arrayExceptions.add("error: The index of " + location.toString() + " is out of range for the array @" + array.getPosition() + ".");
+		print(codeGenerator.utilities.Instruction.CMP, register, new Immediate(array.getSize() / scale));
+		print(Instruction.JAE, new Label(ARRAY_EXCEPTION_PREFIX + exceptionIndex));
+	}
+
+	/**
+	 * Prints the read subroutine, which returns the integer it reads in RAX.
 	 */
 	@Override
 	protected void printRead() {
 		print("read:");
 		indent();
-		print(Instruction.LEA, Register.RDI, "formatRead");
-		print(Instruction.POP, Register.RSI);
+		print(Instruction.SUB, Register.RSP, new Immediate(16));
+		print(Instruction.MOV, new Memory(Register.RSP), new Immediate(0));
+		print(Instruction.LEA, Register.RDI, new Memory("formatRead"));
+		print(Instruction.MOVQ, Register.RSI, Register.RSP);
 		print(Instruction.XOR, Register.RAX, Register.RAX);
-		print(Instruction.CALL, "scanf");
-		print(Instruction.LEA, OFFSET, SPACE);
+		print(Instruction.CALL, new Label("scanf"));
+		print(Instruction.MOV, Register.RAX, new Memory(Register.RSP));
+		print(Instruction.ADDQ, Register.RSP, new Immediate(16));
+		print(Instruction.LEA, OFFSET, new Memory(SPACE));
 		print(Instruction.RET);
 		removeIndent();
 		print("formatRead:");
@@ -271,17 +281,6 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 			parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = (parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration;
 			variable.setOffset(m_memorySize);
 			m_memorySize += variable.getType().getSize();
-			if (variable.getType() instanceof Array) {
-				for (String arrayElement : DeclarationMangler.getInstance().mangle((Array) variable.getType())) {
-					m_variables.put(declarationName + arrayElement, m_variables.size() * 8);
-				}
-			} else if (variable.getType() instanceof Record) {
-				for (String recordField : DeclarationMangler.getInstance().mangle((Record) variable.getType())) {
-					m_variables.put(declarationName + recordField, m_variables.size() * 8);
-				}
-			} else if (variable.getType() instanceof Integer) {
-				m_variables.put(declarationName, m_variables.size() * 8);
-			}
 		}
 	}
 
@@ -290,7 +289,26 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	 */
 	@Override
 	protected void printMainInitialization() {
-		print(Instruction.LEA, OFFSET, SPACE);
+		m_entry = getLines().size();
+		print(Instruction.LEA, OFFSET, new Memory(SPACE));
+	}
+
+	/**
+	 * Allocates registers for the virtual registers, reserving memory for those that are spilled, and writes the lines.
+	 */
+	@Override
+	protected void close() {
+		int spillSlots = RegisterAllocator.getInstance().allocate(getLines(), m_entry);
+		if (spillSlots > 0) {
+			print(".section .data");
+			indent();
+			print(RegisterAllocator.SPILL + " : .quad 0");
+			if (spillSlots > 1) {
+				print(".space " + (spillSlots - 1) * 8 + ", 0");
+			}
+			removeIndent();
+		}
+		super.close();
 	}
 
 
@@ -301,10 +319,10 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	protected void printWrite() {
 		print("write:");
 		indent();
-		print(Instruction.LEA, Register.RDI, "formatWrite");
+		print(Instruction.LEA, Register.RDI, new Memory("formatWrite"));
 		print(Instruction.XOR, Register.RAX, Register.RAX);
-		print(Instruction.CALL, "printf");
-		print(Instruction.LEA, OFFSET, SPACE);
+		print(Instruction.CALL, new Label("printf"));
+		print(Instruction.LEA, OFFSET, new Memory(SPACE));
 		print(Instruction.RET);
 		removeIndent();
 		print("formatWrite:");
@@ -314,32 +332,26 @@ public class OptimizedCodeGenerator extends AbstractCodeGenerator {
 	}
 
 	/**
-	 * Prints the error messages for array indexing.
+	 * Prints the error messages for array indexing.  Each bounds check jumps to its own message.
 	 */
 	@Override
 	protected void printIndexOutOfBounds() {
-		print("indexOutOfBounds:");
-		indent();
-		print(Instruction.MOV, Register.RDI, "qword ptr stderr[" + Register.RIP + "]");
-		print(Instruction.LEA, Register.RSI, "formatIndexOutOfBounds");
-		print(Instruction.POP, Register.RDX);
-		print(Instruction.POP, Register.RCX);
-		print(Instruction.XOR, Register.RAX, Register.RAX);
-		print(Instruction.CALL, "fprintf");
-		// Exit
-		print(Instruction.MOVQ, Register.RDI, 0);
-		print(Instruction.CALL, "exit");
-		removeIndent();
-		print("formatIndexOutOfBounds:");
-		indent();
-		print(".asciz \"error: The array @(%d,%d) is out of bounds.\\n\"");
-		removeIndent();
-	}
-
-	/**
-	 * Gets the map of mangled variable names to their addresses in memory.
-	 */
-	public Map<String, java.lang.Integer> getVariables() {
-		return m_variables;
+		for (int i = 0; i < AbstractCodeGenerator.getArrayExceptions().size(); i++) {
+			print(AbstractCodeGenerator.ARRAY_EXCEPTION_PREFIX + i + ":");
+			indent();
+			print(Instruction.AND, Register.RSP, new Immediate(-16)); // The check may have jumped from anywhere in main, so the stack is aligned for the call.
+			print(Instruction.MOV, Register.RDI, new Memory("stderr", Register.RIP));
+			print(Instruction.LEA, Register.RSI, new Memory(AbstractCodeGenerator.ARRAY_EXCEPTION_MESSAGE_PREFIX + i));
+			print(Instruction.XOR, Register.RAX, Register.RAX);
+			print(Instruction.CALL, new Label("fprintf"));
+			// Exit
+			print(Instruction.MOVQ, Register.RDI, new Immediate(0));
+			print(Instruction.CALL, new Label("exit"));
+			removeIndent();
+			print(AbstractCodeGenerator.ARRAY_EXCEPTION_MESSAGE_PREFIX + i + ":");
+			indent();
+			print(".asciz \"" + AbstractCodeGenerator.getArrayExceptions().get(i) + "\\n\"");
+			removeIndent();
+		}
 	}
 }
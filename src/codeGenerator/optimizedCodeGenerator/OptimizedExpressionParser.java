@@ -1,8 +1,14 @@
 package codeGenerator.optimizedCodeGenerator;
 
 import codeGenerator.AbstractExpressionParser;
+import codeGenerator.controlFlowGraph.ElementOffset;
+import codeGenerator.utilities.IRegister;
+import codeGenerator.utilities.Immediate;
 import codeGenerator.utilities.Instruction;
+import codeGenerator.utilities.Memory;
+import codeGenerator.utilities.Operand;
 import codeGenerator.utilities.Register;
+import codeGenerator.utilities.VirtualRegister;
 import exception.Exception;
 import exception.ExceptionHandler;
 import exception.ExceptionStrength;
@@ -14,7 +20,11 @@ import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
 import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+import parser.semanticAnalysis.symbolTable.declarations.types.record.Record;
+
+import java.math.BigInteger;
 
 /**
  * Parses expressions in an optimized fashion for AMD64.
@@ -48,10 +58,14 @@ public class OptimizedExpressionParser extends AbstractExpressionParser {
 	 * @param location The location whose value will be returned.
 	 */
 	@Override
-	public String getLocationValue(Location location) {
-		String address = getLocationAddress(location);
-		print(Instruction.MOV, address, "qword ptr[" + address + "]");
-		return address;
+	public IRegister getLocationValue(Location location) {
+		VirtualRegister register = getVariableRegister(location);
+		if (register != null) {
+			return register;
+		}
+		IRegister value = RegisterPool.getInstance().requestNewRegister();
+		print(Instruction.MOV, value, getLocationMemory(location));
+		return value;
 	}
 
 	/**
@@ -60,99 +74,123 @@ public class OptimizedExpressionParser extends AbstractExpressionParser {
 	 * @param location The location whose address will be returned.
 	 */
 	@Override
-	public String getLocationAddress(Location location) {
-		String register;
+	public IRegister getLocationAddress(Location location) {
+		IRegister register = RegisterPool.getInstance().requestNewRegister();
+		print(Instruction.LEA, register, getLocationMemory(location));
+		return register;
+	}
+
+	/**
+	 * Gets the memory that a location occupies, whose address is the offset of the program's memory plus the offset of the location, folded into a single addressing mode.
+	 *
+	 * @param location The location whose memory will be returned.
+	 */
+	public Memory getLocationMemory(Location location) {
 		// If the location is constantly defined, then we grab its compile-time offset.
 		int offset;
-		if ((offset = offsetOf(location)) != -1) {
-			register = RegisterPool.getInstance().requestNewRegister().toString();
-			if (offset != 0) {
-				print(Instruction.MOVQ, register, offsetOf(location));
-				print(Instruction.ADDQ, register, OptimizedCodeGenerator.OFFSET);
-			} else {
-				print(Instruction.MOVQ, register, OptimizedCodeGenerator.OFFSET);
-			}
-			return register;
+		if ((offset = getConstantOffset(location)) != -1) {
+			return new Memory(null, OptimizedCodeGenerator.OFFSET, null, 1, offset);
 		}
-		// If a location is constantly defined but is not in our map of locations-to-offsets, then the location has an array that's out of bounds.  We throw a compile-time error.
-		else if (isConstant(location.toString())) {
+		// If a location is constantly defined but has no offset, then the location has an array that's out of bounds.  We throw a compile-time error.
+		else if (isConstant(location)) {
 			return ExceptionHandler.getInstance().throwException(Exception.INDEX_OUT_OF_RANGE_COMPILE_TIME, ExceptionStrength.STRONG, location.toString(), location.getType().getPosition());
 		}
-		// If none of our cool "a-ha's!" work, then we simply proceed to evaluate the offset normally.
-		else {
-			String offset1 = getLocationOffset(location);
-			if (Register.contains(offset1)) {
-				register = offset1;
-				print(Instruction.ADDQ, register, OptimizedCodeGenerator.OFFSET);
-			} else {
-				register = RegisterPool.getInstance().requestNewRegister().toString();
-				print(Instruction.MOVQ, register, offset1);
-				print(Instruction.ADDQ, register, OptimizedCodeGenerator.OFFSET);
-			}
-			return register;
+		Operand locationOffset = getLocationOffset(location);
+		if (locationOffset instanceof Immediate) {
+			return new Memory(null, OptimizedCodeGenerator.OFFSET, null, 1, ((Immediate) locationOffset).getValue());
+		}
+		Memory memory = (Memory) locationOffset;
+		if (memory.getBase() == null) {
+			return new Memory(null, OptimizedCodeGenerator.OFFSET, memory.getIndex(), memory.getScale(), memory.getDisplacement());
+		} else if (memory.getIndex() == null) {
+			return new Memory(null, OptimizedCodeGenerator.OFFSET, memory.getBase(), 1, memory.getDisplacement());
 		}
+		return new Memory(null, OptimizedCodeGenerator.OFFSET, getAddressRegister(memory), 1, memory.getDisplacement());
 	}
 
 	/**
-	 * Gets the offset from a location.  The offset will either be a numerical value or in a register.
+	 * Gets the offset from a location.  The offset will either be an immediate value or the address of a memory operand (i.e. base + index * scale + displacement), so that it can be folded into an addressing mode.
 	 *
 	 * @param location The location whose offset will be returned.
 	 */
 	@Override
-	protected String getLocationOffset(Location location) {
-		String register = null;
+	protected Operand getLocationOffset(Location location) {
+		Operand offset = null;
 		if (location instanceof Field) {
 			Field field = (Field) location;
-			try {
-				String variableOffset = getLocationOffset(field.getVariable());
-				register = parseBinaryExpression(variableOffset + " + " + String.valueOf(((Variable) field.getSelection()).getVariable().getOffset()));
-				RegisterPool.getInstance().freeRegister(variableOffset);
-			} catch (java.lang.Exception ignored) {
-				Index array = (Index) field.getVariable();
-				String expression = getExpressionValue(array.getExpression());
-				String expression1 = parseBinaryExpression(expression + " * " + array.getVariable().getType().getSize());
-				RegisterPool.getInstance().freeRegister(expression);
-				register = parseBinaryExpression(String.valueOf(field.getSelection().getType().getSize()) + " * " + expression1); // Size of the type of the array * index of the array.
-				RegisterPool.getInstance().freeRegister(expression1);
-			}
+			offset = displace(getLocationOffset(field.getVariable()), getFieldOffset(field));
 		} else if (location instanceof Index) {
 			Index index = (Index) location;
 			Array array = (Array) index.getVariable().getType();
+			Operand variableOffset = getLocationOffset(index.getVariable()); // variableOffset has the offset of a, when the expression is a[i].
+			int size = array.getElementType().getSize();
 
-			String indexValue = getExpressionValue(index.getExpression());
-			int multiplicand = array.getElementType().getSize() / 8;
-			register = parseBinaryExpression(indexValue + " * " + multiplicand);
-			RegisterPool.getInstance().freeRegister(indexValue);
-			OptimizedCodeGenerator.getInstance().generateArrayBoundsChecking(location, Register.get(register));
-
-			String variableOffset = getLocationOffset(index.getVariable()); // variableOffset has the address of a, when the expression is a[i].  We need to evaluate the expression, multiplying its value by the size of the type.
-			String register1 = parseBinaryExpression(register + " + " + variableOffset);
-
-			RegisterPool.getInstance().freeRegister(variableOffset);
-			RegisterPool.getInstance().freeRegister(register);
+			// The element offset is the offset of the element from the start of the array, in bytes; the optimizer may already keep it in a variable.
+			ElementOffset elementOffset = OptimizedCodeGenerator.getInstance().getElementOffset(index);
+			IRegister element;
+			int scale = 1;
+			long displacement = 0;
+			if (elementOffset != null) {
+				element = getLocationValue(elementOffset.getVariable());
+				displacement = elementOffset.getDisplacement();
+				if (!elementOffset.isInBounds()) {
+					if (displacement != 0) {
+						IRegister register = RegisterPool.getInstance().requestNewRegister();
+						print(Instruction.LEA, register, new Memory(element, displacement));
+						element = register;
+						displacement = 0;
+					}
+					OptimizedCodeGenerator.getInstance().generateArrayBoundsChecking(location, element, 1);
+				}
+			} else {
+				Operand indexValue = getExpressionValue(index.getExpression());
+				if (indexValue instanceof Immediate && ((Immediate) indexValue).getValue() >= 0 && ((Immediate) indexValue).getValue() < array.getLength()) {
+					return displace(variableOffset, ((Immediate) indexValue).getValue() * size);
+				}
+				element = getRegister(indexValue);
+				// An element of 1, 2, 4 or 8 bytes is reached by scaling the index in the addressing mode, so the index itself is checked against the length of the array.
+				if (size == 1 || size == 2 || size == 4 || size == 8) {
+					scale = size;
+				} else {
+					element = multiply(element, size);
+				}
+				OptimizedCodeGenerator.getInstance().generateArrayBoundsChecking(location, element, scale);
+			}
 
-			register = register1;
+			if (variableOffset instanceof Immediate) {
+				offset = new Memory(null, null, element, scale, ((Immediate) variableOffset).getValue() + displacement);
+			} else {
+				Memory memory = (Memory) variableOffset;
+				if (memory.getIndex() == null) {
+					offset = new Memory(null, memory.getBase(), element, scale, memory.getDisplacement() + displacement);
+				} else if (memory.getBase() == null && memory.getScale() == 1) {
+					offset = new Memory(null, memory.getIndex(), element, scale, memory.getDisplacement() + displacement);
+				} else if (memory.getBase() == null && scale == 1) {
+					offset = new Memory(null, element, memory.getIndex(), memory.getScale(), memory.getDisplacement() + displacement);
+				} else {
+					offset = new Memory(null, getAddressRegister(memory), element, scale, memory.getDisplacement() + displacement);
+				}
+			}
 		} else if (location instanceof Variable) {
 			Variable variable = (Variable) location;
-			register = String.valueOf(variable.getVariable().getOffset());
+			offset = new Immediate(variable.getVariable().getOffset());
 		}
-		return register;
+		return offset;
 	}
 
 	/**
-	 * Gets the value from a location, returning either the integral value or register with said value.
+	 * Gets the value of an expression, returning either an immediate value or the register with said value.
 	 *
 	 * @param expression The expression whose value will be returned.
 	 */
 	@Override
-	public String getExpressionValue(Expression expression) {
-		String value = null;
+	public Operand getExpressionValue(Expression expression) {
+		Operand value = null;
 		if (expression instanceof Location) {
-			value = getLocationAddress((Location) expression);
-			print(Instruction.MOV, value, "qword ptr [" + value + "]");
+			value = getLocationValue((Location) expression);
 		} else if (expression instanceof Binary) {
 			Binary binary = (Binary) expression;
-			String leftExpression, rightExpression;
+			Operand leftExpression, rightExpression;
 			if (!(binary.getRightExpression() instanceof Binary)) {
 				leftExpression = getExpressionValue(binary.getLeftExpression());
 				rightExpression = getExpressionValue(binary.getRightExpression());
@@ -160,113 +198,345 @@ public class OptimizedExpressionParser extends AbstractExpressionParser {
 				rightExpression = getExpressionValue(binary.getRightExpression());
 				leftExpression = getExpressionValue(binary.getLeftExpression());
 			}
-			value = parseBinaryExpression(leftExpression + Operator.getOperator(binary.getOperator()) + rightExpression);
-			RegisterPool.getInstance().freeRegister(leftExpression);
-			RegisterPool.getInstance().freeRegister(rightExpression);
+			value = parseBinaryExpression(leftExpression, binary.getOperator(), rightExpression);
 		} else if (expression instanceof parser.semanticAnalysis.abstractSyntaxTree.expressions.Number) {
 			Number number = (Number) expression;
-			value = String.valueOf(number.getConstant().getValue());
+			value = new Immediate(number.getConstant().getValue());
 		}
 		return value;
 	}
 
 	/**
-	 * Gets the value from the stringified representation of a binary expression, putting the result in R13 if using a non-optimized code generator.
+	 * Gets the value of a binary operation on two operands, which is either an immediate value (if both operands are) or a virtual register requested from the pool.
+	 * Additions are made with LEA, so that neither operand is overwritten, and multiplications, divisions and remainders by constants are made with shifts, LEA and multiplications by magic numbers rather than IDIV.
 	 *
-	 * @param binary The binary expression whose value will be returned.
+	 * @param left     The left operand.
+	 * @param operator The operator.
+	 * @param right    The right operand.
 	 */
 	@Override
-	protected String parseBinaryExpression(String binary) {
-		int operatorIndex = getIndexOfOperator(binary);
-		String left = getLeftOperand(binary.substring(0, operatorIndex)).trim();
-		String right = getRightOperand(binary.substring(operatorIndex + 1)).trim();
-
-		String register = RegisterPool.getInstance().requestNewRegister().toString();
-		print(Instruction.MOVQ, register, left);
+	protected Operand parseBinaryExpression(Operand left, Operator operator, Operand right) {
+		if (left instanceof Immediate && right instanceof Immediate) {
+			long leftValue = ((Immediate) left).getValue(), rightValue = ((Immediate) right).getValue();
+			switch (operator) {
+				case PLUS:
+					return new Immediate(leftValue + rightValue);
+				case MINUS:
+					return new Immediate(leftValue - rightValue);
+				case MULTIPLICATION:
+					return new Immediate(leftValue * rightValue);
+				case DIV:
+					if (rightValue != 0) {
+						return new Immediate(leftValue / rightValue);
+					}
+					break;
+				case MOD:
+					if (rightValue != 0) {
+						return new Immediate(leftValue % rightValue);
+					}
+					break;
+			}
+		}
+		if (left instanceof Immediate && (operator == Operator.PLUS || operator == Operator.MULTIPLICATION)) {
+			Operand swap = left;
+			left = right;
+			right = swap;
+		}
 
-		Operator operator = Operator.getOperator(binary.substring(getIndexOfOperator(binary), getIndexOfOperator(binary) + 1));
+		IRegister register;
 		switch (operator) {
-			case MINUS:
 			case PLUS:
-				print(Instruction.MOVQ, Register.RAX, right);
-				if (operator == Operator.PLUS) {
-					print(Instruction.ADDQ, register, Register.RAX);
-				} else if (operator == Operator.MINUS) {
-					print(Instruction.SUB, register, Register.RAX);
+				register = RegisterPool.getInstance().requestNewRegister();
+				if (isSmallImmediate(right)) {
+					print(Instruction.LEA, register, new Memory((IRegister) left, ((Immediate) right).getValue()));
+				} else {
+					print(Instruction.LEA, register, new Memory(null, (IRegister) left, getRegister(right), 1, 0));
 				}
-				break;
+				return register;
+			case MINUS:
+				register = RegisterPool.getInstance().requestNewRegister();
+				if (left instanceof IRegister && isSmallImmediate(right) && ((Immediate) right).getValue() != java.lang.Integer.MIN_VALUE) {
+					print(Instruction.LEA, register, new Memory((IRegister) left, -((Immediate) right).getValue()));
+				} else {
+					print(Instruction.MOVQ, register, left);
+					print(Instruction.SUB, register, isSmallImmediate(right) ? right : getRegister(right));
+				}
+				return register;
 			case MULTIPLICATION:
+				if (right instanceof Immediate) {
+					return multiply((IRegister) left, ((Immediate) right).getValue());
+				}
+				register = RegisterPool.getInstance().requestNewRegister();
+				print(Instruction.MOVQ, register, left);
+				print(Instruction.IMUL, register, right);
+				return register;
 			case DIV:
 			case MOD:
-				print(Instruction.MOVQ, Register.RDX, "0");
-				print(Instruction.MOVQ, Register.RAX, register);
-				print(Instruction.CQO);
-				print(Instruction.MOVQ, register, right);
-				if (operator == Operator.DIV || operator == Operator.MOD) {
-					print(Instruction.IDIV, register);
-				} else {
-					print(Instruction.IMUL, register);
+				if (left instanceof IRegister && isSmallImmediate(right) && ((Immediate) right).getValue() != 0) {
+					return divide((IRegister) left, ((Immediate) right).getValue(), operator == Operator.MOD);
 				}
-				if (operator == Operator.DIV) {
-					print(Instruction.MOVQ, register, Register.RAX);
-				} else if (operator == Operator.MOD) {
-					print(Instruction.MOVQ, register, Register.RDX);
-				} else if (operator == Operator.MULTIPLICATION) {
-					print(Instruction.MOVQ, register, Register.RAX);
-				}
-				break;
+				IRegister divisor = getRegister(right);
+				print(Instruction.MOVQ, Register.RAX, left);
+				print(Instruction.CQO);
+				print(Instruction.IDIV, divisor);
+				register = RegisterPool.getInstance().requestNewRegister();
+				print(Instruction.MOVQ, register, operator == Operator.DIV ? Register.RAX : Register.RDX);
+				return register;
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Multiplies a register by a constant, with shifts and LEA where the constant allows it (e.g. x * 8 is x << 3, and x * 10 is (x + x * 4) << 1), putting the product in a new virtual register.
+	 *
+	 * @param multiplicand The register.
+	 * @param multiplier   The constant.
+	 */
+	private IRegister multiply(IRegister multiplicand, long multiplier) {
+		IRegister register = RegisterPool.getInstance().requestNewRegister();
+		long magnitude = Math.abs(multiplier);
+		int shift = Long.numberOfTrailingZeros(magnitude);
+		long factor = magnitude >> shift;
+		if (multiplier == 0) {
+			print(Instruction.MOVQ, register, new Immediate(0));
+			return register;
+		} else if (multiplier == Long.MIN_VALUE || (factor != 1 && factor != 3 && factor != 5 && factor != 9)) {
+			print(Instruction.MOVQ, register, multiplicand);
+			print(Instruction.IMUL, register, isSmallImmediate(new Immediate(multiplier)) ? new Immediate(multiplier) : getRegister(new Immediate(multiplier)));
+			return register;
+		}
+		if (factor == 1) {
+			print(Instruction.MOVQ, register, multiplicand);
+		} else {
+			print(Instruction.LEA, register, new Memory(null, multiplicand, multiplicand, (int) factor - 1, 0));
+		}
+		if (shift > 0) {
+			print(Instruction.SHL, register, new Immediate(shift));
+		}
+		if (multiplier < 0) {
+			print(Instruction.NEG, register);
 		}
 		return register;
 	}
 
 	/**
-	 * Queries if an expression is constantly defined.
+	 * Divides a register by a non-zero constant, rounding towards zero as IDIV does, and puts the quotient or the remainder in a new virtual register.
+	 * A power of two is divided by with an arithmetic shift, after adding (divisor - 1) to a negative dividend; any other divisor is divided by with the high half of a multiplication by its magic number (see Warren, "Hacker's Delight", section 10-3).
+	 * The remainder is the dividend minus the product of the quotient and the divisor.
 	 *
-	 * @param expression The expression to query.
+	 * @param dividend  The register.
+	 * @param divisor   The constant.
+	 * @param remainder Whether the remainder, rather than the quotient, is wanted.
 	 */
-	private boolean isConstant(String expression) {
-		if (expression.contains("[")) {
-			String substring;
-			int startingIndex, endingIndex;
-			do {
-				startingIndex = expression.indexOf("[");
-				endingIndex = expression.indexOf("]");
-				substring = expression.substring(startingIndex + 1, endingIndex);
-				if (!isNumeric(substring)) {
-					return false;
-				}
-				expression = expression.substring(endingIndex + 1, expression.length());
-			} while (expression.contains("["));
+	private IRegister divide(IRegister dividend, long divisor, boolean remainder) {
+		IRegister register = RegisterPool.getInstance().requestNewRegister();
+		long magnitude = Math.abs(divisor);
+		if (magnitude == 1) {
+			print(Instruction.MOVQ, register, remainder ? new Immediate(0) : dividend);
+			if (!remainder && divisor < 0) {
+				print(Instruction.NEG, register);
+			}
+			return register;
 		}
-		return true;
+		IRegister quotient = RegisterPool.getInstance().requestNewRegister();
+		if (Long.bitCount(magnitude) == 1) {
+			int shift = Long.numberOfTrailingZeros(magnitude);
+			print(Instruction.MOVQ, quotient, dividend);
+			if (shift > 1) {
+				print(Instruction.SAR, quotient, new Immediate(63));
+			}
+			print(Instruction.SHR, quotient, new Immediate(64 - shift));
+			print(Instruction.ADDQ, quotient, dividend);
+			if (remainder) {
+				print(Instruction.AND, quotient, new Immediate(-magnitude));
+				print(Instruction.MOVQ, register, dividend);
+				print(Instruction.SUB, register, quotient);
+				return register;
+			}
+			print(Instruction.SAR, quotient, new Immediate(shift));
+			if (divisor < 0) {
+				print(Instruction.NEG, quotient);
+			}
+			return quotient;
+		}
+		long[] magic = getMagicNumber(divisor);
+		print(Instruction.MOVQ, Register.RAX, new Immediate(magic[0]));
+		print(Instruction.IMUL, dividend);
+		if (divisor > 0 && magic[0] < 0) {
+			print(Instruction.ADDQ, Register.RDX, dividend);
+		} else if (divisor < 0 && magic[0] > 0) {
+			print(Instruction.SUB, Register.RDX, dividend);
+		}
+		if (magic[1] > 0) {
+			print(Instruction.SAR, Register.RDX, new Immediate(magic[1]));
+		}
+		// Add one to a negative quotient, which the shift rounded down.
+		print(Instruction.MOVQ, quotient, Register.RDX);
+		print(Instruction.SHR, Register.RDX, new Immediate(63));
+		print(Instruction.ADDQ, quotient, Register.RDX);
+		if (!remainder) {
+			return quotient;
+		}
+		IRegister product = multiply(quotient, divisor);
+		print(Instruction.MOVQ, register, dividend);
+		print(Instruction.SUB, register, product);
+		return register;
 	}
 
 	/**
-	 * Gets the index of the location in memory.
+	 * Gets the magic number by which a dividend is multiplied to divide it by a constant, and the shift that follows, for a divisor whose magnitude is at least two and not a power of two (see Warren, "Hacker's Delight", section 10-4).
 	 *
-	 * @param location The location, whose index will be retrieved.
-	 * @return The offset in memory, or -1 if it's not constantly defined.
+	 * @param divisor The divisor.
+	 * @return The magic number followed by the shift.
 	 */
-	private int offsetOf(Location location) {
-		String string = location.toString().replace("[", "_").replaceAll("]", "");
-		if (OptimizedCodeGenerator.getInstance().getVariables().containsKey(string)) {
-			return OptimizedCodeGenerator.getInstance().getVariables().get(string);
-		} else {
-			int min = Integer.MAX_VALUE;
-			boolean found = false;
-			for (String variable : OptimizedCodeGenerator.getInstance().getVariables().keySet()) {
-				if (variable.startsWith(string)) {
-					found = true;
-					if (OptimizedCodeGenerator.getInstance().getVariables().get(variable) < min) {
-						min = OptimizedCodeGenerator.getInstance().getVariables().get(variable);
-					}
-				}
+	private static long[] getMagicNumber(long divisor) {
+		BigInteger two63 = BigInteger.ONE.shiftLeft(63);
+		BigInteger magnitude = BigInteger.valueOf(divisor).abs();
+		BigInteger t = divisor < 0 ? two63.add(BigInteger.ONE) : two63;
+		BigInteger absoluteNc = t.subtract(BigInteger.ONE).subtract(t.mod(magnitude));
+		BigInteger q1 = two63.divide(absoluteNc), r1 = two63.subtract(q1.multiply(absoluteNc));
+		BigInteger q2 = two63.divide(magnitude), r2 = two63.subtract(q2.multiply(magnitude));
+		BigInteger delta;
+		int p = 63;
+		do {
+			p++;
+			q1 = q1.shiftLeft(1);
+			r1 = r1.shiftLeft(1);
+			if (r1.compareTo(absoluteNc) >= 0) {
+				q1 = q1.add(BigInteger.ONE);
+				r1 = r1.subtract(absoluteNc);
 			}
-			if (found) {
-				return min;
-			} else {
+			q2 = q2.shiftLeft(1);
+			r2 = r2.shiftLeft(1);
+			if (r2.compareTo(magnitude) >= 0) {
+				q2 = q2.add(BigInteger.ONE);
+				r2 = r2.subtract(magnitude);
+			}
+			delta = magnitude.subtract(r2);
+		} while (q1.compareTo(delta) < 0 || (q1.equals(delta) && r1.signum() == 0));
+		long magic = q2.add(BigInteger.ONE).longValue();
+		return new long[]{divisor < 0 ? -magic : magic, p - 64};
+	}
+
+	/**
+	 * Queries if an operand is an immediate value that an instruction can encode (i.e. one that fits in 32 bits).
+	 *
+	 * @param operand The operand.
+	 */
+	private boolean isSmallImmediate(Operand operand) {
+		return operand instanceof Immediate && ((Immediate) operand).getValue() == (int) ((Immediate) operand).getValue();
+	}
+
+	/**
+	 * Gets an operand in a register, moving it into a new virtual register if it is an immediate value.
+	 *
+	 * @param operand The operand.
+	 */
+	private IRegister getRegister(Operand operand) {
+		if (operand instanceof IRegister) {
+			return (IRegister) operand;
+		}
+		IRegister register = RegisterPool.getInstance().requestNewRegister();
+		print(Instruction.MOVQ, register, operand);
+		return register;
+	}
+
+	/**
+	 * Gets the address of a memory operand (without its displacement) in a new virtual register, so that another index can be added to it.
+	 *
+	 * @param memory The memory operand.
+	 */
+	private IRegister getAddressRegister(Memory memory) {
+		IRegister register = RegisterPool.getInstance().requestNewRegister();
+		print(Instruction.LEA, register, new Memory(null, memory.getBase(), memory.getIndex(), memory.getScale(), 0));
+		return register;
+	}
+
+	/**
+	 * Adds a displacement to an offset.
+	 *
+	 * @param offset       The offset, which is either an immediate value or the address of a memory operand.
+	 * @param displacement The displacement.
+	 */
+	private Operand displace(Operand offset, long displacement) {
+		if (offset instanceof Immediate) {
+			return new Immediate(((Immediate) offset).getValue() + displacement);
+		}
+		Memory memory = (Memory) offset;
+		return new Memory(null, memory.getBase(), memory.getIndex(), memory.getScale(), memory.getDisplacement() + displacement);
+	}
+
+	/**
+	 * Gets the virtual register that holds a location, or null if the location is held in memory.
+	 * Only integer variables are held in virtual registers, since the elements of arrays and records may be reached through computed addresses.
+	 *
+	 * @param location The location.
+	 */
+	public VirtualRegister getVariableRegister(Location location) {
+		if (location instanceof Variable) {
+			return RegisterPool.getInstance().getRegister(((Variable) location).getVariable());
+		}
+		return null;
+	}
+
+	/**
+	 * Queries if a location is constantly defined, i.e. if every index it selects is a number.
+	 *
+	 * @param location The location to query.
+	 */
+	private boolean isConstant(Location location) {
+		if (location instanceof Index) {
+			Index index = (Index) location;
+			return index.getExpression() instanceof Number && isConstant(index.getVariable());
+		} else if (location instanceof Field) {
+			Field field = (Field) location;
+			return isConstant(field.getVariable()) && isConstant(field.getSelection());
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the offset of a location in memory, if it is constantly defined.
+	 *
+	 * @param location The location, whose offset will be retrieved.
+	 * @return The offset in memory, or -1 if it's not constantly defined (or if one of its indices is out of bounds).
+	 */
+	private int getConstantOffset(Location location) {
+		if (location instanceof Variable) {
+			return ((Variable) location).getVariable().getOffset();
+		} else if (location instanceof Field) {
+			int offset = getConstantOffset(((Field) location).getVariable());
+			return offset == -1 ? -1 : offset + getFieldOffset((Field) location);
+		} else if (location instanceof Index) {
+			Index index = (Index) location;
+			Array array = (Array) index.getVariable().getType();
+			int offset = getConstantOffset(index.getVariable());
+			if (offset == -1 || !(index.getExpression() instanceof Number)) {
 				return -1;
 			}
+			int value = ((Number) index.getExpression()).getConstant().getValue();
+			return value < 0 || value >= array.getLength() ? -1 : offset + value * array.getElementType().getSize();
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the offset of a field within its record, which is the sum of the sizes of the fields that precede it.
+	 *
+	 * @param field The field.
+	 */
+	private int getFieldOffset(Field field) {
+		if (!(field.getSelection() instanceof Variable)) {
+			return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+		Declaration selection = ((Variable) field.getSelection()).getVariable();
+		int offset = 0;
+		for (Declaration declaration : ((Record) field.getVariable().getType()).getScope().getMap().values()) {
+			if (declaration == selection) {
+				return offset;
+			}
+			offset += ((parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration).getType().getSize();
 		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
 	}
 }
@@ -0,0 +1,609 @@
+package codeGenerator.optimizedCodeGenerator;
+
+import codeGenerator.utilities.AssemblyLine;
+import codeGenerator.utilities.IRegister;
+import codeGenerator.utilities.Immediate;
+import codeGenerator.utilities.Instruction;
+import codeGenerator.utilities.Label;
+import codeGenerator.utilities.Memory;
+import codeGenerator.utilities.Operand;
+import codeGenerator.utilities.Register;
+import codeGenerator.utilities.VirtualRegister;
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns AMD64 registers to the virtual registers of the optimized code generator by linear scan.
+ * The main routine is split into basic blocks, the liveness of the virtual registers that cross blocks is computed over the flow graph, and each virtual register is given the interval from the first to the last line at which it is live (so a variable that is used in a loop stays live, and in its register, for the whole loop).
+ * The intervals are visited in order of their start: each takes a free register that the lines it spans do not need for themselves (e.g. a CALL needs the caller-saved registers, and a division needs RAX and RDX); if there is none, whichever of it and the active intervals ends last is spilled to memory.
+ */
+public class RegisterAllocator {
+
+	/**
+	 * Represents the name of the memory that holds the spilled virtual registers.
+	 */
+	public static final String SPILL = "spill";
+
+	/**
+	 * Represents the registers that may be assigned, in order of preference.
+	 * R8 holds the offset of the program's memory, R11 is kept for spill code, and RSP is the stack pointer.
+	 */
+	private static final Register[] REGISTERS = {Register.RCX, Register.RSI, Register.RDI, Register.R9, Register.R10, Register.RBX, Register.RBP, Register.R12, Register.R13, Register.R14, Register.R15, Register.RDX, Register.RAX};
+
+	/**
+	 * Represents the registers in which arguments are passed to a subroutine.
+	 */
+	private static final Register[] ARGUMENT_REGISTERS = {Register.RDI, Register.RSI, Register.RDX, Register.RCX, Register.R9};
+
+	/**
+	 * Represents the register through which spilled virtual registers are loaded and stored.
+	 */
+	private static final Register SCRATCH = Register.R11;
+
+	/**
+	 * Represents the instance of the register allocator.
+	 */
+	private static RegisterAllocator m_instance;
+
+	/**
+	 * Represents the lines that are allocated.
+	 */
+	private List<AssemblyLine> m_lines;
+
+	/**
+	 * Represents the first line of the main routine.
+	 */
+	private int m_entry;
+
+	/**
+	 * Represents the first line of each basic block, followed by the number of lines.
+	 */
+	private int[] m_blockStarts;
+
+	/**
+	 * Represents the successors of each basic block.
+	 */
+	private int[][] m_successors;
+
+	/**
+	 * Represents the virtual registers that are live on entry to the main routine, which hold zero (i.e. the initial value of a variable).
+	 */
+	private List<VirtualRegister> m_initialRegisters;
+
+	/**
+	 * Represents, for each assignable register, the ranges of lines (as pairs of the first and last line) over which the lines themselves use it.
+	 */
+	private List<List<int[]>> m_fixedRanges;
+
+	/**
+	 * Represents the index of each register in the assignable registers, or -1 if it may not be assigned.
+	 */
+	private int[] m_registerIndices;
+
+	/**
+	 * Gets the instance of the register allocator.
+	 */
+	public static RegisterAllocator getInstance() {
+		if (m_instance == null) {
+			m_instance = new RegisterAllocator();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Constructs the register allocator.
+	 */
+	private RegisterAllocator() {
+		m_registerIndices = new int[Register.values().length];
+		Arrays.fill(m_registerIndices, -1);
+		for (int i = 0; i < REGISTERS.length; i++) {
+			m_registerIndices[REGISTERS[i].ordinal()] = i;
+		}
+	}
+
+	/**
+	 * Replaces the virtual registers of the main routine with registers, returning the number of spill slots that must be reserved at SPILL.
+	 *
+	 * @param lines The lines that have been generated.
+	 * @param entry The first line of the main routine.
+	 */
+	public int allocate(List<AssemblyLine> lines, int entry) {
+		int registerCount = RegisterPool.getInstance().getRegisterCount();
+		if (registerCount == 0) {
+			return 0;
+		}
+		m_lines = lines;
+		m_entry = entry;
+		findBlocks();
+		List<LiveInterval> intervals = computeLiveIntervals(registerCount);
+		computeFixedRanges();
+		scan(intervals);
+		int spillSlots = assignSpillSlots(intervals);
+		LiveInterval[] intervalsByRegister = new LiveInterval[registerCount];
+		for (LiveInterval interval : intervals) {
+			intervalsByRegister[interval.getVirtualRegister().getNumber()] = interval;
+		}
+		rewrite(intervalsByRegister);
+		return spillSlots;
+	}
+
+	/**
+	 * Splits the main routine into basic blocks, which start at the entry, at labels and after jumps.
+	 */
+	private void findBlocks() {
+		List<java.lang.Integer> blockStarts = new ArrayList<java.lang.Integer>();
+		Map<String, java.lang.Integer> labelBlocks = new HashMap<String, java.lang.Integer>();
+		blockStarts.add(m_entry);
+		for (int i = m_entry; i < m_lines.size(); i++) {
+			AssemblyLine line = m_lines.get(i);
+			if (line.getLabel() != null) {
+				if (blockStarts.get(blockStarts.size() - 1) != i) {
+					blockStarts.add(i);
+				}
+				labelBlocks.put(line.getLabel().getName(), blockStarts.size() - 1);
+			}
+			if (line.getInstruction() != null && (line.getInstruction().isJump() || line.getInstruction() == Instruction.RET) && i + 1 < m_lines.size()) {
+				blockStarts.add(i + 1);
+			}
+		}
+		int blockCount = blockStarts.size();
+		m_blockStarts = new int[blockCount + 1];
+		for (int block = 0; block < blockCount; block++) {
+			m_blockStarts[block] = blockStarts.get(block);
+		}
+		m_blockStarts[blockCount] = m_lines.size();
+		m_successors = new int[blockCount][];
+		for (int block = 0; block < blockCount; block++) {
+			AssemblyLine last = null;
+			for (int i = m_blockStarts[block + 1] - 1; i >= m_blockStarts[block] && last == null; i--) {
+				if (m_lines.get(i).getInstruction() != null) {
+					last = m_lines.get(i);
+				}
+			}
+			List<java.lang.Integer> successors = new ArrayList<java.lang.Integer>(2);
+			if (last != null && last.getInstruction().isJump()) {
+				java.lang.Integer target = labelBlocks.get(((Label) last.getOperands()[0]).getName());
+				if (target != null) {
+					successors.add(target);
+				}
+			}
+			if ((last == null || (last.getInstruction() != Instruction.RET && last.getInstruction() != Instruction.JMP)) && block + 1 < blockCount) {
+				successors.add(block + 1);
+			}
+			m_successors[block] = new int[successors.size()];
+			for (int i = 0; i < successors.size(); i++) {
+				m_successors[block][i] = successors.get(i);
+			}
+		}
+	}
+
+	/**
+	 * Computes the live interval of each virtual register, sorted by start.
+	 * A virtual register that appears in a single basic block and is written before it is read is live from its first to its last appearance; any other is live wherever the flow graph says it is.
+	 *
+	 * @param registerCount The number of virtual registers.
+	 */
+	private List<LiveInterval> computeLiveIntervals(int registerCount) {
+		int blockCount = m_successors.length;
+		VirtualRegister[] registers = new VirtualRegister[registerCount];
+		int[] starts = new int[registerCount];
+		int[] ends = new int[registerCount];
+		int[] firstBlocks = new int[registerCount];
+		boolean[] global = new boolean[registerCount];
+		Arrays.fill(starts, java.lang.Integer.MAX_VALUE);
+		Arrays.fill(ends, -1);
+		Arrays.fill(firstBlocks, -1);
+		for (int block = 0; block < blockCount; block++) {
+			for (int i = m_blockStarts[block]; i < m_blockStarts[block + 1]; i++) {
+				AssemblyLine line = m_lines.get(i);
+				for (int pass = 0; pass < 2; pass++) {
+					for (IRegister register : pass == 0 ? line.getUses() : line.getDefinitions()) {
+						if (register instanceof VirtualRegister) {
+							int number = ((VirtualRegister) register).getNumber();
+							registers[number] = (VirtualRegister) register;
+							starts[number] = Math.min(starts[number], i);
+							ends[number] = Math.max(ends[number], i);
+							if (firstBlocks[number] == -1) {
+								firstBlocks[number] = block;
+								global[number] = pass == 0; // Read before it is written.
+							} else if (firstBlocks[number] != block) {
+								global[number] = true;
+							}
+						}
+					}
+				}
+			}
+		}
+
+		// Number the virtual registers whose liveness crosses blocks, and compute what each block reads before writing and what it writes.
+		int[] globalIndices = new int[registerCount];
+		List<VirtualRegister> globalRegisters = new ArrayList<VirtualRegister>();
+		for (int number = 0; number < registerCount; number++) {
+			globalIndices[number] = global[number] ? globalRegisters.size() : -1;
+			if (global[number]) {
+				globalRegisters.add(registers[number]);
+			}
+		}
+		BitSet[] uses = new BitSet[blockCount], definitions = new BitSet[blockCount], liveIns = new BitSet[blockCount], liveOuts = new BitSet[blockCount];
+		for (int block = 0; block < blockCount; block++) {
+			uses[block] = new BitSet();
+			definitions[block] = new BitSet();
+			liveIns[block] = new BitSet();
+			liveOuts[block] = new BitSet();
+			if (globalRegisters.isEmpty()) {
+				continue;
+			}
+			for (int i = m_blockStarts[block]; i < m_blockStarts[block + 1]; i++) {
+				AssemblyLine line = m_lines.get(i);
+				for (IRegister register : line.getUses()) {
+					if (register instanceof VirtualRegister && global[((VirtualRegister) register).getNumber()]) {
+						int index = globalIndices[((VirtualRegister) register).getNumber()];
+						if (!definitions[block].get(index)) {
+							uses[block].set(index);
+						}
+					}
+				}
+				for (IRegister register : line.getDefinitions()) {
+					if (register instanceof VirtualRegister && global[((VirtualRegister) register).getNumber()]) {
+						definitions[block].set(globalIndices[((VirtualRegister) register).getNumber()]);
+					}
+				}
+			}
+		}
+
+		// Solve the liveness equations, visiting the blocks backwards until nothing changes.
+		boolean changed = !globalRegisters.isEmpty();
+		while (changed) {
+			changed = false;
+			for (int block = blockCount - 1; block >= 0; block--) {
+				BitSet liveOut = new BitSet();
+				for (int successor : m_successors[block]) {
+					liveOut.or(liveIns[successor]);
+				}
+				BitSet liveIn = (BitSet) liveOut.clone();
+				liveIn.andNot(definitions[block]);
+				liveIn.or(uses[block]);
+				if (!liveIn.equals(liveIns[block]) || !liveOut.equals(liveOuts[block])) {
+					liveIns[block] = liveIn;
+					liveOuts[block] = liveOut;
+					changed = true;
+				}
+			}
+		}
+		for (int block = 0; block < blockCount; block++) {
+			for (int index = liveIns[block].nextSetBit(0); index >= 0; index = liveIns[block].nextSetBit(index + 1)) {
+				int number = globalRegisters.get(index).getNumber();
+				starts[number] = Math.min(starts[number], m_blockStarts[block]);
+			}
+			for (int index = liveOuts[block].nextSetBit(0); index >= 0; index = liveOuts[block].nextSetBit(index + 1)) {
+				int number = globalRegisters.get(index).getNumber();
+				ends[number] = Math.max(ends[number], m_blockStarts[block + 1] - 1);
+			}
+		}
+		m_initialRegisters = new ArrayList<VirtualRegister>();
+		if (blockCount > 0) {
+			for (int index = liveIns[0].nextSetBit(0); index >= 0; index = liveIns[0].nextSetBit(index + 1)) {
+				m_initialRegisters.add(globalRegisters.get(index));
+			}
+		}
+
+		List<LiveInterval> intervals = new ArrayList<LiveInterval>();
+		for (int number = 0; number < registerCount; number++) {
+			if (registers[number] != null) {
+				intervals.add(new LiveInterval(registers[number], starts[number], ends[number]));
+			}
+		}
+		Collections.sort(intervals, new Comparator<LiveInterval>() {
+			@Override
+			public int compare(LiveInterval first, LiveInterval second) {
+				return first.getStart() != second.getStart() ? java.lang.Integer.compare(first.getStart(), second.getStart()) : java.lang.Integer.compare(first.getEnd(), second.getEnd());
+			}
+		});
+		return intervals;
+	}
+
+	/**
+	 * Computes the ranges of lines over which the lines themselves use each assignable register, from the line that writes it to the last line that reads it (e.g. RAX from "movq rax, ..." to the "idiv" that reads it, or RCX at a CALL).
+	 */
+	private void computeFixedRanges() {
+		m_fixedRanges = new ArrayList<List<int[]>>();
+		for (int i = 0; i < REGISTERS.length; i++) {
+			m_fixedRanges.add(new ArrayList<int[]>());
+		}
+		int[] open = new int[REGISTERS.length];
+		for (int block = 0; block < m_successors.length; block++) {
+			Arrays.fill(open, -1);
+			for (int i = m_blockStarts[block]; i < m_blockStarts[block + 1]; i++) {
+				AssemblyLine line = m_lines.get(i);
+				if (line.getInstruction() == null) {
+					continue;
+				}
+				for (IRegister register : line.getUses()) {
+					extendFixedRange(open, register, i);
+				}
+				if (line.getInstruction() == Instruction.CALL) {
+					for (Register register : ARGUMENT_REGISTERS) {
+						extendFixedRange(open, register, i);
+					}
+				}
+				for (IRegister register : line.getDefinitions()) {
+					if (register instanceof Register && m_registerIndices[((Register) register).ordinal()] != -1) {
+						int index = m_registerIndices[((Register) register).ordinal()];
+						List<int[]> ranges = m_fixedRanges.get(index);
+						if (open[index] == -1 || ranges.get(open[index])[1] != i) {
+							open[index] = ranges.size();
+							ranges.add(new int[]{i, i});
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Extends the open fixed range of a register to a line that reads it.
+	 *
+	 * @param open     The index of the open fixed range of each assignable register, or -1 if there is none.
+	 * @param register The register that is read.
+	 * @param line     The line.
+	 */
+	private void extendFixedRange(int[] open, IRegister register, int line) {
+		if (register instanceof Register) {
+			int index = m_registerIndices[((Register) register).ordinal()];
+			if (index != -1 && open[index] != -1) {
+				m_fixedRanges.get(index).get(open[index])[1] = line;
+			}
+		}
+	}
+
+	/**
+	 * Queries if an assignable register is used by the lines themselves while an interval is live.
+	 *
+	 * @param index    The index of the assignable register.
+	 * @param interval The interval.
+	 */
+	private boolean isBlocked(int index, LiveInterval interval) {
+		List<int[]> ranges = m_fixedRanges.get(index);
+		int low = 0, high = ranges.size();
+		while (low < high) { // Find the first range that ends after the interval starts.
+			int middle = (low + high) >>> 1;
+			if (ranges.get(middle)[1] > interval.getStart()) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		return low < ranges.size() && ranges.get(low)[0] < interval.getEnd();
+	}
+
+	/**
+	 * Assigns registers to the intervals by linear scan, leaving the register of a spilled interval null.
+	 *
+	 * @param intervals The intervals, sorted by start.
+	 */
+	private void scan(List<LiveInterval> intervals) {
+		List<LiveInterval> active = new ArrayList<LiveInterval>(); // Sorted by end.
+		boolean[] assigned = new boolean[REGISTERS.length];
+		boolean[] blocked = new boolean[REGISTERS.length];
+		for (LiveInterval interval : intervals) {
+			while (!active.isEmpty() && active.get(0).getEnd() <= interval.getStart()) {
+				assigned[m_registerIndices[active.remove(0).getRegister().ordinal()]] = false;
+			}
+			int free = -1;
+			for (int i = 0; i < REGISTERS.length; i++) {
+				blocked[i] = isBlocked(i, interval);
+				if (free == -1 && !assigned[i] && !blocked[i]) {
+					free = i;
+				}
+			}
+			if (free != -1) {
+				assigned[free] = true;
+				interval.setRegister(REGISTERS[free]);
+				activate(active, interval);
+				continue;
+			}
+			LiveInterval spilled = null;
+			for (LiveInterval candidate : active) {
+				if (!blocked[m_registerIndices[candidate.getRegister().ordinal()]] && (spilled == null || candidate.getEnd() > spilled.getEnd())) {
+					spilled = candidate;
+				}
+			}
+			if (spilled != null && spilled.getEnd() > interval.getEnd()) {
+				interval.setRegister(spilled.getRegister());
+				spilled.setRegister(null);
+				active.remove(spilled);
+				activate(active, interval);
+			}
+		}
+	}
+
+	/**
+	 * Adds an interval to the active intervals, which are sorted by end.
+	 *
+	 * @param active   The active intervals.
+	 * @param interval The interval.
+	 */
+	private void activate(List<LiveInterval> active, LiveInterval interval) {
+		int i = 0;
+		while (i < active.size() && active.get(i).getEnd() <= interval.getEnd()) {
+			i++;
+		}
+		active.add(i, interval);
+	}
+
+	/**
+	 * Assigns spill slots to the spilled intervals, sharing a slot between intervals that do not overlap, and returns the number of slots.
+	 *
+	 * @param intervals The intervals, sorted by start.
+	 */
+	private int assignSpillSlots(List<LiveInterval> intervals) {
+		List<LiveInterval> active = new ArrayList<LiveInterval>(); // Sorted by end.
+		List<java.lang.Integer> freeSlots = new ArrayList<java.lang.Integer>();
+		int slotCount = 0;
+		for (LiveInterval interval : intervals) {
+			if (interval.getRegister() != null) {
+				continue;
+			}
+			while (!active.isEmpty() && active.get(0).getEnd() <= interval.getStart()) {
+				freeSlots.add(active.remove(0).getSpillSlot());
+			}
+			interval.setSpillSlot(freeSlots.isEmpty() ? slotCount++ : freeSlots.remove(freeSlots.size() - 1));
+			activate(active, interval);
+		}
+		return slotCount;
+	}
+
+	/**
+	 * Replaces the virtual registers with their registers or spill slots, zeroing those that are live on entry.
+	 *
+	 * @param intervals The interval of each virtual register, by number.
+	 */
+	private void rewrite(LiveInterval[] intervals) {
+		List<AssemblyLine> lines = new ArrayList<AssemblyLine>(m_lines.size() + m_initialRegisters.size());
+		lines.addAll(m_lines.subList(0, m_entry));
+		int indentation = m_entry < m_lines.size() ? m_lines.get(m_entry).getIndentation() : 0;
+		for (VirtualRegister register : m_initialRegisters) {
+			Operand operand = resolve(intervals[register.getNumber()]);
+			lines.add(new AssemblyLine(indentation, operand instanceof Register ? Instruction.MOVQ : Instruction.MOV, operand, new Immediate(0)));
+		}
+		for (int i = m_entry; i < m_lines.size(); i++) {
+			AssemblyLine line = m_lines.get(i);
+			if (line.getInstruction() == null) {
+				lines.add(line);
+			} else {
+				rewrite(line, intervals, lines);
+			}
+		}
+		m_lines.clear();
+		m_lines.addAll(lines);
+	}
+
+	/**
+	 * Replaces the virtual registers of an instruction, adding the instruction and any spill code it needs to a list of lines.
+	 * A spilled virtual register is read from its slot in place when the instruction allows a memory operand, and through R11 otherwise (i.e. when it holds an address, or when the instruction would have two memory operands).
+	 * Once the registers are known, a move of a register to itself is dropped, and an LEA that adds to its own destination becomes an ADDQ.
+	 *
+	 * @param line      The instruction.
+	 * @param intervals The interval of each virtual register, by number.
+	 * @param lines     The list of lines.
+	 */
+	private void rewrite(AssemblyLine line, LiveInterval[] intervals, List<AssemblyLine> lines) {
+		int indentation = line.getIndentation();
+		Instruction instruction = line.getInstruction();
+		Operand[] operands = line.getOperands().clone();
+		boolean changed = false, scratchUsed = false;
+		for (int i = 0; i < operands.length; i++) {
+			if (operands[i] instanceof VirtualRegister) {
+				operands[i] = resolve(intervals[((VirtualRegister) operands[i]).getNumber()]);
+				changed = true;
+			} else if (operands[i] instanceof Memory) {
+				Memory memory = (Memory) operands[i];
+				IRegister base = memory.getBase(), index = memory.getIndex();
+				if (base instanceof VirtualRegister && index instanceof VirtualRegister && resolve(intervals[((VirtualRegister) base).getNumber()]) instanceof Memory && resolve(intervals[((VirtualRegister) index).getNumber()]) instanceof Memory) {
+					// Both registers of the address are spilled, so the address is computed in R11.
+					if (scratchUsed) {
+						ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+					}
+					lines.add(new AssemblyLine(indentation, Instruction.MOV, SCRATCH, resolve(intervals[((VirtualRegister) index).getNumber()])));
+					if (memory.getScale() != 1) {
+						lines.add(new AssemblyLine(indentation, Instruction.SHL, SCRATCH, new Immediate(java.lang.Integer.numberOfTrailingZeros(memory.getScale()))));
+					}
+					lines.add(new AssemblyLine(indentation, Instruction.ADDQ, SCRATCH, resolve(intervals[((VirtualRegister) base).getNumber()])));
+					operands[i] = new Memory(memory.getSymbol(), SCRATCH, null, 1, memory.getDisplacement());
+					scratchUsed = true;
+					changed = true;
+				} else if (base instanceof VirtualRegister || index instanceof VirtualRegister) {
+					IRegister[] addressRegisters = {base, index};
+					for (int j = 0; j < addressRegisters.length; j++) {
+						if (addressRegisters[j] instanceof VirtualRegister) {
+							Operand operand = resolve(intervals[((VirtualRegister) addressRegisters[j]).getNumber()]);
+							if (operand instanceof Memory) {
+								if (scratchUsed) {
+									ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+								}
+								lines.add(new AssemblyLine(indentation, Instruction.MOV, SCRATCH, operand));
+								operand = SCRATCH;
+								scratchUsed = true;
+							}
+							addressRegisters[j] = (Register) operand;
+						}
+					}
+					operands[i] = new Memory(memory.getSymbol(), addressRegisters[0], addressRegisters[1], memory.getScale(), memory.getDisplacement());
+					changed = true;
+				}
+			}
+		}
+		if (!changed) {
+			lines.add(line);
+			return;
+		}
+		if (operands.length == 2 && (instruction == Instruction.MOV || instruction == Instruction.MOVQ) && operands[0].equals(operands[1])) {
+			return; // A move of a register (or slot) to itself.
+		}
+		if (instruction == Instruction.LEA && operands[0] instanceof Register && ((Memory) operands[1]).getSymbol() == null) {
+			// An address that adds an immediate value or another register to the destination is an addition.
+			Memory source = (Memory) operands[1];
+			if (source.getBase() == operands[0] && source.getIndex() == null) {
+				if (source.getDisplacement() > 0) {
+					lines.add(new AssemblyLine(indentation, Instruction.ADDQ, operands[0], new Immediate(source.getDisplacement())));
+				} else if (source.getDisplacement() < 0) {
+					lines.add(new AssemblyLine(indentation, Instruction.SUB, operands[0], new Immediate(-source.getDisplacement())));
+				}
+				return;
+			} else if (source.getScale() == 1 && source.getDisplacement() == 0 && source.getBase() != null && source.getIndex() != null && (source.getBase() == operands[0] || source.getIndex() == operands[0])) {
+				lines.add(new AssemblyLine(indentation, Instruction.ADDQ, operands[0], source.getBase() == operands[0] ? source.getIndex() : source.getBase()));
+				return;
+			}
+		}
+		if (instruction == Instruction.IMUL && operands.length == 2 && operands[0] instanceof Memory) {
+			// The two-operand form of IMUL multiplies into a register.
+			lines.add(new AssemblyLine(indentation, Instruction.MOV, SCRATCH, operands[0]));
+			lines.add(new AssemblyLine(indentation, Instruction.IMUL, SCRATCH, operands[1]));
+			lines.add(new AssemblyLine(indentation, Instruction.MOV, operands[0], SCRATCH));
+			return;
+		}
+		if (operands.length == 2 && operands[0] instanceof Memory) {
+			Memory destination = (Memory) operands[0];
+			boolean illegalSource = operands[1] instanceof Memory || (operands[1] instanceof Immediate && ((Immediate) operands[1]).getValue() != (int) ((Immediate) operands[1]).getValue());
+			if (instruction == Instruction.LEA || illegalSource) {
+				if (destination.uses(SCRATCH)) {
+					if ((instruction == Instruction.MOV || instruction == Instruction.MOVQ) && operands[1] instanceof Memory && !((Memory) operands[1]).uses(SCRATCH)) {
+						// Copy between two memory operands through the stack.
+						lines.add(new AssemblyLine(indentation, Instruction.PUSH, operands[1]));
+						lines.add(new AssemblyLine(indentation, Instruction.POP, destination));
+						return;
+					}
+					ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+				}
+				if (!(instruction == Instruction.LEA && operands[1].equals(new Memory(SCRATCH)))) { // The address may already be in R11.
+					lines.add(new AssemblyLine(indentation, instruction == Instruction.LEA ? Instruction.LEA : Instruction.MOV, SCRATCH, operands[1]));
+				}
+				lines.add(new AssemblyLine(indentation, instruction == Instruction.LEA ? Instruction.MOV : instruction, destination, SCRATCH));
+				return;
+			}
+		}
+		lines.add(new AssemblyLine(indentation, instruction, operands));
+	}
+
+	/**
+	 * Gets the register or spill slot that holds the virtual register of an interval.
+	 *
+	 * @param interval The interval.
+	 */
+	private Operand resolve(LiveInterval interval) {
+		if (interval.getRegister() != null) {
+			return interval.getRegister();
+		}
+		return new Memory(SPILL, Register.RIP, null, 1, 8L * interval.getSpillSlot());
+	}
+}
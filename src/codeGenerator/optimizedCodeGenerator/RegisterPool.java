@@ -1,18 +1,17 @@
 package codeGenerator.optimizedCodeGenerator;
 
-import codeGenerator.AbstractAssemblyCodePrinter;
-import codeGenerator.utilities.Instruction;
-import codeGenerator.utilities.Register;
+import codeGenerator.utilities.VirtualRegister;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.variable.Variable;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Stack;
 
 /**
- * Manages registers for the optimized code generator.
+ * Hands out the virtual registers in which the optimized code generator holds its values.
+ * Each integer variable is held in a virtual register of its own rather than in memory, so that it can stay in an AMD64 register across instructions; the registers are assigned by the register allocator once the program has been generated.
  */
-public class RegisterPool extends AbstractAssemblyCodePrinter {
+public class RegisterPool {
 
 	/**
 	 * Represents the instance of the register pool.
@@ -20,17 +19,17 @@ public class RegisterPool extends AbstractAssemblyCodePrinter {
 	private static RegisterPool m_instance;
 
 	/**
-	 * Represents the map of registers to the stack of values spilled.
+	 * Represents the number of virtual registers handed out.
 	 */
-	private Map<Register, Stack<Integer>> m_spilledRegisters;
+	private int m_registerCount;
 
 	/**
-	 * Represents the number of pushes currently done.
+	 * Represents the map of integer variables to the virtual registers that hold them.
 	 */
-	private int m_spill = 0;
+	private Map<Variable, VirtualRegister> m_variables;
 
 	/**
-	 * Gets the instance of the register warden.
+	 * Gets the instance of the register pool.
 	 */
 	public static RegisterPool getInstance() {
 		if (m_instance == null) {
@@ -40,82 +39,40 @@ public class RegisterPool extends AbstractAssemblyCodePrinter {
 	}
 
 	/**
-	 * Constructs the register warden.
+	 * Constructs the register pool.
 	 */
 	private RegisterPool() {
-		m_spilledRegisters = new HashMap<Register, Stack<Integer>>();
-		m_spilledRegisters.put(Register.R9, new Stack<Integer>());
-		m_spilledRegisters.put(Register.R10, new Stack<Integer>());
-		m_spilledRegisters.put(Register.R11, new Stack<Integer>());
-		m_spilledRegisters.put(Register.R12, new Stack<Integer>());
-		m_spilledRegisters.put(Register.R13, new Stack<Integer>());
-		m_spilledRegisters.put(Register.R14, new Stack<Integer>());
-		m_spilledRegisters.put(Register.R15, new Stack<Integer>());
+		m_variables = new HashMap<Variable, VirtualRegister>();
 	}
 
 	/**
-	 * Requests a new register from the pool.
+	 * Requests a new virtual register from the pool.
 	 */
-	public Register requestNewRegister() {
-		int smallestSize = Integer.MAX_VALUE;
-		Register mostFreeRegister = null;
-		Object[] registers = m_spilledRegisters.keySet().toArray();
-		Arrays.sort(registers);
-		for (Object register : registers) {
-			int size;
-			if ((size = m_spilledRegisters.get(register).size()) < smallestSize) {
-				smallestSize = size;
-				mostFreeRegister = (Register) register;
-			}
-		}
-		// If the register has already been used
-		if (smallestSize > 0) {
-			print(Instruction.PUSHQ, mostFreeRegister);
-			m_spilledRegisters.get(mostFreeRegister).push(m_spill++);
-		} else {
-			m_spilledRegisters.get(mostFreeRegister).push(-1);
-		}
-
-		return mostFreeRegister;
+	public VirtualRegister requestNewRegister() {
+		return new VirtualRegister(m_registerCount++);
 	}
 
 	/**
-	 * Frees a register, putting it back in the pool.
+	 * Gets the virtual register that holds a variable, or null if the variable is held in memory (i.e. it is not an integer).
 	 *
-	 * @param register The register to free.
+	 * @param variable The variable.
 	 */
-	public void freeRegister(Register register) {
-		if (m_spilledRegisters.get(register).size() == 1) {
-			m_spilledRegisters.get(register).clear();
-		} else if (m_spilledRegisters.get(register).size() > 1) {
-			int index = 8 * m_spilledRegisters.get(register).pop();
-			if (index == 0) {
-				print(Instruction.MOV, register, "qword ptr[" + Register.RSP + "]");
-			} else {
-				print(Instruction.MOV, register, "qword ptr[" + Register.RSP + " + " + index + "]");
-			}
+	public VirtualRegister getRegister(Variable variable) {
+		if (!(variable.getType() instanceof Integer)) {
+			return null;
 		}
-	}
-
-	/**
-	 * Frees a register, putting it back in the pool.
-	 *
-	 * @param register The register to free.
-	 */
-	public void freeRegister(String register) {
-		if (Register.contains(register)) {
-			freeRegister(Register.get(register));
+		VirtualRegister register = m_variables.get(variable);
+		if (register == null) {
+			register = requestNewRegister();
+			m_variables.put(variable, register);
 		}
+		return register;
 	}
 
 	/**
-	 * Resets the stack.
+	 * Gets the number of virtual registers handed out.
 	 */
-	public void reset() {
-		if (m_spill > 0) {
-			int restorePoint = m_spill * 8;
-			print(Instruction.ADDQ, Register.RSP, restorePoint);
-			m_spill = 0;
-		}
+	public int getRegisterCount() {
+		return m_registerCount;
 	}
 }
@@ -0,0 +1,259 @@
+package codeGenerator.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a line of AMD64 assembly code: either an instruction and its typed operands, a label to which instructions jump (e.g. "L3:"), or a directive or untyped label (e.g. ".section .data" or "read:").
+ * Code generators collect lines and print them only once the program has been generated.
+ */
+public final class AssemblyLine {
+
+	/**
+	 * Represents the operands of a label or directive (i.e. none).
+	 */
+	private static final Operand[] NO_OPERANDS = new Operand[0];
+
+	/**
+	 * Represents the registers that a called subroutine may overwrite.
+	 */
+	private static final Register[] CALLER_SAVED_REGISTERS = {Register.RAX, Register.RCX, Register.RDX, Register.RSI, Register.RDI, Register.R8, Register.R9, Register.R10, Register.R11};
+
+	/**
+	 * Represents the number of tabs by which the line is indented.
+	 */
+	private final int m_indentation;
+	/**
+	 * Represents the instruction, or null if the line is a label or directive.
+	 */
+	private final Instruction m_instruction;
+	/**
+	 * Represents the operands of the instruction.
+	 */
+	private final Operand[] m_operands;
+	/**
+	 * Represents the label that the line defines, or null if the line does not define a typed label.
+	 */
+	private final Label m_label;
+	/**
+	 * Represents the directive, the untyped label or the comment of a typed label, or null if there is none.
+	 */
+	private final String m_text;
+
+	/**
+	 * Constructs a line that holds an instruction.
+	 *
+	 * @param indentation The number of tabs by which the line is indented.
+	 * @param instruction The instruction.
+	 * @param operands    The operands of the instruction (at most two).
+	 */
+	public AssemblyLine(int indentation, Instruction instruction, Operand... operands) {
+		m_indentation = indentation;
+		m_instruction = instruction;
+		m_operands = operands;
+		m_label = null;
+		m_text = null;
+	}
+
+	/**
+	 * Constructs a line that holds a label or directive.
+	 *
+	 * @param indentation The number of tabs by which the line is indented.
+	 * @param text        The label or directive.
+	 */
+	public AssemblyLine(int indentation, String text) {
+		m_indentation = indentation;
+		m_instruction = null;
+		m_operands = NO_OPERANDS;
+		m_label = null;
+		m_text = text;
+	}
+
+	/**
+	 * Constructs a line that defines a label to which instructions may jump.
+	 *
+	 * @param indentation The number of tabs by which the line is indented.
+	 * @param label       The label.
+	 * @param comment     The comment that follows the label, or null if there is none.
+	 */
+	public AssemblyLine(int indentation, Label label, String comment) {
+		m_indentation = indentation;
+		m_instruction = null;
+		m_operands = NO_OPERANDS;
+		m_label = label;
+		m_text = comment;
+	}
+
+	/**
+	 * Gets the instruction, or null if the line is a label or directive.
+	 */
+	public Instruction getInstruction() {
+		return m_instruction;
+	}
+
+	/**
+	 * Gets the label that the line defines, or null if the line does not define a typed label.
+	 */
+	public Label getLabel() {
+		return m_label;
+	}
+
+	/**
+	 * Gets the operands of the instruction.
+	 */
+	public Operand[] getOperands() {
+		return m_operands;
+	}
+
+	/**
+	 * Gets the number of tabs by which the line is indented.
+	 */
+	public int getIndentation() {
+		return m_indentation;
+	}
+
+	/**
+	 * Gets the registers that the instruction writes, including those it writes implicitly (e.g. RDX for CQO, or the caller-saved registers for CALL).
+	 */
+	public List<IRegister> getDefinitions() {
+		List<IRegister> definitions = new ArrayList<IRegister>(2);
+		if (m_instruction == null) {
+			return definitions;
+		}
+		switch (m_instruction) {
+			case MOVQ:
+			case MOV:
+			case LEA:
+			case POP:
+			case ADDQ:
+			case SUB:
+			case XOR:
+			case AND:
+			case NEG:
+			case SHL:
+			case SAR:
+			case SHR:
+				if (m_operands[0] instanceof IRegister) {
+					definitions.add((IRegister) m_operands[0]);
+				}
+				break;
+			case IMUL:
+				if (m_operands.length == 2) {
+					definitions.add((IRegister) m_operands[0]);
+					break;
+				}
+				// The one-operand form writes RDX:RAX.
+			case IDIV:
+				definitions.add(Register.RAX);
+				definitions.add(Register.RDX);
+				break;
+			case CQO:
+				definitions.add(Register.RDX);
+				break;
+			case CALL:
+				for (Register register : CALLER_SAVED_REGISTERS) {
+					definitions.add(register);
+				}
+				break;
+		}
+		return definitions;
+	}
+
+	/**
+	 * Gets the registers that the instruction reads, including the registers of its memory operands and those it reads implicitly (e.g. RAX for CQO).
+	 * The arguments of a CALL are not included, since they depend on the subroutine.
+	 */
+	public List<IRegister> getUses() {
+		List<IRegister> uses = new ArrayList<IRegister>(2);
+		if (m_instruction == null) {
+			return uses;
+		}
+		for (Operand operand : m_operands) {
+			if (operand instanceof Memory) {
+				Memory memory = (Memory) operand;
+				if (memory.getBase() != null) {
+					uses.add(memory.getBase());
+				}
+				if (memory.getIndex() != null) {
+					uses.add(memory.getIndex());
+				}
+			}
+		}
+		switch (m_instruction) {
+			case MOVQ:
+			case MOV:
+				addRegister(uses, m_operands[1]);
+				break;
+			case XOR:
+				if (!m_operands[0].equals(m_operands[1])) { // XOR of a register with itself only writes it.
+					addRegister(uses, m_operands[0]);
+					addRegister(uses, m_operands[1]);
+				}
+				break;
+			case ADDQ:
+			case SUB:
+			case AND:
+			case CMP:
+				addRegister(uses, m_operands[0]);
+				addRegister(uses, m_operands[1]);
+				break;
+			case NEG:
+			case SHL:
+			case SAR:
+			case SHR:
+				addRegister(uses, m_operands[0]);
+				break;
+			case IMUL:
+				addRegister(uses, m_operands[0]);
+				if (m_operands.length == 2) {
+					addRegister(uses, m_operands[1]);
+				} else {
+					uses.add(Register.RAX);
+				}
+				break;
+			case IDIV:
+				addRegister(uses, m_operands[0]);
+				uses.add(Register.RAX);
+				uses.add(Register.RDX);
+				break;
+			case CQO:
+				uses.add(Register.RAX);
+				break;
+			case PUSH:
+			case PUSHQ:
+				addRegister(uses, m_operands[0]);
+				break;
+		}
+		return uses;
+	}
+
+	/**
+	 * Adds an operand to a list of registers if it is a register.
+	 *
+	 * @param registers The list of registers.
+	 * @param operand   The operand.
+	 */
+	private static void addRegister(List<IRegister> registers, Operand operand) {
+		if (operand instanceof IRegister) {
+			registers.add((IRegister) operand);
+		}
+	}
+
+	/**
+	 * Prints the line (without its indentation) in Intel syntax.
+	 */
+	@Override
+	public String toString() {
+		if (m_label != null) {
+			return m_text == null ? m_label + ":" : m_label + ": # " + m_text;
+		}
+		if (m_instruction == null) {
+			return m_text;
+		}
+		StringBuilder stringBuilder = new StringBuilder(m_instruction.toString());
+		for (int i = 0; i < m_operands.length; i++) {
+			stringBuilder.append(i == 0 ? " " : ", ").append(m_operands[i]);
+		}
+		return stringBuilder.toString();
+	}
+}
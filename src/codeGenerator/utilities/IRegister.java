@@ -0,0 +1,7 @@
+package codeGenerator.utilities;
+
+/**
+ * Represents a register operand: either one of the AMD64 registers or a virtual register that has yet to be assigned one.
+ */
+public interface IRegister extends Operand {
+}
@@ -0,0 +1,46 @@
+package codeGenerator.utilities;
+
+/**
+ * Represents an immediate (i.e. constant) operand.
+ */
+public final class Immediate implements Operand {
+
+	/**
+	 * Represents the value of the operand.
+	 */
+	private final long m_value;
+
+	/**
+	 * Constructs an immediate operand.
+	 *
+	 * @param value The value of the operand.
+	 */
+	public Immediate(long value) {
+		m_value = value;
+	}
+
+	/**
+	 * Gets the value of the operand.
+	 */
+	public long getValue() {
+		return m_value;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof Immediate && ((Immediate) object).m_value == m_value;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode() {
+		return (int) (m_value ^ (m_value >>> 32));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return String.valueOf(m_value);
+	}
+}
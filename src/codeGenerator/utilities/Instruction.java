@@ -24,6 +24,11 @@ public enum Instruction {
 		public String toString() {
 			return "cmp";
 		}
+	}, JMP {
+		@Override
+		public String toString() {
+			return "jmp";
+		}
 	}, JE {
 		@Override
 		public String toString() {
@@ -54,6 +59,11 @@ public enum Instruction {
 		public String toString() {
 			return "jle";
 		}
+	}, JAE {
+		@Override
+		public String toString() {
+			return "jae";
+		}
 	}, CALL {
 		@Override
 		public String toString() {
@@ -69,6 +79,11 @@ public enum Instruction {
 		public String toString() {
 			return "xor";
 		}
+	}, AND {
+		@Override
+		public String toString() {
+			return "and";
+		}
 	}, ADDQ {
 		@Override
 		public String toString() {
@@ -79,6 +94,26 @@ public enum Instruction {
 		public String toString() {
 			return "sub";
 		}
+	}, NEG {
+		@Override
+		public String toString() {
+			return "neg";
+		}
+	}, SHL {
+		@Override
+		public String toString() {
+			return "shl";
+		}
+	}, SAR {
+		@Override
+		public String toString() {
+			return "sar";
+		}
+	}, SHR {
+		@Override
+		public String toString() {
+			return "shr";
+		}
 	}, IMUL {
 		@Override
 		public String toString() {
@@ -109,5 +144,24 @@ public enum Instruction {
 		public String toString() {
 			return "pushq";
 		}
+	};
+
+	/**
+	 * Queries if the instruction is a jump to its label operand.
+	 */
+	public boolean isJump() {
+		switch (this) {
+			case JMP:
+			case JE:
+			case JNE:
+			case JG:
+			case JL:
+			case JGE:
+			case JLE:
+			case JAE:
+				return true;
+			default:
+				return false;
+		}
 	}
 }
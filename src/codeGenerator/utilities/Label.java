@@ -0,0 +1,46 @@
+package codeGenerator.utilities;
+
+/**
+ * Represents a label operand, which is the target of a jump or a call (e.g. "L3" or "printf").
+ */
+public final class Label implements Operand {
+
+	/**
+	 * Represents the name of the label.
+	 */
+	private final String m_name;
+
+	/**
+	 * Constructs a label operand.
+	 *
+	 * @param name The name of the label.
+	 */
+	public Label(String name) {
+		m_name = name;
+	}
+
+	/**
+	 * Gets the name of the label.
+	 */
+	public String getName() {
+		return m_name;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof Label && ((Label) object).m_name.equals(m_name);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode() {
+		return m_name.hashCode();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return m_name;
+	}
+}
@@ -0,0 +1,174 @@
+package codeGenerator.utilities;
+
+/**
+ * Represents a quad word in memory, whose address is base + index * scale + displacement, optionally relative to a symbol (e.g. "_read" or "stderr[rip]").
+ */
+public final class Memory implements Operand {
+
+	/**
+	 * Represents the symbol to which the address is relative, or null if there is none.
+	 */
+	private final String m_symbol;
+	/**
+	 * Represents the base register, or null if there is none.
+	 */
+	private final IRegister m_base;
+	/**
+	 * Represents the index register, or null if there is none.
+	 */
+	private final IRegister m_index;
+	/**
+	 * Represents the factor (i.e. 1, 2, 4 or 8) by which the index is scaled.
+	 */
+	private final int m_scale;
+	/**
+	 * Represents the displacement that is added to the address.
+	 */
+	private final long m_displacement;
+
+	/**
+	 * Constructs a memory operand.
+	 *
+	 * @param symbol       The symbol to which the address is relative, or null if there is none.
+	 * @param base         The base register, or null if there is none.
+	 * @param index        The index register, or null if there is none.
+	 * @param scale        The factor (i.e. 1, 2, 4 or 8) by which the index is scaled.
+	 * @param displacement The displacement that is added to the address.
+	 */
+	public Memory(String symbol, IRegister base, IRegister index, int scale, long displacement) {
+		m_symbol = symbol;
+		m_base = base;
+		m_index = index;
+		m_scale = scale;
+		m_displacement = displacement;
+	}
+
+	/**
+	 * Constructs a memory operand whose address is in a register.
+	 *
+	 * @param base The register that holds the address.
+	 */
+	public Memory(IRegister base) {
+		this(null, base, null, 1, 0);
+	}
+
+	/**
+	 * Constructs a memory operand whose address is a register plus a displacement.
+	 *
+	 * @param base         The base register.
+	 * @param displacement The displacement that is added to the address.
+	 */
+	public Memory(IRegister base, long displacement) {
+		this(null, base, null, 1, displacement);
+	}
+
+	/**
+	 * Constructs a memory operand whose address is a symbol.
+	 *
+	 * @param symbol The symbol.
+	 */
+	public Memory(String symbol) {
+		this(symbol, null, null, 1, 0);
+	}
+
+	/**
+	 * Constructs a memory operand whose address is a symbol relative to a register (e.g. "stderr[rip]").
+	 *
+	 * @param symbol The symbol.
+	 * @param base   The register to which the symbol is relative.
+	 */
+	public Memory(String symbol, IRegister base) {
+		this(symbol, base, null, 1, 0);
+	}
+
+	/**
+	 * Gets the symbol to which the address is relative, or null if there is none.
+	 */
+	public String getSymbol() {
+		return m_symbol;
+	}
+
+	/**
+	 * Gets the base register, or null if there is none.
+	 */
+	public IRegister getBase() {
+		return m_base;
+	}
+
+	/**
+	 * Gets the index register, or null if there is none.
+	 */
+	public IRegister getIndex() {
+		return m_index;
+	}
+
+	/**
+	 * Gets the factor by which the index is scaled.
+	 */
+	public int getScale() {
+		return m_scale;
+	}
+
+	/**
+	 * Gets the displacement that is added to the address.
+	 */
+	public long getDisplacement() {
+		return m_displacement;
+	}
+
+	/**
+	 * Queries if the address uses a register.
+	 *
+	 * @param register The register.
+	 */
+	public boolean uses(IRegister register) {
+		return m_base == register || m_index == register;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object object) {
+		if (!(object instanceof Memory)) {
+			return false;
+		}
+		Memory memory = (Memory) object;
+		return (m_symbol == null ? memory.m_symbol == null : m_symbol.equals(memory.m_symbol)) && m_base == memory.m_base && m_index == memory.m_index && m_scale == memory.m_scale && m_displacement == memory.m_displacement;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode() {
+		return toString().hashCode();
+	}
+
+	/**
+	 * Prints the memory operand in Intel syntax.  A bare symbol is printed as it is, which the assembler reads as the quad word at the symbol.
+	 */
+	@Override
+	public String toString() {
+		if (m_base == null && m_index == null && m_displacement == 0) {
+			return m_symbol;
+		}
+		StringBuilder stringBuilder = new StringBuilder("qword ptr ");
+		if (m_symbol != null) {
+			stringBuilder.append(m_symbol);
+		}
+		stringBuilder.append('[');
+		String separator = "";
+		if (m_base != null) {
+			stringBuilder.append(m_base);
+			separator = " + ";
+		}
+		if (m_index != null) {
+			stringBuilder.append(separator).append(m_index);
+			if (m_scale != 1) {
+				stringBuilder.append('*').append(m_scale);
+			}
+			separator = " + ";
+		}
+		if (m_displacement != 0 || separator.isEmpty()) {
+			stringBuilder.append(m_displacement < 0 && !separator.isEmpty() ? " - " : separator).append(m_displacement < 0 && !separator.isEmpty() ? -m_displacement : m_displacement);
+		}
+		return stringBuilder.append(']').toString();
+	}
+}
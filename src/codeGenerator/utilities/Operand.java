@@ -0,0 +1,8 @@
+package codeGenerator.utilities;
+
+/**
+ * Represents an operand of an AMD64 instruction: a register, an immediate value, a memory reference or a label.
+ * Operands are kept typed until the assembly code is written, at which point each is printed in Intel syntax by its toString().
+ */
+public interface Operand {
+}
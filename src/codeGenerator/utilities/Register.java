@@ -3,7 +3,7 @@ package codeGenerator.utilities;
 /**
  * Defines the AMD64 registers.
  */
-public enum Register {
+public enum Register implements IRegister {
 	RAX {
 		@Override
 		public String toString() {
@@ -105,33 +105,5 @@ public enum Register {
 		public String toString() {
 			return "rip";
 		}
-	};
-
-	/**
-	 * Checks if a string is a register.
-	 *
-	 * @param string The string under question.
-	 */
-	public static boolean contains(String string) {
-		for (Register register : Register.values()) {
-			if (string.equals(register.toString())) {
-				return true;
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Checks if a string is a register.
-	 *
-	 * @param string The string under question.
-	 */
-	public static Register get(String string) {
-		for (Register register : Register.values()) {
-			if (string.equals(register.toString())) {
-				return register;
-			}
-		}
-		return null;
 	}
 }
@@ -0,0 +1,49 @@
+package codeGenerator.utilities;
+
+/**
+ * Represents a virtual register, i.e. a value that is held in an AMD64 register or in memory once registers have been allocated.
+ * Virtual registers are numbered from zero, in the order in which they are requested.
+ */
+public final class VirtualRegister implements IRegister {
+
+	/**
+	 * Represents the number of the virtual register.
+	 */
+	private final int m_number;
+
+	/**
+	 * Constructs a virtual register.
+	 *
+	 * @param number The number of the virtual register.
+	 */
+	public VirtualRegister(int number) {
+		m_number = number;
+	}
+
+	/**
+	 * Gets the number of the virtual register.
+	 */
+	public int getNumber() {
+		return m_number;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof VirtualRegister && ((VirtualRegister) object).m_number == m_number;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode() {
+		return m_number;
+	}
+
+	/**
+	 * Prints the virtual register, which only happens if it has not been allocated.
+	 */
+	@Override
+	public String toString() {
+		return "%v" + m_number;
+	}
+}
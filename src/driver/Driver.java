@@ -1,6 +1,7 @@
 package driver;
 
 import codeGenerator.AbstractCodeGenerator;
+import codeGenerator.classGenerator.ClassGenerator;
 import codeGenerator.codeGenerator.CodeGenerator;
 import codeGenerator.optimizedCodeGenerator.OptimizedCodeGenerator;
 import exception.Exception;
@@ -9,16 +10,20 @@ import exception.ExceptionStrength;
 import interpreter.Interpreter;
 import parser.Parser;
 import parser.semanticAnalysis.SemanticValidator;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.utilities.ConstantFolder;
 import parser.semanticAnalysis.abstractSyntaxTree.printers.AbstractSyntaxTreeDotSyntaxPrinter;
 import parser.semanticAnalysis.abstractSyntaxTree.printers.AbstractSyntaxTreePrinter;
 import parser.semanticAnalysis.abstractSyntaxTree.printers.IAbstractSyntaxTreePrinter;
 import parser.semanticAnalysis.symbolTable.printers.ISymbolTablePrinter;
 import parser.semanticAnalysis.symbolTable.printers.SymbolTableDotSyntaxPrinter;
 import parser.semanticAnalysis.symbolTable.printers.SymbolTablePrinter;
+import parser.semanticAnalysis.symbolTable.scope.ScopeManager;
 import parser.syntacticAnalysis.printers.IParseTreePrinter;
 import parser.syntacticAnalysis.printers.ParseTreeDotSyntaxPrinter;
 import parser.syntacticAnalysis.printers.ParseTreePrinter;
 import scanner.Scanner;
+import virtualMachine.BytecodeCompiler;
+import virtualMachine.VirtualMachine;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -68,8 +73,11 @@ public class Driver {
 	 *             -a will run the scanner, parser, symbol table and abstract syntax tree-logic.
 	 *             -a -g will run the scanner, parser, symbol table and abstract syntax tree-logic and produce an abstract syntax tree (DOT).
 	 *             -i will run the scanner, parser, symbol table, abstract syntax tree-logic, and interpreter.
+	 *             -b will run the scanner, parser, symbol table, abstract syntax tree-logic, and bytecode virtual machine.
 	 *             No arguments will run the scanner, parser, symbol table, abstract syntax tree-logic, and AMD64 code generator.
 	 *             -x will run the scanner, parser, symbol table, abstract syntax tree-logic, and optimized AMD64 code generator.
+	 *             -jar will run the scanner, parser, symbol table, abstract syntax tree-logic, and JVM class generator, which produces an executable jar.
+	 *             -f may accompany any of the above (except -s and -c) to algebraically simplify expressions (e.g. x+0, x*1, x*0 and x-x).
 	 */
 	public void run(String[] args) {
 		List<Arg> argumentList = getArgs(args);
@@ -103,6 +111,12 @@ public class Driver {
 					}
 				}
 			}
+			if (argumentList.remove(Arg.ALGEBRAIC_SIMPLIFICATION)) {
+				ConstantFolder.getInstance().enableAlgebraicSimplification();
+				if (argumentList.isEmpty()) {
+					argumentList.add(Arg.CODE_GENERATOR);
+				}
+			}
 			if (argumentList.size() > 2) {
 				return ExceptionHandler.getInstance().throwException(Exception.NUMBER_OF_ARGS, ExceptionStrength.STRONG);
 			} else {
@@ -154,7 +168,7 @@ public class Driver {
 					parseTreePrinter = ParseTreePrinter.getInstance();
 					Parser.getInstance().addEventListener(ParseTreePrinter.getInstance());
 				}
-				Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
 				SemanticValidator.getInstance().disable();
 				if (Parser.getInstance().parseTokens()) {
 					parseTreePrinter.printParseTree();
@@ -167,7 +181,7 @@ public class Driver {
 				} else {
 					symbolTablePrinter = SymbolTablePrinter.getInstance();
 				}
-				Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
 				if (Parser.getInstance().parseTokens()) {
 					symbolTablePrinter.printSymbolTables();
 				}
@@ -179,7 +193,7 @@ public class Driver {
 				} else {
 					abstractSyntaxTreePrinter = AbstractSyntaxTreePrinter.getInstance();
 				}
-				Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
 				if (Parser.getInstance().parseTokens()) {
 					abstractSyntaxTreePrinter.printAbstractSyntaxTree();
 				}
@@ -188,16 +202,35 @@ public class Driver {
 				if (isUsingGraphics(args)) {
 					ExceptionHandler.getInstance().throwException(Exception.INVALID_ARGS, ExceptionStrength.STRONG);
 				}
-				Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
+				if (Parser.getInstance().parseTokens()) {
+					Interpreter.getInstance().interpret(Parser.getInstance().getAbstractSyntaxTree());
+				}
+				break;
+			case TIERED_INTERPRETER:
+				if (isUsingGraphics(args)) {
+					ExceptionHandler.getInstance().throwException(Exception.INVALID_ARGS, ExceptionStrength.STRONG);
+				}
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
 				if (Parser.getInstance().parseTokens()) {
+					Interpreter.getInstance().enableTieredCompilation();
 					Interpreter.getInstance().interpret(Parser.getInstance().getAbstractSyntaxTree());
 				}
 				break;
+			case VIRTUAL_MACHINE:
+				if (isUsingGraphics(args)) {
+					ExceptionHandler.getInstance().throwException(Exception.INVALID_ARGS, ExceptionStrength.STRONG);
+				}
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
+				if (Parser.getInstance().parseTokens()) {
+					VirtualMachine.getInstance().execute(BytecodeCompiler.getInstance().compile(Parser.getInstance().getAbstractSyntaxTree(), ScopeManager.getInstance().getProgramScope()));
+				}
+				break;
 			case CODE_GENERATOR:
 				if (isUsingGraphics(args)) {
 					ExceptionHandler.getInstance().throwException(Exception.INVALID_ARGS, ExceptionStrength.STRONG);
 				}
-				Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
 				if (Parser.getInstance().parseTokens()) {
 					if (inputStream instanceof FileInputStream) {
 						AbstractCodeGenerator.setFileName(m_fileName);
@@ -209,7 +242,7 @@ public class Driver {
 				if (isUsingGraphics(args)) {
 					ExceptionHandler.getInstance().throwException(Exception.INVALID_ARGS, ExceptionStrength.STRONG);
 				}
-				Parser.getInstance().setTokens(Scanner.getInstance().getAllTokens());
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
 				if (Parser.getInstance().parseTokens()) {
 					if (inputStream instanceof FileInputStream) {
 						AbstractCodeGenerator.setFileName(m_fileName);
@@ -217,6 +250,18 @@ public class Driver {
 					OptimizedCodeGenerator.getInstance().generate(Parser.getInstance().getAbstractSyntaxTree());
 				}
 				break;
+			case CLASS_GENERATOR:
+				if (isUsingGraphics(args)) {
+					ExceptionHandler.getInstance().throwException(Exception.INVALID_ARGS, ExceptionStrength.STRONG);
+				}
+				Parser.getInstance().setTokenSource(Scanner.getInstance());
+				if (Parser.getInstance().parseTokens()) {
+					if (inputStream instanceof FileInputStream) {
+						ClassGenerator.setFileName(m_fileName);
+					}
+					ClassGenerator.getInstance().generate(Parser.getInstance().getAbstractSyntaxTree(), ScopeManager.getInstance().getProgramScope());
+				}
+				break;
 			default:
 				ExceptionHandler.getInstance().throwException(Exception.UNSUPPORTED_OPERATION, ExceptionStrength.STRONG);
 		}
@@ -245,6 +290,11 @@ public class Driver {
 			public String toString() {
 				return "-x";
 			}
+		}, CLASS_GENERATOR {
+			/** {@inheritDoc} */
+			public String toString() {
+				return "-jar";
+			}
 		},
 		INTERPRETER {
 			/** {@inheritDoc} */
@@ -252,6 +302,18 @@ public class Driver {
 				return "-i";
 			}
 		},
+		TIERED_INTERPRETER {
+			/** {@inheritDoc} */
+			public String toString() {
+				return "-j";
+			}
+		},
+		VIRTUAL_MACHINE {
+			/** {@inheritDoc} */
+			public String toString() {
+				return "-b";
+			}
+		},
 		SCANNER {
 			/** {@inheritDoc} */
 			public String toString() {
@@ -281,6 +343,12 @@ public class Driver {
 			public String toString() {
 				return "-g";
 			}
+		},
+		ALGEBRAIC_SIMPLIFICATION {
+			/** {@inheritDoc} */
+			public String toString() {
+				return "-f";
+			}
 		}
 	}
 }
@@ -118,6 +118,13 @@ public enum Exception implements IException {
 			return appendError("Encountered an invalid character \"" + objects[0] + "\" at position " + objects[1] + ".");
 		}
 	},
+	INTEGER_TOO_LARGE {
+		/** {@inheritDoc} */
+		public String toString(Object... objects) {
+			assert objects.length == 2;
+			return appendError("Encountered an integer \"" + objects[0] + "\" at position " + objects[1] + " that is too large.");
+		}
+	},
 	PROGRAM_IDENTIFIERS_DO_NOT_MATCH {
 		/** {@inheritDoc} */
 		public String toString(Object... objects) {
@@ -339,6 +346,17 @@ public enum Exception implements IException {
 			return appendError("The index, " + objects[0] + " is out of range for the array, \"" + objects[1] + "\" @" + objects[2] + ".");
 		}
 
+		/** {@inheritDoc} */
+		public String toString() {
+			return toString(new Object());
+		}
+	}, EXCEEDED_MEMORY_BUDGET {
+		/** {@inheritDoc} */
+		public String toString(Object... objects) {
+			assert objects.length == 1;
+			return appendError("The program exceeded its memory budget of " + objects[0] + " bytes (e.g. its recursion is too deep).");
+		}
+
 		/** {@inheritDoc} */
 		public String toString() {
 			return toString(new Object());
@@ -427,6 +445,17 @@ public enum Exception implements IException {
 			return appendError("The arguments, " + objects[0] + "@" + objects[2] + " is not a declaration.");
 		}
 
+		/** {@inheritDoc} */
+		public String toString() {
+			return toString(new Object());
+		}
+	}, CODE_TOO_LARGE {
+		/** {@inheritDoc} */
+		public String toString(Object... objects) {
+			assert objects.length == 1;
+			return appendError("The " + objects[0] + " is too large to be compiled into a JVM method.");
+		}
+
 		/** {@inheritDoc} */
 		public String toString() {
 			return toString(new Object());
@@ -1,5 +1,7 @@
 package exception;
 
+import runtime.Output;
+
 /**
  * Handles exceptions in the SIMPLE compiler.
  */
@@ -78,6 +80,7 @@ public class ExceptionHandler {
 	private void print(String string) {
 		if (m_stringBuilder.indexOf(string) == -1) { // && string.indexOf("\"Invalid") == -1 && string.indexOf("\"1") == -1 && string.indexOf("\0") == -1) {
 			m_stringBuilder.append(string).append('\n');
+			Output.getInstance().flush(); // The output of a running program precedes the exception.
 			System.err.println(string);
 		}
 	}
@@ -86,6 +89,7 @@ public class ExceptionHandler {
 	 * Aborts the SIMPLE compiler.
 	 */
 	public <T> T abort() {
+		Output.getInstance().flush();
 		System.exit(1);
 		return null;
 	}
@@ -97,6 +101,7 @@ public class ExceptionHandler {
 	 */
 	public <T> T abort(ExceptionStrength exceptionStrength) {
 		if (exceptionStrength == ExceptionStrength.STRONG) {
+			Output.getInstance().flush();
 			System.exit(1);
 		}
 		return null;
@@ -0,0 +1,623 @@
+package interpreter;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import interpreter.nodes.ExpressionNode;
+import interpreter.nodes.InstructionNode;
+import interpreter.nodes.ProcedureNode;
+import jvm.ClassFile;
+import jvm.Code;
+import jvm.GeneratedClassLoader;
+import jvm.Label;
+import jvm.Opcode;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Function;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.*;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Parameter;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+import parser.semanticAnalysis.symbolTable.declarations.types.record.Record;
+import runtime.Output;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the hot units of a program (i.e. the instructions of a procedure or a repeat instruction) into JVM classes, to which the tiered interpreter switches once a unit is called or loops often enough.
+ * A unit is compiled into a subclass of {@link InstructionNode}, which the JVM then optimizes as a whole: arithmetic, conditions and loops become JVM instructions on the words of the unit's memories, which are loaded once when the unit is entered.
+ * Calls, reads and assignments of aggregates remain nodes (see {@link NodeCompiler}), which the class holds in its fields and executes.
+ */
+public final class ClassCompiler {
+
+	/**
+	 * Represents the number of calls after which a procedure is compiled.
+	 */
+	public static final int CALL_THRESHOLD = 1000;
+	/**
+	 * Represents the number of back-edges (i.e. iterations) after which a repeat instruction is compiled.
+	 */
+	public static final int BACK_EDGE_THRESHOLD = 10000;
+	/**
+	 * Represents the local variable of the compiled method that holds the frame executing the unit (after "this").
+	 */
+	private static final int FRAME_LOCAL = 1;
+	/**
+	 * Represents the internal names of the classes that compiled units refer to.
+	 */
+	private static final String FRAME = getInternalName(Frame.class), MEMORY = getInternalName(Memory.class), INSTRUCTION_NODE = getInternalName(InstructionNode.class), EXPRESSION_NODE = getInternalName(ExpressionNode.class), OUTPUT = getInternalName(Output.class), CLASS_COMPILER = getInternalName(ClassCompiler.class);
+
+	/**
+	 * Represents the instance of the class compiler.
+	 */
+	private static ClassCompiler m_instance;
+	/**
+	 * Represents the class loader of the compiled units.
+	 */
+	private final GeneratedClassLoader m_classLoader;
+	/**
+	 * Represents the number of units that have been compiled, which names their classes.
+	 */
+	private int m_unitCount;
+	/**
+	 * Represents the class of the unit being compiled.
+	 */
+	private ClassFile m_classFile;
+	/**
+	 * Represents the code of the unit's instructions.
+	 */
+	private Code m_code;
+	/**
+	 * Represents the code that is executed when the unit is entered, which loads the memories of the variables it uses.
+	 */
+	private Code m_prologue;
+	/**
+	 * Represents the frame whose layout is that of the procedure of the unit, or null if the unit belongs to the program.
+	 */
+	private Frame m_layout;
+	/**
+	 * Represents the objects that the unit refers to (e.g. nodes), each of which is held in a field of its class.
+	 */
+	private List<Object> m_constants;
+	/**
+	 * Represents the descriptors of the fields of the constants.
+	 */
+	private List<String> m_constantDescriptors;
+	/**
+	 * Represents the indices of the constants.
+	 */
+	private Map<Object, java.lang.Integer> m_constantIndices;
+	/**
+	 * Represents the local variables of the compiled method that hold the variables of the unit, keyed by variable.
+	 */
+	private Map<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, Binding> m_bindings;
+	/**
+	 * Represents the local variable of the compiled method that holds the words of the integers of the frame, or -1 if it has not been loaded.
+	 */
+	private int m_frameWordsLocal;
+	/**
+	 * Represents the number of local variables of the compiled method.
+	 */
+	private int m_localCount;
+
+	/**
+	 * Constructs the class compiler.
+	 */
+	private ClassCompiler() {
+		m_classLoader = new GeneratedClassLoader(ClassCompiler.class.getClassLoader());
+	}
+
+	/**
+	 * Gets the instance of the class compiler.
+	 */
+	public static ClassCompiler getInstance() {
+		if (m_instance == null) {
+			m_instance = new ClassCompiler();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Compiles a unit into a class and instantiates it.
+	 *
+	 * @param instructions The instructions of the unit.
+	 * @param procedure    The procedure of the unit, or null if the unit belongs to the program.
+	 * @return The compiled unit, or null if it is too large to be compiled into a single method.
+	 */
+	public InstructionNode compile(List<Instruction> instructions, ProcedureNode procedure) {
+		m_classFile = new ClassFile(FRAME.substring(0, FRAME.lastIndexOf('/') + 1) + "Unit" + ++m_unitCount, INSTRUCTION_NODE);
+		m_code = new Code(m_classFile, FRAME_LOCAL + 1);
+		m_prologue = new Code(m_classFile, FRAME_LOCAL + 1);
+		m_layout = procedure != null ? procedure.getLayout() : null;
+		m_constants = new ArrayList<Object>();
+		m_constantDescriptors = new ArrayList<String>();
+		m_constantIndices = new IdentityHashMap<Object, java.lang.Integer>();
+		m_bindings = new HashMap<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, Binding>();
+		m_frameWordsLocal = -1;
+		m_localCount = FRAME_LOCAL + 1;
+		compileInstructions(instructions);
+		m_code.emit(Opcode.RETURN);
+		m_prologue.append(m_code);
+		if (m_prologue.getSize() > Code.MAXIMUM_SIZE) {
+			return null;
+		}
+		m_classFile.addMethod(ClassFile.ACC_PUBLIC, "execute", "(L" + FRAME + ";)V", m_prologue);
+		m_classFile.addMethod(ClassFile.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", compileConstructor());
+		try {
+			return (InstructionNode) m_classLoader.define(m_classFile).getConstructor(Object[].class).newInstance((Object) m_constants.toArray());
+		} catch (ReflectiveOperationException exception) {
+			return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Reports that an index of a compiled unit is out of range.
+	 *
+	 * @param index    The index.
+	 * @param location The index instruction.
+	 */
+	public static void throwIndexOutOfRange(int index, Index location) {
+		Array array = (Array) location.getVariable().getType();
+		ExceptionHandler.getInstance().throwException(Exception.INDEX_OUT_OF_RANGE, ExceptionStrength.STRONG, index, array.getName(), array.getPosition());
+	}
+
+	/**
+	 * Reports that a compiled unit divided by zero.
+	 *
+	 * @param binary The binary expression.
+	 */
+	public static void throwDivideByZero(Binary binary) {
+		ExceptionHandler.getInstance().throwException(Exception.DIVIDE_BY_ZERO, ExceptionStrength.STRONG, binary.getType().getPosition());
+	}
+
+	/**
+	 * Reports that a compiled unit took a modulus by zero.
+	 *
+	 * @param binary The binary expression.
+	 */
+	public static void throwModByZero(Binary binary) {
+		ExceptionHandler.getInstance().throwException(Exception.MOD_BY_ZERO, ExceptionStrength.STRONG, binary.getType().getPosition());
+	}
+
+	/**
+	 * Compiles the constructor of the unit, which stores the constants in their fields.
+	 */
+	private Code compileConstructor() {
+		Code code = new Code(m_classFile, 2);
+		code.loadReference(0);
+		code.invoke(Opcode.INVOKESPECIAL, INSTRUCTION_NODE, "<init>", "()V");
+		for (int i = 0; i < m_constants.size(); i++) {
+			String descriptor = m_constantDescriptors.get(i);
+			m_classFile.addField(ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL, "m_constant" + i, descriptor);
+			code.loadReference(0);
+			code.loadReference(1);
+			code.pushInteger(i);
+			code.emit(Opcode.AALOAD);
+			code.type(Opcode.CHECKCAST, descriptor.charAt(0) == 'L' ? descriptor.substring(1, descriptor.length() - 1) : descriptor);
+			code.field(Opcode.PUTFIELD, m_classFile.getName(), "m_constant" + i, descriptor);
+		}
+		code.emit(Opcode.RETURN);
+		return code;
+	}
+
+	/**
+	 * Compiles a list of instructions.
+	 *
+	 * @param instructions The instructions to compile.
+	 */
+	private void compileInstructions(List<Instruction> instructions) {
+		for (Instruction instruction : instructions) {
+			compileInstruction(instruction);
+		}
+	}
+
+	/**
+	 * Compiles an instruction.
+	 *
+	 * @param instruction The instruction to compile.
+	 */
+	private void compileInstruction(Instruction instruction) {
+		if (instruction instanceof Assign && isIntegral((Assign) instruction)) {
+			Assign assign = (Assign) instruction;
+			Binding binding = getBinding(getVariable(assign.getLocation()));
+			if (assign.getLocation() instanceof Variable && binding.m_wordsLocal >= 0) {
+				m_code.loadReference(binding.m_wordsLocal);
+				m_code.pushInteger(binding.m_address);
+				compileExpression(assign.getExpression());
+			} else {
+				compileAddress(assign.getLocation());
+				compileExpression(assign.getExpression());
+				loadWords(binding, true);
+				m_code.emit(Opcode.DUP_X2);
+				m_code.emit(Opcode.POP);
+			}
+			m_code.emit(Opcode.IASTORE);
+		} else if (instruction instanceof If) {
+			If ifInstruction = (If) instruction;
+			Label falseLabel = new Label();
+			compileCondition(ifInstruction.getCondition(), false, falseLabel);
+			compileInstructions(ifInstruction.getTrueInstructions());
+			if (ifInstruction.falseInstructionsExist()) {
+				Label endLabel = new Label();
+				m_code.jump(Opcode.GOTO, endLabel);
+				m_code.mark(falseLabel);
+				compileInstructions(ifInstruction.getFalseInstructions());
+				m_code.mark(endLabel);
+			} else {
+				m_code.mark(falseLabel);
+			}
+		} else if (instruction instanceof Repeat) {
+			Repeat repeat = (Repeat) instruction;
+			Label startLabel = new Label();
+			m_code.mark(startLabel);
+			compileInstructions(repeat.getInstructions());
+			compileCondition(repeat.getCondition(), true, startLabel);
+		} else if (instruction instanceof Write) {
+			m_code.invoke(Opcode.INVOKESTATIC, OUTPUT, "getInstance", "()L" + OUTPUT + ";");
+			compileExpression(((Write) instruction).getExpression());
+			m_code.invoke(Opcode.INVOKEVIRTUAL, OUTPUT, "writeInteger", "(I)V");
+		} else {
+			loadConstant(NodeCompiler.getInstance().compileInstruction(instruction), getDescriptor(InstructionNode.class));
+			m_code.loadReference(FRAME_LOCAL);
+			m_code.invoke(Opcode.INVOKEVIRTUAL, INSTRUCTION_NODE, "execute", "(L" + FRAME + ";)V");
+		}
+	}
+
+	/**
+	 * Compiles a condition into a jump.
+	 *
+	 * @param condition The condition to compile.
+	 * @param isTrue    Whether to jump if the condition holds (or else if it does not).
+	 * @param label     The target of the jump.
+	 */
+	private void compileCondition(Condition condition, boolean isTrue, Label label) {
+		compileExpression(condition.getLeftExpression());
+		compileExpression(condition.getRightExpression());
+		Relation relation = isTrue ? condition.getRelation() : condition.getRelation().getNegation();
+		switch (relation) {
+			case EQUALITY:
+				m_code.jump(Opcode.IF_ICMPEQ, label);
+				break;
+			case INEQUALITY:
+				m_code.jump(Opcode.IF_ICMPNE, label);
+				break;
+			case LESS_THAN:
+				m_code.jump(Opcode.IF_ICMPLT, label);
+				break;
+			case GREATER_THAN:
+				m_code.jump(Opcode.IF_ICMPGT, label);
+				break;
+			case LESS_THAN_OR_EQUAL_TO:
+				m_code.jump(Opcode.IF_ICMPLE, label);
+				break;
+			case GREATER_THAN_OR_EQUAL_TO:
+				m_code.jump(Opcode.IF_ICMPGE, label);
+				break;
+			default:
+				ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Compiles an integer expression, which pushes its value.
+	 *
+	 * @param expression The expression to compile.
+	 */
+	private void compileExpression(Expression expression) {
+		if (expression instanceof Number) {
+			m_code.pushInteger(((Number) expression).getConstant().getValue());
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			compileExpression(binary.getLeftExpression());
+			compileExpression(binary.getRightExpression());
+			switch (binary.getOperator()) {
+				case PLUS:
+					m_code.emit(Opcode.IADD);
+					break;
+				case MINUS:
+					m_code.emit(Opcode.ISUB);
+					break;
+				case MULTIPLICATION:
+					m_code.emit(Opcode.IMUL);
+					break;
+				case DIV:
+					compileDivisorCheck(binary, "throwDivideByZero");
+					m_code.emit(Opcode.IDIV);
+					break;
+				case MOD:
+					compileDivisorCheck(binary, "throwModByZero");
+					m_code.emit(Opcode.IREM);
+					break;
+				default:
+					ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+		} else if (expression instanceof Location) {
+			Location location = (Location) expression;
+			Binding binding = getBinding(getVariable(location));
+			if (location instanceof Variable) {
+				loadWords(binding, false);
+				loadAddress(binding);
+			} else {
+				compileAddress(location);
+				loadWords(binding, false);
+				m_code.emit(Opcode.SWAP);
+			}
+			m_code.emit(Opcode.IALOAD);
+		} else if (expression instanceof Function) {
+			loadConstant(NodeCompiler.getInstance().compileExpression(expression), getDescriptor(ExpressionNode.class));
+			m_code.loadReference(FRAME_LOCAL);
+			m_code.invoke(Opcode.INVOKEVIRTUAL, EXPRESSION_NODE, "executeInt", "(L" + FRAME + ";)I");
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Compiles the verification that the divisor on top of the stack is not zero.
+	 *
+	 * @param binary The binary expression, whose position is reported if the divisor is zero.
+	 * @param method The method that reports the error.
+	 */
+	private void compileDivisorCheck(Binary binary, String method) {
+		Label label = new Label();
+		m_code.emit(Opcode.DUP);
+		m_code.jump(Opcode.IFNE, label);
+		loadConstant(binary, getDescriptor(Binary.class));
+		m_code.invoke(Opcode.INVOKESTATIC, CLASS_COMPILER, method, "(" + getDescriptor(Binary.class) + ")V");
+		m_code.mark(label);
+	}
+
+	/**
+	 * Compiles the address of a location within the memory of its variable, in the order of {@link interpreter.nodes.LocationNode#executeAddress(Frame)}.
+	 *
+	 * @param location The location to compile.
+	 */
+	private void compileAddress(Location location) {
+		if (location instanceof Field) {
+			Field field = (Field) location;
+			compileAddress(field.getVariable());
+			int offset = NodeCompiler.getInstance().getOffset((Record) field.getVariable().getType(), ((Variable) field.getSelection()).getVariable());
+			if (offset != 0) {
+				m_code.pushInteger(offset);
+				m_code.emit(Opcode.IADD);
+			}
+		} else if (location instanceof Index) {
+			Index index = (Index) location;
+			Array array = (Array) index.getVariable().getType();
+			int indexLocal = m_localCount++;
+			Label outOfRangeLabel = new Label();
+			Label inRangeLabel = new Label();
+			compileExpression(index.getExpression());
+			m_code.storeInteger(indexLocal);
+			m_code.loadInteger(indexLocal);
+			m_code.jump(Opcode.IFLT, outOfRangeLabel);
+			m_code.loadInteger(indexLocal);
+			m_code.pushInteger(array.getLength());
+			m_code.jump(Opcode.IF_ICMPLT, inRangeLabel);
+			m_code.mark(outOfRangeLabel);
+			m_code.loadInteger(indexLocal);
+			loadConstant(index, getDescriptor(Index.class));
+			m_code.invoke(Opcode.INVOKESTATIC, CLASS_COMPILER, "throwIndexOutOfRange", "(I" + getDescriptor(Index.class) + ")V");
+			m_code.mark(inRangeLabel);
+			compileAddress(index.getVariable());
+			m_code.loadInteger(indexLocal);
+			int elementSize = Frame.getSize(array.getElementType());
+			if (elementSize != 1) {
+				m_code.pushInteger(elementSize);
+				m_code.emit(Opcode.IMUL);
+			}
+			m_code.emit(Opcode.IADD);
+		} else if (location instanceof Variable) {
+			loadAddress(getBinding(((Variable) location).getVariable()));
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Pushes the words of the memory of a variable.
+	 *
+	 * @param binding    The binding of the variable.
+	 * @param isWritable Whether the words are written (and must thus not be shared; see {@link Memory#getWritableWords()}).
+	 */
+	private void loadWords(Binding binding, boolean isWritable) {
+		if (binding.m_wordsLocal >= 0) {
+			m_code.loadReference(binding.m_wordsLocal);
+		} else {
+			m_code.loadReference(binding.m_memoryLocal);
+			m_code.invoke(Opcode.INVOKEVIRTUAL, MEMORY, isWritable ? "getWritableWords" : "getWords", "()[I");
+		}
+	}
+
+	/**
+	 * Pushes the address of a variable within its memory.
+	 *
+	 * @param binding The binding of the variable.
+	 */
+	private void loadAddress(Binding binding) {
+		if (binding.m_addressLocal >= 0) {
+			m_code.loadInteger(binding.m_addressLocal);
+		} else {
+			m_code.pushInteger(binding.m_address);
+		}
+	}
+
+	/**
+	 * Gets the binding of a variable, loading its memory in the prologue if it is not yet bound.
+	 * The integers of a frame are packed into a memory whose words are never shared, so they are loaded once; aggregates may be shared, so their memories are loaded and their words are read upon each use.
+	 * Parameters are bound to the memories of their arguments, which are loaded along with their addresses.
+	 *
+	 * @param variable The variable.
+	 */
+	private Binding getBinding(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		Binding binding = m_bindings.get(variable);
+		if (binding == null) {
+			binding = new Binding();
+			int slot = variable.getSlot();
+			if (variable.getDepth() == SlotResolver.PROGRAM_DEPTH) {
+				Frame programFrame = NodeCompiler.getInstance().getProgramFrame();
+				binding.m_address = programFrame.getAddress(slot);
+				if (variable.getType() instanceof Integer) {
+					binding.m_wordsLocal = loadConstantLocal(programFrame.getMemory(slot).getWords(), "[I");
+				} else {
+					binding.m_memoryLocal = loadConstantLocal(programFrame.getMemory(slot), "L" + MEMORY + ";");
+				}
+			} else if (variable instanceof Parameter) {
+				binding.m_memoryLocal = m_localCount++;
+				binding.m_addressLocal = m_localCount++;
+				m_prologue.loadReference(FRAME_LOCAL);
+				m_prologue.pushInteger(slot);
+				m_prologue.invoke(Opcode.INVOKEVIRTUAL, FRAME, "getMemory", "(I)L" + MEMORY + ";");
+				m_prologue.storeReference(binding.m_memoryLocal);
+				m_prologue.loadReference(FRAME_LOCAL);
+				m_prologue.pushInteger(slot);
+				m_prologue.invoke(Opcode.INVOKEVIRTUAL, FRAME, "getAddress", "(I)I");
+				m_prologue.storeInteger(binding.m_addressLocal);
+			} else {
+				binding.m_address = m_layout.getAddress(slot);
+				if (variable.getType() instanceof Integer) {
+					if (m_frameWordsLocal < 0) {
+						m_frameWordsLocal = m_localCount++;
+						loadFrameMemory(slot);
+						m_prologue.invoke(Opcode.INVOKEVIRTUAL, MEMORY, "getWords", "()[I");
+						m_prologue.storeReference(m_frameWordsLocal);
+					}
+					binding.m_wordsLocal = m_frameWordsLocal;
+				} else {
+					binding.m_memoryLocal = m_localCount++;
+					loadFrameMemory(slot);
+					m_prologue.storeReference(binding.m_memoryLocal);
+				}
+			}
+			m_bindings.put(variable, binding);
+		}
+		return binding;
+	}
+
+	/**
+	 * Pushes the memory of a slot of the frame in the prologue.
+	 *
+	 * @param slot The slot.
+	 */
+	private void loadFrameMemory(int slot) {
+		m_prologue.loadReference(FRAME_LOCAL);
+		m_prologue.pushInteger(slot);
+		m_prologue.invoke(Opcode.INVOKEVIRTUAL, FRAME, "getMemory", "(I)L" + MEMORY + ";");
+	}
+
+	/**
+	 * Pushes a constant, which is held in a field of the unit.
+	 *
+	 * @param constant   The constant.
+	 * @param descriptor The descriptor of the field.
+	 */
+	private void loadConstant(Object constant, String descriptor) {
+		m_code.loadReference(0);
+		m_code.field(Opcode.GETFIELD, m_classFile.getName(), "m_constant" + getConstantIndex(constant, descriptor), descriptor);
+	}
+
+	/**
+	 * Loads a constant into a local variable in the prologue.
+	 *
+	 * @param constant   The constant.
+	 * @param descriptor The descriptor of the field that holds the constant.
+	 * @return The local variable.
+	 */
+	private int loadConstantLocal(Object constant, String descriptor) {
+		int local = m_localCount++;
+		m_prologue.loadReference(0);
+		m_prologue.field(Opcode.GETFIELD, m_classFile.getName(), "m_constant" + getConstantIndex(constant, descriptor), descriptor);
+		m_prologue.storeReference(local);
+		return local;
+	}
+
+	/**
+	 * Gets the index of a constant, adding it to the constants of the unit if necessary.
+	 *
+	 * @param constant   The constant.
+	 * @param descriptor The descriptor of the field that holds the constant.
+	 */
+	private int getConstantIndex(Object constant, String descriptor) {
+		java.lang.Integer index = m_constantIndices.get(constant);
+		if (index == null) {
+			index = m_constants.size();
+			m_constants.add(constant);
+			m_constantDescriptors.add(descriptor);
+			m_constantIndices.put(constant, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Queries whether an assignment assigns an integer (as opposed to an aggregate; see {@link interpreter.nodes.AssignNode#create}).
+	 *
+	 * @param assign The assignment.
+	 */
+	private static boolean isIntegral(Assign assign) {
+		return assign.getLocation().getType() instanceof Integer || !(assign.getExpression() instanceof Location);
+	}
+
+	/**
+	 * Gets the variable whose memory holds a location.
+	 *
+	 * @param location The location.
+	 */
+	private static parser.semanticAnalysis.symbolTable.declarations.variable.Variable getVariable(Location location) {
+		while (!(location instanceof Variable)) {
+			location = location instanceof Field ? ((Field) location).getVariable() : ((Index) location).getVariable();
+		}
+		return ((Variable) location).getVariable();
+	}
+
+	/**
+	 * Gets the internal name of a class (e.g. "interpreter/Frame").
+	 *
+	 * @param c The class.
+	 */
+	private static String getInternalName(Class<?> c) {
+		return c.getName().replace('.', '/');
+	}
+
+	/**
+	 * Gets the descriptor of a class (e.g. "Linterpreter/Frame;").
+	 *
+	 * @param c The class.
+	 */
+	private static String getDescriptor(Class<?> c) {
+		return "L" + getInternalName(c) + ";";
+	}
+
+	/**
+	 * Represents the local variables of a compiled method that hold a variable of its unit.
+	 */
+	private static final class Binding {
+
+		/**
+		 * Represents the local variable that holds the words of the variable's memory, or -1 if they are read from its memory upon each use.
+		 */
+		private int m_wordsLocal = -1;
+		/**
+		 * Represents the local variable that holds the variable's memory, or -1 if its words are held instead.
+		 */
+		private int m_memoryLocal = -1;
+		/**
+		 * Represents the local variable that holds the variable's address, or -1 if the address is constant.
+		 */
+		private int m_addressLocal = -1;
+		/**
+		 * Represents the constant address of the variable within its memory.
+		 */
+		private int m_address;
+	}
+}
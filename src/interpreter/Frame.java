@@ -0,0 +1,127 @@
+package interpreter;
+
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Parameter;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.types.Type;
+import parser.semanticAnalysis.symbolTable.declarations.variable.Variable;
+
+/**
+ * Represents a run-time frame of the program or of a procedure call, whose slots hold the storage of its variables (see {@link SlotResolver}).
+ * The integers of a frame occupy a single contiguous memory, while every aggregate (i.e. array or record) occupies a memory of its own, so that it may be assigned as a whole by sharing (see {@link Memory}).
+ * The layout of a variable follows the sizes computed by the types: an integer occupies one word, an array its elements in order, and a record its fields in order.
+ * A slot is bound to a memory and the address of the variable within it, so a parameter may refer to a location (e.g. an element of an array) of its caller; otherwise, it refers to a word of the frame that holds the value of its argument.
+ */
+public final class Frame {
+
+	/**
+	 * Represents the size of a word (i.e. an integer) as computed by the types.
+	 */
+	private static final int WORD_SIZE = Integer.getInstance().getSize();
+
+	/**
+	 * Represents the memory that holds the integers of the frame.
+	 */
+	private final Memory m_memory;
+	/**
+	 * Represents the memories to which the slots are bound, indexed by slot.
+	 */
+	private final Memory[] m_memories;
+	/**
+	 * Represents the addresses of the variables within their memories, indexed by slot.
+	 */
+	private final int[] m_addresses;
+
+	/**
+	 * Constructs a frame for the variables of a resolved scope, binding each parameter to a word that may hold the value of its argument.
+	 *
+	 * @param variables The variables of the scope, indexed by slot.
+	 */
+	public Frame(Variable[] variables) {
+		m_memories = new Memory[variables.length];
+		m_addresses = new int[variables.length];
+		int size = 0;
+		for (int i = 0; i < variables.length; i++) {
+			if (variables[i] instanceof Parameter || variables[i].getType() instanceof Integer) {
+				m_addresses[i] = size++;
+			} else {
+				m_memories[i] = new Memory(getSize(variables[i].getType()));
+			}
+		}
+		m_memory = new Memory(size);
+		for (int i = 0; i < variables.length; i++) {
+			if (m_memories[i] == null) {
+				m_memories[i] = m_memory;
+			}
+		}
+	}
+
+	/**
+	 * Constructs a frame with the layout of another frame (i.e. a new call of the same procedure), whose words are zeroed and whose parameters are bound to their own words.
+	 *
+	 * @param frame The frame whose layout is copied.
+	 */
+	public Frame(Frame frame) {
+		m_memories = new Memory[frame.m_memories.length];
+		m_addresses = frame.m_addresses.clone();
+		m_memory = new Memory(frame.m_memory.getSize());
+		for (int i = 0; i < m_memories.length; i++) {
+			m_memories[i] = frame.m_memories[i] == frame.m_memory ? m_memory : new Memory(frame.m_memories[i].getSize());
+		}
+	}
+
+	/**
+	 * Resets the frame to the layout from which it was copied, such that it may be reused by another call of the same procedure.
+	 *
+	 * @param frame The frame whose layout was copied.
+	 */
+	public void reset(Frame frame) {
+		m_memory.clear();
+		for (int i = 0; i < m_memories.length; i++) {
+			if (frame.m_memories[i] == frame.m_memory) {
+				m_memories[i] = m_memory;
+				m_addresses[i] = frame.m_addresses[i];
+			} else {
+				m_memories[i].clear();
+			}
+		}
+	}
+
+	/**
+	 * Gets the size of a type in words.
+	 *
+	 * @param type The type.
+	 */
+	public static int getSize(Type type) {
+		return type.getSize() / WORD_SIZE;
+	}
+
+	/**
+	 * Gets the memory in which the variable in a slot lies.
+	 *
+	 * @param slot The slot.
+	 */
+	public Memory getMemory(int slot) {
+		return m_memories[slot];
+	}
+
+	/**
+	 * Gets the address of the variable in a slot within its memory.
+	 *
+	 * @param slot The slot.
+	 */
+	public int getAddress(int slot) {
+		return m_addresses[slot];
+	}
+
+	/**
+	 * Binds a slot (e.g. the slot of a parameter) to a location.
+	 *
+	 * @param slot    The slot.
+	 * @param memory  The memory in which the location lies.
+	 * @param address The address of the location within the memory.
+	 */
+	public void bind(int slot, Memory memory, int address) {
+		m_memories[slot] = memory;
+		m_addresses[slot] = address;
+	}
+}
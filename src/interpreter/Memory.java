@@ -0,0 +1,78 @@
+package interpreter;
+
+import java.util.Arrays;
+
+/**
+ * Represents a contiguous memory of words at run-time, which holds either the integers of a frame or a single aggregate (i.e. an array or record).
+ * Assigning an aggregate as a whole shares its words rather than copying them (i.e. copy-on-write): the words are copied upon the first subsequent write to a memory that shares them.
+ */
+public final class Memory {
+
+	/**
+	 * Represents the words of the memory.
+	 */
+	private int[] m_words;
+	/**
+	 * Represents whether the words may be shared with another memory.
+	 */
+	private boolean m_isShared;
+
+	/**
+	 * Constructs a memory of zeroed words.
+	 *
+	 * @param size The number of words.
+	 */
+	public Memory(int size) {
+		m_words = new int[size];
+	}
+
+	/**
+	 * Gets the words of the memory, which may only be read.
+	 */
+	public int[] getWords() {
+		return m_words;
+	}
+
+	/**
+	 * Gets the words of the memory, which may be written, copying them first if they may be shared.
+	 */
+	public int[] getWritableWords() {
+		if (m_isShared) {
+			m_words = m_words.clone();
+			m_isShared = false;
+		}
+		return m_words;
+	}
+
+	/**
+	 * Gets the number of words.
+	 */
+	public int getSize() {
+		return m_words.length;
+	}
+
+	/**
+	 * Zeroes the words of the memory (e.g. when its frame is reused), replacing them rather than zeroing them if they may be shared.
+	 */
+	public void clear() {
+		if (m_isShared) {
+			m_words = new int[m_words.length];
+			m_isShared = false;
+		} else {
+			Arrays.fill(m_words, 0);
+		}
+	}
+
+	/**
+	 * Shares the words of another memory of the same size, which assigns its contents to this memory in constant time.
+	 *
+	 * @param memory The memory whose words are shared.
+	 */
+	public void share(Memory memory) {
+		if (memory != this) {
+			m_words = memory.m_words;
+			m_isShared = true;
+			memory.m_isShared = true;
+		}
+	}
+}
@@ -0,0 +1,248 @@
+package interpreter;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import interpreter.nodes.*;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Function;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.*;
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Argument;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Procedure;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+import parser.semanticAnalysis.symbolTable.declarations.types.record.Record;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the abstract syntax tree once into a tree of self-executing nodes, each of which is specialized to a single operation.
+ * Variables are compiled against their resolved slots (see {@link SlotResolver}); the memories of the program's variables never change, so they are bound directly into the nodes.
+ * If compilation is tiered, procedures and repeat instructions count their calls and back-edges, and are compiled into JVM classes once they are hot (see {@link ClassCompiler}).
+ */
+public class NodeCompiler {
+
+	/**
+	 * Represents the instance of the node compiler.
+	 */
+	private static NodeCompiler m_instance;
+	/**
+	 * Represents the frame of the program.
+	 */
+	private Frame m_programFrame;
+	/**
+	 * Represents the compiled procedures, which are compiled upon their first call.
+	 */
+	private Map<Procedure, ProcedureNode> m_procedures;
+	/**
+	 * Represents whether compilation is tiered.
+	 */
+	private boolean m_isTiered;
+	/**
+	 * Represents the procedure whose instructions are being compiled, or null if they are the program's.
+	 */
+	private ProcedureNode m_procedure;
+
+	/**
+	 * Constructs the node compiler.
+	 */
+	private NodeCompiler() {
+		m_procedures = new HashMap<Procedure, ProcedureNode>();
+	}
+
+	/**
+	 * Gets the instance of the node compiler.
+	 */
+	public static NodeCompiler getInstance() {
+		if (m_instance == null) {
+			m_instance = new NodeCompiler();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Compiles the instructions of the program.
+	 *
+	 * @param instructions The instructions of the program.
+	 * @param programFrame The frame of the program.
+	 * @param isTiered     Whether compilation is tiered.
+	 */
+	public InstructionNode compile(List<Instruction> instructions, Frame programFrame, boolean isTiered) {
+		m_programFrame = programFrame;
+		m_isTiered = isTiered;
+		return compileInstructions(instructions);
+	}
+
+	/**
+	 * Gets the frame of the program.
+	 */
+	Frame getProgramFrame() {
+		return m_programFrame;
+	}
+
+	/**
+	 * Compiles a list of instructions.
+	 *
+	 * @param instructions The instructions to compile.
+	 */
+	private InstructionNode compileInstructions(List<Instruction> instructions) {
+		InstructionNode[] instructionNodes = new InstructionNode[instructions.size()];
+		for (int i = 0; i < instructionNodes.length; i++) {
+			instructionNodes[i] = compileInstruction(instructions.get(i));
+		}
+		return instructionNodes.length == 1 ? instructionNodes[0] : new BlockNode(instructionNodes);
+	}
+
+	/**
+	 * Compiles an instruction.
+	 *
+	 * @param instruction The instruction to compile.
+	 */
+	InstructionNode compileInstruction(Instruction instruction) {
+		if (instruction instanceof Assign) {
+			Assign assign = (Assign) instruction;
+			return AssignNode.create(assign.getLocation().getType(), compileLocation(assign.getLocation()), compileExpression(assign.getExpression()));
+		} else if (instruction instanceof If) {
+			If ifInstruction = (If) instruction;
+			InstructionNode falseInstructions = ifInstruction.falseInstructionsExist() ? compileInstructions(ifInstruction.getFalseInstructions()) : null;
+			return new IfNode(compileCondition(ifInstruction.getCondition()), compileInstructions(ifInstruction.getTrueInstructions()), falseInstructions);
+		} else if (instruction instanceof Repeat) {
+			Repeat repeat = (Repeat) instruction;
+			if (m_isTiered) {
+				return new TieredRepeatNode(compileInstructions(repeat.getInstructions()), compileCondition(repeat.getCondition()), repeat, m_procedure);
+			}
+			return new RepeatNode(compileInstructions(repeat.getInstructions()), compileCondition(repeat.getCondition()));
+		} else if (instruction instanceof Read) {
+			return new ReadNode(compileLocation(((Read) instruction).getLocation()));
+		} else if (instruction instanceof Write) {
+			return new WriteNode(compileExpression(((Write) instruction).getExpression()));
+		} else if (instruction instanceof Call) {
+			Call call = (Call) instruction;
+			return new CallNode(compileProcedure(call.getProcedure()), compileArguments(call.getArguments()));
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Compiles a condition.
+	 *
+	 * @param condition The condition to compile.
+	 */
+	private ConditionNode compileCondition(Condition condition) {
+		return ConditionNode.create(condition.getRelation(), compileExpression(condition.getLeftExpression()), compileExpression(condition.getRightExpression()));
+	}
+
+	/**
+	 * Compiles an expression.
+	 *
+	 * @param expression The expression to compile.
+	 */
+	ExpressionNode compileExpression(Expression expression) {
+		if (expression instanceof Number) {
+			return new ConstantNode(((Number) expression).getConstant().getValue());
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			return ArithmeticNode.create(binary, compileExpression(binary.getLeftExpression()), compileExpression(binary.getRightExpression()));
+		} else if (expression instanceof Location) {
+			return compileLocation((Location) expression);
+		} else if (expression instanceof Function) {
+			Call call = ((Function) expression).getCall();
+			return new FunctionNode(compileProcedure(call.getProcedure()), compileArguments(call.getArguments()));
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Compiles a location (i.e. the variable, field, or index).
+	 *
+	 * @param location The location to compile.
+	 */
+	private LocationNode compileLocation(Location location) {
+		if (location instanceof Field) {
+			Field field = (Field) location;
+			if (!(field.getSelection() instanceof Variable)) {
+				ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+			return new FieldNode(compileLocation(field.getVariable()), getOffset((Record) field.getVariable().getType(), ((Variable) field.getSelection()).getVariable()));
+		} else if (location instanceof Index) {
+			Index index = (Index) location;
+			Array array = (Array) index.getVariable().getType();
+			return new IndexNode(compileLocation(index.getVariable()), compileExpression(index.getExpression()), Frame.getSize(array.getElementType()), array.getLength(), index);
+		} else if (location instanceof Variable) {
+			parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = ((Variable) location).getVariable();
+			if (variable.getDepth() == SlotResolver.PROGRAM_DEPTH) {
+				return new GlobalVariableNode(m_programFrame.getMemory(variable.getSlot()), m_programFrame.getAddress(variable.getSlot()));
+			} else {
+				return new LocalVariableNode(variable.getSlot());
+			}
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Gets the offset of a field within a record in words, which is the sum of the sizes of the fields that precede it.
+	 *
+	 * @param record The record.
+	 * @param field  The field.
+	 */
+	int getOffset(Record record, parser.semanticAnalysis.symbolTable.declarations.variable.Variable field) {
+		int offset = 0;
+		for (Declaration declaration : record.getScope().getMap().values()) {
+			if (declaration == field) {
+				return offset;
+			}
+			offset += Frame.getSize(((parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration).getType());
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Compiles the arguments of a call.
+	 *
+	 * @param arguments The arguments to compile.
+	 */
+	private ExpressionNode[] compileArguments(List<Argument> arguments) {
+		ExpressionNode[] argumentNodes = new ExpressionNode[arguments.size()];
+		for (int i = 0; i < argumentNodes.length; i++) {
+			argumentNodes[i] = compileExpression(arguments.get(i).getExpression());
+		}
+		return argumentNodes;
+	}
+
+	/**
+	 * Gets the compiled procedure, compiling it if it has not yet been compiled.
+	 * The procedure is registered before its body is compiled, so (mutually) recursive calls refer to the same node.
+	 * Procedures may be compiled while another is (i.e. upon their first call), so the enclosing procedure is restored afterwards.
+	 *
+	 * @param procedure The procedure to compile.
+	 */
+	private ProcedureNode compileProcedure(Procedure procedure) {
+		ProcedureNode procedureNode = m_procedures.get(procedure);
+		if (procedureNode == null) {
+			int[] parameterSlots = new int[procedure.getParameters().size()];
+			for (int i = 0; i < parameterSlots.length; i++) {
+				parameterSlots[i] = procedure.getParameters().get(i).getSlot();
+			}
+			procedureNode = new ProcedureNode(SlotResolver.getInstance().getLayout(procedure.getLocalVariables()), parameterSlots);
+			m_procedures.put(procedure, procedureNode);
+			ProcedureNode enclosingProcedure = m_procedure;
+			m_procedure = procedureNode;
+			ExpressionNode returnExpression = procedure.getReturnExpression() != null ? compileExpression(procedure.getReturnExpression()) : null;
+			procedureNode.setBody(compileInstructions(procedure.getInstructions()), returnExpression);
+			m_procedure = enclosingProcedure;
+			if (m_isTiered) {
+				procedureNode.enableTiering(procedure);
+			}
+		}
+		return procedureNode;
+	}
+}
@@ -0,0 +1,94 @@
+package interpreter;
+
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Procedure;
+import parser.semanticAnalysis.symbolTable.declarations.variable.Variable;
+import parser.semanticAnalysis.symbolTable.scope.Scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves every variable, parameter and local variable to a (depth, slot) coordinate after semantic analysis, such that the interpreter accesses it by index rather than by name.
+ * Procedures are not nested, so a variable either lies in the program's frame (depth 0) or in the frame of the procedure being called (depth 1).
+ */
+public class SlotResolver {
+
+	/**
+	 * Represents the depth of the program's frame.
+	 */
+	public static final int PROGRAM_DEPTH = 0;
+	/**
+	 * Represents the depth of the frame of the procedure being called.
+	 */
+	public static final int PROCEDURE_DEPTH = 1;
+
+	/**
+	 * The singleton instance of the slot resolver.
+	 */
+	private static SlotResolver s_instance;
+	/**
+	 * The variables of every resolved scope, indexed by slot.
+	 */
+	private Map<Scope, Variable[]> m_layouts;
+
+	/**
+	 * Constructs the slot resolver.
+	 */
+	private SlotResolver() {
+		m_layouts = new HashMap<Scope, Variable[]>();
+	}
+
+	/**
+	 * Gets the singleton instance of the slot resolver.
+	 */
+	public static SlotResolver getInstance() {
+		if (s_instance == null) {
+			s_instance = new SlotResolver();
+		}
+		return s_instance;
+	}
+
+	/**
+	 * Resolves the variables of the program and of every procedure.
+	 *
+	 * @param programScope The scope of the program.
+	 */
+	public void resolve(Scope programScope) {
+		resolve(programScope, PROGRAM_DEPTH);
+		for (Declaration declaration : programScope.getMap().values()) {
+			if (declaration instanceof Procedure) {
+				resolve(((Procedure) declaration).getLocalVariables(), PROCEDURE_DEPTH);
+			}
+		}
+	}
+
+	/**
+	 * Resolves the variables of a scope to consecutive slots of a frame.
+	 *
+	 * @param scope The scope to resolve.
+	 * @param depth The depth of the scope's frame.
+	 */
+	private void resolve(Scope scope, int depth) {
+		List<Variable> variables = new ArrayList<Variable>();
+		for (Declaration declaration : scope.getMap().values()) {
+			if (declaration instanceof Variable) {
+				Variable variable = (Variable) declaration;
+				variable.resolve(depth, variables.size());
+				variables.add(variable);
+			}
+		}
+		m_layouts.put(scope, variables.toArray(new Variable[variables.size()]));
+	}
+
+	/**
+	 * Gets the variables of a resolved scope, indexed by slot.
+	 *
+	 * @param scope The resolved scope.
+	 */
+	public Variable[] getLayout(Scope scope) {
+		return m_layouts.get(scope);
+	}
+}
@@ -1,13 +0,0 @@
-package interpreter.boxes;
-
-/**
- * Represents a box, which is the base class for all entries in an environment.
- */
-public abstract class Box {
-
-	/**
-	 * Clones the box.
-	 */
-	public abstract Box clone();
-
-}
@@ -0,0 +1,191 @@
+package interpreter.nodes;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import interpreter.Frame;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+
+/**
+ * Represents a binary expression, which is specialized by its operator so that each node performs a single operation.
+ */
+public abstract class ArithmeticNode extends ExpressionNode {
+
+	/**
+	 * Represents the left expression.
+	 */
+	protected final ExpressionNode m_leftExpression;
+	/**
+	 * Represents the right expression.
+	 */
+	protected final ExpressionNode m_rightExpression;
+
+	/**
+	 * Constructs an arithmetic node.
+	 *
+	 * @param leftExpression  The left expression.
+	 * @param rightExpression The right expression.
+	 */
+	protected ArithmeticNode(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+		m_leftExpression = leftExpression;
+		m_rightExpression = rightExpression;
+	}
+
+	/**
+	 * Creates the arithmetic node of a binary expression.
+	 *
+	 * @param binary          The binary expression.
+	 * @param leftExpression  The compiled left expression.
+	 * @param rightExpression The compiled right expression.
+	 */
+	public static ArithmeticNode create(Binary binary, ExpressionNode leftExpression, ExpressionNode rightExpression) {
+		switch (binary.getOperator()) {
+			case PLUS:
+				return new Plus(leftExpression, rightExpression);
+			case MINUS:
+				return new Minus(leftExpression, rightExpression);
+			case MULTIPLICATION:
+				return new Multiplication(leftExpression, rightExpression);
+			case DIV:
+				return new Div(leftExpression, rightExpression, binary);
+			case MOD:
+				return new Mod(leftExpression, rightExpression, binary);
+			default:
+				return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Represents an addition.
+	 */
+	private static final class Plus extends ArithmeticNode {
+
+		/**
+		 * Constructs an addition.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		Plus(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int executeInt(Frame frame) {
+			return m_leftExpression.executeInt(frame) + m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents a subtraction.
+	 */
+	private static final class Minus extends ArithmeticNode {
+
+		/**
+		 * Constructs a subtraction.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		Minus(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int executeInt(Frame frame) {
+			return m_leftExpression.executeInt(frame) - m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents a multiplication.
+	 */
+	private static final class Multiplication extends ArithmeticNode {
+
+		/**
+		 * Constructs a multiplication.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		Multiplication(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int executeInt(Frame frame) {
+			return m_leftExpression.executeInt(frame) * m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents an integer division.
+	 */
+	private static final class Div extends ArithmeticNode {
+
+		/**
+		 * Represents the binary expression, whose position is reported when dividing by zero.
+		 */
+		private final Binary m_binary;
+
+		/**
+		 * Constructs an integer division.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 * @param binary          The binary expression.
+		 */
+		Div(ExpressionNode leftExpression, ExpressionNode rightExpression, Binary binary) {
+			super(leftExpression, rightExpression);
+			m_binary = binary;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int executeInt(Frame frame) {
+			int leftExpression = m_leftExpression.executeInt(frame);
+			int rightExpression = m_rightExpression.executeInt(frame);
+			if (rightExpression == 0) {
+				return ExceptionHandler.getInstance().throwException(Exception.DIVIDE_BY_ZERO, ExceptionStrength.STRONG, m_binary.getType().getPosition());
+			}
+			return leftExpression / rightExpression;
+		}
+	}
+
+	/**
+	 * Represents a modulo.
+	 */
+	private static final class Mod extends ArithmeticNode {
+
+		/**
+		 * Represents the binary expression, whose position is reported when taking the modulo of zero.
+		 */
+		private final Binary m_binary;
+
+		/**
+		 * Constructs a modulo.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 * @param binary          The binary expression.
+		 */
+		Mod(ExpressionNode leftExpression, ExpressionNode rightExpression, Binary binary) {
+			super(leftExpression, rightExpression);
+			m_binary = binary;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public int executeInt(Frame frame) {
+			int leftExpression = m_leftExpression.executeInt(frame);
+			int rightExpression = m_rightExpression.executeInt(frame);
+			if (rightExpression == 0) {
+				return ExceptionHandler.getInstance().throwException(Exception.MOD_BY_ZERO, ExceptionStrength.STRONG, m_binary.getType().getPosition());
+			}
+			return leftExpression % rightExpression;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+import interpreter.Memory;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.types.Type;
+
+/**
+ * Represents an assign instruction, which is specialized by whether it assigns an integer or an aggregate (i.e. an array or record).
+ */
+public abstract class AssignNode extends InstructionNode {
+
+	/**
+	 * Represents the location that is assigned.
+	 */
+	protected final LocationNode m_location;
+
+	/**
+	 * Constructs an assign node.
+	 *
+	 * @param location The location that is assigned.
+	 */
+	protected AssignNode(LocationNode location) {
+		m_location = location;
+	}
+
+	/**
+	 * Creates the assign node of an assign instruction.
+	 *
+	 * @param type       The type of the location that is assigned.
+	 * @param location   The compiled location.
+	 * @param expression The compiled expression.
+	 */
+	public static AssignNode create(Type type, LocationNode location, ExpressionNode expression) {
+		if (type instanceof Integer || !(expression instanceof LocationNode)) {
+			return new Integral(location, expression);
+		} else {
+			return new Aggregate(location, (LocationNode) expression, Frame.getSize(type));
+		}
+	}
+
+	/**
+	 * Represents the assignment of an integer.
+	 */
+	private static final class Integral extends AssignNode {
+
+		/**
+		 * Represents the expression whose value is assigned.
+		 */
+		private final ExpressionNode m_expression;
+
+		/**
+		 * Constructs the assignment of an integer.
+		 *
+		 * @param location   The location that is assigned.
+		 * @param expression The expression whose value is assigned.
+		 */
+		Integral(LocationNode location, ExpressionNode expression) {
+			super(location);
+			m_expression = expression;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void execute(Frame frame) {
+			int address = m_location.executeAddress(frame);
+			int value = m_expression.executeInt(frame);
+			m_location.executeMemory(frame).getWritableWords()[address] = value;
+		}
+	}
+
+	/**
+	 * Represents the assignment of an aggregate, which shares the aggregate's words if both locations are whole variables and copies them otherwise.
+	 */
+	private static final class Aggregate extends AssignNode {
+
+		/**
+		 * Represents the location whose words are copied.
+		 */
+		private final LocationNode m_expression;
+		/**
+		 * Represents the size of the aggregate in words.
+		 */
+		private final int m_size;
+
+		/**
+		 * Constructs the assignment of an aggregate.
+		 *
+		 * @param location   The location that is assigned.
+		 * @param expression The location whose words are copied.
+		 * @param size       The size of the aggregate in words.
+		 */
+		Aggregate(LocationNode location, LocationNode expression, int size) {
+			super(location);
+			m_expression = expression;
+			m_size = size;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void execute(Frame frame) {
+			int destination = m_location.executeAddress(frame);
+			int source = m_expression.executeAddress(frame);
+			Memory destinationMemory = m_location.executeMemory(frame);
+			Memory sourceMemory = m_expression.executeMemory(frame);
+			if (destination == 0 && source == 0 && destinationMemory.getSize() == m_size && sourceMemory.getSize() == m_size) {
+				destinationMemory.share(sourceMemory);
+			} else {
+				System.arraycopy(sourceMemory.getWords(), source, destinationMemory.getWritableWords(), destination, m_size);
+			}
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents a sequence of instructions.
+ */
+public final class BlockNode extends InstructionNode {
+
+	/**
+	 * Represents the instructions.
+	 */
+	private final InstructionNode[] m_instructions;
+
+	/**
+	 * Constructs a block node.
+	 *
+	 * @param instructions The instructions.
+	 */
+	public BlockNode(InstructionNode[] instructions) {
+		m_instructions = instructions;
+	}
+
+	/**
+	 * Executes the instructions in order.
+	 *
+	 * @param frame The frame executing the instructions.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		for (InstructionNode instruction : m_instructions) {
+			instruction.execute(frame);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents a call instruction.
+ */
+public final class CallNode extends InstructionNode {
+
+	/**
+	 * Represents the procedure that is called.
+	 */
+	private final ProcedureNode m_procedure;
+	/**
+	 * Represents the arguments.
+	 */
+	private final ExpressionNode[] m_arguments;
+
+	/**
+	 * Constructs a call node.
+	 *
+	 * @param procedure The procedure that is called.
+	 * @param arguments The arguments.
+	 */
+	public CallNode(ProcedureNode procedure, ExpressionNode[] arguments) {
+		m_procedure = procedure;
+		m_arguments = arguments;
+	}
+
+	/**
+	 * Calls the procedure.
+	 *
+	 * @param frame The frame of the caller.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		m_procedure.call(frame, m_arguments);
+	}
+}
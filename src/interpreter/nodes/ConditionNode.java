@@ -0,0 +1,198 @@
+package interpreter.nodes;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import interpreter.Frame;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
+
+/**
+ * Represents a condition, which is specialized by its relation so that each node performs a single comparison.
+ */
+public abstract class ConditionNode {
+
+	/**
+	 * Represents the left expression.
+	 */
+	protected final ExpressionNode m_leftExpression;
+	/**
+	 * Represents the right expression.
+	 */
+	protected final ExpressionNode m_rightExpression;
+
+	/**
+	 * Constructs a condition node.
+	 *
+	 * @param leftExpression  The left expression.
+	 * @param rightExpression The right expression.
+	 */
+	protected ConditionNode(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+		m_leftExpression = leftExpression;
+		m_rightExpression = rightExpression;
+	}
+
+	/**
+	 * Executes the condition.
+	 *
+	 * @param frame The frame of the procedure call (or program) executing the condition.
+	 */
+	public abstract boolean executeBoolean(Frame frame);
+
+	/**
+	 * Creates the condition node of a relation.
+	 *
+	 * @param relation        The relation.
+	 * @param leftExpression  The compiled left expression.
+	 * @param rightExpression The compiled right expression.
+	 */
+	public static ConditionNode create(Relation relation, ExpressionNode leftExpression, ExpressionNode rightExpression) {
+		switch (relation) {
+			case EQUALITY:
+				return new Equality(leftExpression, rightExpression);
+			case INEQUALITY:
+				return new Inequality(leftExpression, rightExpression);
+			case LESS_THAN:
+				return new LessThan(leftExpression, rightExpression);
+			case GREATER_THAN:
+				return new GreaterThan(leftExpression, rightExpression);
+			case LESS_THAN_OR_EQUAL_TO:
+				return new LessThanOrEqualTo(leftExpression, rightExpression);
+			case GREATER_THAN_OR_EQUAL_TO:
+				return new GreaterThanOrEqualTo(leftExpression, rightExpression);
+			default:
+				return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Represents an equality.
+	 */
+	private static final class Equality extends ConditionNode {
+
+		/**
+		 * Constructs an equality.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		Equality(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean executeBoolean(Frame frame) {
+			return m_leftExpression.executeInt(frame) == m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents an inequality.
+	 */
+	private static final class Inequality extends ConditionNode {
+
+		/**
+		 * Constructs an inequality.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		Inequality(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean executeBoolean(Frame frame) {
+			return m_leftExpression.executeInt(frame) != m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents a less-than relation.
+	 */
+	private static final class LessThan extends ConditionNode {
+
+		/**
+		 * Constructs a less-than relation.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		LessThan(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean executeBoolean(Frame frame) {
+			return m_leftExpression.executeInt(frame) < m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents a greater-than relation.
+	 */
+	private static final class GreaterThan extends ConditionNode {
+
+		/**
+		 * Constructs a greater-than relation.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		GreaterThan(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean executeBoolean(Frame frame) {
+			return m_leftExpression.executeInt(frame) > m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents a less-than-or-equal-to relation.
+	 */
+	private static final class LessThanOrEqualTo extends ConditionNode {
+
+		/**
+		 * Constructs a less-than-or-equal-to relation.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		LessThanOrEqualTo(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean executeBoolean(Frame frame) {
+			return m_leftExpression.executeInt(frame) <= m_rightExpression.executeInt(frame);
+		}
+	}
+
+	/**
+	 * Represents a greater-than-or-equal-to relation.
+	 */
+	private static final class GreaterThanOrEqualTo extends ConditionNode {
+
+		/**
+		 * Constructs a greater-than-or-equal-to relation.
+		 *
+		 * @param leftExpression  The left expression.
+		 * @param rightExpression The right expression.
+		 */
+		GreaterThanOrEqualTo(ExpressionNode leftExpression, ExpressionNode rightExpression) {
+			super(leftExpression, rightExpression);
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean executeBoolean(Frame frame) {
+			return m_leftExpression.executeInt(frame) >= m_rightExpression.executeInt(frame);
+		}
+	}
+}
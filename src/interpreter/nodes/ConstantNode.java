@@ -0,0 +1,33 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents a number.
+ */
+public final class ConstantNode extends ExpressionNode {
+
+	/**
+	 * Represents the value of the number.
+	 */
+	private final int m_value;
+
+	/**
+	 * Constructs a constant node.
+	 *
+	 * @param value The value of the number.
+	 */
+	public ConstantNode(int value) {
+		m_value = value;
+	}
+
+	/**
+	 * Gets the value of the number.
+	 *
+	 * @param frame The frame executing the number.
+	 */
+	@Override
+	public int executeInt(Frame frame) {
+		return m_value;
+	}
+}
@@ -0,0 +1,27 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents an expression that has been compiled into a self-executing node.
+ */
+public abstract class ExpressionNode {
+
+	/**
+	 * Executes the expression, reducing it to an integer.
+	 *
+	 * @param frame The frame of the procedure call (or program) executing the expression.
+	 */
+	public abstract int executeInt(Frame frame);
+
+	/**
+	 * Executes the expression as the argument of a call, storing its value in the word of the call's frame to which the parameter is bound.
+	 *
+	 * @param frame  The frame of the caller.
+	 * @param callee The frame of the call.
+	 * @param slot   The slot of the parameter.
+	 */
+	public void executeArgument(Frame frame, Frame callee, int slot) {
+		callee.getMemory(slot).getWritableWords()[callee.getAddress(slot)] = executeInt(frame);
+	}
+}
@@ -0,0 +1,50 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+import interpreter.Memory;
+
+/**
+ * Represents a field of a record, whose address is that of the record offset by the sizes of the fields that precede it.
+ */
+public final class FieldNode extends LocationNode {
+
+	/**
+	 * Represents the record.
+	 */
+	private final LocationNode m_record;
+	/**
+	 * Represents the offset of the field within the record in words.
+	 */
+	private final int m_offset;
+
+	/**
+	 * Constructs a field node.
+	 *
+	 * @param record The record.
+	 * @param offset The offset of the field within the record in words.
+	 */
+	public FieldNode(LocationNode record, int offset) {
+		m_record = record;
+		m_offset = offset;
+	}
+
+	/**
+	 * Gets the memory of the record.
+	 *
+	 * @param frame The frame executing the field.
+	 */
+	@Override
+	public Memory executeMemory(Frame frame) {
+		return m_record.executeMemory(frame);
+	}
+
+	/**
+	 * Gets the address of the field.
+	 *
+	 * @param frame The frame executing the field.
+	 */
+	@Override
+	public int executeAddress(Frame frame) {
+		return m_record.executeAddress(frame) + m_offset;
+	}
+}
@@ -0,0 +1,39 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents a call to a procedure whose return expression is the value of the call.
+ */
+public final class FunctionNode extends ExpressionNode {
+
+	/**
+	 * Represents the procedure that is called.
+	 */
+	private final ProcedureNode m_procedure;
+	/**
+	 * Represents the arguments.
+	 */
+	private final ExpressionNode[] m_arguments;
+
+	/**
+	 * Constructs a function node.
+	 *
+	 * @param procedure The procedure that is called.
+	 * @param arguments The arguments.
+	 */
+	public FunctionNode(ProcedureNode procedure, ExpressionNode[] arguments) {
+		m_procedure = procedure;
+		m_arguments = arguments;
+	}
+
+	/**
+	 * Calls the procedure and reduces its return expression in the frame of the call.
+	 *
+	 * @param frame The frame of the caller.
+	 */
+	@Override
+	public int executeInt(Frame frame) {
+		return m_procedure.callFunction(frame, m_arguments);
+	}
+}
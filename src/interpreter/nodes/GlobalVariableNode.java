@@ -0,0 +1,60 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+import interpreter.Memory;
+
+/**
+ * Represents a variable of the program, whose memory and address never change and are therefore bound when the node is compiled.
+ */
+public final class GlobalVariableNode extends LocationNode {
+
+	/**
+	 * Represents the memory of the variable.
+	 */
+	private final Memory m_memory;
+	/**
+	 * Represents the address of the variable within its memory.
+	 */
+	private final int m_address;
+
+	/**
+	 * Constructs a global variable node.
+	 *
+	 * @param memory  The memory of the variable.
+	 * @param address The address of the variable within its memory.
+	 */
+	public GlobalVariableNode(Memory memory, int address) {
+		m_memory = memory;
+		m_address = address;
+	}
+
+	/**
+	 * Gets the memory of the variable.
+	 *
+	 * @param frame The frame executing the variable.
+	 */
+	@Override
+	public Memory executeMemory(Frame frame) {
+		return m_memory;
+	}
+
+	/**
+	 * Gets the address of the variable.
+	 *
+	 * @param frame The frame executing the variable.
+	 */
+	@Override
+	public int executeAddress(Frame frame) {
+		return m_address;
+	}
+
+	/**
+	 * Gets the integer held by the variable.
+	 *
+	 * @param frame The frame executing the variable.
+	 */
+	@Override
+	public int executeInt(Frame frame) {
+		return m_memory.getWords()[m_address];
+	}
+}
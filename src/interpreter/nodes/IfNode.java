@@ -0,0 +1,49 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents an if instruction.
+ */
+public final class IfNode extends InstructionNode {
+
+	/**
+	 * Represents the condition.
+	 */
+	private final ConditionNode m_condition;
+	/**
+	 * Represents the instructions executed if the condition holds.
+	 */
+	private final InstructionNode m_trueInstructions;
+	/**
+	 * Represents the instructions executed if the condition does not hold, or null if there are none.
+	 */
+	private final InstructionNode m_falseInstructions;
+
+	/**
+	 * Constructs an if node.
+	 *
+	 * @param condition         The condition.
+	 * @param trueInstructions  The instructions executed if the condition holds.
+	 * @param falseInstructions The instructions executed if the condition does not hold, or null if there are none.
+	 */
+	public IfNode(ConditionNode condition, InstructionNode trueInstructions, InstructionNode falseInstructions) {
+		m_condition = condition;
+		m_trueInstructions = trueInstructions;
+		m_falseInstructions = falseInstructions;
+	}
+
+	/**
+	 * Executes the instructions selected by the condition.
+	 *
+	 * @param frame The frame executing the instruction.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		if (m_condition.executeBoolean(frame)) {
+			m_trueInstructions.execute(frame);
+		} else if (m_falseInstructions != null) {
+			m_falseInstructions.execute(frame);
+		}
+	}
+}
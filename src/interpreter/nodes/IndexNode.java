@@ -0,0 +1,78 @@
+package interpreter.nodes;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import interpreter.Frame;
+import interpreter.Memory;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+
+/**
+ * Represents an element of an array, whose address is that of the array offset by the index times the size of an element.
+ */
+public final class IndexNode extends LocationNode {
+
+	/**
+	 * Represents the array.
+	 */
+	private final LocationNode m_array;
+	/**
+	 * Represents the index of the element.
+	 */
+	private final ExpressionNode m_index;
+	/**
+	 * Represents the size of an element in words.
+	 */
+	private final int m_elementSize;
+	/**
+	 * Represents the length of the array.
+	 */
+	private final int m_length;
+	/**
+	 * Represents the index from which the node was compiled, which describes an index that is out of range.
+	 */
+	private final Index m_location;
+
+	/**
+	 * Constructs an index node.
+	 *
+	 * @param array       The array.
+	 * @param index       The index of the element.
+	 * @param elementSize The size of an element in words.
+	 * @param length      The length of the array.
+	 * @param location    The index from which the node was compiled.
+	 */
+	public IndexNode(LocationNode array, ExpressionNode index, int elementSize, int length, Index location) {
+		m_array = array;
+		m_index = index;
+		m_elementSize = elementSize;
+		m_length = length;
+		m_location = location;
+	}
+
+	/**
+	 * Gets the memory of the array.
+	 *
+	 * @param frame The frame executing the index.
+	 */
+	@Override
+	public Memory executeMemory(Frame frame) {
+		return m_array.executeMemory(frame);
+	}
+
+	/**
+	 * Gets the address of the element, after verifying that the index is in range.
+	 *
+	 * @param frame The frame executing the index.
+	 */
+	@Override
+	public int executeAddress(Frame frame) {
+		int index = m_index.executeInt(frame);
+		if (index >= m_length || index < 0) {
+			Array array = (Array) m_location.getVariable().getType();
+			ExceptionHandler.getInstance().throwException(Exception.INDEX_OUT_OF_RANGE, ExceptionStrength.STRONG, index, array.getName(), array.getPosition());
+		}
+		return m_array.executeAddress(frame) + index * m_elementSize;
+	}
+}
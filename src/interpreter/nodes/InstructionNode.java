@@ -0,0 +1,16 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents an instruction that has been compiled into a self-executing node.
+ */
+public abstract class InstructionNode {
+
+	/**
+	 * Executes the instruction.
+	 *
+	 * @param frame The frame of the procedure call (or program) executing the instruction.
+	 */
+	public abstract void execute(Frame frame);
+}
@@ -0,0 +1,54 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+import interpreter.Memory;
+
+/**
+ * Represents a parameter or local variable of a procedure, whose location is bound to a slot of the procedure call's frame.
+ */
+public final class LocalVariableNode extends LocationNode {
+
+	/**
+	 * Represents the slot of the variable.
+	 */
+	private final int m_slot;
+
+	/**
+	 * Constructs a local variable node.
+	 *
+	 * @param slot The slot of the variable.
+	 */
+	public LocalVariableNode(int slot) {
+		m_slot = slot;
+	}
+
+	/**
+	 * Gets the memory of the variable.
+	 *
+	 * @param frame The frame of the procedure call.
+	 */
+	@Override
+	public Memory executeMemory(Frame frame) {
+		return frame.getMemory(m_slot);
+	}
+
+	/**
+	 * Gets the address of the variable.
+	 *
+	 * @param frame The frame of the procedure call.
+	 */
+	@Override
+	public int executeAddress(Frame frame) {
+		return frame.getAddress(m_slot);
+	}
+
+	/**
+	 * Gets the integer held by the variable.
+	 *
+	 * @param frame The frame executing the variable.
+	 */
+	@Override
+	public int executeInt(Frame frame) {
+		return frame.getMemory(m_slot).getWords()[frame.getAddress(m_slot)];
+	}
+}
@@ -0,0 +1,49 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+import interpreter.Memory;
+
+/**
+ * Represents a location (i.e. a variable, field, or index) that has been compiled into a self-executing node.
+ * A location is reduced to an address within the memory of the variable from which it is selected; the address is always executed before the memory.
+ */
+public abstract class LocationNode extends ExpressionNode {
+
+	/**
+	 * Executes the location, getting the memory in which it lies.
+	 *
+	 * @param frame The frame of the procedure call (or program) executing the location.
+	 */
+	public abstract Memory executeMemory(Frame frame);
+
+	/**
+	 * Executes the location, getting its address within its memory.
+	 *
+	 * @param frame The frame of the procedure call (or program) executing the location.
+	 */
+	public abstract int executeAddress(Frame frame);
+
+	/**
+	 * Executes the location, getting the integer at its address.
+	 *
+	 * @param frame The frame of the procedure call (or program) executing the location.
+	 */
+	@Override
+	public int executeInt(Frame frame) {
+		int address = executeAddress(frame);
+		return executeMemory(frame).getWords()[address];
+	}
+
+	/**
+	 * Executes the location as the argument of a call; locations are passed by reference.
+	 *
+	 * @param frame  The frame of the caller.
+	 * @param callee The frame of the call.
+	 * @param slot   The slot of the parameter.
+	 */
+	@Override
+	public void executeArgument(Frame frame, Frame callee, int slot) {
+		int address = executeAddress(frame);
+		callee.bind(slot, executeMemory(frame), address);
+	}
+}
@@ -0,0 +1,163 @@
+package interpreter.nodes;
+
+import interpreter.ClassCompiler;
+import interpreter.Frame;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Procedure;
+import parser.semanticAnalysis.symbolTable.declarations.variable.Variable;
+
+import java.util.Arrays;
+
+/**
+ * Represents a procedure, whose instructions and return expression are compiled once and shared by all of its calls.
+ * The frames of its calls are pooled: calls of the same procedure are nested, so the frame of a call is the one at its depth of recursion, which is reset rather than allocated.
+ * If tiering is enabled, its calls are counted, and its instructions are replaced by a JVM class once they cross {@link ClassCompiler#CALL_THRESHOLD}.
+ */
+public final class ProcedureNode {
+
+	/**
+	 * Represents the initial number of pooled frames.
+	 */
+	private static final int INITIAL_POOL_SIZE = 16;
+
+	/**
+	 * Represents the frame whose layout is copied by every call.
+	 */
+	private final Frame m_layout;
+	/**
+	 * Represents the slots of the parameters, in order.
+	 */
+	private final int[] m_parameterSlots;
+	/**
+	 * Represents the pooled frames, indexed by depth of recursion.
+	 */
+	private Frame[] m_frames;
+	/**
+	 * Represents the number of calls in progress (i.e. the depth of recursion).
+	 */
+	private int m_depth;
+	/**
+	 * Represents the instructions of the procedure.
+	 */
+	private InstructionNode m_instructions;
+	/**
+	 * Represents the return expression of the procedure, or null if there is none.
+	 */
+	private ExpressionNode m_returnExpression;
+	/**
+	 * Represents the procedure whose calls are counted until its instructions are compiled into a class, or null if they are not counted.
+	 */
+	private Procedure m_procedure;
+	/**
+	 * Represents the number of calls that have been counted.
+	 */
+	private int m_callCount;
+
+	/**
+	 * Constructs a procedure node, whose instructions and return expression are set once they are compiled.
+	 *
+	 * @param variables      The parameters and local variables of the procedure, indexed by slot.
+	 * @param parameterSlots The slots of the parameters, in order.
+	 */
+	public ProcedureNode(Variable[] variables, int[] parameterSlots) {
+		m_layout = new Frame(variables);
+		m_parameterSlots = parameterSlots;
+		m_frames = new Frame[INITIAL_POOL_SIZE];
+	}
+
+	/**
+	 * Sets the compiled instructions and return expression of the procedure.
+	 *
+	 * @param instructions     The instructions of the procedure.
+	 * @param returnExpression The return expression of the procedure, or null if there is none.
+	 */
+	public void setBody(InstructionNode instructions, ExpressionNode returnExpression) {
+		m_instructions = instructions;
+		m_returnExpression = returnExpression;
+	}
+
+	/**
+	 * Enables tiering, which counts the calls of the procedure until its instructions are compiled into a class.
+	 *
+	 * @param procedure The procedure.
+	 */
+	public void enableTiering(Procedure procedure) {
+		m_procedure = procedure;
+	}
+
+	/**
+	 * Gets the frame whose layout is copied by every call.
+	 */
+	public Frame getLayout() {
+		return m_layout;
+	}
+
+	/**
+	 * Calls the procedure.
+	 *
+	 * @param frame     The frame of the caller, in which the arguments are executed.
+	 * @param arguments The arguments.
+	 */
+	public void call(Frame frame, ExpressionNode[] arguments) {
+		if (m_procedure != null) {
+			countCall();
+		}
+		m_instructions.execute(acquire(frame, arguments));
+		m_depth--;
+	}
+
+	/**
+	 * Calls the procedure and reduces its return expression in the frame of the call.
+	 *
+	 * @param frame     The frame of the caller, in which the arguments are executed.
+	 * @param arguments The arguments.
+	 */
+	public int callFunction(Frame frame, ExpressionNode[] arguments) {
+		if (m_procedure != null) {
+			countCall();
+		}
+		Frame callee = acquire(frame, arguments);
+		m_instructions.execute(callee);
+		int value = m_returnExpression.executeInt(callee);
+		m_depth--;
+		return value;
+	}
+
+	/**
+	 * Counts a call, compiling the instructions of the procedure into a class once the threshold is crossed.
+	 * Calls in progress continue to execute the instructions they began with; the procedure's return expression remains a node.
+	 */
+	private void countCall() {
+		if (++m_callCount == ClassCompiler.CALL_THRESHOLD) {
+			InstructionNode instructions = ClassCompiler.getInstance().compile(m_procedure.getInstructions(), this);
+			if (instructions != null) {
+				m_instructions = instructions;
+			}
+			m_procedure = null;
+		}
+	}
+
+	/**
+	 * Acquires the frame of a call from the pool and binds the arguments to its parameters.
+	 * The frame is acquired before the arguments are executed, so calls within the arguments acquire deeper frames.
+	 *
+	 * @param frame     The frame of the caller, in which the arguments are executed.
+	 * @param arguments The arguments.
+	 */
+	private Frame acquire(Frame frame, ExpressionNode[] arguments) {
+		if (m_depth == m_frames.length) {
+			m_frames = Arrays.copyOf(m_frames, m_frames.length * 2);
+		}
+		Frame callee = m_frames[m_depth];
+		if (callee == null) {
+			callee = new Frame(m_layout);
+			m_frames[m_depth] = callee;
+		} else {
+			callee.reset(m_layout);
+		}
+		m_depth++;
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i].executeArgument(frame, callee, m_parameterSlots[i]);
+		}
+		return callee;
+	}
+}
@@ -0,0 +1,46 @@
+package interpreter.nodes;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import interpreter.Frame;
+import runtime.Input;
+
+/**
+ * Represents a read instruction.
+ */
+public final class ReadNode extends InstructionNode {
+
+	/**
+	 * Represents the location that is read.
+	 */
+	private final LocationNode m_location;
+
+	/**
+	 * Constructs a read node.
+	 *
+	 * @param location The location that is read.
+	 */
+	public ReadNode(LocationNode location) {
+		m_location = location;
+	}
+
+	/**
+	 * Reads an integer from stdin into the location, reading again until the input is an integer.
+	 *
+	 * @param frame The frame executing the instruction.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		Input input = Input.getInstance();
+		while (input.nextLine()) {
+			if (input.isInteger()) {
+				int value = input.getInteger();
+				int address = m_location.executeAddress(frame);
+				m_location.executeMemory(frame).getWritableWords()[address] = value;
+				return;
+			}
+			ExceptionHandler.getInstance().throwException(Exception.READ_INSTRUCTION_REQUIRES_AN_INTEGER, ExceptionStrength.WEAK, input.getLine());
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+
+/**
+ * Represents a repeat instruction.
+ */
+public final class RepeatNode extends InstructionNode {
+
+	/**
+	 * Represents the instructions that are repeated.
+	 */
+	private final InstructionNode m_instructions;
+	/**
+	 * Represents the condition under which the instructions are repeated.
+	 */
+	private final ConditionNode m_condition;
+
+	/**
+	 * Constructs a repeat node.
+	 *
+	 * @param instructions The instructions that are repeated.
+	 * @param condition    The condition under which the instructions are repeated.
+	 */
+	public RepeatNode(InstructionNode instructions, ConditionNode condition) {
+		m_instructions = instructions;
+		m_condition = condition;
+	}
+
+	/**
+	 * Executes the instructions while the condition holds, at least once.
+	 *
+	 * @param frame The frame executing the instruction.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		do {
+			m_instructions.execute(frame);
+		} while (m_condition.executeBoolean(frame));
+	}
+}
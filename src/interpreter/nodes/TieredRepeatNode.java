@@ -0,0 +1,80 @@
+package interpreter.nodes;
+
+import interpreter.ClassCompiler;
+import interpreter.Frame;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Instruction;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.Repeat;
+
+import java.util.Collections;
+
+/**
+ * Represents a repeat instruction whose back-edges are counted, which is compiled into a JVM class once they cross {@link ClassCompiler#BACK_EDGE_THRESHOLD}.
+ * The switch happens at a back-edge, where the repeat instruction is equivalent to its compiled class executed from the start.
+ */
+public final class TieredRepeatNode extends InstructionNode {
+
+	/**
+	 * Represents the instructions that are repeated.
+	 */
+	private final InstructionNode m_instructions;
+	/**
+	 * Represents the condition under which the instructions are repeated.
+	 */
+	private final ConditionNode m_condition;
+	/**
+	 * Represents the repeat instruction from which the node was compiled.
+	 */
+	private final Repeat m_repeat;
+	/**
+	 * Represents the procedure of the repeat instruction, or null if it belongs to the program.
+	 */
+	private final ProcedureNode m_procedure;
+	/**
+	 * Represents the number of back-edges that have been counted.
+	 */
+	private int m_backEdgeCount;
+	/**
+	 * Represents the compiled repeat instruction, or null if it has not yet been compiled.
+	 */
+	private InstructionNode m_compiledRepeat;
+
+	/**
+	 * Constructs a tiered repeat node.
+	 *
+	 * @param instructions The instructions that are repeated.
+	 * @param condition    The condition under which the instructions are repeated.
+	 * @param repeat       The repeat instruction from which the node was compiled.
+	 * @param procedure    The procedure of the repeat instruction, or null if it belongs to the program.
+	 */
+	public TieredRepeatNode(InstructionNode instructions, ConditionNode condition, Repeat repeat, ProcedureNode procedure) {
+		m_instructions = instructions;
+		m_condition = condition;
+		m_repeat = repeat;
+		m_procedure = procedure;
+	}
+
+	/**
+	 * Executes the repeat instruction, switching to its compiled class once it is hot.
+	 * If it is too large to be compiled, it is no longer counted.
+	 *
+	 * @param frame The frame executing the repeat instruction.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		if (m_compiledRepeat == null) {
+			do {
+				m_instructions.execute(frame);
+				if (!m_condition.executeBoolean(frame)) {
+					return;
+				}
+			} while (++m_backEdgeCount < ClassCompiler.BACK_EDGE_THRESHOLD);
+			if (m_compiledRepeat == null) { // A recursive execution may have compiled it meanwhile.
+				m_compiledRepeat = ClassCompiler.getInstance().compile(Collections.<Instruction>singletonList(m_repeat), m_procedure);
+				if (m_compiledRepeat == null) {
+					m_compiledRepeat = new RepeatNode(m_instructions, m_condition);
+				}
+			}
+		}
+		m_compiledRepeat.execute(frame);
+	}
+}
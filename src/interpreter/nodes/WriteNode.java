@@ -0,0 +1,34 @@
+package interpreter.nodes;
+
+import interpreter.Frame;
+import runtime.Output;
+
+/**
+ * Represents a write instruction.
+ */
+public final class WriteNode extends InstructionNode {
+
+	/**
+	 * Represents the expression that is written.
+	 */
+	private final ExpressionNode m_expression;
+
+	/**
+	 * Constructs a write node.
+	 *
+	 * @param expression The expression that is written.
+	 */
+	public WriteNode(ExpressionNode expression) {
+		m_expression = expression;
+	}
+
+	/**
+	 * Writes the value of the expression to stdout.
+	 *
+	 * @param frame The frame executing the instruction.
+	 */
+	@Override
+	public void execute(Frame frame) {
+		Output.getInstance().writeInteger(m_expression.executeInt(frame));
+	}
+}
@@ -0,0 +1,130 @@
+package jvm;
+
+import java.util.Arrays;
+
+/**
+ * Represents a growable vector of bytes, into which the structures of a class file are written in big-endian order.
+ */
+final class ByteVector {
+
+	/**
+	 * Represents the bytes.
+	 */
+	private byte[] m_bytes;
+	/**
+	 * Represents the number of bytes written.
+	 */
+	private int m_size;
+
+	/**
+	 * Constructs an empty vector of bytes.
+	 */
+	ByteVector() {
+		m_bytes = new byte[64];
+	}
+
+	/**
+	 * Gets the number of bytes written.
+	 */
+	int getSize() {
+		return m_size;
+	}
+
+	/**
+	 * Writes a byte.
+	 *
+	 * @param value The byte, of which only the low 8 bits are written.
+	 */
+	void putByte(int value) {
+		ensureCapacity(1);
+		m_bytes[m_size++] = (byte) value;
+	}
+
+	/**
+	 * Writes two bytes.
+	 *
+	 * @param value The short, of which only the low 16 bits are written.
+	 */
+	void putShort(int value) {
+		ensureCapacity(2);
+		m_bytes[m_size++] = (byte) (value >>> 8);
+		m_bytes[m_size++] = (byte) value;
+	}
+
+	/**
+	 * Writes four bytes.
+	 *
+	 * @param value The integer.
+	 */
+	void putInt(int value) {
+		ensureCapacity(4);
+		m_bytes[m_size++] = (byte) (value >>> 24);
+		m_bytes[m_size++] = (byte) (value >>> 16);
+		m_bytes[m_size++] = (byte) (value >>> 8);
+		m_bytes[m_size++] = (byte) value;
+	}
+
+	/**
+	 * Overwrites two bytes that have already been written.
+	 *
+	 * @param position The position of the bytes.
+	 * @param value    The short, of which only the low 16 bits are written.
+	 */
+	void setShort(int position, int value) {
+		m_bytes[position] = (byte) (value >>> 8);
+		m_bytes[position + 1] = (byte) value;
+	}
+
+	/**
+	 * Writes a string in the modified UTF-8 of the class file format, preceded by its length in bytes.
+	 *
+	 * @param string The string.
+	 */
+	void putUtf8(String string) {
+		int lengthPosition = m_size;
+		putShort(0);
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c >= 0x01 && c <= 0x7f) {
+				putByte(c);
+			} else if (c <= 0x7ff) {
+				putByte(0xc0 | (c >> 6));
+				putByte(0x80 | (c & 0x3f));
+			} else {
+				putByte(0xe0 | (c >> 12));
+				putByte(0x80 | ((c >> 6) & 0x3f));
+				putByte(0x80 | (c & 0x3f));
+			}
+		}
+		setShort(lengthPosition, m_size - lengthPosition - 2);
+	}
+
+	/**
+	 * Writes the bytes of another vector.
+	 *
+	 * @param byteVector The vector whose bytes are written.
+	 */
+	void putBytes(ByteVector byteVector) {
+		ensureCapacity(byteVector.m_size);
+		System.arraycopy(byteVector.m_bytes, 0, m_bytes, m_size, byteVector.m_size);
+		m_size += byteVector.m_size;
+	}
+
+	/**
+	 * Gets a copy of the bytes written.
+	 */
+	byte[] toByteArray() {
+		return Arrays.copyOf(m_bytes, m_size);
+	}
+
+	/**
+	 * Ensures that a number of bytes may be written without growing the vector.
+	 *
+	 * @param size The number of bytes.
+	 */
+	private void ensureCapacity(int size) {
+		if (m_size + size > m_bytes.length) {
+			m_bytes = Arrays.copyOf(m_bytes, Math.max(m_bytes.length * 2, m_size + size));
+		}
+	}
+}
@@ -0,0 +1,296 @@
+package jvm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a class that is generated at run-time (or ahead of time), which is assembled into the class file format of the Java virtual machine.
+ * Classes are generated in version 49 (Java 5) of the format, whose verifier infers the types of the operand stack and local variables, so the code of a method needs no stack map frames.
+ */
+public final class ClassFile {
+
+	/**
+	 * Represents the access flag of public classes, fields and methods.
+	 */
+	public static final int ACC_PUBLIC = 0x0001;
+	/**
+	 * Represents the access flag of private fields and methods.
+	 */
+	public static final int ACC_PRIVATE = 0x0002;
+	/**
+	 * Represents the access flag of static fields and methods.
+	 */
+	public static final int ACC_STATIC = 0x0008;
+	/**
+	 * Represents the access flag of final classes, fields and methods.
+	 */
+	public static final int ACC_FINAL = 0x0010;
+	/**
+	 * Represents the access flag of classes whose invocations of superclass methods are resolved dynamically, which every modern class sets.
+	 */
+	private static final int ACC_SUPER = 0x0020;
+	/**
+	 * Represents the magic number that begins a class file.
+	 */
+	private static final int MAGIC = 0xcafebabe;
+	/**
+	 * Represents the major version of the class file format.
+	 */
+	private static final int MAJOR_VERSION = 49;
+	/**
+	 * Represents the tags of the entries of the constant pool.
+	 */
+	private static final int CONSTANT_UTF8 = 1, CONSTANT_INTEGER = 3, CONSTANT_CLASS = 7, CONSTANT_STRING = 8, CONSTANT_FIELD_REFERENCE = 9, CONSTANT_METHOD_REFERENCE = 10, CONSTANT_NAME_AND_TYPE = 12;
+
+	/**
+	 * Represents the internal name of the class (e.g. "interpreter/Unit1").
+	 */
+	private final String m_name;
+	/**
+	 * Represents the index of the class in the constant pool.
+	 */
+	private final int m_index;
+	/**
+	 * Represents the index of the superclass in the constant pool.
+	 */
+	private final int m_superIndex;
+	/**
+	 * Represents the indices of the interfaces of the class in the constant pool.
+	 */
+	private final ByteVector m_interfaces;
+	/**
+	 * Represents the number of interfaces of the class.
+	 */
+	private int m_interfaceCount;
+	/**
+	 * Represents the entries of the constant pool.
+	 */
+	private final ByteVector m_constantPool;
+	/**
+	 * Represents the indices of the entries of the constant pool, keyed by their tags and contents, so that each entry is written once.
+	 */
+	private final Map<String, Integer> m_constants;
+	/**
+	 * Represents the number of entries of the constant pool plus one (i.e. the index of the next entry).
+	 */
+	private int m_constantCount;
+	/**
+	 * Represents the fields of the class.
+	 */
+	private final ByteVector m_fields;
+	/**
+	 * Represents the number of fields of the class.
+	 */
+	private int m_fieldCount;
+	/**
+	 * Represents the methods of the class.
+	 */
+	private final ByteVector m_methods;
+	/**
+	 * Represents the number of methods of the class.
+	 */
+	private int m_methodCount;
+
+	/**
+	 * Constructs a public, final class that has no interfaces, fields or methods.
+	 *
+	 * @param name      The internal name of the class.
+	 * @param superName The internal name of the superclass (e.g. "java/lang/Object").
+	 */
+	public ClassFile(String name, String superName) {
+		m_name = name;
+		m_constantPool = new ByteVector();
+		m_constants = new HashMap<String, Integer>();
+		m_constantCount = 1;
+		m_interfaces = new ByteVector();
+		m_fields = new ByteVector();
+		m_methods = new ByteVector();
+		m_index = getClass(name);
+		m_superIndex = getClass(superName);
+	}
+
+	/**
+	 * Gets the internal name of the class.
+	 */
+	public String getName() {
+		return m_name;
+	}
+
+	/**
+	 * Adds an interface to the class.
+	 *
+	 * @param name The internal name of the interface (e.g. "java/lang/Runnable").
+	 */
+	public void addInterface(String name) {
+		m_interfaces.putShort(getClass(name));
+		m_interfaceCount++;
+	}
+
+	/**
+	 * Adds a field to the class.
+	 *
+	 * @param access     The access flags of the field.
+	 * @param name       The name of the field.
+	 * @param descriptor The descriptor of the field.
+	 */
+	public void addField(int access, String name, String descriptor) {
+		m_fields.putShort(access);
+		m_fields.putShort(getUtf8(name));
+		m_fields.putShort(getUtf8(descriptor));
+		m_fields.putShort(0);
+		m_fieldCount++;
+	}
+
+	/**
+	 * Adds a method to the class.
+	 *
+	 * @param access     The access flags of the method.
+	 * @param name       The name of the method.
+	 * @param descriptor The descriptor of the method.
+	 * @param code       The code of the method, which must be at most {@link Code#MAXIMUM_SIZE} bytes.
+	 */
+	public void addMethod(int access, String name, String descriptor, Code code) {
+		ByteVector bytes = code.getBytes();
+		m_methods.putShort(access);
+		m_methods.putShort(getUtf8(name));
+		m_methods.putShort(getUtf8(descriptor));
+		m_methods.putShort(1);
+		m_methods.putShort(getUtf8("Code"));
+		m_methods.putInt(12 + bytes.getSize());
+		m_methods.putShort(code.getMaximumStackSize());
+		m_methods.putShort(code.getMaximumLocals());
+		m_methods.putInt(bytes.getSize());
+		m_methods.putBytes(bytes);
+		m_methods.putShort(0);
+		m_methods.putShort(0);
+		m_methodCount++;
+	}
+
+	/**
+	 * Assembles the class file.
+	 */
+	public byte[] toByteArray() {
+		ByteVector classFile = new ByteVector();
+		classFile.putInt(MAGIC);
+		classFile.putShort(0);
+		classFile.putShort(MAJOR_VERSION);
+		classFile.putShort(m_constantCount);
+		classFile.putBytes(m_constantPool);
+		classFile.putShort(ClassFile.ACC_PUBLIC | ClassFile.ACC_FINAL | ACC_SUPER);
+		classFile.putShort(m_index);
+		classFile.putShort(m_superIndex);
+		classFile.putShort(m_interfaceCount);
+		classFile.putBytes(m_interfaces);
+		classFile.putShort(m_fieldCount);
+		classFile.putBytes(m_fields);
+		classFile.putShort(m_methodCount);
+		classFile.putBytes(m_methods);
+		classFile.putShort(0);
+		return classFile.toByteArray();
+	}
+
+	/**
+	 * Gets the index of an integer constant in the constant pool.
+	 *
+	 * @param value The integer.
+	 */
+	int getInteger(int value) {
+		String key = CONSTANT_INTEGER + ":" + value;
+		Integer index = m_constants.get(key);
+		if (index == null) {
+			m_constantPool.putByte(CONSTANT_INTEGER);
+			m_constantPool.putInt(value);
+			index = add(key);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of a string constant in the constant pool.
+	 *
+	 * @param value The string.
+	 */
+	int getString(String value) {
+		return getReference(CONSTANT_STRING, getUtf8(value), -1);
+	}
+
+	/**
+	 * Gets the index of a class in the constant pool.
+	 *
+	 * @param name The internal name of the class.
+	 */
+	int getClass(String name) {
+		return getReference(CONSTANT_CLASS, getUtf8(name), -1);
+	}
+
+	/**
+	 * Gets the index of a reference to a field in the constant pool.
+	 *
+	 * @param owner      The internal name of the class that declares the field.
+	 * @param name       The name of the field.
+	 * @param descriptor The descriptor of the field.
+	 */
+	int getFieldReference(String owner, String name, String descriptor) {
+		return getReference(CONSTANT_FIELD_REFERENCE, getClass(owner), getReference(CONSTANT_NAME_AND_TYPE, getUtf8(name), getUtf8(descriptor)));
+	}
+
+	/**
+	 * Gets the index of a reference to a method in the constant pool.
+	 *
+	 * @param owner      The internal name of the class that declares the method.
+	 * @param name       The name of the method.
+	 * @param descriptor The descriptor of the method.
+	 */
+	int getMethodReference(String owner, String name, String descriptor) {
+		return getReference(CONSTANT_METHOD_REFERENCE, getClass(owner), getReference(CONSTANT_NAME_AND_TYPE, getUtf8(name), getUtf8(descriptor)));
+	}
+
+	/**
+	 * Gets the index of a string in the constant pool.
+	 *
+	 * @param value The string.
+	 */
+	private int getUtf8(String value) {
+		String key = CONSTANT_UTF8 + ":" + value;
+		Integer index = m_constants.get(key);
+		if (index == null) {
+			m_constantPool.putByte(CONSTANT_UTF8);
+			m_constantPool.putUtf8(value);
+			index = add(key);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of an entry of the constant pool that refers to one or two other entries.
+	 *
+	 * @param tag    The tag of the entry.
+	 * @param first  The index of the first entry referred to.
+	 * @param second The index of the second entry referred to, or -1 if there is none.
+	 */
+	private int getReference(int tag, int first, int second) {
+		String key = tag + ":" + first + ":" + second;
+		Integer index = m_constants.get(key);
+		if (index == null) {
+			m_constantPool.putByte(tag);
+			m_constantPool.putShort(first);
+			if (second >= 0) {
+				m_constantPool.putShort(second);
+			}
+			index = add(key);
+		}
+		return index;
+	}
+
+	/**
+	 * Adds an entry to the constant pool.
+	 *
+	 * @param key The key of the entry.
+	 */
+	private int add(String key) {
+		int index = m_constantCount;
+		m_constants.put(key, index);
+		m_constantCount++;
+		return index;
+	}
+}
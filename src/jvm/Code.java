@@ -0,0 +1,352 @@
+package jvm;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+
+/**
+ * Represents the code of a method of a generated class, which tracks the depth of the operand stack and the number of local variables as instructions are emitted.
+ * Jumps are emitted with two-byte offsets, so the code of a method may be at most {@link #MAXIMUM_SIZE} bytes; larger code is not emitted into a class.
+ */
+public final class Code {
+
+	/**
+	 * Represents the maximum number of bytes of code whose jumps may be encoded.
+	 */
+	public static final int MAXIMUM_SIZE = Short.MAX_VALUE;
+
+	/**
+	 * Represents the class whose constant pool is referred to by the code.
+	 */
+	private final ClassFile m_classFile;
+	/**
+	 * Represents the bytes of the code.
+	 */
+	private final ByteVector m_bytes;
+	/**
+	 * Represents the current depth of the operand stack.
+	 */
+	private int m_stackSize;
+	/**
+	 * Represents the maximum depth of the operand stack.
+	 */
+	private int m_maximumStackSize;
+	/**
+	 * Represents the number of local variables (including the parameters).
+	 */
+	private int m_maximumLocals;
+
+	/**
+	 * Constructs the empty code of a method.
+	 *
+	 * @param classFile     The class whose constant pool is referred to by the code.
+	 * @param parameterSize The number of local variables occupied by the parameters (including "this").
+	 */
+	public Code(ClassFile classFile, int parameterSize) {
+		m_classFile = classFile;
+		m_bytes = new ByteVector();
+		m_maximumLocals = parameterSize;
+	}
+
+	/**
+	 * Gets the number of bytes of code.
+	 */
+	public int getSize() {
+		return m_bytes.getSize();
+	}
+
+	/**
+	 * Emits an instruction that has no operands.
+	 *
+	 * @param opcode The opcode of the instruction.
+	 */
+	public void emit(int opcode) {
+		m_bytes.putByte(opcode);
+		adjustStackSize(Opcode.getStackEffect(opcode));
+	}
+
+	/**
+	 * Emits the instruction that pushes an integer constant, choosing the shortest encoding.
+	 *
+	 * @param value The integer.
+	 */
+	public void pushInteger(int value) {
+		if (value >= -1 && value <= 5) {
+			m_bytes.putByte(Opcode.ICONST_0 + value);
+		} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			m_bytes.putByte(Opcode.BIPUSH);
+			m_bytes.putByte(value);
+		} else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			m_bytes.putByte(Opcode.SIPUSH);
+			m_bytes.putShort(value);
+		} else {
+			emitConstant(m_classFile.getInteger(value));
+			return;
+		}
+		adjustStackSize(1);
+	}
+
+	/**
+	 * Emits the instruction that pushes a string constant.
+	 *
+	 * @param value The string.
+	 */
+	public void pushString(String value) {
+		emitConstant(m_classFile.getString(value));
+	}
+
+	/**
+	 * Emits the instruction that pushes an integer local variable.
+	 *
+	 * @param local The index of the local variable.
+	 */
+	public void loadInteger(int local) {
+		emitLocal(Opcode.ILOAD, local, 1);
+	}
+
+	/**
+	 * Emits the instruction that pops an integer into a local variable.
+	 *
+	 * @param local The index of the local variable.
+	 */
+	public void storeInteger(int local) {
+		emitLocal(Opcode.ISTORE, local, -1);
+	}
+
+	/**
+	 * Emits the instruction that pushes a reference local variable.
+	 *
+	 * @param local The index of the local variable.
+	 */
+	public void loadReference(int local) {
+		emitLocal(Opcode.ALOAD, local, 1);
+	}
+
+	/**
+	 * Emits the instruction that pops a reference into a local variable.
+	 *
+	 * @param local The index of the local variable.
+	 */
+	public void storeReference(int local) {
+		emitLocal(Opcode.ASTORE, local, -1);
+	}
+
+	/**
+	 * Emits a jump to a label, whose offset is patched once the label is marked if it has not been already.
+	 *
+	 * @param opcode The opcode of the jump (e.g. {@link Opcode#GOTO} or {@link Opcode#IF_ICMPLT}).
+	 * @param label  The target of the jump.
+	 */
+	public void jump(int opcode, Label label) {
+		int position = m_bytes.getSize();
+		m_bytes.putByte(opcode);
+		m_bytes.putShort(label.m_position >= 0 ? label.m_position - position : 0);
+		if (label.m_position < 0) {
+			label.m_references.add(position);
+		}
+		adjustStackSize(Opcode.getStackEffect(opcode));
+		label.m_stackSize = m_stackSize;
+	}
+
+	/**
+	 * Marks the current position with a label, patching the jumps to it that have already been emitted.
+	 * The depth of the operand stack at the label is that of the jumps to it, since the instruction preceding the label need not fall through (e.g. a {@link Opcode#GOTO}).
+	 *
+	 * @param label The label.
+	 */
+	public void mark(Label label) {
+		if (label.m_position >= 0) {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+		label.m_position = m_bytes.getSize();
+		for (int reference : label.m_references) {
+			m_bytes.setShort(reference + 1, label.m_position - reference);
+		}
+		if (label.m_stackSize >= 0) {
+			m_stackSize = label.m_stackSize;
+		}
+	}
+
+	/**
+	 * Emits the invocation of a method.
+	 *
+	 * @param opcode     The opcode of the invocation (i.e. {@link Opcode#INVOKEVIRTUAL}, {@link Opcode#INVOKESPECIAL} or {@link Opcode#INVOKESTATIC}).
+	 * @param owner      The internal name of the class that declares the method (e.g. "java/lang/Object").
+	 * @param name       The name of the method.
+	 * @param descriptor The descriptor of the method (e.g. "(I)V").
+	 */
+	public void invoke(int opcode, String owner, String name, String descriptor) {
+		m_bytes.putByte(opcode);
+		m_bytes.putShort(m_classFile.getMethodReference(owner, name, descriptor));
+		int returnIndex = descriptor.indexOf(')') + 1;
+		int stackEffect = getSize(descriptor.charAt(returnIndex)) - getParameterSize(descriptor.substring(1, returnIndex - 1));
+		adjustStackSize(opcode == Opcode.INVOKESTATIC ? stackEffect : stackEffect - 1);
+	}
+
+	/**
+	 * Emits an access to a field.
+	 *
+	 * @param opcode     The opcode of the access (i.e. {@link Opcode#GETFIELD}, {@link Opcode#PUTFIELD}, {@link Opcode#GETSTATIC} or {@link Opcode#PUTSTATIC}).
+	 * @param owner      The internal name of the class that declares the field.
+	 * @param name       The name of the field.
+	 * @param descriptor The descriptor of the field (e.g. "[I").
+	 */
+	public void field(int opcode, String owner, String name, String descriptor) {
+		m_bytes.putByte(opcode);
+		m_bytes.putShort(m_classFile.getFieldReference(owner, name, descriptor));
+		int size = getSize(descriptor.charAt(0));
+		switch (opcode) {
+			case Opcode.GETFIELD:
+				adjustStackSize(size - 1);
+				break;
+			case Opcode.PUTFIELD:
+				adjustStackSize(-size - 1);
+				break;
+			case Opcode.GETSTATIC:
+				adjustStackSize(size);
+				break;
+			case Opcode.PUTSTATIC:
+				adjustStackSize(-size);
+				break;
+			default:
+				ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Emits an instruction whose operand is a class.
+	 *
+	 * @param opcode    The opcode of the instruction (i.e. {@link Opcode#NEW}, {@link Opcode#ANEWARRAY} or {@link Opcode#CHECKCAST}).
+	 * @param className The internal name of the class.
+	 */
+	public void type(int opcode, String className) {
+		m_bytes.putByte(opcode);
+		m_bytes.putShort(m_classFile.getClass(className));
+		adjustStackSize(opcode == Opcode.NEW ? 1 : 0);
+	}
+
+	/**
+	 * Emits the instruction that pops a length and pushes an array of integers.
+	 */
+	public void newIntegerArray() {
+		m_bytes.putByte(Opcode.NEWARRAY);
+		m_bytes.putByte(Opcode.T_INT);
+	}
+
+	/**
+	 * Appends other code, which may thus be emitted before the code that precedes it (e.g. a prologue that depends on the instructions that follow it).
+	 * Jumps are relative, so they remain valid once appended; the appended code must not jump out of itself.
+	 *
+	 * @param code The code to append.
+	 */
+	public void append(Code code) {
+		m_bytes.putBytes(code.m_bytes);
+		m_maximumStackSize = Math.max(m_maximumStackSize, m_stackSize + code.m_maximumStackSize);
+		m_maximumLocals = Math.max(m_maximumLocals, code.m_maximumLocals);
+		m_stackSize += code.m_stackSize;
+	}
+
+	/**
+	 * Gets the maximum depth of the operand stack.
+	 */
+	int getMaximumStackSize() {
+		return m_maximumStackSize;
+	}
+
+	/**
+	 * Gets the number of local variables.
+	 */
+	int getMaximumLocals() {
+		return m_maximumLocals;
+	}
+
+	/**
+	 * Gets the bytes of the code.
+	 */
+	ByteVector getBytes() {
+		return m_bytes;
+	}
+
+	/**
+	 * Emits the instruction that pushes an entry of the constant pool.
+	 *
+	 * @param index The index of the entry.
+	 */
+	private void emitConstant(int index) {
+		if (index <= 0xff) {
+			m_bytes.putByte(Opcode.LDC);
+			m_bytes.putByte(index);
+		} else {
+			m_bytes.putByte(Opcode.LDC_W);
+			m_bytes.putShort(index);
+		}
+		adjustStackSize(1);
+	}
+
+	/**
+	 * Emits an instruction whose operand is a local variable, widening the index if necessary.
+	 *
+	 * @param opcode      The opcode of the instruction.
+	 * @param local       The index of the local variable.
+	 * @param stackEffect The change to the depth of the operand stack.
+	 */
+	private void emitLocal(int opcode, int local, int stackEffect) {
+		if (local <= 0xff) {
+			m_bytes.putByte(opcode);
+			m_bytes.putByte(local);
+		} else {
+			m_bytes.putByte(Opcode.WIDE);
+			m_bytes.putByte(opcode);
+			m_bytes.putShort(local);
+		}
+		m_maximumLocals = Math.max(m_maximumLocals, local + 1);
+		adjustStackSize(stackEffect);
+	}
+
+	/**
+	 * Changes the depth of the operand stack.
+	 *
+	 * @param stackEffect The change to the depth.
+	 */
+	private void adjustStackSize(int stackEffect) {
+		m_stackSize += stackEffect;
+		m_maximumStackSize = Math.max(m_maximumStackSize, m_stackSize);
+	}
+
+	/**
+	 * Gets the number of stack entries occupied by the parameters of a method descriptor.
+	 *
+	 * @param parameters The parameters of the descriptor (i.e. the descriptor between its parentheses).
+	 */
+	private static int getParameterSize(String parameters) {
+		int size = 0;
+		for (int i = 0; i < parameters.length(); i++) {
+			char c = parameters.charAt(i);
+			size += getSize(c);
+			while (c == '[') {
+				c = parameters.charAt(++i);
+			}
+			if (c == 'L') {
+				i = parameters.indexOf(';', i);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Gets the number of stack entries occupied by a value of a type.
+	 *
+	 * @param descriptor The first character of the descriptor of the type.
+	 */
+	private static int getSize(char descriptor) {
+		switch (descriptor) {
+			case 'V':
+				return 0;
+			case 'J':
+			case 'D':
+				return 2;
+			default:
+				return 1;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package jvm;
+
+/**
+ * Represents the class loader of generated classes, which resolves the classes that they refer to (e.g. those of the interpreter) through its parent.
+ */
+public final class GeneratedClassLoader extends ClassLoader {
+
+	/**
+	 * Constructs a class loader of generated classes.
+	 *
+	 * @param parent The class loader of the classes that generated classes refer to.
+	 */
+	public GeneratedClassLoader(ClassLoader parent) {
+		super(parent);
+	}
+
+	/**
+	 * Defines a generated class.
+	 *
+	 * @param classFile The generated class.
+	 */
+	public Class<?> define(ClassFile classFile) {
+		byte[] bytes = classFile.toByteArray();
+		return defineClass(classFile.getName().replace('/', '.'), bytes, 0, bytes.length);
+	}
+}
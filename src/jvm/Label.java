@@ -0,0 +1,32 @@
+package jvm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a position in the code of a method that is the target of jumps, which may be emitted before the position is marked.
+ */
+public final class Label {
+
+	/**
+	 * Represents the position of the label, or -1 if it has not yet been marked.
+	 */
+	int m_position;
+	/**
+	 * Represents the depth of the operand stack at the label, or -1 if no jump to it has been emitted.
+	 */
+	int m_stackSize;
+	/**
+	 * Represents the positions of the jumps that were emitted before the label was marked, whose offsets are patched when it is.
+	 */
+	final List<Integer> m_references;
+
+	/**
+	 * Constructs an unmarked label.
+	 */
+	public Label() {
+		m_position = -1;
+		m_stackSize = -1;
+		m_references = new ArrayList<Integer>();
+	}
+}
@@ -0,0 +1,294 @@
+package jvm;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+
+/**
+ * Defines the opcodes of the Java virtual machine that are emitted into generated classes, each of which is followed in the code of a method by its operands.
+ * (Only the opcodes that SIMPLE needs are defined; see chapter 6 of the Java Virtual Machine Specification for the others.)
+ */
+public final class Opcode {
+
+	/**
+	 * Pushes the integer -1; the integers 0 to 5 follow consecutively.
+	 */
+	public static final int ICONST_M1 = 0x02;
+	/**
+	 * Pushes the integer 0.
+	 */
+	public static final int ICONST_0 = 0x03;
+	/**
+	 * Pushes a byte; operands: the byte.
+	 */
+	public static final int BIPUSH = 0x10;
+	/**
+	 * Pushes a short; operands: the short.
+	 */
+	public static final int SIPUSH = 0x11;
+	/**
+	 * Pushes a constant; operands: the (one-byte) index of the constant in the constant pool.
+	 */
+	public static final int LDC = 0x12;
+	/**
+	 * Pushes a constant; operands: the (two-byte) index of the constant in the constant pool.
+	 */
+	public static final int LDC_W = 0x13;
+	/**
+	 * Pushes an integer local variable; operands: the index of the local variable.
+	 */
+	public static final int ILOAD = 0x15;
+	/**
+	 * Pushes a reference local variable; operands: the index of the local variable.
+	 */
+	public static final int ALOAD = 0x19;
+	/**
+	 * Pops an array of integers and an index, and pushes the element.
+	 */
+	public static final int IALOAD = 0x2e;
+	/**
+	 * Pops an array of references and an index, and pushes the element.
+	 */
+	public static final int AALOAD = 0x32;
+	/**
+	 * Pops an integer into a local variable; operands: the index of the local variable.
+	 */
+	public static final int ISTORE = 0x36;
+	/**
+	 * Pops a reference into a local variable; operands: the index of the local variable.
+	 */
+	public static final int ASTORE = 0x3a;
+	/**
+	 * Pops an array of integers, an index and an integer, and stores the integer in the element.
+	 */
+	public static final int IASTORE = 0x4f;
+	/**
+	 * Pops an array of references, an index and a reference, and stores the reference in the element.
+	 */
+	public static final int AASTORE = 0x53;
+	/**
+	 * Pops a value.
+	 */
+	public static final int POP = 0x57;
+	/**
+	 * Duplicates the value on top of the stack.
+	 */
+	public static final int DUP = 0x59;
+	/**
+	 * Duplicates the value on top of the stack beneath the value below it.
+	 */
+	public static final int DUP_X1 = 0x5a;
+	/**
+	 * Duplicates the value on top of the stack beneath the two values below it.
+	 */
+	public static final int DUP_X2 = 0x5b;
+	/**
+	 * Swaps the two values on top of the stack.
+	 */
+	public static final int SWAP = 0x5f;
+	/**
+	 * Pops two integers and pushes their sum.
+	 */
+	public static final int IADD = 0x60;
+	/**
+	 * Pops two integers and pushes their difference.
+	 */
+	public static final int ISUB = 0x64;
+	/**
+	 * Pops two integers and pushes their product.
+	 */
+	public static final int IMUL = 0x68;
+	/**
+	 * Pops two integers and pushes their quotient (truncated towards zero).
+	 */
+	public static final int IDIV = 0x6c;
+	/**
+	 * Pops two integers and pushes the remainder of their division.
+	 */
+	public static final int IREM = 0x70;
+	/**
+	 * Pops an integer and pushes its negation.
+	 */
+	public static final int INEG = 0x74;
+	/**
+	 * Pops an integer and a distance, and pushes the integer shifted left by the distance.
+	 */
+	public static final int ISHL = 0x78;
+	/**
+	 * Increments an integer local variable; operands: the index of the local variable and the (signed byte) increment.
+	 */
+	public static final int IINC = 0x84;
+	/**
+	 * Pops an integer and jumps if it is 0; operands: the (two-byte) offset of the target.
+	 */
+	public static final int IFEQ = 0x99;
+	/**
+	 * Pops an integer and jumps if it is not 0; operands: the offset of the target.
+	 */
+	public static final int IFNE = 0x9a;
+	/**
+	 * Pops an integer and jumps if it is less than 0; operands: the offset of the target.
+	 */
+	public static final int IFLT = 0x9b;
+	/**
+	 * Pops an integer and jumps if it is at least 0; operands: the offset of the target.
+	 */
+	public static final int IFGE = 0x9c;
+	/**
+	 * Pops an integer and jumps if it is greater than 0; operands: the offset of the target.
+	 */
+	public static final int IFGT = 0x9d;
+	/**
+	 * Pops an integer and jumps if it is at most 0; operands: the offset of the target.
+	 */
+	public static final int IFLE = 0x9e;
+	/**
+	 * Pops two integers and jumps if they are equal; operands: the offset of the target.
+	 */
+	public static final int IF_ICMPEQ = 0x9f;
+	/**
+	 * Pops two integers and jumps if they are not equal; operands: the offset of the target.
+	 */
+	public static final int IF_ICMPNE = 0xa0;
+	/**
+	 * Pops two integers and jumps if the first is less than the second; operands: the offset of the target.
+	 */
+	public static final int IF_ICMPLT = 0xa1;
+	/**
+	 * Pops two integers and jumps if the first is at least the second; operands: the offset of the target.
+	 */
+	public static final int IF_ICMPGE = 0xa2;
+	/**
+	 * Pops two integers and jumps if the first is greater than the second; operands: the offset of the target.
+	 */
+	public static final int IF_ICMPGT = 0xa3;
+	/**
+	 * Pops two integers and jumps if the first is at most the second; operands: the offset of the target.
+	 */
+	public static final int IF_ICMPLE = 0xa4;
+	/**
+	 * Jumps; operands: the offset of the target.
+	 */
+	public static final int GOTO = 0xa7;
+	/**
+	 * Pops an integer and returns it from the method.
+	 */
+	public static final int IRETURN = 0xac;
+	/**
+	 * Returns from a void method.
+	 */
+	public static final int RETURN = 0xb1;
+	/**
+	 * Pushes a static field; operands: the index of the field reference in the constant pool.
+	 */
+	public static final int GETSTATIC = 0xb2;
+	/**
+	 * Pops a value into a static field; operands: the index of the field reference in the constant pool.
+	 */
+	public static final int PUTSTATIC = 0xb3;
+	/**
+	 * Pops an object and pushes its field; operands: the index of the field reference in the constant pool.
+	 */
+	public static final int GETFIELD = 0xb4;
+	/**
+	 * Pops an object and a value into its field; operands: the index of the field reference in the constant pool.
+	 */
+	public static final int PUTFIELD = 0xb5;
+	/**
+	 * Pops an object and arguments and invokes a method of the object; operands: the index of the method reference in the constant pool.
+	 */
+	public static final int INVOKEVIRTUAL = 0xb6;
+	/**
+	 * Pops an object and arguments and invokes a constructor (or private method) of the object; operands: the index of the method reference in the constant pool.
+	 */
+	public static final int INVOKESPECIAL = 0xb7;
+	/**
+	 * Pops arguments and invokes a static method; operands: the index of the method reference in the constant pool.
+	 */
+	public static final int INVOKESTATIC = 0xb8;
+	/**
+	 * Pushes an uninitialized object; operands: the index of its class in the constant pool.
+	 */
+	public static final int NEW = 0xbb;
+	/**
+	 * Pops a length and pushes an array of primitives; operands: the type of the elements (e.g. {@link #T_INT}).
+	 */
+	public static final int NEWARRAY = 0xbc;
+	/**
+	 * Pops a length and pushes an array of references; operands: the index of the class of the elements in the constant pool.
+	 */
+	public static final int ANEWARRAY = 0xbd;
+	/**
+	 * Pops an array and pushes its length.
+	 */
+	public static final int ARRAYLENGTH = 0xbe;
+	/**
+	 * Verifies that the reference on top of the stack is an instance of a class; operands: the index of the class in the constant pool.
+	 */
+	public static final int CHECKCAST = 0xc0;
+	/**
+	 * Widens the index of the local variable of the instruction that follows it to two bytes; operands: the instruction.
+	 */
+	public static final int WIDE = 0xc4;
+
+	/**
+	 * Represents the type of an array of integers, which is the operand of {@link #NEWARRAY}.
+	 */
+	public static final int T_INT = 10;
+
+	/**
+	 * Constructs nothing: the opcodes are constants.
+	 */
+	private Opcode() {
+	}
+
+	/**
+	 * Gets the change to the depth of the operand stack of an opcode that has no operands (or whose operands do not affect the stack).
+	 *
+	 * @param opcode The opcode.
+	 */
+	public static int getStackEffect(int opcode) {
+		switch (opcode) {
+			case DUP:
+			case DUP_X1:
+			case DUP_X2:
+				return 1;
+			case SWAP:
+			case INEG:
+			case ARRAYLENGTH:
+			case GOTO:
+			case RETURN:
+			case IINC:
+				return 0;
+			case POP:
+			case IALOAD:
+			case AALOAD:
+			case IADD:
+			case ISUB:
+			case IMUL:
+			case IDIV:
+			case IREM:
+			case ISHL:
+			case IFEQ:
+			case IFNE:
+			case IFLT:
+			case IFGE:
+			case IFGT:
+			case IFLE:
+			case IRETURN:
+				return -1;
+			case IF_ICMPEQ:
+			case IF_ICMPNE:
+			case IF_ICMPLT:
+			case IF_ICMPGE:
+			case IF_ICMPGT:
+			case IF_ICMPLE:
+				return -2;
+			case IASTORE:
+			case AASTORE:
+				return -3;
+			default:
+				return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+}
@@ -24,11 +24,14 @@ import parser.semanticAnalysis.symbolTable.declarations.variable.VariableBuilder
 import parser.semanticAnalysis.symbolTable.scope.ScopeManager;
 import parser.syntacticAnalysis.ProductionRule;
 import parser.syntacticAnalysis.SyntacticValidator;
+import parser.syntacticAnalysis.TerminalSets;
+import parser.syntacticAnalysis.events.NonTerminalSymbol;
 import parser.syntacticAnalysis.events.ParserEvent;
 import parser.syntacticAnalysis.events.dispatcher.ParserEventDispatcher;
 import parser.utilities.DesignatorType;
 import parser.utilities.ExpressionParser;
 import parser.utilities.TokenIterator;
+import shared.ITokenSource;
 import shared.Reserved;
 import shared.Token;
 
@@ -77,6 +80,15 @@ public class Parser extends ParserEventDispatcher {
 		TokenIterator.getInstance().setTokens(tokens);
 	}
 
+	/**
+	 * Sets the source from which tokens are pulled as they are parsed.
+	 *
+	 * @param tokenSource The source of the tokens to be parsed.
+	 */
+	public void setTokenSource(ITokenSource tokenSource) {
+		TokenIterator.getInstance().setTokenSource(tokenSource);
+	}
+
 	/**
 	 * Gets the abstract syntax tree in the form of a list of instructions.
 	 */
@@ -91,6 +103,7 @@ public class Parser extends ParserEventDispatcher {
 	 */
 	public boolean parseTokens() {
 		matchProgram();
+		flushEvents();
 		SemanticValidator.getInstance().validateProcedures();
 		return !(SyntacticValidator.getInstance().encounteredExceptions() || SemanticValidator.getInstance().encounteredExceptions());
 	}
@@ -99,7 +112,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of the program.
 	 */
 	private void matchProgram() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Program");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.PROGRAM);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.PROGRAM);
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
@@ -117,16 +130,16 @@ public class Parser extends ParserEventDispatcher {
 		SemanticValidator.getInstance().validateProgramIdentifier(TokenIterator.getInstance().getCurrent());
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.PERIOD);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Program");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.PROGRAM);
 	}
 
 	/**
 	 * Matches the grammatical correctness of the declarations.
 	 */
 	private void matchDeclarations() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Declarations");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.DECLARATIONS);
 
-		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Reserved.Keyword.CONST, Reserved.Keyword.TYPE, Reserved.Keyword.VAR, Reserved.Keyword.PROCEDURE)) {
+		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, TerminalSets.DECLARATIONS)) {
 			if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Reserved.Keyword.CONST)) {
 				matchConstantDeclarations();
 			} else if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Reserved.Keyword.TYPE)) {
@@ -138,17 +151,18 @@ public class Parser extends ParserEventDispatcher {
 			}
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Declarations");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.DECLARATIONS);
 	}
 
 	/**
 	 * Matches the grammatical correctness of constant declarations.
 	 */
 	private void matchConstantDeclarations() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "ConstDecl");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.CONST_DECL);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.CONST);
 		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER)) {
+			TokenIterator.getInstance().release();
 			SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
 			int startingIndex = TokenIterator.getInstance().getIndex();
 			ConstantBuilder.getInstance().startBuilding();
@@ -163,17 +177,18 @@ public class Parser extends ParserEventDispatcher {
 			ConstantBuilder.getInstance().reset();
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "ConstDecl");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.CONST_DECL);
 	}
 
 	/**
 	 * Matches the grammatical correctness of type declarations.
 	 */
 	private void matchTypeDeclarations() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "TypeDecl");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.TYPE_DECL);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.TYPE);
 		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER)) {
+			TokenIterator.getInstance().release();
 			SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
 			String name = TokenIterator.getInstance().getCurrent().getValue().toString();
 
@@ -183,31 +198,32 @@ public class Parser extends ParserEventDispatcher {
 			SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.SEMICOLON);
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "TypeDecl");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.TYPE_DECL);
 	}
 
 	/**
 	 * Matches the grammatical correctness of variable declarations.
 	 */
 	private void matchVariableDeclarations() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "VarDecl");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.VAR_DECL);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.VAR);
 		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER)) {
+			TokenIterator.getInstance().release();
 			List<Token> identifiers = matchIdentifierList();
 			SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.COLON);
 			VariableBuilder.getInstance().insertVariablesIntoSymbolTable(identifiers, matchType(TokenIterator.getInstance().getName(identifiers)));
 			SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.SEMICOLON);
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "VarDecl");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.VAR_DECL);
 	}
 
 	/**
 	 * Matches the grammatical correctness of procedure declarations.
 	 */
 	private void matchProcedureDeclarations() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "ProcDecl");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.PROC_DECL);
 
 		boolean hasReturnType = false;
 
@@ -242,6 +258,7 @@ public class Parser extends ParserEventDispatcher {
 		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Reserved.Keyword.VAR)) {
 			SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.VAR);
 			while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER)) {
+				TokenIterator.getInstance().release();
 				List<Token> identifiers = matchIdentifierList();
 				SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.COLON);
 				localVariables.put(identifiers, matchType(TokenIterator.getInstance().getName(identifiers)));
@@ -276,7 +293,7 @@ public class Parser extends ParserEventDispatcher {
 		if (ProcedureBuilder.getInstance().containsPromise(name)) {
 			ProcedureBuilder.getInstance().finalizeSwap(ProcedureBuilder.getInstance().getPromise(name));
 		}
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "ProcDecl");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.PROC_DECL);
 	}
 
 	/**
@@ -305,11 +322,11 @@ public class Parser extends ParserEventDispatcher {
 	 * @param name The name of the type.
 	 */
 	private Type matchType(String name) {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Type");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.TYPE);
 
 		Type type = new InvalidType();
 		int startingIndex = TokenIterator.getInstance().getIndex() - 2;
-		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER, Reserved.Keyword.ARRAY, Reserved.Keyword.RECORD)) {
+		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.REQUIRED, TerminalSets.TYPE)) {
 			if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER)) {
 				SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
 				type = SemanticValidator.getInstance().validateDeclarationIsAType(ScopeManager.getInstance().getCurrentScope().find(TokenIterator.getInstance().getCurrent().getValue().toString()));
@@ -344,7 +361,7 @@ public class Parser extends ParserEventDispatcher {
 			}
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Type");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.TYPE);
 		return type;
 	}
 
@@ -352,30 +369,28 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of an expression.
 	 */
 	private Expression matchExpression() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Expression");
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Expression");
-		return ExpressionParser.getInstance().parseExpression("matchTerm", true, Reserved.Symbol.PLUS, Reserved.Symbol.MINUS);
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.EXPRESSION);
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.EXPRESSION);
+		return ExpressionParser.getInstance().parseExpression(ExpressionParser.Precedence.ADDITIVE);
 	}
 
 	/**
-	 * Matches the grammatical correctness of a term.
+	 * Matches the grammatical correctness of a term; invoked by the expression parser for the operands of an expression.
 	 */
-	@SuppressWarnings("unused") // matchTerm() is invoked dynamically via ExpressionParser
-	private Expression matchTerm() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Term");
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Term");
-		return ExpressionParser.getInstance().parseExpression("matchFactor", false, Reserved.Symbol.ASTERISK, Reserved.Keyword.DIV, Reserved.Keyword.MOD);
+	public Expression matchTerm() {
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.TERM);
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.TERM);
+		return ExpressionParser.getInstance().parseExpression(ExpressionParser.Precedence.MULTIPLICATIVE);
 	}
 
 	/**
-	 * Matches the grammatical correctness of a factor.
+	 * Matches the grammatical correctness of a factor; invoked by the expression parser for the operands of a term.
 	 */
-	@SuppressWarnings("unused") // matchFactor() is invoked dynamically via ExpressionParser
-	private Expression matchFactor() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Factor");
+	public Expression matchFactor() {
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.FACTOR);
 
 		Expression expression = null;
-		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.REQUIRED, Token.Type.INTEGER, Token.Type.IDENTIFIER, Reserved.Symbol.OPENING_PARENTHESIS)) {
+		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.REQUIRED, TerminalSets.FACTOR)) {
 			if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.INTEGER)) {
 				SyntacticValidator.getInstance().matchNextToken(ProductionRule.OPTIONAL, Token.Type.INTEGER);
 				expression = new Number(new Constant((java.lang.Integer) TokenIterator.getInstance().getCurrent().getValue())); // TODO remove this cast.
@@ -394,7 +409,7 @@ public class Parser extends ParserEventDispatcher {
 			}
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Factor");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.FACTOR);
 		return expression;
 	}
 
@@ -404,7 +419,7 @@ public class Parser extends ParserEventDispatcher {
 	 * @param designatorType The type of the designator
 	 */
 	private Expression matchDesignator(DesignatorType designatorType) {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Designator");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.DESIGNATOR);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
 		SemanticValidator.getInstance().validateDeclarationIsNotAType(SemanticValidator.getInstance().validateDeclarationWasPreviouslyDeclared(TokenIterator.getInstance().getCurrent()));
@@ -437,7 +452,7 @@ public class Parser extends ParserEventDispatcher {
 			matchSelector(new InvalidVariable());// TODO ELSE (DISABLED)
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Designator");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.DESIGNATOR);
 		return expression;
 	}
 
@@ -447,10 +462,10 @@ public class Parser extends ParserEventDispatcher {
 	 * @param variable The variable from which to select.
 	 */
 	private Location matchSelector(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Selector");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.SELECTOR);
 
 		Location location = null;
-		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Reserved.Symbol.OPENING_BRACKET, Reserved.Symbol.PERIOD)) {
+		while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, TerminalSets.SELECTOR)) {
 			if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Reserved.Symbol.OPENING_BRACKET)) {
 				SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.OPENING_BRACKET);
 				location = SemanticValidator.getInstance().validateVariableIsNestedArray(variable, matchExpressionList(), location);
@@ -469,7 +484,7 @@ public class Parser extends ParserEventDispatcher {
 			}
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Selector");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.SELECTOR);
 		return location; //TODO HANDLE NULL RETURN
 	}
 
@@ -477,7 +492,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of an expression list.
 	 */
 	private List<Expression> matchExpressionList() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "ExpressionList");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.EXPRESSION_LIST);
 
 		List<Expression> expressions = new ArrayList<Expression>();
 		expressions.add(matchExpression());
@@ -486,7 +501,7 @@ public class Parser extends ParserEventDispatcher {
 			expressions.add(matchExpression());
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "ExpressionList");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.EXPRESSION_LIST);
 
 		return expressions;
 	}
@@ -495,7 +510,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of the instructions.
 	 */
 	private List<Instruction> matchInstructions() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Instructions");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.INSTRUCTIONS);
 		List<Instruction> instructions = new ArrayList<Instruction>();
 		Instruction instruction = matchInstruction();
 		instructions.add(instruction);
@@ -507,7 +522,7 @@ public class Parser extends ParserEventDispatcher {
 			instruction = nextInstruction;
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Instructions");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.INSTRUCTIONS);
 		return instructions;
 	}
 
@@ -515,10 +530,11 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of an instruction.
 	 */
 	private Instruction matchInstruction() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Instruction");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.INSTRUCTION);
 
+		TokenIterator.getInstance().release();
 		Instruction instruction = null; // TODO Invalid instruction.
-		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER, Reserved.Keyword.IF, Reserved.Keyword.REPEAT, Reserved.Keyword.WHILE, Reserved.Keyword.READ, Reserved.Keyword.WRITE)) {
+		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.REQUIRED, TerminalSets.INSTRUCTION)) {
 			if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER)) {
 				if (ScopeManager.getInstance().getCurrentScope().find(TokenIterator.getInstance().peek().getValue().toString()) instanceof Procedure || TokenIterator.getInstance().peek(2).getValue().toString().equals(Reserved.Symbol.OPENING_PARENTHESIS.toString())) {
 					instruction = matchCall();
@@ -538,7 +554,7 @@ public class Parser extends ParserEventDispatcher {
 			}
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Instruction");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.INSTRUCTION);
 		return instruction;
 	}
 
@@ -546,14 +562,14 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of an assignment.
 	 */
 	private Assign matchAssign() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Assign");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.ASSIGN);
 
 		Location location = SemanticValidator.getInstance().validateExpressionIsALocation(matchDesignator(DesignatorType.ASSIGN));
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.COLON_EQUALS);
 		Expression expression = matchExpression();
 		SemanticValidator.getInstance().validateExpressionsAreOfTheSameType(location, expression);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Assign");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.ASSIGN);
 		return new Assign(location, expression);
 	}
 
@@ -561,7 +577,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of an if-statement.
 	 */
 	private If matchIf() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "If");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.IF);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.IF);
 		Condition condition = matchCondition();
@@ -574,7 +590,7 @@ public class Parser extends ParserEventDispatcher {
 		}
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.END);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "If");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.IF);
 		return new If(condition, trueInstructions, falseInstructions);
 	}
 
@@ -582,7 +598,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a repeat-statement.
 	 */
 	private Repeat matchRepeat() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Repeat");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.REPEAT);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.REPEAT);
 		List<Instruction> instructions = matchInstructions();
@@ -591,7 +607,7 @@ public class Parser extends ParserEventDispatcher {
 		condition.negateExpression(); // REPEAT UNTIL --> DO WHILE
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.END);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Repeat");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.REPEAT);
 		return new Repeat(condition, instructions);
 	}
 
@@ -599,7 +615,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a while-statement.
 	 */
 	private If matchWhile() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "While");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.WHILE);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.WHILE);
 		Condition condition = matchCondition();
@@ -608,7 +624,7 @@ public class Parser extends ParserEventDispatcher {
 		instructions.add(new Repeat(condition, matchInstructions()));
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.END);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "While");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.WHILE);
 		condition = condition.clone();
 		return new If(condition, instructions);
 	}
@@ -617,25 +633,17 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a condition.
 	 */
 	private Condition matchCondition() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Condition");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.CONDITION);
 
 		Expression leftExpression = matchExpression();
 		SemanticValidator.getInstance().validateExpressionIsNumeric(leftExpression);
-		SyntacticValidator.getInstance().matchNextToken(
-				ProductionRule.REQUIRED,
-				Reserved.Symbol.EQUALS,
-				Reserved.Symbol.POUND,
-				Reserved.Symbol.LESS_THAN,
-				Reserved.Symbol.GREATER_THAN,
-				Reserved.Symbol.LESS_THAN_OR_EQUAL_TO,
-				Reserved.Symbol.GREATER_THAN_OR_EQUAL_TO
-		);
+		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, TerminalSets.RELATIONS);
 		Relation relation = Relation.getRelation(TokenIterator.getInstance().getCurrent().getValue().toString());
 
 		Expression rightExpression = matchExpression();
 		SemanticValidator.getInstance().validateExpressionIsNumeric(rightExpression);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Condition");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.CONDITION);
 
 		return new Condition(leftExpression, rightExpression, relation);
 	}
@@ -644,13 +652,13 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a write-statement.
 	 */
 	private Write matchWrite() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Write");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.WRITE);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.WRITE);
 		Expression expression = matchExpression();
 		SemanticValidator.getInstance().validateExpressionIsNumeric(expression);
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Write");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.WRITE);
 		return new Write(expression);
 	}
 
@@ -658,12 +666,12 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a read-statement.
 	 */
 	private Read matchRead() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Read");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.READ);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Keyword.READ);
 		Location location = SemanticValidator.getInstance().validateDeclarationIsAVariableWhoseTypeIsInteger(matchDesignator(DesignatorType.READ));
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Read");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.READ);
 		return new Read(location);
 	}
 
@@ -671,7 +679,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a call-statement.
 	 */
 	private Call matchCall() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Call");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.CALL);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
 		Procedure procedure = SemanticValidator.getInstance().validateIsProcedure(TokenIterator.getInstance().getCurrent().getValue().toString(), false);
@@ -679,7 +687,7 @@ public class Parser extends ParserEventDispatcher {
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.OPENING_PARENTHESIS);
 
 		List<Argument> arguments = new ArrayList<Argument>();
-		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER) || SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.INTEGER)) {
+		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, TerminalSets.ACTUALS)) {
 			for (Expression expression : matchExpressionList()) {
 				arguments.add(new Argument(expression));
 			}
@@ -687,7 +695,7 @@ public class Parser extends ParserEventDispatcher {
 		SemanticValidator.getInstance().validateProcedureArguments(procedure, arguments);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.CLOSING_PARENTHESIS);
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Call");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.CALL);
 		return new Call(arguments, procedure);
 	}
 
@@ -695,7 +703,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of a function-statement.
 	 */
 	private Function matchFunction() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "Function");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.FUNCTION);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
 		Procedure procedure = SemanticValidator.getInstance().validateIsProcedure(TokenIterator.getInstance().getCurrent().getValue().toString(), true);
@@ -703,7 +711,7 @@ public class Parser extends ParserEventDispatcher {
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.OPENING_PARENTHESIS);
 
 		List<Argument> arguments = new ArrayList<Argument>();
-		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.IDENTIFIER, Token.Type.INTEGER)) {
+		if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, TerminalSets.ACTUALS)) {
 			for (Expression expression : matchExpressionList()) {
 				arguments.add(new Argument(expression));
 			}
@@ -711,7 +719,7 @@ public class Parser extends ParserEventDispatcher {
 		SemanticValidator.getInstance().validateProcedureArguments(procedure, arguments);
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Reserved.Symbol.CLOSING_PARENTHESIS);
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "Function");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.FUNCTION);
 		return new Function(new Call(arguments, procedure));
 	}
 
@@ -719,7 +727,7 @@ public class Parser extends ParserEventDispatcher {
 	 * Matches the grammatical correctness of an identifier list.
 	 */
 	private List<Token> matchIdentifierList() {
-		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, "IdentifierList");
+		dispatchEvent(ParserEvent.BEGAN_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.IDENTIFIER_LIST);
 		List<Token> identifiers = new ArrayList<Token>();
 
 		SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, Token.Type.IDENTIFIER);
@@ -730,7 +738,7 @@ public class Parser extends ParserEventDispatcher {
 			identifiers.add(TokenIterator.getInstance().getCurrent());
 		}
 
-		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, "IdentifierList");
+		dispatchEvent(ParserEvent.FINISHED_PARSING_NON_TERMINAL_SYMBOL, NonTerminalSymbol.IDENTIFIER_LIST);
 		return identifiers;
 	}
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import exception.ExceptionStrength;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Operator;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.InvalidLocation;
@@ -506,16 +507,32 @@ public class SemanticValidator {
 		if (!isEnabled()) {
 			return;
 		}
-		String string = expression.toString();
-		if (string.indexOf("/0") != -1) {
+		if (isDividedByZero(expression, Operator.DIV)) {
 			m_encounteredExceptions = true;
 			ExceptionHandler.getInstance().throwException(exception.Exception.CONSTANT_DIVIDE_BY_ZERO, ExceptionStrength.WEAK, expression.toString());
-		} else if (string.indexOf("%0") != -1) {
+		} else if (isDividedByZero(expression, Operator.MOD)) {
 			m_encounteredExceptions = true;
 			ExceptionHandler.getInstance().throwException(exception.Exception.CONSTANT_MOD_BY_ZERO, ExceptionStrength.WEAK, expression.toString());
 		}
 	}
 
+	/**
+	 * Queries if an expression contains a division or modulo (i.e. the operator) by the number zero.
+	 *
+	 * @param expression The expression to query.
+	 * @param operator   The operator whose divisor to query.
+	 */
+	private boolean isDividedByZero(Expression expression, Operator operator) {
+		if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			if (binary.getOperator() == operator && binary.getRightExpression() instanceof Number && ((Number) binary.getRightExpression()).getConstant().getValue() == 0) {
+				return true;
+			}
+			return isDividedByZero(binary.getLeftExpression(), operator) || isDividedByZero(binary.getRightExpression(), operator);
+		}
+		return false;
+	}
+
 	/**
 	 * Validates that an identifier is a procedure.
 	 *
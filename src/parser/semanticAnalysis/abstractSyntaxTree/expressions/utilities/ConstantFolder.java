@@ -4,11 +4,15 @@ import parser.semanticAnalysis.SemanticValidator;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
 import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Operator;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
 import parser.semanticAnalysis.symbolTable.declarations.constants.constant.Constant;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
 
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * Folds constants.
@@ -25,6 +29,16 @@ public class ConstantFolder {
 	 */
 	private boolean m_isEnabled = true;
 
+	/**
+	 * Represents whether the constant folder algebraically simplifies expressions that cannot be folded.
+	 */
+	private boolean m_isSimplifying = false;
+
+	/**
+	 * Represents the numbers produced by algebraic simplification, mapped to the expressions they replaced.
+	 */
+	private Map<Expression, Expression> m_simplifications = new IdentityHashMap<Expression, Expression>();
+
 	/**
 	 * Gets the instance of the constant folder.
 	 */
@@ -50,35 +64,214 @@ public class ConstantFolder {
 		}
 	}
 
+	/**
+	 * Enables algebraic simplification (e.g. x+0, x*1, x*0 and x-x) of expressions that cannot be folded.
+	 */
+	public void enableAlgebraicSimplification() {
+		m_isSimplifying = true;
+	}
+
 	/**
 	 * Reduces an expression, if possible.
 	 *
 	 * @param expression The expression to reduce.
 	 */
 	public Expression reduceExpression(Expression expression) {
-		if (m_isEnabled) {
-			if (expression instanceof Binary) {
-				Binary binary = (Binary) expression;
-				if (binary.canBeFolded()) {
-					try {
-						ScriptEngineManager scriptEngineManager = new ScriptEngineManager();
-						ScriptEngine scriptEngine = scriptEngineManager.getEngineByName("JavaScript");
-						SemanticValidator.getInstance().validateDivisionAndModByZero(binary);
-						String binaryReduction = binary.toString();
-						Double reduction = (Double) scriptEngine.eval(binaryReduction);
-						return new Number(new Constant((reduction.intValue())));
-					} catch (ScriptException e) {
-						return expression;
+		if (m_isEnabled && expression instanceof Binary) {
+			Binary binary = restoreDivisor((Binary) expression);
+			if (binary.canBeFolded()) {
+				SemanticValidator.getInstance().validateDivisionAndModByZero(binary);
+				Integer reduction = evaluate(binary);
+				if (reduction != null) {
+					Number number = new Number(new Constant(reduction));
+					if (m_isSimplifying && isSimplified(binary)) {
+						m_simplifications.put(number, binary);
 					}
-				} else {
-					return expression;
+					return number;
+				}
+			}
+			if (m_isSimplifying) {
+				Expression simplification = simplify(binary);
+				if (simplification instanceof Number && simplification != binary.getLeftExpression() && simplification != binary.getRightExpression()) {
+					m_simplifications.put(simplification, binary);
 				}
-			} else {
-				return expression;
+				return simplification;
 			}
 		}
 		return expression;
 	}
-}
 
+	/**
+	 * Restores the divisor of a division or remainder that algebraic simplification reduced to a number (e.g. x-x to 0), so that dividing by zero remains an error at run time rather than becoming one at compile time.
+	 *
+	 * @param binary The binary expression whose divisor to restore.
+	 */
+	private Binary restoreDivisor(Binary binary) {
+		if ((binary.getOperator() == Operator.DIV || binary.getOperator() == Operator.MOD) && m_simplifications.containsKey(binary.getRightExpression())) {
+			return new Binary(binary.getOperator(), binary.getLeftExpression(), m_simplifications.get(binary.getRightExpression()), binary.getType());
+		}
+		return binary;
+	}
+
+	/**
+	 * Queries if a number of an expression was produced by algebraic simplification, in which case the expression's value is only known because of the simplification.
+	 *
+	 * @param expression The expression to query.
+	 */
+	private boolean isSimplified(Expression expression) {
+		if (m_simplifications.containsKey(expression)) {
+			return true;
+		} else if (expression instanceof Binary) {
+			return isSimplified(((Binary) expression).getLeftExpression()) || isSimplified(((Binary) expression).getRightExpression());
+		} else {
+			return false;
+		}
+	}
 
+	/**
+	 * Evaluates an expression whose leaves are all numbers, using SIMPLE's integer semantics (i.e. DIV truncates toward zero and MOD takes the sign of the dividend).
+	 *
+	 * @param expression The expression to evaluate.
+	 * @return The value of the expression, or null if it has a leaf that is not a number or divides by zero.
+	 */
+	private Integer evaluate(Expression expression) {
+		if (expression instanceof Number) {
+			return ((Number) expression).getConstant().getValue();
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			Integer left = evaluate(binary.getLeftExpression());
+			Integer right = left == null ? null : evaluate(binary.getRightExpression());
+			if (right == null) {
+				return null;
+			}
+			switch (binary.getOperator()) {
+				case PLUS:
+					return left + right;
+				case MINUS:
+					return left - right;
+				case MULTIPLICATION:
+					return left * right;
+				case DIV:
+					return right == 0 ? null : left / right;
+				default:
+					return right == 0 ? null : left % right;
+			}
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Algebraically simplifies a binary expression whose operands have already been reduced.
+	 * Operands are only discarded if evaluating them has no side effects and cannot fail (see isFreeOfSideEffects), so that -f reports the same run-time errors as the program it simplifies.
+	 *
+	 * @param binary The binary expression to simplify.
+	 */
+	private Expression simplify(Binary binary) {
+		Expression left = binary.getLeftExpression();
+		Expression right = binary.getRightExpression();
+		switch (binary.getOperator()) {
+			case PLUS:
+				if (isNumber(left, 0)) {
+					return right;
+				} else if (isNumber(right, 0)) {
+					return left;
+				}
+				break;
+			case MINUS:
+				if (isNumber(right, 0)) {
+					return left;
+				} else if (isIdentical(left, right) && isFreeOfSideEffects(left)) {
+					return new Number(new Constant(0));
+				}
+				break;
+			case MULTIPLICATION:
+				if (isNumber(left, 1)) {
+					return right;
+				} else if (isNumber(right, 1)) {
+					return left;
+				} else if ((isNumber(left, 0) && isFreeOfSideEffects(right)) || (isNumber(right, 0) && isFreeOfSideEffects(left))) {
+					return new Number(new Constant(0));
+				}
+				break;
+			case DIV:
+				if (isNumber(right, 1)) {
+					return left;
+				}
+				break;
+			case MOD:
+				if (isNumber(right, 1) && isFreeOfSideEffects(left)) {
+					return new Number(new Constant(0));
+				}
+				break;
+		}
+		return binary;
+	}
+
+	/**
+	 * Queries if an expression is a number of a given value.
+	 *
+	 * @param expression The expression to query.
+	 * @param value      The value of the number.
+	 */
+	private boolean isNumber(Expression expression, int value) {
+		return expression instanceof Number && ((Number) expression).getConstant().getValue() == value;
+	}
+
+	/**
+	 * Queries if evaluating an expression has no side effects and cannot fail at run time, i.e. it consists only of numbers, locations and binary expressions, every division and remainder is by a non-zero number, and every index is a number within its array.
+	 * The dead-code eliminator of the optimizer never removes these operations either (see DeadCodeEliminator.canFail).
+	 *
+	 * @param expression The expression to query.
+	 */
+	private boolean isFreeOfSideEffects(Expression expression) {
+		if (expression instanceof Number || expression instanceof Variable) {
+			return true;
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			if ((binary.getOperator() == Operator.DIV || binary.getOperator() == Operator.MOD) && (!(binary.getRightExpression() instanceof Number) || isNumber(binary.getRightExpression(), 0))) {
+				return false;
+			}
+			return isFreeOfSideEffects(binary.getLeftExpression()) && isFreeOfSideEffects(binary.getRightExpression());
+		} else if (expression instanceof Field) {
+			return isFreeOfSideEffects(((Field) expression).getVariable());
+		} else if (expression instanceof Index) {
+			Index index = (Index) expression;
+			if (!(index.getExpression() instanceof Number)) {
+				return false;
+			}
+			int value = ((Number) index.getExpression()).getConstant().getValue();
+			return value >= 0 && value < ((Array) index.getVariable().getType()).getLength() && isFreeOfSideEffects(index.getVariable());
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Queries if two side-effect-free expressions are structurally identical, and therefore evaluate to the same value.
+	 *
+	 * @param expression      The first expression to compare.
+	 * @param otherExpression The second expression to compare.
+	 */
+	private boolean isIdentical(Expression expression, Expression otherExpression) {
+		if (expression instanceof Number && otherExpression instanceof Number) {
+			return ((Number) expression).getConstant().getValue() == ((Number) otherExpression).getConstant().getValue();
+		} else if (expression instanceof Variable && otherExpression instanceof Variable) {
+			return ((Variable) expression).getVariable() == ((Variable) otherExpression).getVariable();
+		} else if (expression instanceof Binary && otherExpression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			Binary otherBinary = (Binary) otherExpression;
+			return binary.getOperator() == otherBinary.getOperator() && isIdentical(binary.getLeftExpression(), otherBinary.getLeftExpression()) && isIdentical(binary.getRightExpression(), otherBinary.getRightExpression());
+		} else if (expression instanceof Field && otherExpression instanceof Field) {
+			Field field = (Field) expression;
+			Field otherField = (Field) otherExpression;
+			return isIdentical(field.getVariable(), otherField.getVariable()) && isIdentical(field.getSelection(), otherField.getSelection());
+		} else if (expression instanceof Index && otherExpression instanceof Index) {
+			Index index = (Index) expression;
+			Index otherIndex = (Index) otherExpression;
+			return isIdentical(index.getVariable(), otherIndex.getVariable()) && isIdentical(index.getExpression(), otherIndex.getExpression());
+		} else {
+			return false;
+		}
+	}
+}
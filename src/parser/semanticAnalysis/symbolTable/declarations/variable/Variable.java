@@ -14,6 +14,16 @@ public class Variable extends Declaration {
 
 	private int m_offset;
 
+	/**
+	 * The depth of the frame of the variable at run-time (i.e. 0 for a program variable and 1 for a parameter or local variable).
+	 */
+	private int m_depth;
+
+	/**
+	 * The slot of the variable within its frame at run-time.
+	 */
+	private int m_slot;
+
 	/**
 	 * Represents the type of the variable.
 	 */
@@ -51,4 +61,29 @@ public class Variable extends Declaration {
 	public void setOffset(int address) {
 		m_offset = address;
 	}
+
+	/**
+	 * Gets the depth of the frame of the variable at run-time.
+	 */
+	public int getDepth() {
+		return m_depth;
+	}
+
+	/**
+	 * Gets the slot of the variable within its frame at run-time.
+	 */
+	public int getSlot() {
+		return m_slot;
+	}
+
+	/**
+	 * Resolves the variable to a slot within a frame at run-time.
+	 *
+	 * @param depth The depth of the frame of the variable.
+	 * @param slot  The slot of the variable within its frame.
+	 */
+	public void resolve(int depth, int slot) {
+		m_depth = depth;
+		m_slot = slot;
+	}
 }
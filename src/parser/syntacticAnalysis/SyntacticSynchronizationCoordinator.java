@@ -3,7 +3,6 @@ package parser.syntacticAnalysis;
 import exception.ExceptionHandler;
 import parser.Parser;
 import parser.utilities.TokenIterator;
-import shared.Reserved;
 import shared.Token;
 
 /**
@@ -79,11 +78,31 @@ public class SyntacticSynchronizationCoordinator {
 		m_isIgnoringProductionRules = true;
 	}
 
+	/**
+	 * Queries whether a token is the out-of-sync token.
+	 * Tokens are compared by position rather than identity, since tokens may be rescanned when the parser restarts.
+	 *
+	 * @param token The token to query.
+	 */
+	public boolean isOutOfSyncToken(Token token) {
+		return isSameToken(token, m_outOfSyncToken);
+	}
+
+	/**
+	 * Queries whether two tokens occupy the same position in the source code.
+	 *
+	 * @param token      The first token to compare.
+	 * @param otherToken The second token to compare.
+	 */
+	private boolean isSameToken(Token token, Token otherToken) {
+		return token.getStartingIndex() == otherToken.getStartingIndex() && token.getType() == otherToken.getType();
+	}
+
 	/**
 	 * Skips the token iterator to the in-sync token.
 	 */
 	public void skipToInSyncToken() {
-		while (TokenIterator.getInstance().peek() != SyntacticSynchronizationCoordinator.getInstance().getInSyncToken()) {
+		while (!isSameToken(TokenIterator.getInstance().peek(), m_inSyncToken)) {
 			TokenIterator.getInstance().getNext();
 		}
 	}
@@ -103,27 +122,8 @@ public class SyntacticSynchronizationCoordinator {
 	public void synchronize() {
 		m_outOfSyncToken = TokenIterator.getInstance().getNext();
 		Token currentToken = TokenIterator.getInstance().getNext();
-		if (currentToken.getValue() != Reserved.Keyword.BEGIN &&
-				currentToken.getValue() != Reserved.Keyword.CONST &&
-				currentToken.getValue() != Reserved.Keyword.TYPE &&
-				currentToken.getValue() != Reserved.Keyword.VAR &&
-				currentToken.getValue() != Reserved.Keyword.IF &&
-				currentToken.getValue() != Reserved.Keyword.REPEAT &&
-				currentToken.getValue() != Reserved.Keyword.WHILE &&
-				currentToken.getValue() != Reserved.Keyword.WRITE &&
-				currentToken.getValue() != Reserved.Keyword.READ) {
-			while (!SyntacticValidator.getInstance().isNextToken(
-					ProductionRule.OPTIONAL,
-					Reserved.Keyword.BEGIN,
-					Reserved.Keyword.CONST,
-					Reserved.Keyword.TYPE,
-					Reserved.Keyword.VAR,
-					Reserved.Keyword.IF,
-					Reserved.Keyword.REPEAT,
-					Reserved.Keyword.WHILE,
-					Reserved.Keyword.WRITE,
-					Reserved.Keyword.READ
-			)) {
+		if (!TerminalSets.STRONG_SYMBOLS.contains(currentToken)) {
+			while (!SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, TerminalSets.STRONG_SYMBOLS)) {
 				if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, Token.Type.EOF)) {
 					ExceptionHandler.getInstance().abort();
 				} else {
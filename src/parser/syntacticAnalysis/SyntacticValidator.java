@@ -32,108 +32,146 @@ public class SyntacticValidator {
 		return s_instance;
 	}
 
+	/**
+	 * Matches the next token type.
+	 *
+	 * @param productionRule Determines if an error will be thrown if the matching fails.
+	 * @param type           The type of the token.
+	 */
+	public void matchNextToken(ProductionRule productionRule, Token.Type type) {
+		matchNextToken(productionRule, TerminalSet.of(type));
+	}
+
+	/**
+	 * Matches the next token keyword.
+	 *
+	 * @param productionRule Determines if an error will be thrown if the matching fails.
+	 * @param keyword        The keyword of the token.
+	 */
+	public void matchNextToken(ProductionRule productionRule, Reserved.Keyword keyword) {
+		matchNextToken(productionRule, TerminalSet.of(keyword));
+	}
+
+	/**
+	 * Matches the next token symbol.
+	 *
+	 * @param productionRule Determines if an error will be thrown if the matching fails.
+	 * @param symbol         The symbol of the token.
+	 */
+	public void matchNextToken(ProductionRule productionRule, Reserved.Symbol symbol) {
+		matchNextToken(productionRule, TerminalSet.of(symbol));
+	}
+
 	/**
 	 * Matches the next token type or value.
 	 *
 	 * @param productionRule Determines if an error will be thrown if the matching fails.
-	 * @param objects        The types or values of the token for which to test this condition.
+	 * @param terminalSet    The types or values of the token for which to test this condition.
 	 */
-	public void matchNextToken(ProductionRule productionRule, Object... objects) {
-		for (Object object : objects) {
-			if (isNextToken(ProductionRule.OPTIONAL, object)) {
-				SyntacticExceptionHandler.getInstance().decrementRemainingSuppressedSteps(); // Only decremented if not synchronizing.
-				Parser.getInstance().dispatchEvent(ParserEvent.PARSED_TERMINAL_SYMBOL, TokenIterator.getInstance().getNext());
-				return;
+	public void matchNextToken(ProductionRule productionRule, TerminalSet terminalSet) {
+		if (SyntacticSynchronizationCoordinator.getInstance().isSynchronizing()) {
+			for (Object terminalSymbol : terminalSet.getTerminalSymbols()) { // While synchronizing, each terminal symbol is tested in turn, since testing one may advance the synchronization.
+				if (isNextToken(ProductionRule.OPTIONAL, getTerminalSet(terminalSymbol))) {
+					matchNextToken();
+					return;
+				}
 			}
+		} else if (isNextToken(ProductionRule.OPTIONAL, terminalSet)) {
+			matchNextToken();
+			return;
 		}
 		if (productionRule == ProductionRule.REQUIRED && !SyntacticSynchronizationCoordinator.getInstance().isSynchronizing()) {
-			SyntacticExceptionHandler.getInstance().handleMissingRequiredProductionRules(objects);
+			SyntacticExceptionHandler.getInstance().handleMissingRequiredProductionRules(terminalSet.getTerminalSymbols());
 		}
 	}
 
+	/**
+	 * Matches the next token, which has met expectations.
+	 */
+	private void matchNextToken() {
+		SyntacticExceptionHandler.getInstance().decrementRemainingSuppressedSteps(); // Only decremented if not synchronizing.
+		Parser.getInstance().dispatchEvent(ParserEvent.PARSED_TERMINAL_SYMBOL, TokenIterator.getInstance().getNext());
+	}
+
+	/**
+	 * Queries whether the next token type is as specified.
+	 *
+	 * @param productionRule Determines if an error will be thrown if the condition fails.
+	 * @param type           The type of the token.
+	 */
+	public boolean isNextToken(ProductionRule productionRule, Token.Type type) {
+		return isNextToken(productionRule, TerminalSet.of(type));
+	}
+
+	/**
+	 * Queries whether the next token keyword is as specified.
+	 *
+	 * @param productionRule Determines if an error will be thrown if the condition fails.
+	 * @param keyword        The keyword of the token.
+	 */
+	public boolean isNextToken(ProductionRule productionRule, Reserved.Keyword keyword) {
+		return isNextToken(productionRule, TerminalSet.of(keyword));
+	}
+
+	/**
+	 * Queries whether the next token symbol is as specified.
+	 *
+	 * @param productionRule Determines if an error will be thrown if the condition fails.
+	 * @param symbol         The symbol of the token.
+	 */
+	public boolean isNextToken(ProductionRule productionRule, Reserved.Symbol symbol) {
+		return isNextToken(productionRule, TerminalSet.of(symbol));
+	}
+
 	/**
 	 * Queries whether the next token type or value is as specified.
 	 *
 	 * @param productionRule Determines if an error will be thrown if the condition fails.
-	 * @param objects        The types or values of the token for which to test this condition.
+	 * @param terminalSet    The types or values of the token for which to test this condition.
 	 */
-	@SuppressWarnings("all")
-	public Boolean isNextToken(ProductionRule productionRule, Object... objects) {
+	public boolean isNextToken(ProductionRule productionRule, TerminalSet terminalSet) {
 		if (SyntacticSynchronizationCoordinator.getInstance().isSynchronizing()) {
-			if (!SyntacticSynchronizationCoordinator.getInstance().isIgnoringProductionRules() && TokenIterator.getInstance().peek() == SyntacticSynchronizationCoordinator.getInstance().getOutOfSyncToken()) {
+			if (!SyntacticSynchronizationCoordinator.getInstance().isIgnoringProductionRules() && SyntacticSynchronizationCoordinator.getInstance().isOutOfSyncToken(TokenIterator.getInstance().peek())) {
 				SyntacticSynchronizationCoordinator.getInstance().ignoreProductionRules();
 				SyntacticSynchronizationCoordinator.getInstance().skipToInSyncToken();
-				for (Object object : objects) {
-					try {
-						Reserved.Keyword value = (Reserved.Keyword) object;
-						if (value.equals(Reserved.Keyword.BEGIN)) {
-							return true;
-						}
-					} catch (ClassCastException exception) {}
-				}
-				return false;
+				return terminalSet.contains(Reserved.Keyword.BEGIN);
 			} else if (SyntacticSynchronizationCoordinator.getInstance().isIgnoringProductionRules()) {
-				for (Object object : objects) {
-					try {
-						Reserved.Keyword value = (Reserved.Keyword) object;
-						if (value.equals(SyntacticSynchronizationCoordinator.getInstance().getInSyncToken().getValue())) {
+				for (Object terminalSymbol : terminalSet.getTerminalSymbols()) {
+					if (terminalSymbol instanceof Reserved.Keyword) {
+						if (terminalSymbol.equals(SyntacticSynchronizationCoordinator.getInstance().getInSyncToken().getValue())) {
 							SyntacticSynchronizationCoordinator.getInstance().obeyProductionRules();
 							return true;
-						} else if (value.equals(Reserved.Keyword.BEGIN)) {
+						} else if (terminalSymbol == Reserved.Keyword.BEGIN) {
 							return true;
 						}
-					} catch (ClassCastException exception) {}
+					}
 				}
 				return false;
 			}
 		}
-		for (Object object : objects) {
-			try {
-				Token.Type type = (Token.Type) object;
-				if (isNextTokenType(type)) {
-					return true;
-				}
-			} catch (ClassCastException exception) {
-				if (isNextTokenValue(object)) {
-					return true;
-				}
-			}
+		if (terminalSet.contains(TokenIterator.getInstance().peek())) {
+			return true;
 		}
 		if (productionRule == ProductionRule.REQUIRED && !SyntacticSynchronizationCoordinator.getInstance().isSynchronizing()) {
-			return SyntacticExceptionHandler.getInstance().handleMissingRequiredProductionRules(objects);
+			return SyntacticExceptionHandler.getInstance().handleMissingRequiredProductionRules(terminalSet.getTerminalSymbols());
 		} else {
 			return false;
 		}
 	}
 
-
-	/**
-	 * Queries whether the next token is of a given type without advancing to the next token.
-	 *
-	 * @param tokenTypes The types of token for which to test this condition.
-	 */
-	private boolean isNextTokenType(Token.Type... tokenTypes) {
-		Token.Type nextTokenType = TokenIterator.getInstance().peek().getType();
-		for (Token.Type tokenType : tokenTypes) {
-			if (nextTokenType == tokenType) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	/**
-	 * Queries whether the next token's value is a specified value without advancing to the next token.
+	 * Gets the set that contains a single terminal symbol.
 	 *
-	 * @param values The values of the token for which to test this condition
+	 * @param terminalSymbol The token type, keyword or symbol.
 	 */
-	private <V> boolean isNextTokenValue(V... values) {
-		for (V value : values) {
-			if (value.equals(TokenIterator.getInstance().peek().getValue())) {
-				return true;
-			}
+	private TerminalSet getTerminalSet(Object terminalSymbol) {
+		if (terminalSymbol instanceof Token.Type) {
+			return TerminalSet.of((Token.Type) terminalSymbol);
+		} else if (terminalSymbol instanceof Reserved.Keyword) {
+			return TerminalSet.of((Reserved.Keyword) terminalSymbol);
+		} else {
+			return TerminalSet.of((Reserved.Symbol) terminalSymbol);
 		}
-		return false;
 	}
 
 	/**
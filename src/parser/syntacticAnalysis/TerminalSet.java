@@ -0,0 +1,166 @@
+package parser.syntacticAnalysis;
+
+import shared.Reserved;
+import shared.Token;
+
+/**
+ * Represents an immutable set of terminal symbols (i.e. token types, keywords and symbols) that the parser expects.
+ * Every terminal symbol has an identifier in a single space shared by token types, keywords and symbols, so membership is a single bitwise test.
+ */
+@SuppressWarnings("all")
+public class TerminalSet {
+
+	/**
+	 * Represents the identifier of the first keyword; token types occupy the identifiers before it.
+	 */
+	private static final int KEYWORD_OFFSET = Token.Type.values().length;
+	/**
+	 * Represents the identifier of the first symbol.
+	 */
+	private static final int SYMBOL_OFFSET = KEYWORD_OFFSET + Reserved.Keyword.values().length;
+	/**
+	 * Represents the sets that contain a single token type, indexed by ordinal.
+	 */
+	private static final TerminalSet[] s_types = new TerminalSet[Token.Type.values().length];
+	/**
+	 * Represents the sets that contain a single keyword, indexed by ordinal.
+	 */
+	private static final TerminalSet[] s_keywords = new TerminalSet[Reserved.Keyword.values().length];
+	/**
+	 * Represents the sets that contain a single symbol, indexed by ordinal.
+	 */
+	private static final TerminalSet[] s_symbols = new TerminalSet[Reserved.Symbol.values().length];
+
+	static {
+		assert SYMBOL_OFFSET + Reserved.Symbol.values().length <= Long.SIZE; // Every identifier must fit in the bits of a long.
+		for (Token.Type type : Token.Type.values()) {
+			s_types[type.ordinal()] = new TerminalSet(type);
+		}
+		for (Reserved.Keyword keyword : Reserved.Keyword.values()) {
+			s_keywords[keyword.ordinal()] = new TerminalSet(keyword);
+		}
+		for (Reserved.Symbol symbol : Reserved.Symbol.values()) {
+			s_symbols[symbol.ordinal()] = new TerminalSet(symbol);
+		}
+	}
+
+	/**
+	 * Represents the identifiers of the terminal symbols in the set, as bits.
+	 */
+	private final long m_bits;
+	/**
+	 * Represents the terminal symbols in the set, in the order in which they are reported when none of them is encountered.
+	 */
+	private final Object[] m_terminalSymbols;
+
+	/**
+	 * Constructs a set of terminal symbols.
+	 *
+	 * @param terminalSymbols The token types, keywords and symbols in the set.
+	 */
+	private TerminalSet(Object... terminalSymbols) {
+		long bits = 0;
+		for (Object terminalSymbol : terminalSymbols) {
+			bits |= getBit(terminalSymbol);
+		}
+		m_bits = bits;
+		m_terminalSymbols = terminalSymbols;
+	}
+
+	/**
+	 * Gets the set that contains a single token type.
+	 *
+	 * @param type The token type.
+	 */
+	public static TerminalSet of(Token.Type type) {
+		return s_types[type.ordinal()];
+	}
+
+	/**
+	 * Gets the set that contains a single keyword.
+	 *
+	 * @param keyword The keyword.
+	 */
+	public static TerminalSet of(Reserved.Keyword keyword) {
+		return s_keywords[keyword.ordinal()];
+	}
+
+	/**
+	 * Gets the set that contains a single symbol.
+	 *
+	 * @param symbol The symbol.
+	 */
+	public static TerminalSet of(Reserved.Symbol symbol) {
+		return s_symbols[symbol.ordinal()];
+	}
+
+	/**
+	 * Creates a set of terminal symbols; intended for sets that are computed once and reused.
+	 *
+	 * @param terminalSymbols The token types, keywords and symbols in the set.
+	 */
+	public static TerminalSet of(Object... terminalSymbols) {
+		return new TerminalSet(terminalSymbols.clone());
+	}
+
+	/**
+	 * Creates the union of this set and another set, whose terminal symbols are ordered after this set's.
+	 *
+	 * @param terminalSet The other set.
+	 */
+	public TerminalSet union(TerminalSet terminalSet) {
+		Object[] terminalSymbols = new Object[m_terminalSymbols.length + terminalSet.m_terminalSymbols.length];
+		System.arraycopy(m_terminalSymbols, 0, terminalSymbols, 0, m_terminalSymbols.length);
+		System.arraycopy(terminalSet.m_terminalSymbols, 0, terminalSymbols, m_terminalSymbols.length, terminalSet.m_terminalSymbols.length);
+		return new TerminalSet(terminalSymbols);
+	}
+
+	/**
+	 * Queries whether a token is in the set, either by its type or by its value.
+	 *
+	 * @param token The token to query.
+	 */
+	public boolean contains(Token token) {
+		long bits = 1L << token.getType().ordinal();
+		Object value = token.getValue();
+		if (value instanceof Reserved.Keyword) {
+			bits |= 1L << (KEYWORD_OFFSET + ((Reserved.Keyword) value).ordinal());
+		} else if (value instanceof Reserved.Symbol) {
+			bits |= 1L << (SYMBOL_OFFSET + ((Reserved.Symbol) value).ordinal());
+		}
+		return (m_bits & bits) != 0;
+	}
+
+	/**
+	 * Queries whether a keyword is in the set.
+	 *
+	 * @param keyword The keyword to query.
+	 */
+	public boolean contains(Reserved.Keyword keyword) {
+		return (m_bits & getBit(keyword)) != 0;
+	}
+
+	/**
+	 * Gets the terminal symbols in the set, in order; the array must not be modified.
+	 */
+	public Object[] getTerminalSymbols() {
+		return m_terminalSymbols;
+	}
+
+	/**
+	 * Gets the bit of a terminal symbol's identifier.
+	 *
+	 * @param terminalSymbol The token type, keyword or symbol.
+	 */
+	private static long getBit(Object terminalSymbol) {
+		if (terminalSymbol instanceof Token.Type) {
+			return 1L << ((Token.Type) terminalSymbol).ordinal();
+		} else if (terminalSymbol instanceof Reserved.Keyword) {
+			return 1L << (KEYWORD_OFFSET + ((Reserved.Keyword) terminalSymbol).ordinal());
+		} else if (terminalSymbol instanceof Reserved.Symbol) {
+			return 1L << (SYMBOL_OFFSET + ((Reserved.Symbol) terminalSymbol).ordinal());
+		} else {
+			throw new IllegalArgumentException("Not a terminal symbol: " + terminalSymbol);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package parser.syntacticAnalysis;
+
+import shared.Reserved;
+import shared.Token;
+
+/**
+ * Defines the sets of terminal symbols that the parser's productions expect, which are computed once.
+ * The FIRST sets are derived from the productions of the grammar (see the EBNF in the README); their order determines the order in which expectations are reported.
+ */
+@SuppressWarnings("all")
+public class TerminalSets {
+
+	/**
+	 * Represents the FIRST set of a constant declaration.
+	 */
+	public static final TerminalSet CONST_DECL = TerminalSet.of(Reserved.Keyword.CONST);
+	/**
+	 * Represents the FIRST set of a type declaration.
+	 */
+	public static final TerminalSet TYPE_DECL = TerminalSet.of(Reserved.Keyword.TYPE);
+	/**
+	 * Represents the FIRST set of a variable declaration.
+	 */
+	public static final TerminalSet VAR_DECL = TerminalSet.of(Reserved.Keyword.VAR);
+	/**
+	 * Represents the FIRST set of a procedure declaration.
+	 */
+	public static final TerminalSet PROC_DECL = TerminalSet.of(Reserved.Keyword.PROCEDURE);
+	/**
+	 * Represents the FIRST set of a declaration: Declarations = { ConstDecl | TypeDecl | VarDecl | ProcDecl }.
+	 */
+	public static final TerminalSet DECLARATIONS = CONST_DECL.union(TYPE_DECL).union(VAR_DECL).union(PROC_DECL);
+	/**
+	 * Represents the FIRST set of a type: Type = identifier | "ARRAY" Expression "OF" Type | "RECORD" {IdentifierList ":" Type ";"} "END".
+	 */
+	public static final TerminalSet TYPE = TerminalSet.of(Token.Type.IDENTIFIER, Reserved.Keyword.ARRAY, Reserved.Keyword.RECORD);
+	/**
+	 * Represents the FIRST set of a factor: Factor = integer | Designator | "(" Expression ")" | Call.
+	 */
+	public static final TerminalSet FACTOR = TerminalSet.of(Token.Type.INTEGER, Token.Type.IDENTIFIER, Reserved.Symbol.OPENING_PARENTHESIS);
+	/**
+	 * Represents the FIRST set of a selector: Selector = {"[" ExpressionList "]" | "." identifier}.
+	 */
+	public static final TerminalSet SELECTOR = TerminalSet.of(Reserved.Symbol.OPENING_BRACKET, Reserved.Symbol.PERIOD);
+	/**
+	 * Represents the FIRST set of an instruction: Instruction = Assign | If | Repeat | While | Read | Write | Call, where Assign and Call begin with an identifier.
+	 */
+	public static final TerminalSet INSTRUCTION = TerminalSet.of(Token.Type.IDENTIFIER, Reserved.Keyword.IF, Reserved.Keyword.REPEAT, Reserved.Keyword.WHILE, Reserved.Keyword.READ, Reserved.Keyword.WRITE);
+	/**
+	 * Represents the terminal symbols with which the parser recognizes the actuals of a call.
+	 */
+	public static final TerminalSet ACTUALS = TerminalSet.of(Token.Type.IDENTIFIER, Token.Type.INTEGER);
+	/**
+	 * Represents the relations of a condition.
+	 */
+	public static final TerminalSet RELATIONS = TerminalSet.of(
+			Reserved.Symbol.EQUALS,
+			Reserved.Symbol.POUND,
+			Reserved.Symbol.LESS_THAN,
+			Reserved.Symbol.GREATER_THAN,
+			Reserved.Symbol.LESS_THAN_OR_EQUAL_TO,
+			Reserved.Symbol.GREATER_THAN_OR_EQUAL_TO
+	);
+	/**
+	 * Represents the operators of an expression.
+	 */
+	public static final TerminalSet ADDITIVE_OPERATORS = TerminalSet.of(Reserved.Symbol.PLUS, Reserved.Symbol.MINUS);
+	/**
+	 * Represents the operators of a term.
+	 */
+	public static final TerminalSet MULTIPLICATIVE_OPERATORS = TerminalSet.of(Reserved.Symbol.ASTERISK, Reserved.Keyword.DIV, Reserved.Keyword.MOD);
+	/**
+	 * Represents the strong symbols, at which the parser resynchronizes after a syntax error.
+	 */
+	public static final TerminalSet STRONG_SYMBOLS = TerminalSet.of(
+			Reserved.Keyword.BEGIN,
+			Reserved.Keyword.CONST,
+			Reserved.Keyword.TYPE,
+			Reserved.Keyword.VAR,
+			Reserved.Keyword.IF,
+			Reserved.Keyword.REPEAT,
+			Reserved.Keyword.WHILE,
+			Reserved.Keyword.WRITE,
+			Reserved.Keyword.READ
+	);
+
+	/**
+	 * Constructs the terminal sets.
+	 */
+	private TerminalSets() {}
+}
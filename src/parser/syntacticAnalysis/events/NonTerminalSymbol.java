@@ -0,0 +1,53 @@
+package parser.syntacticAnalysis.events;
+
+/**
+ * Defines the non-terminal symbols of the grammar, which are reported by the parser's events.
+ */
+@SuppressWarnings("all")
+public enum NonTerminalSymbol {
+	PROGRAM("Program"),
+	DECLARATIONS("Declarations"),
+	CONST_DECL("ConstDecl"),
+	TYPE_DECL("TypeDecl"),
+	VAR_DECL("VarDecl"),
+	PROC_DECL("ProcDecl"),
+	TYPE("Type"),
+	EXPRESSION("Expression"),
+	TERM("Term"),
+	FACTOR("Factor"),
+	INSTRUCTIONS("Instructions"),
+	INSTRUCTION("Instruction"),
+	ASSIGN("Assign"),
+	IF("If"),
+	REPEAT("Repeat"),
+	WHILE("While"),
+	READ("Read"),
+	WRITE("Write"),
+	CALL("Call"),
+	FUNCTION("Function"),
+	CONDITION("Condition"),
+	DESIGNATOR("Designator"),
+	SELECTOR("Selector"),
+	IDENTIFIER_LIST("IdentifierList"),
+	EXPRESSION_LIST("ExpressionList");
+
+	/**
+	 * Represents the name of the non-terminal symbol in the grammar.
+	 */
+	private final String m_name;
+
+	/**
+	 * Constructs a non-terminal symbol.
+	 *
+	 * @param name The name of the non-terminal symbol in the grammar.
+	 */
+	NonTerminalSymbol(String name) {
+		m_name = name;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return m_name;
+	}
+}
@@ -0,0 +1,125 @@
+package parser.syntacticAnalysis.events;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import parser.syntacticAnalysis.events.listeners.IParserEventListener;
+import shared.Token;
+import shared.TokenTable;
+
+/**
+ * Records the parser's events compactly, such that they can be replayed to listeners once parsing has finished.
+ * Each event is encoded as an integer holding the event and, for non-terminal symbols, the symbol; terminal symbols are stored in order in a token table.
+ */
+@SuppressWarnings("all")
+public class ParserEventLog {
+
+	/**
+	 * Represents the initial number of events.
+	 */
+	private static final int INITIAL_CAPACITY = 256;
+	/**
+	 * Represents the number of bits in which the event is encoded.
+	 */
+	private static final int EVENT_BITS = 2;
+	/**
+	 * Represents the events, cached to avoid cloning the array of enum values.
+	 */
+	private static final ParserEvent[] EVENTS = ParserEvent.values();
+	/**
+	 * Represents the non-terminal symbols, cached to avoid cloning the array of enum values.
+	 */
+	private static final NonTerminalSymbol[] NON_TERMINAL_SYMBOLS = NonTerminalSymbol.values();
+	/**
+	 * Represents the encoded events.
+	 */
+	private int[] m_events;
+	/**
+	 * Represents the number of events.
+	 */
+	private int m_size;
+	/**
+	 * Represents the terminal symbols, in the order in which they were parsed.
+	 */
+	private TokenTable m_terminalSymbols;
+
+	/**
+	 * Constructs an empty parser event log.
+	 */
+	public ParserEventLog() {
+		m_events = new int[INITIAL_CAPACITY];
+		m_terminalSymbols = new TokenTable();
+	}
+
+	/**
+	 * Records an event associated with a non-terminal symbol.
+	 *
+	 * @param event             The event to record.
+	 * @param nonTerminalSymbol The non-terminal symbol associated with the event.
+	 */
+	public void add(ParserEvent event, NonTerminalSymbol nonTerminalSymbol) {
+		if (event == ParserEvent.PARSED_TERMINAL_SYMBOL) {
+			ExceptionHandler.getInstance().throwException(Exception.EVENT_DISPATCHING_ERROR, ExceptionStrength.STRONG);
+		}
+		append((nonTerminalSymbol.ordinal() << EVENT_BITS) | event.ordinal());
+	}
+
+	/**
+	 * Records an event associated with a terminal symbol.
+	 *
+	 * @param event          The event to record.
+	 * @param terminalSymbol The terminal symbol associated with the event.
+	 */
+	public void add(ParserEvent event, Token terminalSymbol) {
+		if (event != ParserEvent.PARSED_TERMINAL_SYMBOL) {
+			ExceptionHandler.getInstance().throwException(Exception.EVENT_DISPATCHING_ERROR, ExceptionStrength.STRONG);
+		}
+		m_terminalSymbols.add(terminalSymbol);
+		append(event.ordinal());
+	}
+
+	/**
+	 * Replays the recorded events, in order, to a listener.
+	 *
+	 * @param parserEventListener The listener to which to replay the events.
+	 */
+	public void replay(IParserEventListener parserEventListener) {
+		int terminalSymbol = 0;
+		for (int i = 0; i < m_size; i++) {
+			int code = m_events[i];
+			switch (EVENTS[code & ((1 << EVENT_BITS) - 1)]) {
+				case BEGAN_PARSING_NON_TERMINAL_SYMBOL:
+					parserEventListener.onBeganParsingNonTerminalSymbol(NON_TERMINAL_SYMBOLS[code >>> EVENT_BITS]);
+					break;
+				case FINISHED_PARSING_NON_TERMINAL_SYMBOL:
+					parserEventListener.onFinishedParsingNonTerminalSymbol(NON_TERMINAL_SYMBOLS[code >>> EVENT_BITS]);
+					break;
+				case PARSED_TERMINAL_SYMBOL:
+					parserEventListener.onParsedTerminalSymbol(m_terminalSymbols.getToken(terminalSymbol++));
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Discards the recorded events.
+	 */
+	public void clear() {
+		m_size = 0;
+		m_terminalSymbols = new TokenTable();
+	}
+
+	/**
+	 * Appends an encoded event.
+	 *
+	 * @param code The encoded event.
+	 */
+	private void append(int code) {
+		if (m_size == m_events.length) {
+			int[] events = new int[m_size * 2];
+			System.arraycopy(m_events, 0, events, 0, m_size);
+			m_events = events;
+		}
+		m_events[m_size++] = code;
+	}
+}
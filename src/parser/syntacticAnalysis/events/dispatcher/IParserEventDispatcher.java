@@ -1,5 +1,6 @@
 package parser.syntacticAnalysis.events.dispatcher;
 
+import parser.syntacticAnalysis.events.NonTerminalSymbol;
 import parser.syntacticAnalysis.events.ParserEvent;
 import parser.syntacticAnalysis.events.listeners.IParserEventListener;
 import shared.Token;
@@ -20,10 +21,10 @@ public interface IParserEventDispatcher {
 	/**
 	 * Dispatches an event.
 	 *
-	 * @param event  The event to dispatch.
-	 * @param string The string associated with the event.
+	 * @param event             The event to dispatch.
+	 * @param nonTerminalSymbol The non-terminal symbol associated with the event.
 	 */
-	void dispatchEvent(ParserEvent event, String string);
+	void dispatchEvent(ParserEvent event, NonTerminalSymbol nonTerminalSymbol);
 
 	/**
 	 * Dispatches an event.
@@ -32,4 +33,9 @@ public interface IParserEventDispatcher {
 	 * @param token The token associated with the event.
 	 */
 	void dispatchEvent(ParserEvent event, Token token);
-}
\ No newline at end of file
+
+	/**
+	 * Delivers the dispatched events, in order, to the registered parser event listeners.
+	 */
+	void flushEvents();
+}
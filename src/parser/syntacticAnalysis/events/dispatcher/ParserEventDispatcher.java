@@ -1,9 +1,8 @@
 package parser.syntacticAnalysis.events.dispatcher;
 
-import exception.Exception;
-import exception.ExceptionHandler;
-import exception.ExceptionStrength;
+import parser.syntacticAnalysis.events.NonTerminalSymbol;
 import parser.syntacticAnalysis.events.ParserEvent;
+import parser.syntacticAnalysis.events.ParserEventLog;
 import parser.syntacticAnalysis.events.listeners.IParserEventListener;
 import shared.Token;
 
@@ -12,6 +11,7 @@ import java.util.List;
 
 /**
  * Represents a dispatcher of parser events.
+ * Events are recorded in a compact log and delivered to listeners in a batch when flushed; if no listener is registered, dispatching an event does nothing.
  */
 @SuppressWarnings("all")
 public class ParserEventDispatcher implements IParserEventDispatcher {
@@ -20,6 +20,10 @@ public class ParserEventDispatcher implements IParserEventDispatcher {
 	 * Represents the list of parser event listeners.
 	 */
 	private List<IParserEventListener> m_parserEventListeners;
+	/**
+	 * Represents the log of dispatched events, or null if no listener is registered.
+	 */
+	private ParserEventLog m_parserEventLog;
 
 	/**
 	 * Constructs a new parser event dispatcher.
@@ -36,27 +40,21 @@ public class ParserEventDispatcher implements IParserEventDispatcher {
 	@Override
 	public void addEventListener(IParserEventListener parserEventListener) {
 		m_parserEventListeners.add(parserEventListener);
+		if (m_parserEventLog == null) {
+			m_parserEventLog = new ParserEventLog();
+		}
 	}
 
 	/**
 	 * Dispatches an event.
 	 *
-	 * @param event  The event to dispatch.
-	 * @param string The string associated with the event.
+	 * @param event             The event to dispatch.
+	 * @param nonTerminalSymbol The non-terminal symbol associated with the event.
 	 */
 	@Override
-	public void dispatchEvent(ParserEvent event, String string) {
-		for (IParserEventListener parserListener : m_parserEventListeners) {
-			switch (event) {
-				case BEGAN_PARSING_NON_TERMINAL_SYMBOL:
-					parserListener.onBeganParsingNonTerminalSymbol(string);
-					break;
-				case FINISHED_PARSING_NON_TERMINAL_SYMBOL:
-					parserListener.onFinishedParsingNonTerminalSymbol(string);
-					break;
-				default:
-					ExceptionHandler.getInstance().throwException(Exception.EVENT_DISPATCHING_ERROR, ExceptionStrength.STRONG);
-			}
+	public void dispatchEvent(ParserEvent event, NonTerminalSymbol nonTerminalSymbol) {
+		if (m_parserEventLog != null) {
+			m_parserEventLog.add(event, nonTerminalSymbol);
 		}
 	}
 
@@ -68,14 +66,21 @@ public class ParserEventDispatcher implements IParserEventDispatcher {
 	 */
 	@Override
 	public void dispatchEvent(ParserEvent event, Token token) {
-		for (IParserEventListener parserListener : m_parserEventListeners) {
-			switch (event) {
-				case PARSED_TERMINAL_SYMBOL:
-					parserListener.onParsedTerminalSymbol(token);
-					break;
-				default:
-					ExceptionHandler.getInstance().throwException(Exception.EVENT_DISPATCHING_ERROR, ExceptionStrength.STRONG);
+		if (m_parserEventLog != null) {
+			m_parserEventLog.add(event, token);
+		}
+	}
+
+	/**
+	 * Delivers the dispatched events, in order, to the registered parser event listeners.
+	 */
+	@Override
+	public void flushEvents() {
+		if (m_parserEventLog != null) {
+			for (IParserEventListener parserEventListener : m_parserEventListeners) {
+				m_parserEventLog.replay(parserEventListener);
 			}
+			m_parserEventLog.clear();
 		}
 	}
 }
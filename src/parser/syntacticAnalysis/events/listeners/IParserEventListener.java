@@ -1,5 +1,6 @@
 package parser.syntacticAnalysis.events.listeners;
 
+import parser.syntacticAnalysis.events.NonTerminalSymbol;
 import shared.Token;
 
 /**
@@ -13,14 +14,14 @@ public interface IParserEventListener {
 	 *
 	 * @param nonTerminalSymbol The non-terminal symbol that will be parsed.
 	 */
-	void onBeganParsingNonTerminalSymbol(String nonTerminalSymbol);
+	void onBeganParsingNonTerminalSymbol(NonTerminalSymbol nonTerminalSymbol);
 
 	/**
 	 * Handles when a non-terminal symbol is finished being parsed.
 	 *
 	 * @param nonTerminalSymbol The non-terminal symbol that is finished being parsed.
 	 */
-	void onFinishedParsingNonTerminalSymbol(String nonTerminalSymbol);
+	void onFinishedParsingNonTerminalSymbol(NonTerminalSymbol nonTerminalSymbol);
 
 	/**
 	 * Handles when a terminal symbol was parsed.
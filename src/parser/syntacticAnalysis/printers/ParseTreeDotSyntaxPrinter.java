@@ -1,5 +1,6 @@
 package parser.syntacticAnalysis.printers;
 
+import parser.syntacticAnalysis.events.NonTerminalSymbol;
 import parser.syntacticAnalysis.events.listeners.IParserEventListener;
 import shared.Token;
 
@@ -56,7 +57,7 @@ public class ParseTreeDotSyntaxPrinter implements IParserEventListener, IParseTr
 	 * @param nonTerminalSymbol The non-terminal symbol that will be parsed.
 	 */
 	@Override
-	public void onBeganParsingNonTerminalSymbol(String nonTerminalSymbol) {
+	public void onBeganParsingNonTerminalSymbol(NonTerminalSymbol nonTerminalSymbol) {
 		m_currentNode++;
 
 		String string = "L" + m_currentNode + " [label=\"" + nonTerminalSymbol + "\",shape=box]\n";
@@ -74,7 +75,7 @@ public class ParseTreeDotSyntaxPrinter implements IParserEventListener, IParseTr
 	 * @param nonTerminalSymbol The non-terminal symbol that is finished being parsed.
 	 */
 	@Override
-	public void onFinishedParsingNonTerminalSymbol(String nonTerminalSymbol) {
+	public void onFinishedParsingNonTerminalSymbol(NonTerminalSymbol nonTerminalSymbol) {
 		m_rootNodes.pop();
 	}
 
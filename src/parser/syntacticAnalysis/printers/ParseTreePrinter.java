@@ -1,5 +1,6 @@
 package parser.syntacticAnalysis.printers;
 
+import parser.syntacticAnalysis.events.NonTerminalSymbol;
 import parser.syntacticAnalysis.events.listeners.IParserEventListener;
 import shared.Token;
 
@@ -46,7 +47,7 @@ public class ParseTreePrinter implements IParserEventListener, IParseTreePrinter
 	 * @param nonTerminalSymbol The non-terminal symbol that will be parsed.
 	 */
 	@Override
-	public void onBeganParsingNonTerminalSymbol(String nonTerminalSymbol) {
+	public void onBeganParsingNonTerminalSymbol(NonTerminalSymbol nonTerminalSymbol) {
 		String string = m_spaces + nonTerminalSymbol + '\n';
 		m_stringBuilder.append(string);
 		m_spaces += "  ";
@@ -58,7 +59,7 @@ public class ParseTreePrinter implements IParserEventListener, IParseTreePrinter
 	 * @param nonTerminalSymbol The non-terminal symbol that is finished being parsed.
 	 */
 	@Override
-	public void onFinishedParsingNonTerminalSymbol(String nonTerminalSymbol) {
+	public void onFinishedParsingNonTerminalSymbol(NonTerminalSymbol nonTerminalSymbol) {
 		m_spaces = m_spaces.substring(0, m_spaces.length() - 2);
 	}
 
@@ -8,8 +8,9 @@ import parser.semanticAnalysis.abstractSyntaxTree.expressions.utilities.Constant
 import parser.semanticAnalysis.symbolTable.declarations.constants.constant.Constant;
 import parser.syntacticAnalysis.ProductionRule;
 import parser.syntacticAnalysis.SyntacticValidator;
-
-import java.lang.reflect.Method;
+import parser.syntacticAnalysis.TerminalSet;
+import parser.syntacticAnalysis.TerminalSets;
+import shared.Reserved;
 
 /**
  * Parses expressions.
@@ -37,23 +38,20 @@ public class ExpressionParser {
 	}
 
 	/**
-	 * Parses an expression.
+	 * Parses an expression of a precedence level, whose operands are of the next-higher precedence level.
 	 *
-	 * @param methodName  The method to invoke down the chain on expression parsing.
-	 * @param allowPrefix Determines if a prefix of the symbols is allowed.
-	 * @param symbols     The reserved symbols for which to parse the expression.
+	 * @param precedence The precedence level of the expression.
 	 */
-	public Expression parseExpression(String methodName, boolean allowPrefix, Object... symbols) {
+	public Expression parseExpression(Precedence precedence) {
+		TerminalSet symbols = precedence.getSymbols();
 		try {
-			Method method = Parser.getInstance().getClass().getDeclaredMethod(methodName);
-			method.setAccessible(true);
 			Binary binaryExpression = null;
 			Expression leftExpression;
 
-			if (allowPrefix && SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, symbols)) {
+			if (precedence.allowsPrefix() && SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, symbols)) {
 				SyntacticValidator.getInstance().matchNextToken(ProductionRule.OPTIONAL, symbols);
-				Operator operator = Operator.getOperator(TokenIterator.getInstance().getCurrent().getValue().toString());
-				Expression expression = (Expression) method.invoke(Parser.getInstance());
+				Operator operator = getOperator(TokenIterator.getInstance().getCurrent().getValue());
+				Expression expression = parseOperand(precedence);
 				SemanticValidator.getInstance().validateExpressionIsNumeric(expression);
 				leftExpression = binaryExpression = new Binary(operator, new Number(new Constant(0)), expression, parser.semanticAnalysis.symbolTable.declarations.types.Integer.getInstance());
 				if (!SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, symbols)) {
@@ -61,7 +59,7 @@ public class ExpressionParser {
 					return ConstantFolder.getInstance().reduceExpression(binaryExpression);
 				}
 			} else {
-				leftExpression = (Expression) method.invoke(Parser.getInstance());
+				leftExpression = parseOperand(precedence);
 				if (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, symbols)) {
 					SemanticValidator.getInstance().validateExpressionIsNumeric(leftExpression);
 				} else {
@@ -70,24 +68,100 @@ public class ExpressionParser {
 			}
 			do {
 				SyntacticValidator.getInstance().matchNextToken(ProductionRule.REQUIRED, symbols);
-				Operator operator = Operator.getOperator(TokenIterator.getInstance().getCurrent().getValue().toString());
+				Operator operator = getOperator(TokenIterator.getInstance().getCurrent().getValue());
 				if (binaryExpression == null) {
-					Expression rightExpression = (Expression) method.invoke(Parser.getInstance());
+					Expression rightExpression = parseOperand(precedence);
 					SemanticValidator.getInstance().validateExpressionIsNumeric(leftExpression);
 					SemanticValidator.getInstance().validateExpressionIsNumeric(rightExpression);
 					binaryExpression = new Binary(operator, leftExpression, rightExpression, SemanticValidator.getInstance().validateExpressionsAreOfTheSameType(leftExpression, rightExpression));
 					leftExpression = rightExpression;
 				} else {
 					Expression left = ConstantFolder.getInstance().reduceExpression(binaryExpression);
-					Expression right = (Expression) method.invoke(Parser.getInstance());
+					Expression right = parseOperand(precedence);
 					SemanticValidator.getInstance().validateExpressionIsNumeric(left);
 					SemanticValidator.getInstance().validateExpressionIsNumeric(right);
 					binaryExpression = new Binary(operator, left, right, SemanticValidator.getInstance().validateExpressionsAreOfTheSameType(left, right));
 				}
 			} while (SyntacticValidator.getInstance().isNextToken(ProductionRule.OPTIONAL, symbols));
 			return ConstantFolder.getInstance().reduceExpression(binaryExpression);
-		} catch (Exception e) {
+		} catch (RuntimeException e) { // A malformed operand (e.g. a missing factor) surfaces as a runtime exception; the expression is then invalid.
 			return new InvalidExpression();
 		}
 	}
+
+	/**
+	 * Parses an operand of an expression of a precedence level.
+	 *
+	 * @param precedence The precedence level of the expression whose operand is parsed.
+	 */
+	private Expression parseOperand(Precedence precedence) {
+		if (precedence == Precedence.ADDITIVE) {
+			return Parser.getInstance().matchTerm();
+		} else {
+			return Parser.getInstance().matchFactor();
+		}
+	}
+
+	/**
+	 * Gets the operator denoted by a reserved symbol or keyword.
+	 *
+	 * @param value The value of the operator's token.
+	 */
+	private Operator getOperator(Object value) {
+		if (value == Reserved.Symbol.PLUS) {
+			return Operator.PLUS;
+		} else if (value == Reserved.Symbol.MINUS) {
+			return Operator.MINUS;
+		} else if (value == Reserved.Symbol.ASTERISK) {
+			return Operator.MULTIPLICATION;
+		} else if (value == Reserved.Keyword.DIV) {
+			return Operator.DIV;
+		} else if (value == Reserved.Keyword.MOD) {
+			return Operator.MOD;
+		} else {
+			return Operator.getOperator(value.toString());
+		}
+	}
+
+	/**
+	 * Represents the precedence levels of binary operators, from lowest to highest.
+	 */
+	public enum Precedence {
+		ADDITIVE(true, TerminalSets.ADDITIVE_OPERATORS),
+		MULTIPLICATIVE(false, TerminalSets.MULTIPLICATIVE_OPERATORS);
+
+		/**
+		 * Represents whether an expression of this precedence level may begin with one of its operators (i.e. a sign).
+		 */
+		private final boolean m_allowsPrefix;
+		/**
+		 * Represents the reserved symbols and keywords of the operators of this precedence level.
+		 */
+		private final TerminalSet m_symbols;
+
+		/**
+		 * Constructs a precedence level.
+		 *
+		 * @param allowsPrefix Determines if a prefix of the symbols is allowed.
+		 * @param symbols      The reserved symbols and keywords of the operators of this precedence level.
+		 */
+		private Precedence(boolean allowsPrefix, TerminalSet symbols) {
+			m_allowsPrefix = allowsPrefix;
+			m_symbols = symbols;
+		}
+
+		/**
+		 * Queries whether an expression of this precedence level may begin with one of its operators.
+		 */
+		public boolean allowsPrefix() {
+			return m_allowsPrefix;
+		}
+
+		/**
+		 * Gets the reserved symbols and keywords of the operators of this precedence level.
+		 */
+		public TerminalSet getSymbols() {
+			return m_symbols;
+		}
+	}
 }
@@ -1,21 +1,50 @@
 package parser.utilities;
 
+import shared.ITokenSource;
 import shared.InvalidToken;
 import shared.Token;
+import shared.TokenTable;
 import shared.utilities.iterator.AbstractIterator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * Iterates over tokens.
+ * Iterates over tokens, which are stored compactly in a token table.
  */
 public class TokenIterator extends AbstractIterator<Token> {
 
 	/**
-	 * Represents the tokens that will be iterated.
+	 * Represents the tokens that will be iterated; if a token source is set, this is only the window of tokens that has not yet been released.
 	 */
-	private List<Token> m_tokens;
+	private TokenTable m_tokenTable;
+	/**
+	 * Represents the index of the first token in the window.
+	 */
+	private int m_offset;
+	/**
+	 * Represents the source from which tokens are pulled on demand, or null if all tokens were set up front.
+	 */
+	private ITokenSource m_tokenSource;
+	/**
+	 * Represents the number of recently materialized tokens that are cached; must be a power of two.
+	 */
+	private static final int CACHE_SIZE = 4;
+	/**
+	 * Represents the number of tokens preceding the current token that are kept when tokens are released.
+	 * A type's token range starts two tokens before the type (i.e. at its name), which precedes the release point if a declaration lacks its "=" or ":".
+	 */
+	private static final int RELEASE_MARGIN = 2;
+	/**
+	 * Represents the recently materialized tokens, indexed by their index modulo the cache size.
+	 * The parser repeatedly queries the current token and the few tokens after it, so these are reused rather than rematerialized.
+	 */
+	private Token[] m_cachedTokens = new Token[CACHE_SIZE];
+	/**
+	 * Represents the indices of the recently materialized tokens.
+	 */
+	private int[] m_cachedIndices = new int[CACHE_SIZE];
 
 	/**
 	 * The token iterator.
@@ -44,7 +73,89 @@ public class TokenIterator extends AbstractIterator<Token> {
 	 * @param tokens The tokens that will be iterated.
 	 */
 	public void setTokens(List<Token> tokens) {
-		m_tokens = tokens;
+		m_tokenTable = new TokenTable();
+		for (Token token : tokens) {
+			m_tokenTable.add(token);
+		}
+		m_offset = 0;
+		m_tokenSource = null;
+		clearCache();
+	}
+
+	/**
+	 * Sets the source from which the tokens that will be iterated are pulled as the parser consumes them.
+	 *
+	 * @param tokenSource The source of the tokens that will be iterated.
+	 */
+	public void setTokenSource(ITokenSource tokenSource) {
+		m_tokenTable = new TokenTable();
+		m_offset = 0;
+		m_tokenSource = tokenSource;
+		clearCache();
+	}
+
+	/**
+	 * Releases the tokens preceding the current token (except for a small margin), which will no longer be referenced by index.
+	 * This bounds the window of tokens kept alive when tokens are pulled from a token source; otherwise, this does nothing.
+	 */
+	public void release() {
+		int index = m_index - RELEASE_MARGIN;
+		if (m_tokenSource != null && index > m_offset) {
+			m_tokenTable = m_tokenTable.release(index - m_offset);
+			m_offset = index;
+		}
+	}
+
+	/**
+	 * Sets the index; if released tokens are needed again (i.e. when the parser restarts to synchronize), the token source is rewound to replay them.
+	 *
+	 * @param index The index.
+	 */
+	@Override
+	public void setIndex(int index) {
+		if (m_tokenSource != null && index < m_offset) {
+			m_tokenSource.rewind();
+			m_tokenTable = m_tokenTable.release(m_tokenTable.size());
+			m_offset = 0;
+			clearCache();
+		}
+		super.setIndex(index);
+	}
+
+	/**
+	 * Pulls tokens from the token source, if any, until the token at an index is in the window or EOF is reached.
+	 *
+	 * @param index The index of the token.
+	 */
+	private void pull(int index) {
+		if (m_tokenSource != null) {
+			while (index - m_offset >= m_tokenTable.size() && (m_tokenTable.size() == 0 || m_tokenTable.getType(m_tokenTable.size() - 1) != Token.Type.EOF)) {
+				m_tokenTable.add(m_tokenSource.getNextToken());
+			}
+		}
+	}
+
+	/**
+	 * Gets the token at an index, pulling tokens from the token source as necessary.
+	 *
+	 * @param index The index of the token.
+	 * @throws IndexOutOfBoundsException if the token was released or lies beyond EOF.
+	 */
+	private Token get(int index) {
+		int slot = index & (CACHE_SIZE - 1);
+		if (m_cachedTokens[slot] == null || m_cachedIndices[slot] != index) {
+			pull(index);
+			m_cachedTokens[slot] = m_tokenTable.getToken(index - m_offset);
+			m_cachedIndices[slot] = index;
+		}
+		return m_cachedTokens[slot];
+	}
+
+	/**
+	 * Clears the recently materialized tokens.
+	 */
+	private void clearCache() {
+		Arrays.fill(m_cachedTokens, null);
 	}
 
 	/**
@@ -52,7 +163,7 @@ public class TokenIterator extends AbstractIterator<Token> {
 	 */
 	@Override
 	public boolean hasNext() {
-		return (m_index == -1) || (m_tokens.get(m_index).getType() != Token.Type.EOF);
+		return (m_index == -1) || (get(m_index).getType() != Token.Type.EOF);
 	}
 
 	/**
@@ -61,9 +172,9 @@ public class TokenIterator extends AbstractIterator<Token> {
 	@Override
 	public Token getNext() {
 		if (hasNext()) {
-			return m_tokens.get(++m_index);
+			return get(++m_index);
 		} else {
-			return m_tokens.get(m_tokens.size() - 1);
+			return get(m_offset + m_tokenTable.size() - 1);
 		}
 	}
 
@@ -72,27 +183,29 @@ public class TokenIterator extends AbstractIterator<Token> {
 	 */
 	@Override
 	public Token getCurrent() {
-		return m_tokens.get(m_index);
+		return get(m_index);
 	}
 
 	/**
 	 * Gets a list of tokens from the starting and ending index.
+	 * The list is a read-only slice of the token table rather than a copy.
 	 *
 	 * @param startingIndex The starting index from which to start listing tokens.
 	 * @param endingIndex   The ending index from which to end listing tokens.
 	 */
 	public List<Token> getRange(int startingIndex, int endingIndex) {
-		List<Token> tokens = new ArrayList<Token>();
 		try {
-			for (int i = startingIndex; i < endingIndex; i++) {
-				tokens.add(m_tokens.get(i));
+			if (startingIndex < endingIndex) {
+				pull(endingIndex - 1);
 			}
+			return m_tokenTable.getSlice(startingIndex - m_offset, endingIndex - m_offset);
 		} catch (IndexOutOfBoundsException exception) {
-			tokens = new ArrayList<Token>();
-			m_tokens.add(new InvalidToken());
-			m_tokens.add(new InvalidToken());
+			if (m_tokenSource == null) { // Tokens pulled from a token source later would follow the invalid tokens, so these are only appended after the last token.
+				m_tokenTable.add(new InvalidToken());
+				m_tokenTable.add(new InvalidToken());
+			}
+			return new ArrayList<Token>();
 		}
-		return tokens;
 	}
 
 	/**
@@ -0,0 +1,194 @@
+package runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Represents the input of a running SIMPLE program (i.e. its read instructions), which decodes stdin line by line through a single buffer that is shared by every read.
+ * A line holds an integer if it consists of an optional sign followed by decimal digits within range, as for {@link java.lang.Integer#parseInt(String)}.
+ */
+public class Input {
+
+	/**
+	 * Represents the size of the buffer.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Represents the instance of the input.
+	 */
+	private static Input m_instance;
+	/**
+	 * Represents the stream from which to read.
+	 */
+	private final InputStream m_inputStream;
+	/**
+	 * Represents the buffer.
+	 */
+	private final byte[] m_buffer;
+	/**
+	 * Represents the position of the next byte in the buffer.
+	 */
+	private int m_position;
+	/**
+	 * Represents the number of bytes in the buffer.
+	 */
+	private int m_limit;
+	/**
+	 * Represents the bytes of the current line.
+	 */
+	private byte[] m_line;
+	/**
+	 * Represents the number of bytes of the current line.
+	 */
+	private int m_lineLength;
+	/**
+	 * Represents whether the current line holds an integer.
+	 */
+	private boolean m_isInteger;
+	/**
+	 * Represents the integer held by the current line.
+	 */
+	private int m_integer;
+
+	/**
+	 * Constructs the input.
+	 */
+	private Input() {
+		m_inputStream = System.in;
+		m_buffer = new byte[BUFFER_SIZE];
+		m_line = new byte[64];
+	}
+
+	/**
+	 * Gets the instance of the input.
+	 */
+	public static Input getInstance() {
+		if (m_instance == null) {
+			m_instance = new Input();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Reads the next line of stdin, which is terminated by "\n", "\r\n", "\r" or the end of stdin.
+	 *
+	 * @return True if a line was read; false if stdin is exhausted.
+	 */
+	public boolean nextLine() {
+		m_lineLength = 0;
+		boolean isTerminated = false;
+		while (!isTerminated) {
+			if (m_position == m_limit && !fill()) {
+				if (m_lineLength == 0) {
+					return false;
+				}
+				break;
+			}
+			byte b = m_buffer[m_position++];
+			if (b == '\n') {
+				isTerminated = true;
+			} else if (b == '\r') {
+				if (m_position < m_limit || fill()) {
+					if (m_buffer[m_position] == '\n') {
+						m_position++;
+					}
+				}
+				isTerminated = true;
+			} else {
+				if (m_lineLength == m_line.length) {
+					byte[] line = new byte[m_line.length * 2];
+					System.arraycopy(m_line, 0, line, 0, m_lineLength);
+					m_line = line;
+				}
+				m_line[m_lineLength++] = b;
+			}
+		}
+		decodeInteger();
+		return true;
+	}
+
+	/**
+	 * Queries whether the current line holds an integer.
+	 */
+	public boolean isInteger() {
+		return m_isInteger;
+	}
+
+	/**
+	 * Gets the integer held by the current line.
+	 */
+	public int getInteger() {
+		return m_integer;
+	}
+
+	/**
+	 * Gets the current line.
+	 */
+	public String getLine() {
+		return new String(m_line, 0, m_lineLength, Charset.defaultCharset());
+	}
+
+	/**
+	 * Decodes the integer held by the current line, accumulating negatively such that -2147483648 is in range.
+	 */
+	private void decodeInteger() {
+		m_isInteger = false;
+		int i = 0;
+		boolean isNegative = false;
+		if (m_lineLength > 0 && (m_line[0] == '-' || m_line[0] == '+')) {
+			isNegative = m_line[0] == '-';
+			i++;
+		}
+		if (i == m_lineLength) {
+			return;
+		}
+		int limit = isNegative ? java.lang.Integer.MIN_VALUE : -java.lang.Integer.MAX_VALUE;
+		int value = 0;
+		for (; i < m_lineLength; i++) {
+			int digit = m_line[i] - '0';
+			if (m_line[i] < 0) {
+				decodeNonAsciiInteger(); // e.g. digits of other scripts, which Integer.parseInt accepts.
+				return;
+			} else if (digit < 0 || digit > 9 || value < limit / 10 || value * 10 < limit + digit) {
+				return;
+			}
+			value = value * 10 - digit;
+		}
+		m_integer = isNegative ? value : -value;
+		m_isInteger = true;
+	}
+
+	/**
+	 * Decodes the integer held by the current line if it contains non-ASCII characters.
+	 */
+	private void decodeNonAsciiInteger() {
+		try {
+			m_integer = java.lang.Integer.parseInt(getLine());
+			m_isInteger = true;
+		} catch (NumberFormatException exception) {
+			m_isInteger = false;
+		}
+	}
+
+	/**
+	 * Fills the buffer from stdin, flushing the output first so that it precedes any prompt for input.
+	 *
+	 * @return True if bytes were read; false if stdin is exhausted.
+	 */
+	private boolean fill() {
+		Output.getInstance().flush();
+		try {
+			int count = m_inputStream.read(m_buffer, 0, m_buffer.length);
+			if (count <= 0) {
+				return false;
+			}
+			m_position = 0;
+			m_limit = count;
+			return true;
+		} catch (IOException exception) {
+			return false;
+		}
+	}
+}
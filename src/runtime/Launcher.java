@@ -0,0 +1,61 @@
+package runtime;
+
+/**
+ * Launches a SIMPLE program that was compiled ahead of time (see {@link codeGenerator.classGenerator.ClassGenerator}).
+ * Procedures are compiled into methods that recurse on the Java stack, so the program runs on a thread whose stack is sized by the memory budget (see {@link MemoryBudget}), as in the interpreter.
+ */
+public class Launcher implements Runnable {
+
+	/**
+	 * Represents the program.
+	 */
+	private final Runnable m_program;
+	/**
+	 * Represents the message that precedes the memory budget if the program exceeds it.
+	 */
+	private final String m_budgetPrefix;
+	/**
+	 * Represents the message that follows the memory budget if the program exceeds it.
+	 */
+	private final String m_budgetSuffix;
+
+	/**
+	 * Constructs a launcher.
+	 *
+	 * @param program      The program.
+	 * @param budgetPrefix The message that precedes the memory budget if the program exceeds it.
+	 * @param budgetSuffix The message that follows the memory budget if the program exceeds it.
+	 */
+	private Launcher(Runnable program, String budgetPrefix, String budgetSuffix) {
+		m_program = program;
+		m_budgetPrefix = budgetPrefix;
+		m_budgetSuffix = budgetSuffix;
+	}
+
+	/**
+	 * Runs a program to completion and flushes its output.
+	 *
+	 * @param program      The program.
+	 * @param budgetPrefix The message that precedes the memory budget if the program exceeds it.
+	 * @param budgetSuffix The message that follows the memory budget if the program exceeds it.
+	 */
+	public static void launch(Runnable program, String budgetPrefix, String budgetSuffix) {
+		Thread thread = new Thread(null, new Launcher(program, budgetPrefix, budgetSuffix), "program", MemoryBudget.getInstance().getBytes());
+		thread.start();
+		try {
+			thread.join();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/** {@inheritDoc} */
+	public void run() {
+		try {
+			m_program.run();
+		} catch (StackOverflowError error) {
+			RuntimeErrorHandler.getInstance().fail(m_budgetPrefix + MemoryBudget.getInstance().getBytes() + m_budgetSuffix);
+		}
+		Output.getInstance().flush();
+	}
+}
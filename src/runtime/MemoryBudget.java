@@ -0,0 +1,53 @@
+package runtime;
+
+/**
+ * Represents the memory budget of a running SIMPLE program, which bounds the depth of its recursion rather than the stack of the Java thread that happens to run it.
+ * The budget may be configured in bytes by the system property "simple.memoryBudget".
+ */
+public class MemoryBudget {
+
+	/**
+	 * Represents the default budget in bytes.
+	 */
+	private static final long DEFAULT_BUDGET = 256L << 20;
+
+	/**
+	 * Represents the instance of the memory budget.
+	 */
+	private static MemoryBudget m_instance;
+	/**
+	 * Represents the budget in bytes.
+	 */
+	private final long m_bytes;
+
+	/**
+	 * Constructs the memory budget.
+	 */
+	private MemoryBudget() {
+		m_bytes = Math.max(1L << 20, Long.getLong("simple.memoryBudget", DEFAULT_BUDGET));
+	}
+
+	/**
+	 * Gets the instance of the memory budget.
+	 */
+	public static MemoryBudget getInstance() {
+		if (m_instance == null) {
+			m_instance = new MemoryBudget();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Gets the budget in bytes.
+	 */
+	public long getBytes() {
+		return m_bytes;
+	}
+
+	/**
+	 * Gets the budget in words (i.e. integers).
+	 */
+	public int getWords() {
+		return (int) Math.min(java.lang.Integer.MAX_VALUE - 8, m_bytes / 4);
+	}
+}
@@ -0,0 +1,109 @@
+package runtime;
+
+/**
+ * Represents the output of a running SIMPLE program (i.e. its write instructions), which formats integers directly into a buffer that is written to stdout as a whole.
+ * The buffer is flushed once it holds at least the flush threshold (which may be configured by the system property "simple.flushThreshold"; 0 flushes every write), before stdin is read, before an error is reported, and when the program halts.
+ */
+public class Output {
+
+	/**
+	 * Represents the default number of bytes that are buffered before they are flushed.
+	 */
+	private static final int DEFAULT_FLUSH_THRESHOLD = 1 << 16;
+	/**
+	 * Represents the maximum number of bytes of a formatted integer (i.e. "-2147483648").
+	 */
+	private static final int MAXIMUM_INTEGER_SIZE = 11;
+
+	/**
+	 * Represents the instance of the output.
+	 */
+	private static Output m_instance;
+	/**
+	 * Represents the number of bytes that are buffered before they are flushed.
+	 */
+	private final int m_flushThreshold;
+	/**
+	 * Represents the line separator.
+	 */
+	private final byte[] m_lineSeparator;
+	/**
+	 * Represents the buffer.
+	 */
+	private final byte[] m_buffer;
+	/**
+	 * Represents the number of bytes in the buffer.
+	 */
+	private int m_size;
+
+	/**
+	 * Constructs the output.
+	 */
+	private Output() {
+		m_flushThreshold = Math.max(0, java.lang.Integer.getInteger("simple.flushThreshold", DEFAULT_FLUSH_THRESHOLD));
+		m_lineSeparator = System.lineSeparator().getBytes();
+		m_buffer = new byte[m_flushThreshold + MAXIMUM_INTEGER_SIZE + m_lineSeparator.length];
+	}
+
+	/**
+	 * Gets the instance of the output.
+	 */
+	public static Output getInstance() {
+		if (m_instance == null) {
+			m_instance = new Output();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Writes an integer followed by a line separator.
+	 *
+	 * @param value The integer to write.
+	 */
+	public void writeInteger(int value) {
+		byte[] buffer = m_buffer;
+		int size = m_size;
+		if (value < 0) {
+			buffer[size++] = '-';
+		} else {
+			value = -value; // Digits are extracted from the negative value, which also represents -2147483648.
+		}
+		int end = size + getNumberOfDigits(value);
+		for (int i = end - 1; i >= size; i--) {
+			buffer[i] = (byte) ('0' - value % 10);
+			value /= 10;
+		}
+		size = end;
+		for (byte b : m_lineSeparator) {
+			buffer[size++] = b;
+		}
+		m_size = size;
+		if (size >= m_flushThreshold) {
+			flush();
+		}
+	}
+
+	/**
+	 * Writes the buffer to stdout.
+	 */
+	public void flush() {
+		if (m_size > 0) {
+			System.out.write(m_buffer, 0, m_size);
+			m_size = 0;
+		}
+		System.out.flush();
+	}
+
+	/**
+	 * Gets the number of decimal digits of a non-positive integer.
+	 *
+	 * @param value The non-positive integer.
+	 */
+	private static int getNumberOfDigits(int value) {
+		int numberOfDigits = 1;
+		for (int bound = -10; value <= bound && numberOfDigits < 10; bound *= 10) {
+			numberOfDigits++;
+		}
+		return numberOfDigits;
+	}
+}
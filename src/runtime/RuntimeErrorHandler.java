@@ -0,0 +1,80 @@
+package runtime;
+
+/**
+ * Handles the errors of a SIMPLE program that was compiled ahead of time (see {@link codeGenerator.classGenerator.ClassGenerator}), whose messages are formatted by the compiler.
+ * Errors are reported as the compiler's exception handler reports them: after the output is flushed, and at most once each.
+ */
+public class RuntimeErrorHandler {
+
+	/**
+	 * Represents the instance of the runtime error handler.
+	 */
+	private static RuntimeErrorHandler m_instance;
+	/**
+	 * Represents the errors that have been reported, which prevents the same error from being reported twice.
+	 */
+	private final StringBuilder m_stringBuilder;
+
+	/**
+	 * Constructs the runtime error handler.
+	 */
+	private RuntimeErrorHandler() {
+		m_stringBuilder = new StringBuilder();
+	}
+
+	/**
+	 * Gets the instance of the runtime error handler.
+	 */
+	public static RuntimeErrorHandler getInstance() {
+		if (m_instance == null) {
+			m_instance = new RuntimeErrorHandler();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Reports an error from which the program continues (e.g. an input that is not an integer).
+	 *
+	 * @param prefix The message that precedes the value.
+	 * @param value  The value that caused the error.
+	 * @param suffix The message that follows the value.
+	 */
+	public void warn(String prefix, String value, String suffix) {
+		print(prefix + value + suffix);
+	}
+
+	/**
+	 * Reports an error and halts the program.
+	 *
+	 * @param message The message.
+	 */
+	public void fail(String message) {
+		print(message);
+		Output.getInstance().flush();
+		System.exit(1);
+	}
+
+	/**
+	 * Reports an error caused by a value and halts the program (e.g. an index that is out of range).
+	 *
+	 * @param prefix The message that precedes the value.
+	 * @param value  The value that caused the error.
+	 * @param suffix The message that follows the value.
+	 */
+	public void fail(String prefix, int value, String suffix) {
+		fail(prefix + value + suffix);
+	}
+
+	/**
+	 * Prints an error to standard error, unless it has already been printed.
+	 *
+	 * @param string The error.
+	 */
+	private void print(String string) {
+		if (m_stringBuilder.indexOf(string) == -1) {
+			m_stringBuilder.append(string).append('\n');
+			Output.getInstance().flush(); // The output of the program precedes the error.
+			System.err.println(string);
+		}
+	}
+}
@@ -5,6 +5,7 @@ import exception.ExceptionHandler;
 import exception.ExceptionStrength;
 import scanner.utilities.CharacterIterator;
 import scanner.utilities.CharacterUtilities;
+import shared.ITokenSource;
 import shared.Reserved;
 import shared.Token;
 
@@ -16,7 +17,7 @@ import java.util.List;
  * Scans the source code of a program as a sequence of characters and recognizes tokens.
  */
 @SuppressWarnings("all")
-public class Scanner {
+public class Scanner implements ITokenSource {
 
 	/**
 	 * Represents the instance of the scanner.
@@ -54,19 +55,24 @@ public class Scanner {
 	/**
 	 * Gets the next token from the input stream.
 	 */
+	@Override
 	public Token getNextToken() {
 		if (m_characterIterator == null) {
 			return ExceptionHandler.getInstance().throwException(Exception.NO_INPUT_STREAM, ExceptionStrength.STRONG);
 		} else {
 			while (m_characterIterator.hasNext()) {
-				if (CharacterUtilities.isWhitespace(m_characterIterator.peek())) {
+				int character = m_characterIterator.peek();
+				if (CharacterUtilities.isWhitespace(character)) {
 					m_characterIterator.getNext();
-				} else if (CharacterUtilities.isDigit(m_characterIterator.peek())) {
-					return getIntegerToken(m_characterIterator.getNext(), m_characterIterator.getIndex());
-				} else if (CharacterUtilities.isLetter(m_characterIterator.peek())) {
-					return getKeywordOrIdentifierToken(m_characterIterator.getNext(), m_characterIterator.getIndex());
-				} else if (startsWithReservedSymbol(m_characterIterator.peek())) {
-					Token token = getSymbolToken(m_characterIterator.getNext(), m_characterIterator.getIndex());
+				} else if (CharacterUtilities.isDigit(character)) {
+					m_characterIterator.getNext();
+					return getIntegerToken(m_characterIterator.getIndex());
+				} else if (CharacterUtilities.isLetter(character)) {
+					m_characterIterator.getNext();
+					return getKeywordOrIdentifierToken(m_characterIterator.getIndex());
+				} else if (startsWithReservedSymbol(character)) {
+					m_characterIterator.getNext();
+					Token token = getSymbolToken(m_characterIterator.getIndex());
 					if (isOpeningComment(token)) {
 						skipCommentedCode();
 						return getNextToken();
@@ -76,13 +82,25 @@ public class Scanner {
 						return token;
 					}
 				} else {
-					return ExceptionHandler.getInstance().throwException(Exception.INVALID_CHARACTER, ExceptionStrength.STRONG, m_characterIterator.peek(), m_characterIterator.getIndex() + 1);
+					return throwInvalidCharacterException();
 				}
 			}
 			return new Token<String>(m_characterIterator.getIndex(), 1, Token.Type.EOF, Token.Type.EOF.toString());
 		}
 	}
 
+	/**
+	 * Rewinds the scanner to the beginning of the input stream, which remains buffered.
+	 */
+	@Override
+	public void rewind() {
+		if (m_characterIterator == null) {
+			ExceptionHandler.getInstance().throwException(Exception.NO_INPUT_STREAM, ExceptionStrength.STRONG);
+		} else {
+			m_characterIterator.rewind();
+		}
+	}
+
 	/**
 	 * Gets all tokens from the input stream.
 	 */
@@ -123,46 +141,65 @@ public class Scanner {
 	/**
 	 * Gets an integer token from the current position of the character scanner.
 	 *
-	 * @param string The beginning of the token in its string-based representation.
-	 * @param index  The index of the token in its string-based representation.
+	 * @param index The index of the token's first character, which has already been consumed.
 	 */
-	private Token getIntegerToken(String string, int index) {
-		while (m_characterIterator.hasNext() && CharacterUtilities.isDigit(m_characterIterator.peek())) {
-			string += m_characterIterator.getNext();
+	private Token getIntegerToken(int index) {
+		int length = 1;
+		while (CharacterUtilities.isDigit(m_characterIterator.peek())) {
+			m_characterIterator.getNext();
+			length++;
+		}
+		String literal = m_characterIterator.getString(index, length);
+		try {
+			return new Token<Integer>(index, length, Token.Type.INTEGER, new Integer(literal));
+		} catch (NumberFormatException e) { // Reported here, since the parser would otherwise take the failed token for a syntax error.
+			return ExceptionHandler.getInstance().throwException(Exception.INTEGER_TOO_LARGE, ExceptionStrength.STRONG, literal, index + 1);
 		}
-		return new Token<Integer>(index, string.length(), Token.Type.INTEGER, new Integer(string));
 	}
 
 	/**
 	 * Gets a keyword or identifier token from the current position of the character scanner.
 	 *
-	 * @param string The beginning of the token in its string-based representation.
-	 * @param index  The index of the token in its string-based representation.
+	 * @param index The index of the token's first character, which has already been consumed.
 	 */
-	private Token getKeywordOrIdentifierToken(String string, int index) {
-		while (m_characterIterator.hasNext() && CharacterUtilities.isLetterOrDigit(m_characterIterator.peek())) {
-			string += m_characterIterator.getNext();
+	private Token getKeywordOrIdentifierToken(int index) {
+		int length = 1;
+		while (CharacterUtilities.isLetterOrDigit(m_characterIterator.peek())) {
+			m_characterIterator.getNext();
+			length++;
 		}
-		if (Reserved.isKeyword(string)) {
-			return new Token<Reserved.Keyword>(index, string.length(), Token.Type.KEYWORD, Reserved.getKeyword(string));
+		Reserved.Keyword keyword = Reserved.getKeyword(m_characterIterator.getBuffer(), index, length);
+		if (keyword != null) {
+			return new Token<Reserved.Keyword>(index, length, Token.Type.KEYWORD, keyword);
 		} else {
-			return new Token<String>(index, string.length(), Token.Type.IDENTIFIER, string);
+			return new Token<String>(index, length, Token.Type.IDENTIFIER, m_characterIterator.getString(index, length));
 		}
 	}
 
 	/**
 	 * Gets a symbol token from the current position of the character scanner.
 	 *
-	 * @param string The beginning of the token in its string-based representation.
-	 * @param index  The index of the token in its string-based representation.
-	 */
-	private Token getSymbolToken(String string, int index) {
-		if (Reserved.isSymbol(string + m_characterIterator.peek())) {
-			string += m_characterIterator.getNext();
-		} else if (!Reserved.isSymbol(string)) {
-			return ExceptionHandler.getInstance().throwException(Exception.INVALID_CHARACTER, ExceptionStrength.STRONG, m_characterIterator.peek(), m_characterIterator.getIndex() + 1);
+	 * @param index The index of the token's first character, which has already been consumed.
+	 */
+	private Token getSymbolToken(int index) {
+		int first = m_characterIterator.getCurrent();
+		Reserved.Symbol symbol = Reserved.getSymbol(first, m_characterIterator.peek());
+		if (symbol != null) {
+			m_characterIterator.getNext();
+			return new Token<Reserved.Symbol>(index, 2, Token.Type.SYMBOL, symbol);
+		} else if ((symbol = Reserved.getSymbol(first)) == null) {
+			return throwInvalidCharacterException();
 		}
-		return new Token<Reserved.Symbol>(index, string.length(), Token.Type.SYMBOL, Reserved.getSymbol(string));
+		return new Token<Reserved.Symbol>(index, 1, Token.Type.SYMBOL, symbol);
+	}
+
+	/**
+	 * Throws an exception indicating the character following the current position of the character scanner is invalid.
+	 */
+	private Token throwInvalidCharacterException() {
+		int character = m_characterIterator.peek();
+		String invalidCharacter = character == CharacterIterator.EOF ? "" : String.valueOf((char) character);
+		return ExceptionHandler.getInstance().throwException(Exception.INVALID_CHARACTER, ExceptionStrength.STRONG, invalidCharacter, m_characterIterator.getIndex() + 1);
 	}
 
 	/**
@@ -170,14 +207,8 @@ public class Scanner {
 	 *
 	 * @param character The character to query.
 	 */
-	private boolean startsWithReservedSymbol(String character) {
-		assert character.length() == 1;
-		for (Reserved.Symbol symbol : Reserved.Symbol.values()) {
-			if (symbol.toString().charAt(0) == character.charAt(0)) {
-				return true;
-			}
-		}
-		return false;
+	private boolean startsWithReservedSymbol(int character) {
+		return Reserved.isSymbolStart(character);
 	}
 
 	/**
@@ -186,7 +217,7 @@ public class Scanner {
 	 * @param token The token to query.
 	 */
 	private boolean isOpeningComment(Token token) {
-		return token.getValue().toString().equals(Reserved.Symbol.OPENING_COMMENTS.toString());
+		return token.getValue() == Reserved.Symbol.OPENING_COMMENTS;
 	}
 
 	/**
@@ -194,7 +225,7 @@ public class Scanner {
 	 */
 	private void skipCommentedCode() {
 		while (m_characterIterator.hasNext()) {
-			if (m_characterIterator.getNext().equals("*") && m_characterIterator.peek().equals(")")) {
+			if (m_characterIterator.getNext() == '*' && m_characterIterator.peek() == ')') {
 				m_characterIterator.getNext();
 				return;
 			}
@@ -207,6 +238,6 @@ public class Scanner {
 	 * @param token The token to query.
 	 */
 	private boolean isClosingComment(Token token) {
-		return token.getValue().toString().equals(Reserved.Symbol.CLOSING_COMMENTS.toString());
+		return token.getValue() == Reserved.Symbol.CLOSING_COMMENTS;
 	}
 }
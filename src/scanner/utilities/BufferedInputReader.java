@@ -3,10 +3,14 @@ package scanner.utilities;
 import exception.ExceptionHandler;
 import exception.ExceptionStrength;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.LineNumberReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 
 /**
  * Represents a buffered input reader.
@@ -15,73 +19,61 @@ import java.io.LineNumberReader;
 public class BufferedInputReader {
 
 	/**
-	 * Represents the buffer size for reading from standard input.
+	 * Represents the reader from which streamed input is read, or null if the input is a mapped file.
 	 */
-	private static final int STANDARD_INPUT_BUFFER_SIZE = 1048576 * 10;
+	private Reader m_reader;
 	/**
-	 * Represents a line number reader.
+	 * Represents the decoded characters of a mapped file, or null if the input is streamed.
 	 */
-	private LineNumberReader m_lineNumberReader;
-	/**
-	 * Represents the input stream from which to read input.
-	 */
-	private InputStream m_inputStream;
+	private CharBuffer m_mappedCharacters;
 
 	/**
 	 * Constructs a new buffered input reader.
+	 * Files are memory-mapped and decoded in a single pass; every other input stream (i.e. standard input) is streamed in chunks.
 	 *
 	 * @param inputStream The input stream from which to read input.
 	 */
 	public BufferedInputReader(InputStream inputStream) {
-		m_inputStream = inputStream;
-		m_lineNumberReader = new LineNumberReader(new InputStreamReader(m_inputStream));
+		try {
+			if (inputStream instanceof FileInputStream) {
+				FileChannel fileChannel = ((FileInputStream) inputStream).getChannel();
+				if (fileChannel.size() <= Integer.MAX_VALUE) {
+					m_mappedCharacters = Charset.defaultCharset().decode(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+					return;
+				}
+			}
+			m_reader = new InputStreamReader(inputStream);
+		} catch (IOException e) {
+			ExceptionHandler.getInstance().throwException(exception.Exception.IO_ERROR, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Gets the decoded characters of a mapped file, which may be used in place without copying.
+	 *
+	 * @return The characters of the mapped file if the input is a file, or null if the input is streamed.
+	 */
+	public CharBuffer getMappedCharacters() {
+		return m_mappedCharacters;
 	}
 
 	/**
-	 * Reads and gets the next line with the line terminator.
+	 * Reads the next chunk of characters, including line terminators, into a buffer.
 	 *
-	 * @return The next line if one exists, or null if EOF.
+	 * @param buffer The buffer into which to read characters.
+	 * @param offset The index at which to start storing characters.
+	 * @param length The maximum number of characters to read.
+	 * @return The number of characters read, or -1 if EOF.
 	 */
-	public String readLine() {
+	public int read(char[] buffer, int offset, int length) {
+		if (m_reader == null) {
+			return -1;
+		}
 		try {
-			int availableBuffer = m_inputStream.available();
-			/**
-			 * If the available buffer size (in bytes) is 0, that means the input stream is reading from standard input.
-			 * If the input stream is reading from standard input, we limit the buffer size of each line to 10 megabytes.
-			 * The reason we have to go through all of this pain in the first place is because Java does not allow one to use
-			 * a buffered input reader and read terminating symbols (i.e. \n, \r, etc.).  Instead, Java returns entire lines without
-			 * terminal symbols.  To get around this bad design choice, we must "mark" a spot on the buffered input reader, read the line,
-			 * go back to the "marked" spot, skip the read characters, and read the omitted terminating symbol.  Lastly, for some
-			 * inexplicable reason, Java requires us to specify how many bytes (i.e. characters) we are allowed to go forward
-			 * before invalidating the "marked" spot.  If we are reading from a file, this is not an issue, since the entire file is
-			 * in RAM, so we can calculate this.  However, reading from stdin means we won't know until the line is ready.  10 megabytes
-			 * is huge enough for giant obfuscated code that will be copy-and-pasted and small enough to not make a giant impact on performance.
-			 * It just makes scanning that much more resource-intensive.
-			 */
-			if (availableBuffer == 0) {
-				m_lineNumberReader.mark(STANDARD_INPUT_BUFFER_SIZE);
-			} else {
-				m_lineNumberReader.mark(availableBuffer);
-			}
-			String line = m_lineNumberReader.readLine();
-			if (line == null) {
-				return null;
-			} else {
-				try {
-					m_lineNumberReader.reset();
-				} catch (IOException e) {
-					return line;
-				}
-				m_lineNumberReader.skip(line.length());
-				int terminator = m_lineNumberReader.read();
-				if (terminator != -1) {
-					line += (char) terminator;
-				}
-				return line;
-			}
+			return m_reader.read(buffer, offset, length);
 		} catch (IOException e) {
 			ExceptionHandler.getInstance().throwException(exception.Exception.IO_ERROR, ExceptionStrength.STRONG);
-			return null;
+			return -1;
 		}
 	}
 }
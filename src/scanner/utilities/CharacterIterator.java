@@ -1,23 +1,34 @@
 package scanner.utilities;
 
-import shared.utilities.iterator.AbstractIterator;
-
 import java.io.InputStream;
+import java.nio.CharBuffer;
 
 /**
  * Iterates over the characters of a scanner's buffered input.
  */
 @SuppressWarnings("all")
-public class CharacterIterator extends AbstractIterator<String> {
+public class CharacterIterator {
 
 	/**
 	 * Represents the EOF character.
 	 */
-	private static final String EOF = "";
+	public static final int EOF = -1;
+	/**
+	 * Represents the initial capacity of the character buffer.
+	 */
+	private static final int INITIAL_CAPACITY = 8192;
+	/**
+	 * Represents the characters of the input that is being iterated.
+	 */
+	private char[] m_buffer;
+	/**
+	 * Represents the number of characters in the buffer.
+	 */
+	private int m_length;
 	/**
-	 * Represents the builder for the input that is being iterated.
+	 * Represents the index of the current character.
 	 */
-	private StringBuilder m_stringBuilder;
+	private int m_index;
 	/**
 	 * Represents the reader whose buffered input's characters will be iterated.
 	 */
@@ -30,63 +41,140 @@ public class CharacterIterator extends AbstractIterator<String> {
 	 */
 	public CharacterIterator(InputStream inputStream) {
 		m_bufferedInputReader = new BufferedInputReader(inputStream);
-		m_stringBuilder = new StringBuilder();
+		CharBuffer mappedCharacters = m_bufferedInputReader.getMappedCharacters();
+		if (mappedCharacters != null && mappedCharacters.hasArray() && mappedCharacters.arrayOffset() == 0) {
+			m_buffer = mappedCharacters.array();
+			m_length = mappedCharacters.limit();
+		} else {
+			m_buffer = new char[INITIAL_CAPACITY];
+			m_length = 0;
+			if (mappedCharacters != null) {
+				appendCharacters(mappedCharacters);
+			}
+		}
+		m_index = -1;
 	}
 
 	/**
-	 * Appends the next line from the scanner's buffered input into the string builder, returning true if successful; false indicates EOF.
+	 * Ensures the buffer can hold a number of additional characters, growing it if necessary.
+	 *
+	 * @param length The number of additional characters.
 	 */
-	private boolean appendNextLine() {
-		String nextLine = m_bufferedInputReader.readLine();
-		if (nextLine != null) {
-			m_stringBuilder.append(nextLine);
-			return true;
-		} else {
-			m_stringBuilder.append(EOF);
+	private void ensureCapacity(int length) {
+		if (m_length + length > m_buffer.length) {
+			char[] buffer = new char[Math.max(m_buffer.length * 2, m_length + length)];
+			System.arraycopy(m_buffer, 0, buffer, 0, m_length);
+			m_buffer = buffer;
+		}
+	}
+
+	/**
+	 * Appends characters to the buffer.
+	 *
+	 * @param characters The characters to append.
+	 */
+	private void appendCharacters(CharBuffer characters) {
+		ensureCapacity(characters.remaining());
+		int length = characters.remaining();
+		characters.get(m_buffer, m_length, length);
+		m_length += length;
+	}
+
+	/**
+	 * Appends the next chunk from the scanner's buffered input into the buffer, returning true if successful; false indicates EOF.
+	 */
+	private boolean appendNextChunk() {
+		if (m_length == m_buffer.length) {
+			ensureCapacity(m_buffer.length);
+		}
+		int length = m_bufferedInputReader.read(m_buffer, m_length, m_buffer.length - m_length);
+		if (length == -1) {
 			return false;
 		}
+		m_length += length;
+		return true;
+	}
+
+	/**
+	 * Queries whether a character exists at an index, buffering more input if necessary.
+	 *
+	 * @param index The index to query.
+	 */
+	private boolean isBuffered(int index) {
+		while (index >= m_length) {
+			if (!appendNextChunk()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the index.
+	 */
+	public int getIndex() {
+		return m_index;
 	}
 
 	/**
-	 * Queries whether there exists a next value.
+	 * Rewinds the index, such that the next character will be the first character.  Buffered input is retained.
+	 */
+	public void rewind() {
+		m_index = -1;
+	}
+
+	/**
+	 * Queries whether there exists a next character.
 	 */
-	@Override
 	public boolean hasNext() {
-		boolean hasNextCharacter = !peek().equals(EOF);
-		if (!hasNextCharacter && m_index == -1) {
-			m_index = 0;
+		return peek() != EOF;
+	}
+
+	/**
+	 * Advances index, returning the next character or EOF.
+	 */
+	public int getNext() {
+		if (isBuffered(m_index + 1)) {
+			return m_buffer[++m_index];
+		} else {
+			m_index = m_length + 1;
+			return EOF;
 		}
-		return hasNextCharacter;
 	}
 
 	/**
-	 * Advances index, returning the next object.
-	 */
-	@Override
-	public String getNext() {
-		if (m_index >= m_stringBuilder.length() - 1) {
-			if (appendNextLine()) {
-				return getNext();
-			} else {
-				if (m_index == -1) {
-					m_index = 0;
-				} else {
-					m_index = m_stringBuilder.length();
-				}
-				m_index++;
-				return EOF;
-			}
+	 * Returns the next character or EOF without advancing the index.
+	 */
+	public int peek() {
+		if (isBuffered(m_index + 1)) {
+			return m_buffer[m_index + 1];
 		} else {
-			m_index++;
-			return getCurrent();
+			m_index = m_length; // The index rests one past the last character once EOF has been seen.
+			return EOF;
 		}
 	}
 
 	/**
-	 * Gets the current object without advancing the index.
+	 * Gets the current character without advancing the index.
+	 */
+	public int getCurrent() {
+		return m_buffer[m_index];
+	}
+
+	/**
+	 * Gets the buffered characters, which remain valid only until more input is buffered.
+	 */
+	public char[] getBuffer() {
+		return m_buffer;
+	}
+
+	/**
+	 * Gets the string-based representation of a range of buffered characters.
+	 *
+	 * @param startingIndex The index of the first character.
+	 * @param length        The number of characters.
 	 */
-	@Override
-	public String getCurrent() {
-		return Character.toString(m_stringBuilder.charAt(m_index));
+	public String getString(int startingIndex, int length) {
+		return new String(m_buffer, startingIndex, length);
 	}
-}
\ No newline at end of file
+}
@@ -9,40 +9,36 @@ public class CharacterUtilities {
 	/**
 	 * Queries if the character is white space.
 	 *
-	 * @param character The character to query.
+	 * @param character The character to query, or EOF.
 	 */
-	public static boolean isWhitespace(String character) {
-		assert character.length() == 1;
-		return Character.isWhitespace(character.charAt(0));
+	public static boolean isWhitespace(int character) {
+		return character != CharacterIterator.EOF && Character.isWhitespace((char) character);
 	}
 
 	/**
 	 * Queries if the character is a digit.
 	 *
-	 * @param character The character to query.
+	 * @param character The character to query, or EOF.
 	 */
-	public static boolean isDigit(String character) {
-		assert character.length() == 1;
-		return Character.isDigit(character.charAt(0));
+	public static boolean isDigit(int character) {
+		return character != CharacterIterator.EOF && Character.isDigit((char) character);
 	}
 
 	/**
 	 * Queries if the character is a letter.
 	 *
-	 * @param character The character to query.
+	 * @param character The character to query, or EOF.
 	 */
-	public static boolean isLetter(String character) {
-		assert character.length() == 1;
-		return Character.isLetter(character.charAt(0));
+	public static boolean isLetter(int character) {
+		return character != CharacterIterator.EOF && Character.isLetter((char) character);
 	}
 
 	/**
 	 * Queries if the character is a letter or digit.
 	 *
-	 * @param character The character to query.
+	 * @param character The character to query, or EOF.
 	 */
-	public static boolean isLetterOrDigit(String character) {
-		assert character.length() == 1;
-		return Character.isLetterOrDigit(character.charAt(0));
+	public static boolean isLetterOrDigit(int character) {
+		return character != CharacterIterator.EOF && Character.isLetterOrDigit((char) character);
 	}
 }
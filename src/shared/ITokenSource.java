@@ -0,0 +1,17 @@
+package shared;
+
+/**
+ * Defines the promises of a source that produces tokens on demand.
+ */
+public interface ITokenSource {
+
+	/**
+	 * Gets the next token, which is the EOF token once the source is exhausted.
+	 */
+	public Token getNextToken();
+
+	/**
+	 * Rewinds the source, such that the next token will be the first token.
+	 */
+	public void rewind();
+}
@@ -6,6 +6,95 @@ package shared;
 @SuppressWarnings("all")
 public class Reserved {
 
+	/**
+	 * Represents the number of characters covered by the symbol tables, i.e. ASCII.
+	 */
+	private static final int ASCII = 128;
+	/**
+	 * Represents the keywords, indexed by the perfect hash of their spelling.
+	 */
+	private static Keyword[] s_keywordTable;
+	/**
+	 * Represents the spellings of the keywords, indexed by the perfect hash of their spelling.
+	 */
+	private static char[][] s_keywordSpellings;
+	/**
+	 * Represents the multiplier of the keywords' perfect hash.
+	 */
+	private static int s_keywordMultiplier;
+	/**
+	 * Represents the shift of the keywords' perfect hash.
+	 */
+	private static int s_keywordShift;
+	/**
+	 * Represents whether an ASCII character is the first character of a reserved symbol.
+	 */
+	private static final boolean[] s_symbolStarts = new boolean[ASCII];
+	/**
+	 * Represents the single-character symbols, indexed by their character.
+	 */
+	private static final Symbol[] s_singleCharacterSymbols = new Symbol[ASCII];
+	/**
+	 * Represents the two-character symbols, indexed by their first and then second character; rows exist only for first characters of two-character symbols.
+	 */
+	private static final Symbol[][] s_twoCharacterSymbols = new Symbol[ASCII][];
+
+	static {
+		for (Symbol symbol : Symbol.values()) {
+			String spelling = symbol.toString();
+			char first = spelling.charAt(0);
+			s_symbolStarts[first] = true;
+			if (spelling.length() == 1) {
+				s_singleCharacterSymbols[first] = symbol;
+			} else {
+				if (s_twoCharacterSymbols[first] == null) {
+					s_twoCharacterSymbols[first] = new Symbol[ASCII];
+				}
+				s_twoCharacterSymbols[first][spelling.charAt(1)] = symbol;
+			}
+		}
+		Keyword[] keywords = Keyword.values();
+		for (int bits = 6; s_keywordTable == null; bits++) {
+			for (int multiplier = 0x9E3779B1; s_keywordTable == null && multiplier != 0x9E3779B1 + 2 * 65536; multiplier += 2) {
+				Keyword[] table = new Keyword[1 << bits];
+				boolean isPerfect = true;
+				for (Keyword keyword : keywords) {
+					char[] spelling = keyword.toString().toCharArray();
+					int hash = hashKeyword(spelling, 0, spelling.length, multiplier, 32 - bits);
+					if (table[hash] != null) {
+						isPerfect = false;
+						break;
+					}
+					table[hash] = keyword;
+				}
+				if (isPerfect) {
+					s_keywordTable = table;
+					s_keywordMultiplier = multiplier;
+					s_keywordShift = 32 - bits;
+				}
+			}
+		}
+		s_keywordSpellings = new char[s_keywordTable.length][];
+		for (int i = 0; i < s_keywordTable.length; i++) {
+			if (s_keywordTable[i] != null) {
+				s_keywordSpellings[i] = s_keywordTable[i].toString().toCharArray();
+			}
+		}
+	}
+
+	/**
+	 * Hashes a candidate keyword spelling by its first, second and last characters and its length.
+	 *
+	 * @param characters The characters containing the spelling.
+	 * @param offset     The index of the spelling's first character.
+	 * @param length     The length of the spelling.
+	 * @param multiplier The multiplier of the hash.
+	 * @param shift      The shift of the hash, which determines the size of the table.
+	 */
+	private static int hashKeyword(char[] characters, int offset, int length, int multiplier, int shift) {
+		int key = (((characters[offset] * 31 + characters[offset + (length > 1 ? 1 : 0)]) * 31 + characters[offset + length - 1]) * 31) + length;
+		return (key * multiplier) >>> shift;
+	}
 
 	/**
 	 * Queries if the string is a reserved keyword.
@@ -23,12 +112,29 @@ public class Reserved {
 	 */
 	public static Keyword getKeyword(String string) {
 		assert string.length() > 0;
-		for (Reserved.Keyword keyword : Reserved.Keyword.values()) {
-			if (keyword.toString().equals(string)) {
-				return keyword;
+		return getKeyword(string.toCharArray(), 0, string.length());
+	}
+
+	/**
+	 * Gets the reserved keyword spelled by a range of characters if it is a reserved keyword; otherwise, null.
+	 *
+	 * @param characters The characters containing the spelling.
+	 * @param offset     The index of the spelling's first character.
+	 * @param length     The length of the spelling.
+	 */
+	public static Keyword getKeyword(char[] characters, int offset, int length) {
+		assert length > 0;
+		int hash = hashKeyword(characters, offset, length, s_keywordMultiplier, s_keywordShift);
+		char[] spelling = s_keywordSpellings[hash];
+		if (spelling == null || spelling.length != length) {
+			return null;
+		}
+		for (int i = 0; i < length; i++) {
+			if (spelling[i] != characters[offset + i]) {
+				return null;
 			}
 		}
-		return null;
+		return s_keywordTable[hash];
 	}
 
 	/**
@@ -47,12 +153,42 @@ public class Reserved {
 	 */
 	public static Symbol getSymbol(String string) {
 		assert string.length() == 1 || string.length() == 2;
-		for (Reserved.Symbol symbol : Reserved.Symbol.values()) {
-			if (symbol.toString().equals(string)) {
-				return symbol;
-			}
+		if (string.length() == 1) {
+			return getSymbol(string.charAt(0));
+		} else {
+			return getSymbol(string.charAt(0), string.charAt(1));
+		}
+	}
+
+	/**
+	 * Gets the single-character reserved symbol from a character if it is a reserved symbol; otherwise, null.
+	 *
+	 * @param character The character to query.
+	 */
+	public static Symbol getSymbol(int character) {
+		return character >= 0 && character < ASCII ? s_singleCharacterSymbols[character] : null;
+	}
+
+	/**
+	 * Gets the two-character reserved symbol from a pair of characters if it is a reserved symbol; otherwise, null.
+	 *
+	 * @param first  The first character to query.
+	 * @param second The second character to query.
+	 */
+	public static Symbol getSymbol(int first, int second) {
+		if (first < 0 || first >= ASCII || second < 0 || second >= ASCII || s_twoCharacterSymbols[first] == null) {
+			return null;
 		}
-		return null;
+		return s_twoCharacterSymbols[first][second];
+	}
+
+	/**
+	 * Queries if the character is the first character of a reserved symbol.
+	 *
+	 * @param character The character to query.
+	 */
+	public static boolean isSymbolStart(int character) {
+		return character >= 0 && character < ASCII && s_symbolStarts[character];
 	}
 
 	/**
@@ -0,0 +1,257 @@
+package shared;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores tokens compactly as rows of parallel primitive arrays; tokens are materialized as lightweight views on demand.
+ * The value of a row is the literal of an integer, the ordinal of a keyword or symbol, or the index of an identifier in the interned identifier pool.
+ */
+@SuppressWarnings("all")
+public class TokenTable {
+
+	/**
+	 * Represents the initial number of rows.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+	/**
+	 * Represents the token types, cached to avoid cloning the array of enum values.
+	 */
+	private static final Token.Type[] TYPES = Token.Type.values();
+	/**
+	 * Represents the keywords, cached to avoid cloning the array of enum values.
+	 */
+	private static final Reserved.Keyword[] KEYWORDS = Reserved.Keyword.values();
+	/**
+	 * Represents the symbols, cached to avoid cloning the array of enum values.
+	 */
+	private static final Reserved.Symbol[] SYMBOLS = Reserved.Symbol.values();
+	/**
+	 * Represents the type ordinal of each row.
+	 */
+	private int[] m_types;
+	/**
+	 * Represents the starting index of each row.
+	 */
+	private int[] m_startingIndices;
+	/**
+	 * Represents the length of each row.
+	 */
+	private int[] m_lengths;
+	/**
+	 * Represents the encoded value of each row.
+	 */
+	private int[] m_values;
+	/**
+	 * Represents the number of rows.
+	 */
+	private int m_size;
+	/**
+	 * Represents whether rows have been handed out as slices, in which case existing rows must never be overwritten.
+	 */
+	private boolean m_isSliced;
+	/**
+	 * Represents the interned identifiers, which are shared by every table created through compaction.
+	 */
+	private List<String> m_identifiers;
+	/**
+	 * Represents the index of every interned identifier.
+	 */
+	private Map<String, Integer> m_identifierIndices;
+
+	/**
+	 * Constructs an empty token table.
+	 */
+	public TokenTable() {
+		this(INITIAL_CAPACITY, new ArrayList<String>(), new HashMap<String, Integer>());
+	}
+
+	/**
+	 * Constructs an empty token table.
+	 *
+	 * @param capacity          The initial number of rows.
+	 * @param identifiers       The interned identifiers.
+	 * @param identifierIndices The index of every interned identifier.
+	 */
+	private TokenTable(int capacity, List<String> identifiers, Map<String, Integer> identifierIndices) {
+		m_types = new int[capacity];
+		m_startingIndices = new int[capacity];
+		m_lengths = new int[capacity];
+		m_values = new int[capacity];
+		m_identifiers = identifiers;
+		m_identifierIndices = identifierIndices;
+	}
+
+	/**
+	 * Gets the number of rows.
+	 */
+	public int size() {
+		return m_size;
+	}
+
+	/**
+	 * Appends a token as a new row.
+	 *
+	 * @param token The token to append.
+	 */
+	public void add(Token token) {
+		if (m_size == m_types.length) {
+			grow(m_size * 2);
+		}
+		m_types[m_size] = token.getType().ordinal();
+		m_startingIndices[m_size] = token.getStartingIndex();
+		m_lengths[m_size] = token.getEndingIndex() - token.getStartingIndex() + 1;
+		m_values[m_size] = encode(token);
+		m_size++;
+	}
+
+	/**
+	 * Gets the type of a row without materializing its token.
+	 *
+	 * @param row The row.
+	 */
+	public Token.Type getType(int row) {
+		checkRow(row);
+		return TYPES[m_types[row]];
+	}
+
+	/**
+	 * Gets a view of the token stored in a row.
+	 *
+	 * @param row The row.
+	 */
+	public Token getToken(int row) {
+		checkRow(row);
+		Token.Type type = TYPES[m_types[row]];
+		int value = m_values[row];
+		switch (type) {
+			case INTEGER:
+				return new Token<Integer>(m_startingIndices[row], m_lengths[row], type, Integer.valueOf(value));
+			case KEYWORD:
+				return new Token<Reserved.Keyword>(m_startingIndices[row], m_lengths[row], type, KEYWORDS[value]);
+			case SYMBOL:
+				return new Token<Reserved.Symbol>(m_startingIndices[row], m_lengths[row], type, SYMBOLS[value]);
+			case IDENTIFIER:
+				return new Token<String>(m_startingIndices[row], m_lengths[row], type, m_identifiers.get(value));
+			case EOF:
+				return new Token<String>(m_startingIndices[row], m_lengths[row], type, Token.Type.EOF.toString());
+			default:
+				return new InvalidToken();
+		}
+	}
+
+	/**
+	 * Gets a read-only list of the tokens stored in a range of rows, without copying them.
+	 *
+	 * @param startingRow The first row of the range.
+	 * @param endingRow   The row after the last row of the range.
+	 * @throws IndexOutOfBoundsException if the range does not lie within the table.
+	 */
+	public List<Token> getSlice(final int startingRow, final int endingRow) {
+		if (startingRow < endingRow) {
+			checkRow(startingRow);
+			checkRow(endingRow - 1);
+			m_isSliced = true;
+		}
+		return new AbstractList<Token>() {
+			/** {@inheritDoc} */
+			public Token get(int index) {
+				if (index < 0 || startingRow + index >= endingRow) {
+					throw new IndexOutOfBoundsException();
+				}
+				return getToken(startingRow + index);
+			}
+
+			/** {@inheritDoc} */
+			public int size() {
+				return Math.max(endingRow - startingRow, 0);
+			}
+		};
+	}
+
+	/**
+	 * Discards the rows preceding a row, such that it becomes the first row.
+	 * If rows have been handed out as slices, the remaining rows are copied into a new table so the slices stay valid; otherwise, rows are compacted in place.
+	 *
+	 * @param row The row that will become the first row.
+	 * @return The table containing the remaining rows.
+	 */
+	public TokenTable release(int row) {
+		int remaining = m_size - row;
+		TokenTable tokenTable = this;
+		if (m_isSliced) {
+			tokenTable = new TokenTable(Math.max(INITIAL_CAPACITY, remaining * 2), m_identifiers, m_identifierIndices);
+		}
+		System.arraycopy(m_types, row, tokenTable.m_types, 0, remaining);
+		System.arraycopy(m_startingIndices, row, tokenTable.m_startingIndices, 0, remaining);
+		System.arraycopy(m_lengths, row, tokenTable.m_lengths, 0, remaining);
+		System.arraycopy(m_values, row, tokenTable.m_values, 0, remaining);
+		tokenTable.m_size = remaining;
+		return tokenTable;
+	}
+
+	/**
+	 * Encodes the value of a token as an integer.
+	 *
+	 * @param token The token whose value to encode.
+	 */
+	private int encode(Token token) {
+		switch (token.getType()) {
+			case INTEGER:
+				return (Integer) token.getValue();
+			case KEYWORD:
+			case SYMBOL:
+				return ((Enum) token.getValue()).ordinal();
+			case IDENTIFIER:
+				String identifier = (String) token.getValue();
+				Integer index = m_identifierIndices.get(identifier);
+				if (index == null) {
+					index = m_identifiers.size();
+					m_identifiers.add(identifier);
+					m_identifierIndices.put(identifier, index);
+				}
+				return index;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Grows the arrays of the table.
+	 *
+	 * @param capacity The new number of rows.
+	 */
+	private void grow(int capacity) {
+		m_types = copyOf(m_types, capacity);
+		m_startingIndices = copyOf(m_startingIndices, capacity);
+		m_lengths = copyOf(m_lengths, capacity);
+		m_values = copyOf(m_values, capacity);
+	}
+
+	/**
+	 * Copies an array into a new array of a given length.
+	 *
+	 * @param array  The array to copy.
+	 * @param length The length of the new array.
+	 */
+	private static int[] copyOf(int[] array, int length) {
+		int[] copy = new int[length];
+		System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+		return copy;
+	}
+
+	/**
+	 * Verifies that a row exists.
+	 *
+	 * @param row The row to verify.
+	 * @throws IndexOutOfBoundsException if the row does not exist.
+	 */
+	private void checkRow(int row) {
+		if (row < 0 || row >= m_size) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + m_size);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package virtualMachine;
+
+/**
+ * Represents a program lowered to the bytecode of the virtual machine (see {@link Opcode}).
+ */
+public class Bytecode {
+
+	/**
+	 * Represents the code, which starts with the program's instructions and is followed by the procedures.
+	 */
+	private final int[] m_code;
+	/**
+	 * Represents the constants to which operands refer (e.g. the expressions whose positions are reported by run-time errors).
+	 */
+	private final Object[] m_constants;
+	/**
+	 * Represents the size of the program's variables in memory.
+	 */
+	private final int m_programSize;
+	/**
+	 * Represents the maximum number of values that any procedure (or the program) pushes onto the operand stack at once.
+	 */
+	private final int m_maximumStackSize;
+
+	/**
+	 * Constructs bytecode.
+	 *
+	 * @param code             The code.
+	 * @param constants        The constants to which operands refer.
+	 * @param programSize      The size of the program's variables in memory.
+	 * @param maximumStackSize The maximum number of values that any procedure (or the program) pushes onto the operand stack at once.
+	 */
+	public Bytecode(int[] code, Object[] constants, int programSize, int maximumStackSize) {
+		m_code = code;
+		m_constants = constants;
+		m_programSize = programSize;
+		m_maximumStackSize = maximumStackSize;
+	}
+
+	/**
+	 * Gets the code.
+	 */
+	public int[] getCode() {
+		return m_code;
+	}
+
+	/**
+	 * Gets the constants to which operands refer.
+	 */
+	public Object[] getConstants() {
+		return m_constants;
+	}
+
+	/**
+	 * Gets the size of the program's variables in memory.
+	 */
+	public int getProgramSize() {
+		return m_programSize;
+	}
+
+	/**
+	 * Gets the maximum number of values that any procedure (or the program) pushes onto the operand stack at once.
+	 */
+	public int getMaximumStackSize() {
+		return m_maximumStackSize;
+	}
+}
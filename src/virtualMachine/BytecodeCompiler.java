@@ -0,0 +1,573 @@
+package virtualMachine;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.Condition;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.IRelation;
+import parser.semanticAnalysis.abstractSyntaxTree.conditions.relation.Relation;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Expression;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Function;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Number;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Field;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Location;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Variable;
+import parser.semanticAnalysis.abstractSyntaxTree.instructions.*;
+import parser.semanticAnalysis.symbolTable.declarations.Declaration;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Argument;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Parameter;
+import parser.semanticAnalysis.symbolTable.declarations.procedures.Procedure;
+import parser.semanticAnalysis.symbolTable.declarations.types.Integer;
+import parser.semanticAnalysis.symbolTable.declarations.types.Type;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+import parser.semanticAnalysis.symbolTable.declarations.types.record.Record;
+import parser.semanticAnalysis.symbolTable.scope.Scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lowers the abstract syntax tree to the bytecode of the virtual machine.
+ * Every variable occupies a contiguous region of memory, whose size is derived from the size of its type; an integer occupies one word.
+ * A procedure's frame holds the addresses of its parameters, then a cell for each parameter that is passed a value rather than a location, then its local variables.
+ */
+public class BytecodeCompiler {
+
+	/**
+	 * Represents the size of a word (i.e. an integer) as computed by the types.
+	 */
+	private static final int WORD_SIZE = Integer.getInstance().getSize();
+
+	/**
+	 * Represents the instance of the bytecode compiler.
+	 */
+	private static BytecodeCompiler m_instance;
+	/**
+	 * Represents the code.
+	 */
+	private int[] m_code;
+	/**
+	 * Represents the size of the code.
+	 */
+	private int m_size;
+	/**
+	 * Represents the constants to which operands refer.
+	 */
+	private List<Object> m_constants;
+	/**
+	 * Represents the addresses of the program's variables.
+	 */
+	private Map<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer> m_addresses;
+	/**
+	 * Represents the layouts of the procedures that are called.
+	 */
+	private Map<Procedure, Layout> m_layouts;
+	/**
+	 * Represents the layouts of the procedures that are called, in the order in which they are compiled.
+	 */
+	private List<Layout> m_procedures;
+	/**
+	 * Represents the layout of the procedure being compiled, or null if the program's instructions are being compiled.
+	 */
+	private Layout m_layout;
+	/**
+	 * Represents the positions of the operands that hold the entries of the procedures that are called.
+	 */
+	private List<java.lang.Integer> m_calls;
+	/**
+	 * Represents the layouts of the procedures that are called, in the order of their calls.
+	 */
+	private List<Layout> m_callees;
+	/**
+	 * Represents the number of values on the operand stack at the current position.
+	 */
+	private int m_stackSize;
+	/**
+	 * Represents the maximum number of values on the operand stack at any position.
+	 */
+	private int m_maximumStackSize;
+
+	/**
+	 * Constructs the bytecode compiler.
+	 */
+	private BytecodeCompiler() {
+	}
+
+	/**
+	 * Gets the instance of the bytecode compiler.
+	 */
+	public static BytecodeCompiler getInstance() {
+		if (m_instance == null) {
+			m_instance = new BytecodeCompiler();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Compiles the program and every procedure it calls.
+	 *
+	 * @param instructions The instructions of the program.
+	 * @param programScope The scope of the program.
+	 */
+	public Bytecode compile(List<Instruction> instructions, Scope programScope) {
+		m_code = new int[256];
+		m_size = 0;
+		m_constants = new ArrayList<Object>();
+		m_addresses = new HashMap<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer>();
+		m_layouts = new HashMap<Procedure, Layout>();
+		m_procedures = new ArrayList<Layout>();
+		m_calls = new ArrayList<java.lang.Integer>();
+		m_callees = new ArrayList<Layout>();
+		m_stackSize = 0;
+		m_maximumStackSize = 0;
+
+		int programSize = 0;
+		for (Declaration declaration : programScope.getMap().values()) {
+			if (declaration instanceof parser.semanticAnalysis.symbolTable.declarations.variable.Variable) {
+				parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = (parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration;
+				m_addresses.put(variable, programSize);
+				programSize += getSize(variable.getType());
+			}
+		}
+
+		m_layout = null;
+		compileInstructions(instructions);
+		emit(0, Opcode.HALT);
+
+		for (int i = 0; i < m_procedures.size(); i++) {
+			compileProcedure(m_procedures.get(i)); // Compiling a procedure may append the procedures it calls.
+		}
+		for (int i = 0; i < m_calls.size(); i++) {
+			m_code[m_calls.get(i)] = m_callees.get(i).m_entry;
+		}
+
+		int[] code = new int[m_size];
+		System.arraycopy(m_code, 0, code, 0, m_size);
+		return new Bytecode(code, m_constants.toArray(), programSize, m_maximumStackSize);
+	}
+
+	/**
+	 * Compiles the instructions and return expression of a procedure.
+	 *
+	 * @param layout The layout of the procedure.
+	 */
+	private void compileProcedure(Layout layout) {
+		m_layout = layout;
+		m_stackSize = 0;
+		layout.m_entry = m_size;
+		compileInstructions(layout.m_procedure.getInstructions());
+		emit(0, Opcode.END_PROCEDURE);
+		if (layout.m_procedure.getReturnExpression() != null) {
+			compileExpression(layout.m_procedure.getReturnExpression());
+		}
+		emit(0, Opcode.RETURN);
+	}
+
+	/**
+	 * Compiles a list of instructions.
+	 *
+	 * @param instructions The instructions to compile.
+	 */
+	private void compileInstructions(List<Instruction> instructions) {
+		for (Instruction instruction : instructions) {
+			compileInstruction(instruction);
+		}
+	}
+
+	/**
+	 * Compiles an instruction.
+	 *
+	 * @param instruction The instruction to compile.
+	 */
+	private void compileInstruction(Instruction instruction) {
+		if (instruction instanceof Assign) {
+			compileAssign((Assign) instruction);
+		} else if (instruction instanceof If) {
+			If ifInstruction = (If) instruction;
+			int falseJump = compileCondition(ifInstruction.getCondition(), true);
+			compileInstructions(ifInstruction.getTrueInstructions());
+			if (ifInstruction.falseInstructionsExist()) {
+				emit(0, Opcode.JUMP, 0);
+				int endJump = m_size - 1;
+				m_code[falseJump] = m_size;
+				compileInstructions(ifInstruction.getFalseInstructions());
+				m_code[endJump] = m_size;
+			} else {
+				m_code[falseJump] = m_size;
+			}
+		} else if (instruction instanceof Repeat) {
+			Repeat repeat = (Repeat) instruction;
+			int start = m_size;
+			compileInstructions(repeat.getInstructions());
+			int trueJump = compileCondition(repeat.getCondition(), false); // The condition may grow m_code, so the jump is patched in the array it returns into.
+			m_code[trueJump] = start;
+		} else if (instruction instanceof Read) {
+			compileAddress(((Read) instruction).getLocation());
+			emit(-1, Opcode.READ);
+		} else if (instruction instanceof Write) {
+			compileExpression(((Write) instruction).getExpression());
+			emit(-1, Opcode.WRITE);
+		} else if (instruction instanceof Call) {
+			compileCall((Call) instruction, Opcode.CALL);
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Compiles an assign instruction; the location is evaluated before the expression.
+	 *
+	 * @param assign The assign instruction to compile.
+	 */
+	private void compileAssign(Assign assign) {
+		Location location = assign.getLocation();
+		Expression expression = assign.getExpression();
+		if (!(location.getType() instanceof Integer) && expression instanceof Location) {
+			compileAddress(location);
+			compileAddress((Location) expression);
+			emit(-2, Opcode.COPY, getSize(location.getType()));
+		} else if (location instanceof Variable) {
+			parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = ((Variable) location).getVariable();
+			compileExpression(expression);
+			if (isParameter(variable)) {
+				emit(-1, Opcode.STORE_PARAMETER, m_layout.m_parameters.get(variable));
+			} else if (isLocal(variable)) {
+				emit(-1, Opcode.STORE_LOCAL, m_layout.m_locals.get(variable));
+			} else {
+				emit(-1, Opcode.STORE_GLOBAL, getAddress(variable));
+			}
+		} else {
+			compileAddress(location);
+			compileExpression(expression);
+			emit(-2, Opcode.STORE);
+		}
+	}
+
+	/**
+	 * Compiles a condition, which pops its expressions and jumps if it holds (or, if negated, if it does not hold).
+	 *
+	 * @param condition The condition to compile.
+	 * @param isNegated Whether to jump if the condition does not hold.
+	 * @return The position of the operand holding the target of the jump, which is to be set by the caller.
+	 */
+	@SuppressWarnings("all")
+	private int compileCondition(Condition condition, boolean isNegated) {
+		compileExpression(condition.getLeftExpression());
+		compileExpression(condition.getRightExpression());
+		Relation relation = isNegated ? ((IRelation) condition.getRelation()).getNegation() : condition.getRelation();
+		switch (relation) {
+			case EQUALITY:
+				emit(-2, Opcode.JUMP_IF_EQUAL, 0);
+				break;
+			case INEQUALITY:
+				emit(-2, Opcode.JUMP_IF_NOT_EQUAL, 0);
+				break;
+			case LESS_THAN:
+				emit(-2, Opcode.JUMP_IF_LESS_THAN, 0);
+				break;
+			case GREATER_THAN:
+				emit(-2, Opcode.JUMP_IF_GREATER_THAN, 0);
+				break;
+			case LESS_THAN_OR_EQUAL_TO:
+				emit(-2, Opcode.JUMP_IF_LESS_THAN_OR_EQUAL_TO, 0);
+				break;
+			case GREATER_THAN_OR_EQUAL_TO:
+				emit(-2, Opcode.JUMP_IF_GREATER_THAN_OR_EQUAL_TO, 0);
+				break;
+			default:
+				ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+		return m_size - 1;
+	}
+
+	/**
+	 * Compiles an expression, which pushes its value.
+	 *
+	 * @param expression The expression to compile.
+	 */
+	private void compileExpression(Expression expression) {
+		if (expression instanceof Number) {
+			emit(1, Opcode.PUSH, ((Number) expression).getConstant().getValue());
+		} else if (expression instanceof Binary) {
+			Binary binary = (Binary) expression;
+			compileExpression(binary.getLeftExpression());
+			if (binary.getRightExpression() instanceof Number) {
+				int constant = ((Number) binary.getRightExpression()).getConstant().getValue();
+				switch (binary.getOperator()) {
+					case PLUS:
+						emit(0, Opcode.ADD_CONSTANT, constant);
+						return;
+					case MINUS:
+						emit(0, Opcode.ADD_CONSTANT, -constant);
+						return;
+				}
+			}
+			compileExpression(binary.getRightExpression());
+			switch (binary.getOperator()) {
+				case PLUS:
+					emit(-1, Opcode.ADD);
+					break;
+				case MINUS:
+					emit(-1, Opcode.SUBTRACT);
+					break;
+				case MULTIPLICATION:
+					emit(-1, Opcode.MULTIPLY);
+					break;
+				case DIV:
+					emit(-1, Opcode.DIV, addConstant(binary));
+					break;
+				case MOD:
+					emit(-1, Opcode.MOD, addConstant(binary));
+					break;
+				default:
+					ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+		} else if (expression instanceof Variable) {
+			parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = ((Variable) expression).getVariable();
+			if (isParameter(variable)) {
+				emit(1, Opcode.LOAD_PARAMETER, m_layout.m_parameters.get(variable));
+			} else if (isLocal(variable)) {
+				emit(1, Opcode.LOAD_LOCAL, m_layout.m_locals.get(variable));
+			} else {
+				emit(1, Opcode.LOAD_GLOBAL, getAddress(variable));
+			}
+		} else if (expression instanceof Location) {
+			compileAddress((Location) expression);
+			emit(0, Opcode.LOAD);
+		} else if (expression instanceof Function) {
+			compileCall(((Function) expression).getCall(), Opcode.CALL_FUNCTION);
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Compiles a location (i.e. the variable, field, or index), which pushes its address.
+	 *
+	 * @param location The location to compile.
+	 */
+	private void compileAddress(Location location) {
+		if (location instanceof Field) {
+			Field field = (Field) location;
+			compileAddress(field.getVariable());
+			if (!(field.getSelection() instanceof Variable)) {
+				ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+			int offset = getOffset((Record) field.getVariable().getType(), ((Variable) field.getSelection()).getVariable());
+			if (offset != 0) {
+				emit(0, Opcode.OFFSET, offset);
+			}
+		} else if (location instanceof Index) {
+			Index index = (Index) location;
+			Array array = (Array) index.getVariable().getType();
+			compileExpression(index.getExpression());
+			if (index.getVariable() instanceof Variable && isGlobal(((Variable) index.getVariable()).getVariable())) {
+				emit(0, Opcode.INDEX_GLOBAL, getAddress(((Variable) index.getVariable()).getVariable()), getSize(array.getElementType()), array.getLength(), addConstant(index));
+			} else {
+				compileAddress(index.getVariable());
+				emit(-1, Opcode.INDEX, getSize(array.getElementType()), array.getLength(), addConstant(index));
+			}
+		} else if (location instanceof Variable) {
+			parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = ((Variable) location).getVariable();
+			if (isParameter(variable)) {
+				emit(1, Opcode.ADDRESS_PARAMETER, m_layout.m_parameters.get(variable));
+			} else if (isLocal(variable)) {
+				emit(1, Opcode.ADDRESS_LOCAL, m_layout.m_locals.get(variable));
+			} else {
+				emit(1, Opcode.PUSH, getAddress(variable));
+			}
+		} else {
+			ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+	}
+
+	/**
+	 * Compiles a call, which pushes its arguments (the addresses of locations, and the values of other expressions) and calls the procedure.
+	 *
+	 * @param call   The call to compile.
+	 * @param opcode The opcode of the call (i.e. CALL or CALL_FUNCTION).
+	 */
+	private void compileCall(Call call, int opcode) {
+		Layout layout = getLayout(call.getProcedure());
+		List<Argument> arguments = call.getArguments();
+		boolean[] isAddress = new boolean[arguments.size()];
+		for (int i = 0; i < arguments.size(); i++) {
+			Expression expression = arguments.get(i).getExpression();
+			isAddress[i] = expression instanceof Location;
+			if (isAddress[i]) {
+				compileAddress((Location) expression);
+			} else {
+				compileExpression(expression);
+			}
+		}
+		emit(opcode == Opcode.CALL_FUNCTION ? 1 - arguments.size() : -arguments.size(), opcode, 0, layout.m_frameSize, arguments.size(), addConstant(isAddress));
+		m_calls.add(m_size - 4);
+		m_callees.add(layout);
+	}
+
+	/**
+	 * Emits an instruction.
+	 *
+	 * @param stackEffect The change in the number of values on the operand stack.
+	 * @param words       The opcode and operands.
+	 */
+	private void emit(int stackEffect, int... words) {
+		if (m_size + words.length > m_code.length) {
+			int[] code = new int[(m_size + words.length) * 2];
+			System.arraycopy(m_code, 0, code, 0, m_size);
+			m_code = code;
+		}
+		for (int word : words) {
+			m_code[m_size++] = word;
+		}
+		m_stackSize += stackEffect;
+		m_maximumStackSize = Math.max(m_maximumStackSize, m_stackSize);
+	}
+
+	/**
+	 * Adds a constant, to which an operand refers.
+	 *
+	 * @param constant The constant to add.
+	 * @return The index of the constant.
+	 */
+	private int addConstant(Object constant) {
+		m_constants.add(constant);
+		return m_constants.size() - 1;
+	}
+
+	/**
+	 * Queries whether a variable is a parameter of the procedure being compiled.
+	 *
+	 * @param variable The variable for which to test this condition.
+	 */
+	private boolean isParameter(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		return m_layout != null && m_layout.m_parameters.containsKey(variable);
+	}
+
+	/**
+	 * Queries whether a variable is a local variable of the procedure being compiled.
+	 *
+	 * @param variable The variable for which to test this condition.
+	 */
+	private boolean isLocal(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		return m_layout != null && m_layout.m_locals.containsKey(variable);
+	}
+
+	/**
+	 * Queries whether a variable is a program variable (i.e. neither a parameter nor a local variable of the procedure being compiled).
+	 *
+	 * @param variable The variable for which to test this condition.
+	 */
+	private boolean isGlobal(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		return !isParameter(variable) && !isLocal(variable);
+	}
+
+	/**
+	 * Gets the address of a program variable.
+	 *
+	 * @param variable The program variable.
+	 */
+	private int getAddress(parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable) {
+		java.lang.Integer address = m_addresses.get(variable);
+		if (address == null) {
+			return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+		}
+		return address;
+	}
+
+	/**
+	 * Gets the offset of a field within a record.
+	 *
+	 * @param record The record.
+	 * @param field  The field.
+	 */
+	private int getOffset(Record record, parser.semanticAnalysis.symbolTable.declarations.variable.Variable field) {
+		int offset = 0;
+		for (Declaration declaration : record.getScope().getMap().values()) {
+			if (declaration == field) {
+				return offset;
+			}
+			offset += getSize(((parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration).getType());
+		}
+		return ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+	}
+
+	/**
+	 * Gets the size of a type in words.
+	 *
+	 * @param type The type.
+	 */
+	private static int getSize(Type type) {
+		return type.getSize() / WORD_SIZE;
+	}
+
+	/**
+	 * Gets the layout of a procedure's frame, creating it if the procedure has not yet been called.
+	 *
+	 * @param procedure The procedure.
+	 */
+	private Layout getLayout(Procedure procedure) {
+		Layout layout = m_layouts.get(procedure);
+		if (layout == null) {
+			layout = new Layout(procedure);
+			m_layouts.put(procedure, layout);
+			m_procedures.add(layout);
+		}
+		return layout;
+	}
+
+	/**
+	 * Represents the layout of a procedure's frame.
+	 */
+	private static class Layout {
+
+		/**
+		 * Represents the procedure.
+		 */
+		private final Procedure m_procedure;
+		/**
+		 * Represents the index of each parameter.
+		 */
+		private final Map<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer> m_parameters;
+		/**
+		 * Represents the offset of each local variable in the frame.
+		 */
+		private final Map<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer> m_locals;
+		/**
+		 * Represents the size of the frame.
+		 */
+		private final int m_frameSize;
+		/**
+		 * Represents the entry of the procedure in the code, once it is compiled.
+		 */
+		private int m_entry;
+
+		/**
+		 * Constructs the layout of a procedure's frame.
+		 *
+		 * @param procedure The procedure.
+		 */
+		Layout(Procedure procedure) {
+			m_procedure = procedure;
+			m_parameters = new HashMap<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer>();
+			m_locals = new HashMap<parser.semanticAnalysis.symbolTable.declarations.variable.Variable, java.lang.Integer>();
+			List<Parameter> parameters = procedure.getParameters();
+			for (int i = 0; i < parameters.size(); i++) {
+				m_parameters.put(parameters.get(i), i);
+			}
+			int frameSize = 2 * parameters.size();
+			for (Declaration declaration : procedure.getLocalVariables().getMap().values()) {
+				if (declaration instanceof parser.semanticAnalysis.symbolTable.declarations.variable.Variable && !(declaration instanceof Parameter)) {
+					parser.semanticAnalysis.symbolTable.declarations.variable.Variable variable = (parser.semanticAnalysis.symbolTable.declarations.variable.Variable) declaration;
+					m_locals.put(variable, frameSize);
+					frameSize += getSize(variable.getType());
+				}
+			}
+			m_frameSize = frameSize;
+		}
+	}
+}
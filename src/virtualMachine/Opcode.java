@@ -0,0 +1,155 @@
+package virtualMachine;
+
+/**
+ * Defines the opcodes of the virtual machine's bytecode, each of which is followed in the code array by its operands.
+ * The virtual machine is a stack machine: instructions pop their inputs from, and push their results onto, the operand stack.
+ * Addresses are indices into the memory of the virtual machine, which holds the program's variables followed by the frames of procedure calls.
+ */
+public final class Opcode {
+
+	/**
+	 * Pushes a constant; operands: the constant.
+	 */
+	public static final int PUSH = 0;
+	/**
+	 * Pushes the value of a program variable; operands: the address of the variable.
+	 */
+	public static final int LOAD_GLOBAL = 1;
+	/**
+	 * Pops a value into a program variable; operands: the address of the variable.
+	 */
+	public static final int STORE_GLOBAL = 2;
+	/**
+	 * Pushes the value of a local variable; operands: the offset of the variable in the frame.
+	 */
+	public static final int LOAD_LOCAL = 3;
+	/**
+	 * Pops a value into a local variable; operands: the offset of the variable in the frame.
+	 */
+	public static final int STORE_LOCAL = 4;
+	/**
+	 * Pushes the address of a local variable; operands: the offset of the variable in the frame.
+	 */
+	public static final int ADDRESS_LOCAL = 5;
+	/**
+	 * Pushes the value of a parameter, which the frame refers to by address; operands: the index of the parameter.
+	 */
+	public static final int LOAD_PARAMETER = 6;
+	/**
+	 * Pops a value into a parameter, which the frame refers to by address; operands: the index of the parameter.
+	 */
+	public static final int STORE_PARAMETER = 7;
+	/**
+	 * Pushes the address of a parameter; operands: the index of the parameter.
+	 */
+	public static final int ADDRESS_PARAMETER = 8;
+	/**
+	 * Pops an address and pushes the value at the address.
+	 */
+	public static final int LOAD = 9;
+	/**
+	 * Pops a value and an address and stores the value at the address.
+	 */
+	public static final int STORE = 10;
+	/**
+	 * Pops the address of an array and an index and pushes the address of the element, after verifying that the index is in range; operands: the size of an element, the length of the array and the constant describing the index.
+	 */
+	public static final int INDEX = 11;
+	/**
+	 * Pops an index and pushes the address of the element of a program array, after verifying that the index is in range; operands: the address of the array followed by the operands of INDEX.
+	 */
+	public static final int INDEX_GLOBAL = 12;
+	/**
+	 * Pops an address and pushes the address offset by a constant (e.g. the address of a field of a record); operands: the offset.
+	 */
+	public static final int OFFSET = 13;
+	/**
+	 * Pops the address of a source and the address of a destination and copies an aggregate (i.e. an array or record) from the source to the destination; operands: the size of the aggregate.
+	 */
+	public static final int COPY = 14;
+	/**
+	 * Pops two values and pushes their sum.
+	 */
+	public static final int ADD = 15;
+	/**
+	 * Pops two values and pushes their difference.
+	 */
+	public static final int SUBTRACT = 16;
+	/**
+	 * Pops two values and pushes their product.
+	 */
+	public static final int MULTIPLY = 17;
+	/**
+	 * Pops two values and pushes their quotient; operands: the constant describing the expression.
+	 */
+	public static final int DIV = 18;
+	/**
+	 * Pops two values and pushes their modulo; operands: the constant describing the expression.
+	 */
+	public static final int MOD = 19;
+	/**
+	 * Pops a value and pushes its sum with a constant; operands: the constant.
+	 */
+	public static final int ADD_CONSTANT = 20;
+	/**
+	 * Jumps unconditionally; operands: the target.
+	 */
+	public static final int JUMP = 21;
+	/**
+	 * Pops two values and jumps if they are equal; operands: the target.
+	 */
+	public static final int JUMP_IF_EQUAL = 22;
+	/**
+	 * Pops two values and jumps if they are not equal; operands: the target.
+	 */
+	public static final int JUMP_IF_NOT_EQUAL = 23;
+	/**
+	 * Pops two values and jumps if the first is less than the second; operands: the target.
+	 */
+	public static final int JUMP_IF_LESS_THAN = 24;
+	/**
+	 * Pops two values and jumps if the first is greater than the second; operands: the target.
+	 */
+	public static final int JUMP_IF_GREATER_THAN = 25;
+	/**
+	 * Pops two values and jumps if the first is less than or equal to the second; operands: the target.
+	 */
+	public static final int JUMP_IF_LESS_THAN_OR_EQUAL_TO = 26;
+	/**
+	 * Pops two values and jumps if the first is greater than or equal to the second; operands: the target.
+	 */
+	public static final int JUMP_IF_GREATER_THAN_OR_EQUAL_TO = 27;
+	/**
+	 * Pops an address and reads an integer from stdin into it.
+	 */
+	public static final int READ = 28;
+	/**
+	 * Pops a value and writes it to stdout.
+	 */
+	public static final int WRITE = 29;
+	/**
+	 * Pops the arguments, pushes a frame binding them to the parameters, and jumps to a procedure; operands: the entry of the procedure, the size of its frame, the number of arguments and the constant describing which arguments are addresses.
+	 */
+	public static final int CALL = 30;
+	/**
+	 * Calls a procedure, whose return expression is pushed upon returning; operands: as for CALL.
+	 */
+	public static final int CALL_FUNCTION = 31;
+	/**
+	 * Ends the instructions of a procedure, returning unless the procedure was called by CALL_FUNCTION, in which case its return expression follows.
+	 */
+	public static final int END_PROCEDURE = 32;
+	/**
+	 * Pops the frame of the current procedure call and returns to the caller.
+	 */
+	public static final int RETURN = 33;
+	/**
+	 * Halts the program.
+	 */
+	public static final int HALT = 34;
+
+	/**
+	 * Constructs the opcodes.
+	 */
+	private Opcode() {}
+}
@@ -0,0 +1,423 @@
+package virtualMachine;
+
+import exception.Exception;
+import exception.ExceptionHandler;
+import exception.ExceptionStrength;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.Binary;
+import parser.semanticAnalysis.abstractSyntaxTree.expressions.locations.Index;
+import parser.semanticAnalysis.symbolTable.declarations.types.array.Array;
+import runtime.Input;
+import runtime.MemoryBudget;
+import runtime.Output;
+
+import java.util.Arrays;
+
+/**
+ * Represents the virtual machine, which executes bytecode in a single switch-dispatch loop (see {@link Opcode}).
+ * The program's variables and the frames of procedure calls live in a single contiguous memory; the return addresses of procedure calls are kept on a separate call stack, so deep recursion does not exhaust the Java stack.
+ * The memory, operand stack and call stack grow on demand until together they exceed the memory budget (see {@link MemoryBudget}).
+ */
+public class VirtualMachine {
+
+	/**
+	 * Represents the initial size of the memory that follows the program's variables.
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+	/**
+	 * Represents the number of entries that a procedure call occupies on the call stack (i.e. the return address, the caller's frame and whether the call is a function call).
+	 */
+	private static final int CALL_SIZE = 3;
+	/**
+	 * Represents the number of jumps and calls executed before execution is suspended and resumed.
+	 */
+	private static final int SLICE_SIZE = 1 << 16;
+
+	/**
+	 * Represents the instance of the virtual machine.
+	 */
+	private static VirtualMachine m_instance;
+	/**
+	 * Represents the code being executed.
+	 */
+	private int[] m_code;
+	/**
+	 * Represents the constants to which operands refer.
+	 */
+	private Object[] m_constants;
+	/**
+	 * Represents the maximum number of values that any procedure (or the program) pushes onto the operand stack at once.
+	 */
+	private int m_maximumStackSize;
+	/**
+	 * Represents the number of words that the memory, operand stack and call stack may occupy together.
+	 */
+	private int m_budget;
+	/**
+	 * Represents the memory, which holds the program's variables followed by the frames of procedure calls.
+	 */
+	private int[] m_memory;
+	/**
+	 * Represents the operand stack.
+	 */
+	private int[] m_stack;
+	/**
+	 * Represents the call stack.
+	 */
+	private int[] m_calls;
+	/**
+	 * Represents the first free word of memory.
+	 */
+	private int m_top;
+	/**
+	 * Represents the number of values on the operand stack.
+	 */
+	private int m_sp;
+	/**
+	 * Represents the number of entries on the call stack.
+	 */
+	private int m_cp;
+	/**
+	 * Represents the frame of the current procedure call.
+	 */
+	private int m_fp;
+	/**
+	 * Represents the position of the next instruction.
+	 */
+	private int m_pc;
+
+	/**
+	 * Constructs the virtual machine.
+	 */
+	private VirtualMachine() {
+	}
+
+	/**
+	 * Gets the instance of the virtual machine.
+	 */
+	public static VirtualMachine getInstance() {
+		if (m_instance == null) {
+			m_instance = new VirtualMachine();
+		}
+		return m_instance;
+	}
+
+	/**
+	 * Executes bytecode until it halts.
+	 *
+	 * @param bytecode The bytecode to execute.
+	 */
+	public void execute(Bytecode bytecode) {
+		m_code = bytecode.getCode();
+		m_constants = bytecode.getConstants();
+		m_maximumStackSize = bytecode.getMaximumStackSize();
+		m_budget = MemoryBudget.getInstance().getWords();
+		m_memory = new int[bytecode.getProgramSize() + INITIAL_CAPACITY];
+		m_stack = new int[m_maximumStackSize + INITIAL_CAPACITY];
+		m_calls = new int[CALL_SIZE * INITIAL_CAPACITY];
+		m_top = bytecode.getProgramSize();
+		m_sp = 0;
+		m_cp = 0;
+		m_fp = 0;
+		m_pc = 0;
+		while (run()) {
+		}
+	}
+
+	/**
+	 * Executes bytecode until it halts or until a number of jumps have been taken, in which case the state is saved so that execution can resume.
+	 * Executing in slices lets the JIT compile the dispatch loop as an ordinary method rather than only by on-stack replacement.
+	 *
+	 * @return True if execution was suspended; false if the program halted.
+	 */
+	private boolean run() {
+		int[] code = m_code;
+		Object[] constants = m_constants;
+		int maximumStackSize = m_maximumStackSize;
+		int budget = m_budget;
+		int[] memory = m_memory;
+		int[] stack = m_stack;
+		int[] calls = m_calls;
+		int top = m_top; // The first free word of memory.
+		int sp = m_sp; // The number of values on the operand stack.
+		int cp = m_cp; // The number of entries on the call stack.
+		int fp = m_fp; // The frame of the current procedure call.
+		int pc = m_pc;
+		int jumps = SLICE_SIZE;
+		dispatch:
+		while (true) {
+			switch (code[pc++]) {
+				case Opcode.PUSH:
+					stack[sp++] = code[pc++];
+					break;
+				case Opcode.LOAD_GLOBAL:
+					stack[sp++] = memory[code[pc++]];
+					break;
+				case Opcode.STORE_GLOBAL:
+					memory[code[pc++]] = stack[--sp];
+					break;
+				case Opcode.LOAD_LOCAL:
+					stack[sp++] = memory[fp + code[pc++]];
+					break;
+				case Opcode.STORE_LOCAL:
+					memory[fp + code[pc++]] = stack[--sp];
+					break;
+				case Opcode.ADDRESS_LOCAL:
+					stack[sp++] = fp + code[pc++];
+					break;
+				case Opcode.LOAD_PARAMETER:
+					stack[sp++] = memory[memory[fp + code[pc++]]];
+					break;
+				case Opcode.STORE_PARAMETER:
+					memory[memory[fp + code[pc++]]] = stack[--sp];
+					break;
+				case Opcode.ADDRESS_PARAMETER:
+					stack[sp++] = memory[fp + code[pc++]];
+					break;
+				case Opcode.LOAD:
+					stack[sp - 1] = memory[stack[sp - 1]];
+					break;
+				case Opcode.STORE: {
+					int value = stack[--sp];
+					memory[stack[--sp]] = value;
+					break;
+				}
+				case Opcode.INDEX: {
+					int address = stack[--sp];
+					int index = stack[sp - 1];
+					int elementSize = code[pc++];
+					int length = code[pc++];
+					int constant = code[pc++];
+					if (index >= length || index < 0) {
+						Array array = (Array) ((Index) constants[constant]).getVariable().getType();
+						ExceptionHandler.getInstance().throwException(Exception.INDEX_OUT_OF_RANGE, ExceptionStrength.STRONG, index, array.getName(), array.getPosition());
+					}
+					stack[sp - 1] = address + index * elementSize;
+					break;
+				}
+				case Opcode.INDEX_GLOBAL: {
+					int address = code[pc++];
+					int index = stack[sp - 1];
+					int elementSize = code[pc++];
+					int length = code[pc++];
+					int constant = code[pc++];
+					if (index >= length || index < 0) {
+						Array array = (Array) ((Index) constants[constant]).getVariable().getType();
+						ExceptionHandler.getInstance().throwException(Exception.INDEX_OUT_OF_RANGE, ExceptionStrength.STRONG, index, array.getName(), array.getPosition());
+					}
+					stack[sp - 1] = address + index * elementSize;
+					break;
+				}
+				case Opcode.OFFSET:
+					stack[sp - 1] += code[pc++];
+					break;
+				case Opcode.COPY: {
+					int source = stack[--sp];
+					int destination = stack[--sp];
+					System.arraycopy(memory, source, memory, destination, code[pc++]);
+					break;
+				}
+				case Opcode.ADD:
+					sp--;
+					stack[sp - 1] += stack[sp];
+					break;
+				case Opcode.SUBTRACT:
+					sp--;
+					stack[sp - 1] -= stack[sp];
+					break;
+				case Opcode.MULTIPLY:
+					sp--;
+					stack[sp - 1] *= stack[sp];
+					break;
+				case Opcode.ADD_CONSTANT:
+					stack[sp - 1] += code[pc++];
+					break;
+				case Opcode.DIV: {
+					int constant = code[pc++];
+					sp--;
+					if (stack[sp] == 0) {
+						ExceptionHandler.getInstance().throwException(Exception.DIVIDE_BY_ZERO, ExceptionStrength.STRONG, ((Binary) constants[constant]).getType().getPosition());
+					}
+					stack[sp - 1] /= stack[sp];
+					break;
+				}
+				case Opcode.MOD: {
+					int constant = code[pc++];
+					sp--;
+					if (stack[sp] == 0) {
+						ExceptionHandler.getInstance().throwException(Exception.MOD_BY_ZERO, ExceptionStrength.STRONG, ((Binary) constants[constant]).getType().getPosition());
+					}
+					stack[sp - 1] %= stack[sp];
+					break;
+				}
+				case Opcode.JUMP:
+					pc = code[pc];
+					if (--jumps == 0) {
+						break dispatch;
+					}
+					break;
+				case Opcode.JUMP_IF_EQUAL:
+					sp -= 2;
+					if (stack[sp] == stack[sp + 1]) {
+						pc = code[pc];
+						if (--jumps == 0) {
+							break dispatch;
+						}
+					} else {
+						pc++;
+					}
+					break;
+				case Opcode.JUMP_IF_NOT_EQUAL:
+					sp -= 2;
+					if (stack[sp] != stack[sp + 1]) {
+						pc = code[pc];
+						if (--jumps == 0) {
+							break dispatch;
+						}
+					} else {
+						pc++;
+					}
+					break;
+				case Opcode.JUMP_IF_LESS_THAN:
+					sp -= 2;
+					if (stack[sp] < stack[sp + 1]) {
+						pc = code[pc];
+						if (--jumps == 0) {
+							break dispatch;
+						}
+					} else {
+						pc++;
+					}
+					break;
+				case Opcode.JUMP_IF_GREATER_THAN:
+					sp -= 2;
+					if (stack[sp] > stack[sp + 1]) {
+						pc = code[pc];
+						if (--jumps == 0) {
+							break dispatch;
+						}
+					} else {
+						pc++;
+					}
+					break;
+				case Opcode.JUMP_IF_LESS_THAN_OR_EQUAL_TO:
+					sp -= 2;
+					if (stack[sp] <= stack[sp + 1]) {
+						pc = code[pc];
+						if (--jumps == 0) {
+							break dispatch;
+						}
+					} else {
+						pc++;
+					}
+					break;
+				case Opcode.JUMP_IF_GREATER_THAN_OR_EQUAL_TO:
+					sp -= 2;
+					if (stack[sp] >= stack[sp + 1]) {
+						pc = code[pc];
+						if (--jumps == 0) {
+							break dispatch;
+						}
+					} else {
+						pc++;
+					}
+					break;
+				case Opcode.READ:
+					read(memory, stack[--sp]);
+					break;
+				case Opcode.WRITE:
+					Output.getInstance().writeInteger(stack[--sp]);
+					break;
+				case Opcode.CALL:
+				case Opcode.CALL_FUNCTION: {
+					boolean isFunctionCall = code[pc - 1] == Opcode.CALL_FUNCTION;
+					int entry = code[pc++];
+					int frameSize = code[pc++];
+					int numberOfArguments = code[pc++];
+					boolean[] isAddress = (boolean[]) constants[code[pc++]];
+					if (top + frameSize > memory.length || sp + maximumStackSize > stack.length || cp + CALL_SIZE > calls.length) {
+						memory = grow(memory, top + frameSize, budget - stack.length - calls.length);
+						stack = grow(stack, sp + maximumStackSize, budget - memory.length - calls.length);
+						calls = grow(calls, cp + CALL_SIZE, budget - memory.length - stack.length);
+					}
+					Arrays.fill(memory, top, top + frameSize, 0);
+					for (int i = numberOfArguments - 1; i >= 0; i--) {
+						if (isAddress[i]) {
+							memory[top + i] = stack[--sp];
+						} else {
+							memory[top + numberOfArguments + i] = stack[--sp];
+							memory[top + i] = top + numberOfArguments + i;
+						}
+					}
+					calls[cp++] = pc;
+					calls[cp++] = fp;
+					calls[cp++] = isFunctionCall ? 1 : 0;
+					fp = top;
+					top += frameSize;
+					pc = entry;
+					if (--jumps == 0) {
+						break dispatch;
+					}
+					break;
+				}
+				case Opcode.END_PROCEDURE:
+					if (calls[cp - 1] == 1) {
+						break;
+					}
+					// Otherwise, the procedure was called as an instruction, so its return expression is not evaluated.
+				case Opcode.RETURN:
+					top = fp;
+					cp -= CALL_SIZE;
+					fp = calls[cp + 1];
+					pc = calls[cp];
+					break;
+				case Opcode.HALT:
+					Output.getInstance().flush();
+					return false;
+				default:
+					ExceptionHandler.getInstance().throwException(Exception.ENCOUNTERED_A_BUG, ExceptionStrength.STRONG);
+			}
+		}
+		m_memory = memory;
+		m_stack = stack;
+		m_calls = calls;
+		m_top = top;
+		m_sp = sp;
+		m_cp = cp;
+		m_fp = fp;
+		m_pc = pc;
+		return true;
+	}
+
+	/**
+	 * Grows an array by doubling (within a limit) if it is smaller than a size, aborting if the limit is smaller than the size.
+	 *
+	 * @param array The array.
+	 * @param size  The size required.
+	 * @param limit The largest size that the array may grow to (i.e. the budget not occupied by the other arrays).
+	 */
+	private int[] grow(int[] array, int size, int limit) {
+		if (size <= array.length) {
+			return array;
+		} else if (size > limit) {
+			ExceptionHandler.getInstance().throwException(Exception.EXCEEDED_MEMORY_BUDGET, ExceptionStrength.STRONG, MemoryBudget.getInstance().getBytes());
+		}
+		return Arrays.copyOf(array, (int) Math.min((long) array.length * 2, limit));
+	}
+
+	/**
+	 * Reads an integer from stdin into an address, reading again until the input is an integer.
+	 *
+	 * @param memory  The memory.
+	 * @param address The address.
+	 */
+	private void read(int[] memory, int address) {
+		Input input = Input.getInstance();
+		while (input.nextLine()) {
+			if (input.isInteger()) {
+				memory[address] = input.getInteger();
+				return;
+			}
+			ExceptionHandler.getInstance().throwException(Exception.READ_INSTRUCTION_REQUIRES_AN_INTEGER, ExceptionStrength.WEAK, input.getLine());
+		}
+	}
+}
@@ -0,0 +1,24 @@
+#!/bin/sh
+# Runs each SIMPLE program in this directory under the modes named on its first line, separated by commas (e.g. "(* modes: -i, -i -f, -b *)"), and compares what it prints with <name>.out.
+# A program reads <name>.in if there is one.  Build the compiler first (make, in src), then run: tests/run.sh [classpath]
+DIR=$(cd "$(dirname "$0")" && pwd)
+CLASSPATH=${1:-$DIR/../src}
+FAILED=0
+for PROGRAM in "$DIR"/*.sim; do
+	NAME=${PROGRAM%.sim}
+	INPUT=/dev/null
+	[ -f "$NAME.in" ] && INPUT=$NAME.in
+	MODES=$(head -n 1 "$PROGRAM" | sed -n 's/^(\* modes: \(.*\) \*)$/\1/p')
+	IFS=,
+	for MODE in $MODES; do
+		unset IFS
+		MODE=$(echo $MODE)
+		if java -cp "$CLASSPATH" Main $MODE "$PROGRAM" < "$INPUT" 2>&1 | cmp -s - "$NAME.out"; then
+			echo "PASS $(basename "$NAME") $MODE"
+		else
+			echo "FAIL $(basename "$NAME") $MODE"
+			FAILED=1
+		fi
+	done
+done
+exit $FAILED